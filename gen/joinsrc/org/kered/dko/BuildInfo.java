@@ -0,0 +1,10 @@
+package org.kered.dko;
+public class BuildInfo {
+	public static final String HG_ID = "unknown";
+	public static final String HG_BRANCH = "unknown";
+	public static final String HG_TAG = "unknown";
+	public static final String GIT_TAG = "fatal: No names found, cannot describe anything.";
+	public static final String TODAY = "October 17 2026";
+	public static final String DESCRIPTION = "DKO "+ HG_TAG +" ("+ HG_ID +")";
+}
+    
\ No newline at end of file
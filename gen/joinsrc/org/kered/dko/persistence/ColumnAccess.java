@@ -0,0 +1,728 @@
+package org.kered.dko.persistence;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: .column_access
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class ColumnAccess extends Table implements Comparable<ColumnAccess>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: column_access.id
+	 */
+	public static final org.kered.dko.Field<java.lang.Long> ID = new org.kered.dko.Field<java.lang.Long>(0, ColumnAccess.class, "id", "ID", "getId",java.lang.Long.class, "long");
+	/**
+	 * Represents the database field: column_access.query_execution_id
+	 */
+	public static final org.kered.dko.Field<java.lang.Long> QUERY_EXECUTION_ID = new org.kered.dko.Field<java.lang.Long>(1, ColumnAccess.class, "query_execution_id", "QUERY_EXECUTION_ID", "getQueryExecutionId",java.lang.Long.class, "long");
+	/**
+	 * Represents the database field: column_access.table_name
+	 */
+	public static final org.kered.dko.Field<java.lang.String> TABLE_NAME = new org.kered.dko.Field<java.lang.String>(2, ColumnAccess.class, "table_name", "TABLE_NAME", "getTableName",java.lang.String.class, "text");
+	/**
+	 * Represents the database field: column_access.column_name
+	 */
+	public static final org.kered.dko.Field<java.lang.String> COLUMN_NAME = new org.kered.dko.Field<java.lang.String>(3, ColumnAccess.class, "column_name", "COLUMN_NAME", "getColumnName",java.lang.String.class, "text");
+	/**
+	 * Represents the database field: column_access.last_seen
+	 */
+	public static final org.kered.dko.Field<java.lang.Long> LAST_SEEN = new org.kered.dko.Field<java.lang.Long>(4, ColumnAccess.class, "last_seen", "LAST_SEEN", "getLastSeen",java.lang.Long.class, "bigint");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<ColumnAccess> PK = new org.kered.dko.Field.PK<ColumnAccess>(ID);
+	/**
+	 * A special object defining the foreign key relationship between this table and:
+	 * .query_execution
+	 */
+	public static final Field.FK<QueryExecution> FK_QUERY_EXECUTION = new Field.FK<QueryExecution>("FK_QUERY_EXECUTION", 5, ColumnAccess.class, QueryExecution.class, QUERY_EXECUTION_ID, QueryExecution.ID);
+
+	private java.lang.Long id = null;
+	private java.lang.Long queryExecutionId = null;
+	private java.lang.String tableName = null;
+	private java.lang.String columnName = null;
+	private java.lang.Long lastSeen = null;
+
+	/**
+	 * Creates a new (empty) instance of ColumnAccess.  Call .insert() to insert it into the database.
+	 */
+	public ColumnAccess() {}
+
+	public ColumnAccess(ColumnAccess o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(ID.INDEX)) {
+			id = o.getId();
+			__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(QUERY_EXECUTION_ID.INDEX)) {
+			queryExecutionId = o.getQueryExecutionId();
+			__NOSCO_FETCHED_VALUES.set(QUERY_EXECUTION_ID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(TABLE_NAME.INDEX)) {
+			tableName = o.getTableName();
+			__NOSCO_FETCHED_VALUES.set(TABLE_NAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(COLUMN_NAME.INDEX)) {
+			columnName = o.getColumnName();
+			__NOSCO_FETCHED_VALUES.set(COLUMN_NAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LAST_SEEN.INDEX)) {
+			lastSeen = o.getLastSeen();
+			__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected ColumnAccess(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==ID) {
+				id = (java.lang.Long) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==QUERY_EXECUTION_ID) {
+				queryExecutionId = (java.lang.Long) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(QUERY_EXECUTION_ID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==TABLE_NAME) {
+				tableName = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(TABLE_NAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==COLUMN_NAME) {
+				columnName = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(COLUMN_NAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LAST_SEEN) {
+				lastSeen = (java.lang.Long) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "";
+	public final static String _TABLE_NAME= "column_access";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(ID);
+		fields.add(QUERY_EXECUTION_ID);
+		fields.add(TABLE_NAME);
+		fields.add(COLUMN_NAME);
+		fields.add(LAST_SEEN);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {FK_QUERY_EXECUTION,};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && ColumnAccess.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==ID) return (S) getId();
+			if (_field==QUERY_EXECUTION_ID) return (S) getQueryExecutionId();
+			if (_field==TABLE_NAME) return (S) getTableName();
+			if (_field==COLUMN_NAME) return (S) getColumnName();
+			if (_field==LAST_SEEN) return (S) getLastSeen();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		if (_NOSCO_FK_queryExecutionId!=null) {
+			S _value = _NOSCO_FK_queryExecutionId.get(_select);
+			if(_value!=null) return _value;
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> ColumnAccess set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==ID) return setId((java.lang.Long) _value);
+		if (_field==QUERY_EXECUTION_ID) return setQueryExecutionId((java.lang.Long) _value);
+		if (_field==TABLE_NAME) return setTableName((java.lang.String) _value);
+		if (_field==COLUMN_NAME) return setColumnName((java.lang.String) _value);
+		if (_field==LAST_SEEN) return setLastSeen((java.lang.Long) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<ColumnAccess> ALL = QueryFactory.IT.getQuery(ColumnAccess.class);
+
+	static DataSource __DEFAULT_DATASOURCE = org.kered.dko.persistence.Ds.INSTANCE;
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[ColumnAccess");		if (__NOSCO_FETCHED_VALUES.get(ID.INDEX)) {
+			_sb.append(" id:");
+			String _tmp = id==null ? "null" : id.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(TABLE_NAME.INDEX)) {
+			_sb.append(" table_name:");
+			String _tmp = tableName==null ? "null" : tableName.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(COLUMN_NAME.INDEX)) {
+			_sb.append(" column_name:");
+			String _tmp = columnName==null ? "null" : columnName.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[ColumnAccess");		if (__NOSCO_FETCHED_VALUES.get(ID.INDEX)) {
+			_sb.append(" id:");
+			String _tmp = id==null ? "null" : id.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(QUERY_EXECUTION_ID.INDEX)) {
+			_sb.append(" query_execution_id:");
+			String _tmp = queryExecutionId==null ? "null" : queryExecutionId.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(TABLE_NAME.INDEX)) {
+			_sb.append(" table_name:");
+			String _tmp = tableName==null ? "null" : tableName.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(COLUMN_NAME.INDEX)) {
+			_sb.append(" column_name:");
+			String _tmp = columnName==null ? "null" : columnName.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LAST_SEEN.INDEX)) {
+			_sb.append(" last_seen:");
+			String _tmp = lastSeen==null ? "null" : lastSeen.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column id.
+	 */
+	public java.lang.Long getId() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ID);
+		if (!__NOSCO_FETCHED_VALUES.get(ID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ID)) {
+			final ColumnAccess _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ID).where(ID.eq(id)).getTheOnly();
+			id = _tmp == null ? null : _tmp.id;
+			__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+		}
+		return id;
+	}
+
+	/**
+	 * Sets the value of column id.
+	 */
+	public ColumnAccess setId(final java.lang.Long v) {
+		if (id==null ? v==null : id.equals(v)) return this;
+		id = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column query_execution_id.
+	 */
+	public java.lang.Long getQueryExecutionId() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, QUERY_EXECUTION_ID);
+		if (!__NOSCO_FETCHED_VALUES.get(QUERY_EXECUTION_ID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(QUERY_EXECUTION_ID)) {
+			final ColumnAccess _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(QUERY_EXECUTION_ID).where(ID.eq(id)).getTheOnly();
+			queryExecutionId = _tmp == null ? null : _tmp.queryExecutionId;
+			__NOSCO_FETCHED_VALUES.set(QUERY_EXECUTION_ID.INDEX);
+		}
+		return queryExecutionId;
+	}
+
+	/**
+	 * Sets the value of column query_execution_id.
+	 */
+	public ColumnAccess setQueryExecutionId(final java.lang.Long v) {
+		if (queryExecutionId==null ? v==null : queryExecutionId.equals(v)) return this;
+		queryExecutionId = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(QUERY_EXECUTION_ID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(QUERY_EXECUTION_ID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column table_name.
+	 */
+	public java.lang.String getTableName() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, TABLE_NAME);
+		if (!__NOSCO_FETCHED_VALUES.get(TABLE_NAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(TABLE_NAME)) {
+			final ColumnAccess _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(TABLE_NAME).where(ID.eq(id)).getTheOnly();
+			tableName = _tmp == null ? null : _tmp.tableName;
+			__NOSCO_FETCHED_VALUES.set(TABLE_NAME.INDEX);
+		}
+		return tableName;
+	}
+
+	/**
+	 * Sets the value of column table_name.
+	 */
+	public ColumnAccess setTableName(final java.lang.String v) {
+		if (tableName==null ? v==null : tableName.equals(v)) return this;
+		tableName = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(TABLE_NAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(TABLE_NAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column column_name.
+	 */
+	public java.lang.String getColumnName() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, COLUMN_NAME);
+		if (!__NOSCO_FETCHED_VALUES.get(COLUMN_NAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(COLUMN_NAME)) {
+			final ColumnAccess _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(COLUMN_NAME).where(ID.eq(id)).getTheOnly();
+			columnName = _tmp == null ? null : _tmp.columnName;
+			__NOSCO_FETCHED_VALUES.set(COLUMN_NAME.INDEX);
+		}
+		return columnName;
+	}
+
+	/**
+	 * Sets the value of column column_name.
+	 */
+	public ColumnAccess setColumnName(final java.lang.String v) {
+		if (columnName==null ? v==null : columnName.equals(v)) return this;
+		columnName = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(COLUMN_NAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(COLUMN_NAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column last_seen.
+	 */
+	public java.lang.Long getLastSeen() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LAST_SEEN);
+		if (!__NOSCO_FETCHED_VALUES.get(LAST_SEEN.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LAST_SEEN)) {
+			final ColumnAccess _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LAST_SEEN).where(ID.eq(id)).getTheOnly();
+			lastSeen = _tmp == null ? null : _tmp.lastSeen;
+			__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+		}
+		return lastSeen;
+	}
+
+	/**
+	 * Sets the value of column last_seen.
+	 */
+	public ColumnAccess setLastSeen(final java.lang.Long v) {
+		if (lastSeen==null ? v==null : lastSeen.equals(v)) return this;
+		lastSeen = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LAST_SEEN.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+		return this;
+	}
+
+	private QueryExecution _NOSCO_FK_queryExecutionId = null;
+
+	/**
+	 * Gets the object representing the row this FK is referencing.
+	 * If it was not pre-loaded with the .with(FK), object is lazy-loaded.
+	 */
+	public QueryExecution getQueryExecutionIdFK() {
+		if (!__NOSCO_FETCHED_VALUES.get(FK_QUERY_EXECUTION.INDEX)) {
+			if (!__NOSCO_PRIVATE_batchLoadFK(FK_QUERY_EXECUTION)) {
+				_NOSCO_FK_queryExecutionId = QueryExecution.ALL.where(QueryExecution.ID.eq(getQueryExecutionId())).getTheOnly();
+				__NOSCO_FETCHED_VALUES.set(FK_QUERY_EXECUTION.INDEX);
+			}
+			__NOSCO_PRIVATE_accessedFkCallback(this, FK_QUERY_EXECUTION);
+		}
+		return _NOSCO_FK_queryExecutionId;
+	}
+
+	/**
+	 * Sets the row this FK is referencing.
+	 */
+	public ColumnAccess setQueryExecutionIdFK(final QueryExecution v) {
+		queryExecutionId = v.getId();
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(QUERY_EXECUTION_ID.INDEX);
+		_NOSCO_FK_queryExecutionId = v;
+		__NOSCO_UPDATED_VALUES.set(FK_QUERY_EXECUTION.INDEX);
+		__NOSCO_FETCHED_VALUES.set(FK_QUERY_EXECUTION.INDEX);
+		return this;
+
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else if (field == FK_QUERY_EXECUTION) {
+			_NOSCO_FK_queryExecutionId = (QueryExecution) v;
+			__NOSCO_FETCHED_VALUES.set(FK_QUERY_EXECUTION.INDEX);
+		}
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	static {
+		__register(ColumnAccess.class, new Table.__Factory<ColumnAccess>() {
+			@SuppressWarnings("rawtypes")
+			public ColumnAccess newInstance(final org.kered.dko.Expression.Select<?>[] _fields, final Object[] _objects, final int _start, final int _end) {
+				return new ColumnAccess((org.kered.dko.Expression.Select[]) _fields, _objects, _start, _end);
+			}
+			public void setFK(final ColumnAccess _t, final Field.FK<?> _fk, final Object _v) {
+				_t.SET_FK(_fk, _v);
+			}
+			public void setFKSet(final ColumnAccess _t, final Field.FK<?> _fk, final Query<?> _v) {
+				_t.SET_FK_SET(_fk, _v);
+			}
+		});
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || id==null) return this.insert(_ds);
+		final Query<ColumnAccess> query = ALL.use(_ds).where(ID.eq(id));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<ColumnAccess> query = ALL.use(_ds).where(ID.eq(id));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(ID.INDEX)) {
+			updates.put(ID, id);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(QUERY_EXECUTION_ID.INDEX)) {
+			updates.put(QUERY_EXECUTION_ID, queryExecutionId);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(TABLE_NAME.INDEX)) {
+			updates.put(TABLE_NAME, tableName);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(COLUMN_NAME.INDEX)) {
+			updates.put(COLUMN_NAME, columnName);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LAST_SEEN.INDEX)) {
+			updates.put(LAST_SEEN, lastSeen);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<ColumnAccess> query = ALL.use(_ds).where(ID.eq(id));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<ColumnAccess> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<ColumnAccess> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<ColumnAccess> query = ALL.use(_ds).where(ID.eq(id));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (id!=null) updates.put(ID, id);
+		if (queryExecutionId!=null) updates.put(QUERY_EXECUTION_ID, queryExecutionId);
+		if (tableName!=null) updates.put(TABLE_NAME, tableName);
+		if (columnName!=null) updates.put(COLUMN_NAME, columnName);
+		if (lastSeen!=null) updates.put(LAST_SEEN, lastSeen);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.Long) id = (java.lang.Long)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final ColumnAccess[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<ColumnAccess> query = ALL.use(_ds).where(ID.eq(id));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("ColumnAccess");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<ColumnAccess> as(final String alias) {
+		return new Table.__Alias<ColumnAccess>(ColumnAccess.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getId() == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof ColumnAccess)
+		
+			&& ((id == null) ? (((ColumnAccess)other).id == null) : (id.equals(((ColumnAccess)other).id)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final ColumnAccess o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (id instanceof Comparable) {
+			v = id==null ? (o.id==null ? 0 : -1) : ((Comparable) id).compareTo(o.id);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
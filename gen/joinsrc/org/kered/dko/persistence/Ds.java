@@ -0,0 +1,11 @@
+package org.kered.dko.persistence;
+
+import org.kered.dko.Context;
+import org.kered.dko.datasource.ReflectedDataSource;
+
+public class Ds {
+
+
+	public static ReflectedDataSource INSTANCE = new ReflectedDataSource("org.kered.dko.persistence.Util", "getDS");
+
+}
@@ -0,0 +1,683 @@
+package org.kered.dko.persistence;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: .query_execution
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class QueryExecution extends Table implements Comparable<QueryExecution>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: query_execution.description
+	 */
+	public static final org.kered.dko.Field<java.lang.String> DESCRIPTION = new org.kered.dko.Field<java.lang.String>(0, QueryExecution.class, "description", "DESCRIPTION", "getDescription",java.lang.String.class, "text");
+	/**
+	 * Represents the database field: query_execution.id
+	 */
+	public static final org.kered.dko.Field<java.lang.Long> ID = new org.kered.dko.Field<java.lang.Long>(1, QueryExecution.class, "id", "ID", "getId",java.lang.Long.class, "long");
+	/**
+	 * Represents the database field: query_execution.query_hash
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> QUERY_HASH = new org.kered.dko.Field<java.lang.Integer>(2, QueryExecution.class, "query_hash", "QUERY_HASH", "getQueryHash",java.lang.Integer.class, "int");
+	/**
+	 * Represents the database field: query_execution.stack_hash
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> STACK_HASH = new org.kered.dko.Field<java.lang.Integer>(3, QueryExecution.class, "stack_hash", "STACK_HASH", "getStackHash",java.lang.Integer.class, "int");
+	/**
+	 * Represents the database field: query_execution.last_seen
+	 */
+	public static final org.kered.dko.Field<java.lang.Long> LAST_SEEN = new org.kered.dko.Field<java.lang.Long>(4, QueryExecution.class, "last_seen", "LAST_SEEN", "getLastSeen",java.lang.Long.class, "bigint");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<QueryExecution> PK = new org.kered.dko.Field.PK<QueryExecution>(ID);
+
+	private java.lang.Long id = null;
+	private java.lang.String description = null;
+	private java.lang.Integer queryHash = null;
+	private java.lang.Integer stackHash = null;
+	private java.lang.Long lastSeen = null;
+
+	/**
+	 * Creates a new (empty) instance of QueryExecution.  Call .insert() to insert it into the database.
+	 */
+	public QueryExecution() {}
+
+	public QueryExecution(QueryExecution o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(DESCRIPTION.INDEX)) {
+			description = o.getDescription();
+			__NOSCO_FETCHED_VALUES.set(DESCRIPTION.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ID.INDEX)) {
+			id = o.getId();
+			__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(QUERY_HASH.INDEX)) {
+			queryHash = o.getQueryHash();
+			__NOSCO_FETCHED_VALUES.set(QUERY_HASH.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STACK_HASH.INDEX)) {
+			stackHash = o.getStackHash();
+			__NOSCO_FETCHED_VALUES.set(STACK_HASH.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LAST_SEEN.INDEX)) {
+			lastSeen = o.getLastSeen();
+			__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected QueryExecution(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==DESCRIPTION) {
+				description = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(DESCRIPTION.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ID) {
+				id = (java.lang.Long) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==QUERY_HASH) {
+				queryHash = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(QUERY_HASH.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STACK_HASH) {
+				stackHash = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STACK_HASH.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LAST_SEEN) {
+				lastSeen = (java.lang.Long) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "";
+	public final static String _TABLE_NAME= "query_execution";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(DESCRIPTION);
+		fields.add(ID);
+		fields.add(QUERY_HASH);
+		fields.add(STACK_HASH);
+		fields.add(LAST_SEEN);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && QueryExecution.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==DESCRIPTION) return (S) getDescription();
+			if (_field==ID) return (S) getId();
+			if (_field==QUERY_HASH) return (S) getQueryHash();
+			if (_field==STACK_HASH) return (S) getStackHash();
+			if (_field==LAST_SEEN) return (S) getLastSeen();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> QueryExecution set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==DESCRIPTION) return setDescription((java.lang.String) _value);
+		if (_field==ID) return setId((java.lang.Long) _value);
+		if (_field==QUERY_HASH) return setQueryHash((java.lang.Integer) _value);
+		if (_field==STACK_HASH) return setStackHash((java.lang.Integer) _value);
+		if (_field==LAST_SEEN) return setLastSeen((java.lang.Long) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<QueryExecution> ALL = QueryFactory.IT.getQuery(QueryExecution.class);
+
+	static DataSource __DEFAULT_DATASOURCE = org.kered.dko.persistence.Ds.INSTANCE;
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[QueryExecution");		if (__NOSCO_FETCHED_VALUES.get(ID.INDEX)) {
+			_sb.append(" id:");
+			String _tmp = id==null ? "null" : id.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[QueryExecution");		if (__NOSCO_FETCHED_VALUES.get(ID.INDEX)) {
+			_sb.append(" id:");
+			String _tmp = id==null ? "null" : id.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(DESCRIPTION.INDEX)) {
+			_sb.append(" description:");
+			String _tmp = description==null ? "null" : description.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(QUERY_HASH.INDEX)) {
+			_sb.append(" query_hash:");
+			String _tmp = queryHash==null ? "null" : queryHash.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STACK_HASH.INDEX)) {
+			_sb.append(" stack_hash:");
+			String _tmp = stackHash==null ? "null" : stackHash.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LAST_SEEN.INDEX)) {
+			_sb.append(" last_seen:");
+			String _tmp = lastSeen==null ? "null" : lastSeen.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column description.
+	 */
+	public java.lang.String getDescription() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, DESCRIPTION);
+		if (!__NOSCO_FETCHED_VALUES.get(DESCRIPTION.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(DESCRIPTION)) {
+			final QueryExecution _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(DESCRIPTION).where(ID.eq(id)).getTheOnly();
+			description = _tmp == null ? null : _tmp.description;
+			__NOSCO_FETCHED_VALUES.set(DESCRIPTION.INDEX);
+		}
+		return description;
+	}
+
+	/**
+	 * Sets the value of column description.
+	 */
+	public QueryExecution setDescription(final java.lang.String v) {
+		if (description==null ? v==null : description.equals(v)) return this;
+		description = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(DESCRIPTION.INDEX);
+		__NOSCO_FETCHED_VALUES.set(DESCRIPTION.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column id.
+	 */
+	public java.lang.Long getId() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ID);
+		if (!__NOSCO_FETCHED_VALUES.get(ID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ID)) {
+			final QueryExecution _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ID).where(ID.eq(id)).getTheOnly();
+			id = _tmp == null ? null : _tmp.id;
+			__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+		}
+		return id;
+	}
+
+	/**
+	 * Sets the value of column id.
+	 */
+	public QueryExecution setId(final java.lang.Long v) {
+		if (id==null ? v==null : id.equals(v)) return this;
+		id = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column query_hash.
+	 */
+	public java.lang.Integer getQueryHash() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, QUERY_HASH);
+		if (!__NOSCO_FETCHED_VALUES.get(QUERY_HASH.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(QUERY_HASH)) {
+			final QueryExecution _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(QUERY_HASH).where(ID.eq(id)).getTheOnly();
+			queryHash = _tmp == null ? null : _tmp.queryHash;
+			__NOSCO_FETCHED_VALUES.set(QUERY_HASH.INDEX);
+		}
+		return queryHash;
+	}
+
+	/**
+	 * Sets the value of column query_hash.
+	 */
+	public QueryExecution setQueryHash(final java.lang.Integer v) {
+		if (queryHash==null ? v==null : queryHash.equals(v)) return this;
+		queryHash = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(QUERY_HASH.INDEX);
+		__NOSCO_FETCHED_VALUES.set(QUERY_HASH.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column stack_hash.
+	 */
+	public java.lang.Integer getStackHash() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STACK_HASH);
+		if (!__NOSCO_FETCHED_VALUES.get(STACK_HASH.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STACK_HASH)) {
+			final QueryExecution _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STACK_HASH).where(ID.eq(id)).getTheOnly();
+			stackHash = _tmp == null ? null : _tmp.stackHash;
+			__NOSCO_FETCHED_VALUES.set(STACK_HASH.INDEX);
+		}
+		return stackHash;
+	}
+
+	/**
+	 * Sets the value of column stack_hash.
+	 */
+	public QueryExecution setStackHash(final java.lang.Integer v) {
+		if (stackHash==null ? v==null : stackHash.equals(v)) return this;
+		stackHash = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STACK_HASH.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STACK_HASH.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column last_seen.
+	 */
+	public java.lang.Long getLastSeen() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LAST_SEEN);
+		if (!__NOSCO_FETCHED_VALUES.get(LAST_SEEN.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LAST_SEEN)) {
+			final QueryExecution _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LAST_SEEN).where(ID.eq(id)).getTheOnly();
+			lastSeen = _tmp == null ? null : _tmp.lastSeen;
+			__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+		}
+		return lastSeen;
+	}
+
+	/**
+	 * Sets the value of column last_seen.
+	 */
+	public QueryExecution setLastSeen(final java.lang.Long v) {
+		if (lastSeen==null ? v==null : lastSeen.equals(v)) return this;
+		lastSeen = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LAST_SEEN.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LAST_SEEN.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else if (ColumnAccess.FK_QUERY_EXECUTION.equals(fk)) {
+			__NOSCO_CACHED_FK_SET___column_access___query_execution_id = (Query<ColumnAccess>) v;
+		}
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	static {
+		__register(QueryExecution.class, new Table.__Factory<QueryExecution>() {
+			@SuppressWarnings("rawtypes")
+			public QueryExecution newInstance(final org.kered.dko.Expression.Select<?>[] _fields, final Object[] _objects, final int _start, final int _end) {
+				return new QueryExecution((org.kered.dko.Expression.Select[]) _fields, _objects, _start, _end);
+			}
+			public void setFK(final QueryExecution _t, final Field.FK<?> _fk, final Object _v) {
+				_t.SET_FK(_fk, _v);
+			}
+			public void setFKSet(final QueryExecution _t, final Field.FK<?> _fk, final Query<?> _v) {
+				_t.SET_FK_SET(_fk, _v);
+			}
+		});
+	}
+
+	private Query<ColumnAccess> __NOSCO_CACHED_FK_SET___column_access___query_execution_id = null;
+	/**
+	 * Returns a query representing the collection of rows this FK is referencing.
+	 * If it pre-loaded with the .with(FK), collection is in memory.
+	 * Else, iterations over this query will query the database.
+	 */
+	public Query<ColumnAccess> getColumnAccessSet() {
+		if (__NOSCO_CACHED_FK_SET___column_access___query_execution_id != null) return __NOSCO_CACHED_FK_SET___column_access___query_execution_id;
+		Condition condition = Condition.TRUE.and(ColumnAccess.QUERY_EXECUTION_ID.eq(getId()));
+		return ColumnAccess.ALL.where(condition);
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || id==null) return this.insert(_ds);
+		final Query<QueryExecution> query = ALL.use(_ds).where(ID.eq(id));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<QueryExecution> query = ALL.use(_ds).where(ID.eq(id));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(DESCRIPTION.INDEX)) {
+			updates.put(DESCRIPTION, description);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ID.INDEX)) {
+			updates.put(ID, id);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(QUERY_HASH.INDEX)) {
+			updates.put(QUERY_HASH, queryHash);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STACK_HASH.INDEX)) {
+			updates.put(STACK_HASH, stackHash);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LAST_SEEN.INDEX)) {
+			updates.put(LAST_SEEN, lastSeen);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<QueryExecution> query = ALL.use(_ds).where(ID.eq(id));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<QueryExecution> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<QueryExecution> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<QueryExecution> query = ALL.use(_ds).where(ID.eq(id));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (description!=null) updates.put(DESCRIPTION, description);
+		if (id!=null) updates.put(ID, id);
+		if (queryHash!=null) updates.put(QUERY_HASH, queryHash);
+		if (stackHash!=null) updates.put(STACK_HASH, stackHash);
+		if (lastSeen!=null) updates.put(LAST_SEEN, lastSeen);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.Long) id = (java.lang.Long)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final QueryExecution[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<QueryExecution> query = ALL.use(_ds).where(ID.eq(id));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("QueryExecution");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<QueryExecution> as(final String alias) {
+		return new Table.__Alias<QueryExecution>(QueryExecution.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getId() == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof QueryExecution)
+		
+			&& ((id == null) ? (((QueryExecution)other).id == null) : (id.equals(((QueryExecution)other).id)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final QueryExecution o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (id instanceof Comparable) {
+			v = id==null ? (o.id==null ? 0 : -1) : ((Comparable) id).compareTo(o.id);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
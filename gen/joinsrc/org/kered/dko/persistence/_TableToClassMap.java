@@ -0,0 +1,18 @@
+package org.kered.dko.persistence;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.HashMap;
+import org.kered.dko.Expression;
+import org.kered.dko.Table;
+
+public class _TableToClassMap {
+	public static final Map<String, Class<? extends Table>> IT;
+	static {
+		Map<String, Class<? extends Table>> it = new HashMap<String, Class<? extends Table>>();
+		it.put("column_access", ColumnAccess.class);
+		it.put("query_execution", QueryExecution.class);
+		it.put("query_size", QuerySize.class);
+		IT = Collections.unmodifiableMap(it);
+	}
+}
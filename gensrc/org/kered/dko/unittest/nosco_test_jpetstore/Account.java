@@ -0,0 +1,1122 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.ACCOUNT
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Account extends Table implements Comparable<Account>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: ACCOUNT.ADDR1
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ADDR1 = new org.kered.dko.Field<java.lang.String>(0, Account.class, "ADDR1", "ADDR1", "getAddr1",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.ADDR2
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ADDR2 = new org.kered.dko.Field<java.lang.String>(1, Account.class, "ADDR2", "ADDR2", "getAddr2",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.CITY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> CITY = new org.kered.dko.Field<java.lang.String>(2, Account.class, "CITY", "CITY", "getCity",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.COUNTRY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> COUNTRY = new org.kered.dko.Field<java.lang.String>(3, Account.class, "COUNTRY", "COUNTRY", "getCountry",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.EMAIL
+	 */
+	public static final org.kered.dko.Field<java.lang.String> EMAIL = new org.kered.dko.Field<java.lang.String>(4, Account.class, "EMAIL", "EMAIL", "getEmail",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.FIRSTNAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> FIRSTNAME = new org.kered.dko.Field<java.lang.String>(5, Account.class, "FIRSTNAME", "FIRSTNAME", "getFirstname",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.LASTNAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> LASTNAME = new org.kered.dko.Field<java.lang.String>(6, Account.class, "LASTNAME", "LASTNAME", "getLastname",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.PHONE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> PHONE = new org.kered.dko.Field<java.lang.String>(7, Account.class, "PHONE", "PHONE", "getPhone",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.STATE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> STATE = new org.kered.dko.Field<java.lang.String>(8, Account.class, "STATE", "STATE", "getState",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.STATUS
+	 */
+	public static final org.kered.dko.Field<java.lang.String> STATUS = new org.kered.dko.Field<java.lang.String>(9, Account.class, "STATUS", "STATUS", "getStatus",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.USERID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> USERID = new org.kered.dko.Field<java.lang.String>(10, Account.class, "USERID", "USERID", "getUserid",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ACCOUNT.ZIP
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ZIP = new org.kered.dko.Field<java.lang.String>(11, Account.class, "ZIP", "ZIP", "getZip",java.lang.String.class, "CHARACTER VARYING");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Account> PK = new org.kered.dko.Field.PK<Account>(USERID);
+
+	private java.lang.String userid = null;
+	private java.lang.String addr1 = null;
+	private java.lang.String addr2 = null;
+	private java.lang.String city = null;
+	private java.lang.String country = null;
+	private java.lang.String email = null;
+	private java.lang.String firstname = null;
+	private java.lang.String lastname = null;
+	private java.lang.String phone = null;
+	private java.lang.String state = null;
+	private java.lang.String status = null;
+	private java.lang.String zip = null;
+
+	/**
+	 * Creates a new (empty) instance of Account.  Call .insert() to insert it into the database.
+	 */
+	public Account() {}
+
+	public Account(Account o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(ADDR1.INDEX)) {
+			addr1 = o.getAddr1();
+			__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ADDR2.INDEX)) {
+			addr2 = o.getAddr2();
+			__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(CITY.INDEX)) {
+			city = o.getCity();
+			__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(COUNTRY.INDEX)) {
+			country = o.getCountry();
+			__NOSCO_FETCHED_VALUES.set(COUNTRY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(EMAIL.INDEX)) {
+			email = o.getEmail();
+			__NOSCO_FETCHED_VALUES.set(EMAIL.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(FIRSTNAME.INDEX)) {
+			firstname = o.getFirstname();
+			__NOSCO_FETCHED_VALUES.set(FIRSTNAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LASTNAME.INDEX)) {
+			lastname = o.getLastname();
+			__NOSCO_FETCHED_VALUES.set(LASTNAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(PHONE.INDEX)) {
+			phone = o.getPhone();
+			__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STATE.INDEX)) {
+			state = o.getState();
+			__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			status = o.getStatus();
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			userid = o.getUserid();
+			__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ZIP.INDEX)) {
+			zip = o.getZip();
+			__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Account(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==ADDR1) {
+				addr1 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ADDR2) {
+				addr2 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+				continue;
+			}
+			if (_fields[_i]==CITY) {
+				city = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==COUNTRY) {
+				country = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(COUNTRY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==EMAIL) {
+				email = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(EMAIL.INDEX);
+				continue;
+			}
+			if (_fields[_i]==FIRSTNAME) {
+				firstname = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(FIRSTNAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LASTNAME) {
+				lastname = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LASTNAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==PHONE) {
+				phone = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STATE) {
+				state = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STATUS) {
+				status = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+				continue;
+			}
+			if (_fields[_i]==USERID) {
+				userid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ZIP) {
+				zip = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "ACCOUNT";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(ADDR1);
+		fields.add(ADDR2);
+		fields.add(CITY);
+		fields.add(COUNTRY);
+		fields.add(EMAIL);
+		fields.add(FIRSTNAME);
+		fields.add(LASTNAME);
+		fields.add(PHONE);
+		fields.add(STATE);
+		fields.add(STATUS);
+		fields.add(USERID);
+		fields.add(ZIP);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Account.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==ADDR1) return (S) getAddr1();
+			if (_field==ADDR2) return (S) getAddr2();
+			if (_field==CITY) return (S) getCity();
+			if (_field==COUNTRY) return (S) getCountry();
+			if (_field==EMAIL) return (S) getEmail();
+			if (_field==FIRSTNAME) return (S) getFirstname();
+			if (_field==LASTNAME) return (S) getLastname();
+			if (_field==PHONE) return (S) getPhone();
+			if (_field==STATE) return (S) getState();
+			if (_field==STATUS) return (S) getStatus();
+			if (_field==USERID) return (S) getUserid();
+			if (_field==ZIP) return (S) getZip();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Account set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==ADDR1) return setAddr1((java.lang.String) _value);
+		if (_field==ADDR2) return setAddr2((java.lang.String) _value);
+		if (_field==CITY) return setCity((java.lang.String) _value);
+		if (_field==COUNTRY) return setCountry((java.lang.String) _value);
+		if (_field==EMAIL) return setEmail((java.lang.String) _value);
+		if (_field==FIRSTNAME) return setFirstname((java.lang.String) _value);
+		if (_field==LASTNAME) return setLastname((java.lang.String) _value);
+		if (_field==PHONE) return setPhone((java.lang.String) _value);
+		if (_field==STATE) return setState((java.lang.String) _value);
+		if (_field==STATUS) return setStatus((java.lang.String) _value);
+		if (_field==USERID) return setUserid((java.lang.String) _value);
+		if (_field==ZIP) return setZip((java.lang.String) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Account> ALL = QueryFactory.IT.getQuery(Account.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Account");		if (__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			_sb.append(" USERID:");
+			String _tmp = userid==null ? "null" : userid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(FIRSTNAME.INDEX)) {
+			_sb.append(" FIRSTNAME:");
+			String _tmp = firstname==null ? "null" : firstname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LASTNAME.INDEX)) {
+			_sb.append(" LASTNAME:");
+			String _tmp = lastname==null ? "null" : lastname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Account");		if (__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			_sb.append(" USERID:");
+			String _tmp = userid==null ? "null" : userid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ADDR1.INDEX)) {
+			_sb.append(" ADDR1:");
+			String _tmp = addr1==null ? "null" : addr1.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ADDR2.INDEX)) {
+			_sb.append(" ADDR2:");
+			String _tmp = addr2==null ? "null" : addr2.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(CITY.INDEX)) {
+			_sb.append(" CITY:");
+			String _tmp = city==null ? "null" : city.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(COUNTRY.INDEX)) {
+			_sb.append(" COUNTRY:");
+			String _tmp = country==null ? "null" : country.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(EMAIL.INDEX)) {
+			_sb.append(" EMAIL:");
+			String _tmp = email==null ? "null" : email.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(FIRSTNAME.INDEX)) {
+			_sb.append(" FIRSTNAME:");
+			String _tmp = firstname==null ? "null" : firstname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LASTNAME.INDEX)) {
+			_sb.append(" LASTNAME:");
+			String _tmp = lastname==null ? "null" : lastname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(PHONE.INDEX)) {
+			_sb.append(" PHONE:");
+			String _tmp = phone==null ? "null" : phone.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STATE.INDEX)) {
+			_sb.append(" STATE:");
+			String _tmp = state==null ? "null" : state.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			_sb.append(" STATUS:");
+			String _tmp = status==null ? "null" : status.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ZIP.INDEX)) {
+			_sb.append(" ZIP:");
+			String _tmp = zip==null ? "null" : zip.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column ADDR1.
+	 */
+	public java.lang.String getAddr1() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ADDR1);
+		if (!__NOSCO_FETCHED_VALUES.get(ADDR1.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ADDR1)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ADDR1).where(USERID.eq(userid)).getTheOnly();
+			addr1 = _tmp == null ? null : _tmp.addr1;
+			__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+		}
+		return addr1;
+	}
+
+	/**
+	 * Sets the value of column ADDR1.
+	 */
+	public Account setAddr1(final java.lang.String v) {
+		if (addr1==null ? v==null : addr1.equals(v)) return this;
+		addr1 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ADDR1.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ADDR2.
+	 */
+	public java.lang.String getAddr2() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ADDR2);
+		if (!__NOSCO_FETCHED_VALUES.get(ADDR2.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ADDR2)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ADDR2).where(USERID.eq(userid)).getTheOnly();
+			addr2 = _tmp == null ? null : _tmp.addr2;
+			__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+		}
+		return addr2;
+	}
+
+	/**
+	 * Sets the value of column ADDR2.
+	 */
+	public Account setAddr2(final java.lang.String v) {
+		if (addr2==null ? v==null : addr2.equals(v)) return this;
+		addr2 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ADDR2.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column CITY.
+	 */
+	public java.lang.String getCity() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, CITY);
+		if (!__NOSCO_FETCHED_VALUES.get(CITY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(CITY)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(CITY).where(USERID.eq(userid)).getTheOnly();
+			city = _tmp == null ? null : _tmp.city;
+			__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+		}
+		return city;
+	}
+
+	/**
+	 * Sets the value of column CITY.
+	 */
+	public Account setCity(final java.lang.String v) {
+		if (city==null ? v==null : city.equals(v)) return this;
+		city = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(CITY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column COUNTRY.
+	 */
+	public java.lang.String getCountry() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, COUNTRY);
+		if (!__NOSCO_FETCHED_VALUES.get(COUNTRY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(COUNTRY)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(COUNTRY).where(USERID.eq(userid)).getTheOnly();
+			country = _tmp == null ? null : _tmp.country;
+			__NOSCO_FETCHED_VALUES.set(COUNTRY.INDEX);
+		}
+		return country;
+	}
+
+	/**
+	 * Sets the value of column COUNTRY.
+	 */
+	public Account setCountry(final java.lang.String v) {
+		if (country==null ? v==null : country.equals(v)) return this;
+		country = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(COUNTRY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(COUNTRY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column EMAIL.
+	 */
+	public java.lang.String getEmail() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, EMAIL);
+		if (!__NOSCO_FETCHED_VALUES.get(EMAIL.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(EMAIL)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(EMAIL).where(USERID.eq(userid)).getTheOnly();
+			email = _tmp == null ? null : _tmp.email;
+			__NOSCO_FETCHED_VALUES.set(EMAIL.INDEX);
+		}
+		return email;
+	}
+
+	/**
+	 * Sets the value of column EMAIL.
+	 */
+	public Account setEmail(final java.lang.String v) {
+		if (email==null ? v==null : email.equals(v)) return this;
+		email = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(EMAIL.INDEX);
+		__NOSCO_FETCHED_VALUES.set(EMAIL.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column FIRSTNAME.
+	 */
+	public java.lang.String getFirstname() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, FIRSTNAME);
+		if (!__NOSCO_FETCHED_VALUES.get(FIRSTNAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(FIRSTNAME)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(FIRSTNAME).where(USERID.eq(userid)).getTheOnly();
+			firstname = _tmp == null ? null : _tmp.firstname;
+			__NOSCO_FETCHED_VALUES.set(FIRSTNAME.INDEX);
+		}
+		return firstname;
+	}
+
+	/**
+	 * Sets the value of column FIRSTNAME.
+	 */
+	public Account setFirstname(final java.lang.String v) {
+		if (firstname==null ? v==null : firstname.equals(v)) return this;
+		firstname = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(FIRSTNAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(FIRSTNAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column LASTNAME.
+	 */
+	public java.lang.String getLastname() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LASTNAME);
+		if (!__NOSCO_FETCHED_VALUES.get(LASTNAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LASTNAME)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LASTNAME).where(USERID.eq(userid)).getTheOnly();
+			lastname = _tmp == null ? null : _tmp.lastname;
+			__NOSCO_FETCHED_VALUES.set(LASTNAME.INDEX);
+		}
+		return lastname;
+	}
+
+	/**
+	 * Sets the value of column LASTNAME.
+	 */
+	public Account setLastname(final java.lang.String v) {
+		if (lastname==null ? v==null : lastname.equals(v)) return this;
+		lastname = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LASTNAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LASTNAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column PHONE.
+	 */
+	public java.lang.String getPhone() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, PHONE);
+		if (!__NOSCO_FETCHED_VALUES.get(PHONE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(PHONE)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(PHONE).where(USERID.eq(userid)).getTheOnly();
+			phone = _tmp == null ? null : _tmp.phone;
+			__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+		}
+		return phone;
+	}
+
+	/**
+	 * Sets the value of column PHONE.
+	 */
+	public Account setPhone(final java.lang.String v) {
+		if (phone==null ? v==null : phone.equals(v)) return this;
+		phone = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(PHONE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column STATE.
+	 */
+	public java.lang.String getState() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STATE);
+		if (!__NOSCO_FETCHED_VALUES.get(STATE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STATE)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STATE).where(USERID.eq(userid)).getTheOnly();
+			state = _tmp == null ? null : _tmp.state;
+			__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+		}
+		return state;
+	}
+
+	/**
+	 * Sets the value of column STATE.
+	 */
+	public Account setState(final java.lang.String v) {
+		if (state==null ? v==null : state.equals(v)) return this;
+		state = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STATE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column STATUS.
+	 */
+	public java.lang.String getStatus() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STATUS);
+		if (!__NOSCO_FETCHED_VALUES.get(STATUS.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STATUS)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STATUS).where(USERID.eq(userid)).getTheOnly();
+			status = _tmp == null ? null : _tmp.status;
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		return status;
+	}
+
+	/**
+	 * Sets the value of column STATUS.
+	 */
+	public Account setStatus(final java.lang.String v) {
+		if (status==null ? v==null : status.equals(v)) return this;
+		status = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STATUS.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column USERID.
+	 */
+	public java.lang.String getUserid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, USERID);
+		if (!__NOSCO_FETCHED_VALUES.get(USERID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(USERID)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(USERID).where(USERID.eq(userid)).getTheOnly();
+			userid = _tmp == null ? null : _tmp.userid;
+			__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		}
+		return userid;
+	}
+
+	/**
+	 * Sets the value of column USERID.
+	 */
+	public Account setUserid(final java.lang.String v) {
+		if (userid==null ? v==null : userid.equals(v)) return this;
+		userid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(USERID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ZIP.
+	 */
+	public java.lang.String getZip() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ZIP);
+		if (!__NOSCO_FETCHED_VALUES.get(ZIP.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ZIP)) {
+			final Account _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ZIP).where(USERID.eq(userid)).getTheOnly();
+			zip = _tmp == null ? null : _tmp.zip;
+			__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+		}
+		return zip;
+	}
+
+	/**
+	 * Sets the value of column ZIP.
+	 */
+	public Account setZip(final java.lang.String v) {
+		if (zip==null ? v==null : zip.equals(v)) return this;
+		zip = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ZIP.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || userid==null) return this.insert(_ds);
+		final Query<Account> query = ALL.use(_ds).where(USERID.eq(userid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Account> query = ALL.use(_ds).where(USERID.eq(userid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(ADDR1.INDEX)) {
+			updates.put(ADDR1, addr1);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ADDR2.INDEX)) {
+			updates.put(ADDR2, addr2);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(CITY.INDEX)) {
+			updates.put(CITY, city);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(COUNTRY.INDEX)) {
+			updates.put(COUNTRY, country);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(EMAIL.INDEX)) {
+			updates.put(EMAIL, email);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(FIRSTNAME.INDEX)) {
+			updates.put(FIRSTNAME, firstname);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LASTNAME.INDEX)) {
+			updates.put(LASTNAME, lastname);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(PHONE.INDEX)) {
+			updates.put(PHONE, phone);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STATE.INDEX)) {
+			updates.put(STATE, state);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STATUS.INDEX)) {
+			updates.put(STATUS, status);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(USERID.INDEX)) {
+			updates.put(USERID, userid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ZIP.INDEX)) {
+			updates.put(ZIP, zip);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Account> query = ALL.use(_ds).where(USERID.eq(userid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Account> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Account> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Account> query = ALL.use(_ds).where(USERID.eq(userid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (addr1!=null) updates.put(ADDR1, addr1);
+		if (addr2!=null) updates.put(ADDR2, addr2);
+		if (city!=null) updates.put(CITY, city);
+		if (country!=null) updates.put(COUNTRY, country);
+		if (email!=null) updates.put(EMAIL, email);
+		if (firstname!=null) updates.put(FIRSTNAME, firstname);
+		if (lastname!=null) updates.put(LASTNAME, lastname);
+		if (phone!=null) updates.put(PHONE, phone);
+		if (state!=null) updates.put(STATE, state);
+		if (status!=null) updates.put(STATUS, status);
+		if (userid!=null) updates.put(USERID, userid);
+		if (zip!=null) updates.put(ZIP, zip);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.String) userid = (java.lang.String)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Account[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Account> query = ALL.use(_ds).where(USERID.eq(userid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Account");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("toString", Account.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preInsert", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postInsert", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preUpdate", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postUpdate", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preDelete", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postDelete", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preTruncate", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postTruncate", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preSetAutoIncrement", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postSetAutoIncrement", Account[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preInsert", Account.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postInsert", Account.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("preUpdate", Account.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("postUpdate", Account.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("hashCode", Account.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("equals", Account.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.AccountCB").getMethod("compareTo", Account.class, Account.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Account> as(final String alias) {
+		return new Table.__Alias<Account>(Account.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getUserid() == null) ? 0 : userid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Account)
+		
+			&& ((userid == null) ? (((Account)other).userid == null) : (userid.equals(((Account)other).userid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Account o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (userid instanceof Comparable) {
+			v = userid==null ? (o.userid==null ? 0 : -1) : ((Comparable) userid).compareTo(o.userid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
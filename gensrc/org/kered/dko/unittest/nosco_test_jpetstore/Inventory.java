@@ -0,0 +1,556 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.INVENTORY
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Inventory extends Table implements Comparable<Inventory>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: INVENTORY.ITEMID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ITEMID = new org.kered.dko.Field<java.lang.String>(0, Inventory.class, "ITEMID", "ITEMID", "getItemid",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: INVENTORY.QTY
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> QTY = new org.kered.dko.Field<java.lang.Integer>(1, Inventory.class, "QTY", "QTY", "getQty",java.lang.Integer.class, "INTEGER");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Inventory> PK = new org.kered.dko.Field.PK<Inventory>(ITEMID);
+
+	private java.lang.String itemid = null;
+	private java.lang.Integer qty = null;
+
+	/**
+	 * Creates a new (empty) instance of Inventory.  Call .insert() to insert it into the database.
+	 */
+	public Inventory() {}
+
+	public Inventory(Inventory o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			itemid = o.getItemid();
+			__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(QTY.INDEX)) {
+			qty = o.getQty();
+			__NOSCO_FETCHED_VALUES.set(QTY.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Inventory(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==ITEMID) {
+				itemid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==QTY) {
+				qty = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(QTY.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "INVENTORY";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(ITEMID);
+		fields.add(QTY);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Inventory.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==ITEMID) return (S) getItemid();
+			if (_field==QTY) return (S) getQty();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Inventory set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==ITEMID) return setItemid((java.lang.String) _value);
+		if (_field==QTY) return setQty((java.lang.Integer) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Inventory> ALL = QueryFactory.IT.getQuery(Inventory.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Inventory");		if (__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			_sb.append(" ITEMID:");
+			String _tmp = itemid==null ? "null" : itemid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Inventory");		if (__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			_sb.append(" ITEMID:");
+			String _tmp = itemid==null ? "null" : itemid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(QTY.INDEX)) {
+			_sb.append(" QTY:");
+			String _tmp = qty==null ? "null" : qty.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column ITEMID.
+	 */
+	public java.lang.String getItemid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ITEMID);
+		if (!__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ITEMID)) {
+			final Inventory _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ITEMID).where(ITEMID.eq(itemid)).getTheOnly();
+			itemid = _tmp == null ? null : _tmp.itemid;
+			__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		}
+		return itemid;
+	}
+
+	/**
+	 * Sets the value of column ITEMID.
+	 */
+	public Inventory setItemid(final java.lang.String v) {
+		if (itemid==null ? v==null : itemid.equals(v)) return this;
+		itemid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ITEMID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column QTY.
+	 */
+	public java.lang.Integer getQty() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, QTY);
+		if (!__NOSCO_FETCHED_VALUES.get(QTY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(QTY)) {
+			final Inventory _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(QTY).where(ITEMID.eq(itemid)).getTheOnly();
+			qty = _tmp == null ? null : _tmp.qty;
+			__NOSCO_FETCHED_VALUES.set(QTY.INDEX);
+		}
+		return qty;
+	}
+
+	/**
+	 * Sets the value of column QTY.
+	 */
+	public Inventory setQty(final java.lang.Integer v) {
+		if (qty==null ? v==null : qty.equals(v)) return this;
+		qty = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(QTY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(QTY.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || itemid==null) return this.insert(_ds);
+		final Query<Inventory> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Inventory> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(ITEMID.INDEX)) {
+			updates.put(ITEMID, itemid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(QTY.INDEX)) {
+			updates.put(QTY, qty);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Inventory> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Inventory> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Inventory> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Inventory> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (itemid!=null) updates.put(ITEMID, itemid);
+		if (qty!=null) updates.put(QTY, qty);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.String) itemid = (java.lang.String)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Inventory[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Inventory> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Inventory");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("toString", Inventory.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preInsert", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postInsert", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preUpdate", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postUpdate", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preDelete", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postDelete", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preTruncate", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postTruncate", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preSetAutoIncrement", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postSetAutoIncrement", Inventory[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preInsert", Inventory.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postInsert", Inventory.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("preUpdate", Inventory.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("postUpdate", Inventory.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("hashCode", Inventory.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("equals", Inventory.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.InventoryCB").getMethod("compareTo", Inventory.class, Inventory.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Inventory> as(final String alias) {
+		return new Table.__Alias<Inventory>(Inventory.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getItemid() == null) ? 0 : itemid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Inventory)
+		
+			&& ((itemid == null) ? (((Inventory)other).itemid == null) : (itemid.equals(((Inventory)other).itemid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Inventory o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (itemid instanceof Comparable) {
+			v = itemid==null ? (o.itemid==null ? 0 : -1) : ((Comparable) itemid).compareTo(o.itemid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
@@ -0,0 +1,1139 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.ITEM
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Item extends Table implements Comparable<Item>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: ITEM.ATTR1
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ATTR1 = new org.kered.dko.Field<java.lang.String>(0, Item.class, "ATTR1", "ATTR1", "getAttr1",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.ATTR2
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ATTR2 = new org.kered.dko.Field<java.lang.String>(1, Item.class, "ATTR2", "ATTR2", "getAttr2",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.ATTR3
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ATTR3 = new org.kered.dko.Field<java.lang.String>(2, Item.class, "ATTR3", "ATTR3", "getAttr3",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.ATTR4
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ATTR4 = new org.kered.dko.Field<java.lang.String>(3, Item.class, "ATTR4", "ATTR4", "getAttr4",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.ATTR5
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ATTR5 = new org.kered.dko.Field<java.lang.String>(4, Item.class, "ATTR5", "ATTR5", "getAttr5",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.ITEMID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ITEMID = new org.kered.dko.Field<java.lang.String>(5, Item.class, "ITEMID", "ITEMID", "getItemid",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.LISTPRICE
+	 */
+	public static final org.kered.dko.Field<java.math.BigDecimal> LISTPRICE = new org.kered.dko.Field<java.math.BigDecimal>(6, Item.class, "LISTPRICE", "LISTPRICE", "getListprice",java.math.BigDecimal.class, "DECIMAL");
+	/**
+	 * Represents the database field: ITEM.PRODUCTID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> PRODUCTID = new org.kered.dko.Field<java.lang.String>(7, Item.class, "PRODUCTID", "PRODUCTID", "getProductid",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.STATUS
+	 */
+	public static final org.kered.dko.Field<java.lang.String> STATUS = new org.kered.dko.Field<java.lang.String>(8, Item.class, "STATUS", "STATUS", "getStatus",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ITEM.SUPPLIER
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> SUPPLIER = new org.kered.dko.Field<java.lang.Integer>(9, Item.class, "SUPPLIER", "SUPPLIER", "getSupplier",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: ITEM.UNITCOST
+	 */
+	public static final org.kered.dko.Field<java.math.BigDecimal> UNITCOST = new org.kered.dko.Field<java.math.BigDecimal>(10, Item.class, "UNITCOST", "UNITCOST", "getUnitcost",java.math.BigDecimal.class, "DECIMAL");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Item> PK = new org.kered.dko.Field.PK<Item>(ITEMID);
+	/**
+	 * A special object defining the foreign key relationship between this table and:
+	 * PUBLIC.PRODUCT
+	 */
+	public static final Field.FK<Product> FK_PRODUCTID_PRODUCT = new Field.FK<Product>("FK_PRODUCTID_PRODUCT", 11, Item.class, Product.class, PRODUCTID, Product.PRODUCTID);
+	/**
+	 * A special object defining the foreign key relationship between this table and:
+	 * PUBLIC.SUPPLIER
+	 */
+	public static final Field.FK<Supplier> FK_SUPPLIER = new Field.FK<Supplier>("FK_SUPPLIER", 12, Item.class, Supplier.class, SUPPLIER, Supplier.SUPPID);
+
+	private java.lang.String itemid = null;
+	private java.lang.String attr1 = null;
+	private java.lang.String attr2 = null;
+	private java.lang.String attr3 = null;
+	private java.lang.String attr4 = null;
+	private java.lang.String attr5 = null;
+	private java.math.BigDecimal listprice = null;
+	private java.lang.String productid = null;
+	private java.lang.String status = null;
+	private java.lang.Integer supplier = null;
+	private java.math.BigDecimal unitcost = null;
+
+	/**
+	 * Creates a new (empty) instance of Item.  Call .insert() to insert it into the database.
+	 */
+	public Item() {}
+
+	public Item(Item o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(ATTR1.INDEX)) {
+			attr1 = o.getAttr1();
+			__NOSCO_FETCHED_VALUES.set(ATTR1.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ATTR2.INDEX)) {
+			attr2 = o.getAttr2();
+			__NOSCO_FETCHED_VALUES.set(ATTR2.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ATTR3.INDEX)) {
+			attr3 = o.getAttr3();
+			__NOSCO_FETCHED_VALUES.set(ATTR3.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ATTR4.INDEX)) {
+			attr4 = o.getAttr4();
+			__NOSCO_FETCHED_VALUES.set(ATTR4.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ATTR5.INDEX)) {
+			attr5 = o.getAttr5();
+			__NOSCO_FETCHED_VALUES.set(ATTR5.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			itemid = o.getItemid();
+			__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LISTPRICE.INDEX)) {
+			listprice = o.getListprice();
+			__NOSCO_FETCHED_VALUES.set(LISTPRICE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX)) {
+			productid = o.getProductid();
+			__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			status = o.getStatus();
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SUPPLIER.INDEX)) {
+			supplier = o.getSupplier();
+			__NOSCO_FETCHED_VALUES.set(SUPPLIER.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(UNITCOST.INDEX)) {
+			unitcost = o.getUnitcost();
+			__NOSCO_FETCHED_VALUES.set(UNITCOST.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Item(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==ATTR1) {
+				attr1 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ATTR1.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ATTR2) {
+				attr2 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ATTR2.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ATTR3) {
+				attr3 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ATTR3.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ATTR4) {
+				attr4 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ATTR4.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ATTR5) {
+				attr5 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ATTR5.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ITEMID) {
+				itemid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LISTPRICE) {
+				listprice = (java.math.BigDecimal) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LISTPRICE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==PRODUCTID) {
+				productid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STATUS) {
+				status = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SUPPLIER) {
+				supplier = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SUPPLIER.INDEX);
+				continue;
+			}
+			if (_fields[_i]==UNITCOST) {
+				unitcost = (java.math.BigDecimal) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(UNITCOST.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "ITEM";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(ATTR1);
+		fields.add(ATTR2);
+		fields.add(ATTR3);
+		fields.add(ATTR4);
+		fields.add(ATTR5);
+		fields.add(ITEMID);
+		fields.add(LISTPRICE);
+		fields.add(PRODUCTID);
+		fields.add(STATUS);
+		fields.add(SUPPLIER);
+		fields.add(UNITCOST);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {FK_PRODUCTID_PRODUCT,FK_SUPPLIER,};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Item.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==ATTR1) return (S) getAttr1();
+			if (_field==ATTR2) return (S) getAttr2();
+			if (_field==ATTR3) return (S) getAttr3();
+			if (_field==ATTR4) return (S) getAttr4();
+			if (_field==ATTR5) return (S) getAttr5();
+			if (_field==ITEMID) return (S) getItemid();
+			if (_field==LISTPRICE) return (S) getListprice();
+			if (_field==PRODUCTID) return (S) getProductid();
+			if (_field==STATUS) return (S) getStatus();
+			if (_field==SUPPLIER) return (S) getSupplier();
+			if (_field==UNITCOST) return (S) getUnitcost();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		if (_NOSCO_FK_productid!=null) {
+			S _value = _NOSCO_FK_productid.get(_select);
+			if(_value!=null) return _value;
+		}
+		if (_NOSCO_FK_supplier!=null) {
+			S _value = _NOSCO_FK_supplier.get(_select);
+			if(_value!=null) return _value;
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Item set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==ATTR1) return setAttr1((java.lang.String) _value);
+		if (_field==ATTR2) return setAttr2((java.lang.String) _value);
+		if (_field==ATTR3) return setAttr3((java.lang.String) _value);
+		if (_field==ATTR4) return setAttr4((java.lang.String) _value);
+		if (_field==ATTR5) return setAttr5((java.lang.String) _value);
+		if (_field==ITEMID) return setItemid((java.lang.String) _value);
+		if (_field==LISTPRICE) return setListprice((java.math.BigDecimal) _value);
+		if (_field==PRODUCTID) return setProductid((java.lang.String) _value);
+		if (_field==STATUS) return setStatus((java.lang.String) _value);
+		if (_field==SUPPLIER) return setSupplier((java.lang.Integer) _value);
+		if (_field==UNITCOST) return setUnitcost((java.math.BigDecimal) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Item> ALL = QueryFactory.IT.getQuery(Item.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Item");		if (__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			_sb.append(" ITEMID:");
+			String _tmp = itemid==null ? "null" : itemid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Item");		if (__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			_sb.append(" ITEMID:");
+			String _tmp = itemid==null ? "null" : itemid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ATTR1.INDEX)) {
+			_sb.append(" ATTR1:");
+			String _tmp = attr1==null ? "null" : attr1.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ATTR2.INDEX)) {
+			_sb.append(" ATTR2:");
+			String _tmp = attr2==null ? "null" : attr2.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ATTR3.INDEX)) {
+			_sb.append(" ATTR3:");
+			String _tmp = attr3==null ? "null" : attr3.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ATTR4.INDEX)) {
+			_sb.append(" ATTR4:");
+			String _tmp = attr4==null ? "null" : attr4.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ATTR5.INDEX)) {
+			_sb.append(" ATTR5:");
+			String _tmp = attr5==null ? "null" : attr5.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LISTPRICE.INDEX)) {
+			_sb.append(" LISTPRICE:");
+			String _tmp = listprice==null ? "null" : listprice.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX)) {
+			_sb.append(" PRODUCTID:");
+			String _tmp = productid==null ? "null" : productid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			_sb.append(" STATUS:");
+			String _tmp = status==null ? "null" : status.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SUPPLIER.INDEX)) {
+			_sb.append(" SUPPLIER:");
+			String _tmp = supplier==null ? "null" : supplier.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(UNITCOST.INDEX)) {
+			_sb.append(" UNITCOST:");
+			String _tmp = unitcost==null ? "null" : unitcost.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column ATTR1.
+	 */
+	public java.lang.String getAttr1() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ATTR1);
+		if (!__NOSCO_FETCHED_VALUES.get(ATTR1.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ATTR1)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ATTR1).where(ITEMID.eq(itemid)).getTheOnly();
+			attr1 = _tmp == null ? null : _tmp.attr1;
+			__NOSCO_FETCHED_VALUES.set(ATTR1.INDEX);
+		}
+		return attr1;
+	}
+
+	/**
+	 * Sets the value of column ATTR1.
+	 */
+	public Item setAttr1(final java.lang.String v) {
+		if (attr1==null ? v==null : attr1.equals(v)) return this;
+		attr1 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ATTR1.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ATTR1.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ATTR2.
+	 */
+	public java.lang.String getAttr2() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ATTR2);
+		if (!__NOSCO_FETCHED_VALUES.get(ATTR2.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ATTR2)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ATTR2).where(ITEMID.eq(itemid)).getTheOnly();
+			attr2 = _tmp == null ? null : _tmp.attr2;
+			__NOSCO_FETCHED_VALUES.set(ATTR2.INDEX);
+		}
+		return attr2;
+	}
+
+	/**
+	 * Sets the value of column ATTR2.
+	 */
+	public Item setAttr2(final java.lang.String v) {
+		if (attr2==null ? v==null : attr2.equals(v)) return this;
+		attr2 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ATTR2.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ATTR2.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ATTR3.
+	 */
+	public java.lang.String getAttr3() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ATTR3);
+		if (!__NOSCO_FETCHED_VALUES.get(ATTR3.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ATTR3)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ATTR3).where(ITEMID.eq(itemid)).getTheOnly();
+			attr3 = _tmp == null ? null : _tmp.attr3;
+			__NOSCO_FETCHED_VALUES.set(ATTR3.INDEX);
+		}
+		return attr3;
+	}
+
+	/**
+	 * Sets the value of column ATTR3.
+	 */
+	public Item setAttr3(final java.lang.String v) {
+		if (attr3==null ? v==null : attr3.equals(v)) return this;
+		attr3 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ATTR3.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ATTR3.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ATTR4.
+	 */
+	public java.lang.String getAttr4() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ATTR4);
+		if (!__NOSCO_FETCHED_VALUES.get(ATTR4.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ATTR4)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ATTR4).where(ITEMID.eq(itemid)).getTheOnly();
+			attr4 = _tmp == null ? null : _tmp.attr4;
+			__NOSCO_FETCHED_VALUES.set(ATTR4.INDEX);
+		}
+		return attr4;
+	}
+
+	/**
+	 * Sets the value of column ATTR4.
+	 */
+	public Item setAttr4(final java.lang.String v) {
+		if (attr4==null ? v==null : attr4.equals(v)) return this;
+		attr4 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ATTR4.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ATTR4.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ATTR5.
+	 */
+	public java.lang.String getAttr5() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ATTR5);
+		if (!__NOSCO_FETCHED_VALUES.get(ATTR5.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ATTR5)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ATTR5).where(ITEMID.eq(itemid)).getTheOnly();
+			attr5 = _tmp == null ? null : _tmp.attr5;
+			__NOSCO_FETCHED_VALUES.set(ATTR5.INDEX);
+		}
+		return attr5;
+	}
+
+	/**
+	 * Sets the value of column ATTR5.
+	 */
+	public Item setAttr5(final java.lang.String v) {
+		if (attr5==null ? v==null : attr5.equals(v)) return this;
+		attr5 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ATTR5.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ATTR5.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ITEMID.
+	 */
+	public java.lang.String getItemid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ITEMID);
+		if (!__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ITEMID)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ITEMID).where(ITEMID.eq(itemid)).getTheOnly();
+			itemid = _tmp == null ? null : _tmp.itemid;
+			__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		}
+		return itemid;
+	}
+
+	/**
+	 * Sets the value of column ITEMID.
+	 */
+	public Item setItemid(final java.lang.String v) {
+		if (itemid==null ? v==null : itemid.equals(v)) return this;
+		itemid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ITEMID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column LISTPRICE.
+	 */
+	public java.math.BigDecimal getListprice() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LISTPRICE);
+		if (!__NOSCO_FETCHED_VALUES.get(LISTPRICE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LISTPRICE)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LISTPRICE).where(ITEMID.eq(itemid)).getTheOnly();
+			listprice = _tmp == null ? null : _tmp.listprice;
+			__NOSCO_FETCHED_VALUES.set(LISTPRICE.INDEX);
+		}
+		return listprice;
+	}
+
+	/**
+	 * Sets the value of column LISTPRICE.
+	 */
+	public Item setListprice(final java.math.BigDecimal v) {
+		if (listprice==null ? v==null : listprice.equals(v)) return this;
+		listprice = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LISTPRICE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LISTPRICE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column PRODUCTID.
+	 */
+	public java.lang.String getProductid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, PRODUCTID);
+		if (!__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(PRODUCTID)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(PRODUCTID).where(ITEMID.eq(itemid)).getTheOnly();
+			productid = _tmp == null ? null : _tmp.productid;
+			__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+		}
+		return productid;
+	}
+
+	/**
+	 * Sets the value of column PRODUCTID.
+	 */
+	public Item setProductid(final java.lang.String v) {
+		if (productid==null ? v==null : productid.equals(v)) return this;
+		productid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(PRODUCTID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column STATUS.
+	 */
+	public java.lang.String getStatus() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STATUS);
+		if (!__NOSCO_FETCHED_VALUES.get(STATUS.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STATUS)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STATUS).where(ITEMID.eq(itemid)).getTheOnly();
+			status = _tmp == null ? null : _tmp.status;
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		return status;
+	}
+
+	/**
+	 * Sets the value of column STATUS.
+	 */
+	public Item setStatus(final java.lang.String v) {
+		if (status==null ? v==null : status.equals(v)) return this;
+		status = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STATUS.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SUPPLIER.
+	 */
+	public java.lang.Integer getSupplier() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SUPPLIER);
+		if (!__NOSCO_FETCHED_VALUES.get(SUPPLIER.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SUPPLIER)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SUPPLIER).where(ITEMID.eq(itemid)).getTheOnly();
+			supplier = _tmp == null ? null : _tmp.supplier;
+			__NOSCO_FETCHED_VALUES.set(SUPPLIER.INDEX);
+		}
+		return supplier;
+	}
+
+	/**
+	 * Sets the value of column SUPPLIER.
+	 */
+	public Item setSupplier(final java.lang.Integer v) {
+		if (supplier==null ? v==null : supplier.equals(v)) return this;
+		supplier = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SUPPLIER.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SUPPLIER.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column UNITCOST.
+	 */
+	public java.math.BigDecimal getUnitcost() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, UNITCOST);
+		if (!__NOSCO_FETCHED_VALUES.get(UNITCOST.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(UNITCOST)) {
+			final Item _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(UNITCOST).where(ITEMID.eq(itemid)).getTheOnly();
+			unitcost = _tmp == null ? null : _tmp.unitcost;
+			__NOSCO_FETCHED_VALUES.set(UNITCOST.INDEX);
+		}
+		return unitcost;
+	}
+
+	/**
+	 * Sets the value of column UNITCOST.
+	 */
+	public Item setUnitcost(final java.math.BigDecimal v) {
+		if (unitcost==null ? v==null : unitcost.equals(v)) return this;
+		unitcost = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(UNITCOST.INDEX);
+		__NOSCO_FETCHED_VALUES.set(UNITCOST.INDEX);
+		return this;
+	}
+
+	private Product _NOSCO_FK_productid = null;
+
+	/**
+	 * Gets the object representing the row this FK is referencing.
+	 * If it was not pre-loaded with the .with(FK), object is lazy-loaded.
+	 */
+	public Product getProductidFK() {
+		if (!__NOSCO_FETCHED_VALUES.get(FK_PRODUCTID_PRODUCT.INDEX)) {
+			if (!__NOSCO_PRIVATE_batchLoadFK(FK_PRODUCTID_PRODUCT)) {
+				_NOSCO_FK_productid = Product.ALL.where(Product.PRODUCTID.eq(getProductid())).getTheOnly();
+				__NOSCO_FETCHED_VALUES.set(FK_PRODUCTID_PRODUCT.INDEX);
+			}
+			__NOSCO_PRIVATE_accessedFkCallback(this, FK_PRODUCTID_PRODUCT);
+		}
+		return _NOSCO_FK_productid;
+	}
+
+	/**
+	 * Sets the row this FK is referencing.
+	 */
+	public Item setProductidFK(final Product v) {
+		productid = v.getProductid();
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(PRODUCTID.INDEX);
+		_NOSCO_FK_productid = v;
+		__NOSCO_UPDATED_VALUES.set(FK_PRODUCTID_PRODUCT.INDEX);
+		__NOSCO_FETCHED_VALUES.set(FK_PRODUCTID_PRODUCT.INDEX);
+		return this;
+
+	}
+
+	private Supplier _NOSCO_FK_supplier = null;
+
+	/**
+	 * Gets the object representing the row this FK is referencing.
+	 * If it was not pre-loaded with the .with(FK), object is lazy-loaded.
+	 */
+	public Supplier getSupplierFK() {
+		if (!__NOSCO_FETCHED_VALUES.get(FK_SUPPLIER.INDEX)) {
+			if (!__NOSCO_PRIVATE_batchLoadFK(FK_SUPPLIER)) {
+				_NOSCO_FK_supplier = Supplier.ALL.where(Supplier.SUPPID.eq(getSupplier())).getTheOnly();
+				__NOSCO_FETCHED_VALUES.set(FK_SUPPLIER.INDEX);
+			}
+			__NOSCO_PRIVATE_accessedFkCallback(this, FK_SUPPLIER);
+		}
+		return _NOSCO_FK_supplier;
+	}
+
+	/**
+	 * Sets the row this FK is referencing.
+	 */
+	public Item setSupplierFK(final Supplier v) {
+		supplier = v.getSuppid();
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SUPPLIER.INDEX);
+		_NOSCO_FK_supplier = v;
+		__NOSCO_UPDATED_VALUES.set(FK_SUPPLIER.INDEX);
+		__NOSCO_FETCHED_VALUES.set(FK_SUPPLIER.INDEX);
+		return this;
+
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else if (field == FK_PRODUCTID_PRODUCT) {
+			_NOSCO_FK_productid = (Product) v;
+			__NOSCO_FETCHED_VALUES.set(FK_PRODUCTID_PRODUCT.INDEX);
+		}
+		else if (field == FK_SUPPLIER) {
+			_NOSCO_FK_supplier = (Supplier) v;
+			__NOSCO_FETCHED_VALUES.set(FK_SUPPLIER.INDEX);
+		}
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || itemid==null) return this.insert(_ds);
+		final Query<Item> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Item> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(ATTR1.INDEX)) {
+			updates.put(ATTR1, attr1);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ATTR2.INDEX)) {
+			updates.put(ATTR2, attr2);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ATTR3.INDEX)) {
+			updates.put(ATTR3, attr3);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ATTR4.INDEX)) {
+			updates.put(ATTR4, attr4);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ATTR5.INDEX)) {
+			updates.put(ATTR5, attr5);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ITEMID.INDEX)) {
+			updates.put(ITEMID, itemid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LISTPRICE.INDEX)) {
+			updates.put(LISTPRICE, listprice);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(PRODUCTID.INDEX)) {
+			updates.put(PRODUCTID, productid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STATUS.INDEX)) {
+			updates.put(STATUS, status);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SUPPLIER.INDEX)) {
+			updates.put(SUPPLIER, supplier);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(UNITCOST.INDEX)) {
+			updates.put(UNITCOST, unitcost);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Item> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Item> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Item> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Item> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (attr1!=null) updates.put(ATTR1, attr1);
+		if (attr2!=null) updates.put(ATTR2, attr2);
+		if (attr3!=null) updates.put(ATTR3, attr3);
+		if (attr4!=null) updates.put(ATTR4, attr4);
+		if (attr5!=null) updates.put(ATTR5, attr5);
+		if (itemid!=null) updates.put(ITEMID, itemid);
+		if (listprice!=null) updates.put(LISTPRICE, listprice);
+		if (productid!=null) updates.put(PRODUCTID, productid);
+		if (status!=null) updates.put(STATUS, status);
+		if (supplier!=null) updates.put(SUPPLIER, supplier);
+		if (unitcost!=null) updates.put(UNITCOST, unitcost);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.String) itemid = (java.lang.String)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Item[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Item> query = ALL.use(_ds).where(ITEMID.eq(itemid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Item");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("toString", Item.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preInsert", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postInsert", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preUpdate", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postUpdate", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preDelete", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postDelete", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preTruncate", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postTruncate", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preSetAutoIncrement", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postSetAutoIncrement", Item[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preInsert", Item.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postInsert", Item.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("preUpdate", Item.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("postUpdate", Item.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("hashCode", Item.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("equals", Item.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.ItemCB").getMethod("compareTo", Item.class, Item.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Item> as(final String alias) {
+		return new Table.__Alias<Item>(Item.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getItemid() == null) ? 0 : itemid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Item)
+		
+			&& ((itemid == null) ? (((Item)other).itemid == null) : (itemid.equals(((Item)other).itemid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Item o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (itemid instanceof Comparable) {
+			v = itemid==null ? (o.itemid==null ? 0 : -1) : ((Comparable) itemid).compareTo(o.itemid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
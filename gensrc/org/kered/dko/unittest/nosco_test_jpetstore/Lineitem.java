@@ -0,0 +1,734 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.LINEITEM
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Lineitem extends Table implements Comparable<Lineitem>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: LINEITEM.ITEMID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ITEMID = new org.kered.dko.Field<java.lang.String>(0, Lineitem.class, "ITEMID", "ITEMID", "getItemid",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: LINEITEM.LINENUM
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> LINENUM = new org.kered.dko.Field<java.lang.Integer>(1, Lineitem.class, "LINENUM", "LINENUM", "getLinenum",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: LINEITEM.ORDERID
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> ORDERID = new org.kered.dko.Field<java.lang.Integer>(2, Lineitem.class, "ORDERID", "ORDERID", "getOrderid",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: LINEITEM.QUANTITY
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> QUANTITY = new org.kered.dko.Field<java.lang.Integer>(3, Lineitem.class, "QUANTITY", "QUANTITY", "getQuantity",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: LINEITEM.UNITPRICE
+	 */
+	public static final org.kered.dko.Field<java.math.BigDecimal> UNITPRICE = new org.kered.dko.Field<java.math.BigDecimal>(4, Lineitem.class, "UNITPRICE", "UNITPRICE", "getUnitprice",java.math.BigDecimal.class, "DECIMAL");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Lineitem> PK = new org.kered.dko.Field.PK<Lineitem>(LINENUM, ORDERID);
+
+	private java.lang.Integer orderid = null;
+	private java.lang.Integer linenum = null;
+	private java.lang.String itemid = null;
+	private java.lang.Integer quantity = null;
+	private java.math.BigDecimal unitprice = null;
+
+	/**
+	 * Creates a new (empty) instance of Lineitem.  Call .insert() to insert it into the database.
+	 */
+	public Lineitem() {}
+
+	public Lineitem(Lineitem o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			itemid = o.getItemid();
+			__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX)) {
+			linenum = o.getLinenum();
+			__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			orderid = o.getOrderid();
+			__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(QUANTITY.INDEX)) {
+			quantity = o.getQuantity();
+			__NOSCO_FETCHED_VALUES.set(QUANTITY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(UNITPRICE.INDEX)) {
+			unitprice = o.getUnitprice();
+			__NOSCO_FETCHED_VALUES.set(UNITPRICE.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Lineitem(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==ITEMID) {
+				itemid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LINENUM) {
+				linenum = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ORDERID) {
+				orderid = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==QUANTITY) {
+				quantity = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(QUANTITY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==UNITPRICE) {
+				unitprice = (java.math.BigDecimal) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(UNITPRICE.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "LINEITEM";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(ITEMID);
+		fields.add(LINENUM);
+		fields.add(ORDERID);
+		fields.add(QUANTITY);
+		fields.add(UNITPRICE);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Lineitem.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==ITEMID) return (S) getItemid();
+			if (_field==LINENUM) return (S) getLinenum();
+			if (_field==ORDERID) return (S) getOrderid();
+			if (_field==QUANTITY) return (S) getQuantity();
+			if (_field==UNITPRICE) return (S) getUnitprice();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Lineitem set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==ITEMID) return setItemid((java.lang.String) _value);
+		if (_field==LINENUM) return setLinenum((java.lang.Integer) _value);
+		if (_field==ORDERID) return setOrderid((java.lang.Integer) _value);
+		if (_field==QUANTITY) return setQuantity((java.lang.Integer) _value);
+		if (_field==UNITPRICE) return setUnitprice((java.math.BigDecimal) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Lineitem> ALL = QueryFactory.IT.getQuery(Lineitem.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Lineitem");		if (__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			_sb.append(" ORDERID:");
+			String _tmp = orderid==null ? "null" : orderid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX)) {
+			_sb.append(" LINENUM:");
+			String _tmp = linenum==null ? "null" : linenum.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Lineitem");		if (__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			_sb.append(" ORDERID:");
+			String _tmp = orderid==null ? "null" : orderid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX)) {
+			_sb.append(" LINENUM:");
+			String _tmp = linenum==null ? "null" : linenum.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX)) {
+			_sb.append(" ITEMID:");
+			String _tmp = itemid==null ? "null" : itemid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(QUANTITY.INDEX)) {
+			_sb.append(" QUANTITY:");
+			String _tmp = quantity==null ? "null" : quantity.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(UNITPRICE.INDEX)) {
+			_sb.append(" UNITPRICE:");
+			String _tmp = unitprice==null ? "null" : unitprice.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column ITEMID.
+	 */
+	public java.lang.String getItemid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ITEMID);
+		if (!__NOSCO_FETCHED_VALUES.get(ITEMID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ITEMID)) {
+			final Lineitem _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ITEMID).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			itemid = _tmp == null ? null : _tmp.itemid;
+			__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		}
+		return itemid;
+	}
+
+	/**
+	 * Sets the value of column ITEMID.
+	 */
+	public Lineitem setItemid(final java.lang.String v) {
+		if (itemid==null ? v==null : itemid.equals(v)) return this;
+		itemid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ITEMID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ITEMID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column LINENUM.
+	 */
+	public java.lang.Integer getLinenum() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LINENUM);
+		if (!__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LINENUM)) {
+			final Lineitem _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LINENUM).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			linenum = _tmp == null ? null : _tmp.linenum;
+			__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+		}
+		return linenum;
+	}
+
+	/**
+	 * Sets the value of column LINENUM.
+	 */
+	public Lineitem setLinenum(final java.lang.Integer v) {
+		if (linenum==null ? v==null : linenum.equals(v)) return this;
+		linenum = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LINENUM.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ORDERID.
+	 */
+	public java.lang.Integer getOrderid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ORDERID);
+		if (!__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ORDERID)) {
+			final Lineitem _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ORDERID).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			orderid = _tmp == null ? null : _tmp.orderid;
+			__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		}
+		return orderid;
+	}
+
+	/**
+	 * Sets the value of column ORDERID.
+	 */
+	public Lineitem setOrderid(final java.lang.Integer v) {
+		if (orderid==null ? v==null : orderid.equals(v)) return this;
+		orderid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ORDERID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column QUANTITY.
+	 */
+	public java.lang.Integer getQuantity() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, QUANTITY);
+		if (!__NOSCO_FETCHED_VALUES.get(QUANTITY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(QUANTITY)) {
+			final Lineitem _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(QUANTITY).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			quantity = _tmp == null ? null : _tmp.quantity;
+			__NOSCO_FETCHED_VALUES.set(QUANTITY.INDEX);
+		}
+		return quantity;
+	}
+
+	/**
+	 * Sets the value of column QUANTITY.
+	 */
+	public Lineitem setQuantity(final java.lang.Integer v) {
+		if (quantity==null ? v==null : quantity.equals(v)) return this;
+		quantity = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(QUANTITY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(QUANTITY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column UNITPRICE.
+	 */
+	public java.math.BigDecimal getUnitprice() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, UNITPRICE);
+		if (!__NOSCO_FETCHED_VALUES.get(UNITPRICE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(UNITPRICE)) {
+			final Lineitem _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(UNITPRICE).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			unitprice = _tmp == null ? null : _tmp.unitprice;
+			__NOSCO_FETCHED_VALUES.set(UNITPRICE.INDEX);
+		}
+		return unitprice;
+	}
+
+	/**
+	 * Sets the value of column UNITPRICE.
+	 */
+	public Lineitem setUnitprice(final java.math.BigDecimal v) {
+		if (unitprice==null ? v==null : unitprice.equals(v)) return this;
+		unitprice = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(UNITPRICE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(UNITPRICE.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || orderid==null || linenum==null) return this.insert(_ds);
+		final Query<Lineitem> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Lineitem> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(ITEMID.INDEX)) {
+			updates.put(ITEMID, itemid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LINENUM.INDEX)) {
+			updates.put(LINENUM, linenum);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ORDERID.INDEX)) {
+			updates.put(ORDERID, orderid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(QUANTITY.INDEX)) {
+			updates.put(QUANTITY, quantity);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(UNITPRICE.INDEX)) {
+			updates.put(UNITPRICE, unitprice);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Lineitem> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Lineitem> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Lineitem> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Lineitem> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (itemid!=null) updates.put(ITEMID, itemid);
+		if (linenum!=null) updates.put(LINENUM, linenum);
+		if (orderid!=null) updates.put(ORDERID, orderid);
+		if (quantity!=null) updates.put(QUANTITY, quantity);
+		if (unitprice!=null) updates.put(UNITPRICE, unitprice);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Lineitem[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Lineitem> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Lineitem");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("toString", Lineitem.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preInsert", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postInsert", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preUpdate", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postUpdate", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preDelete", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postDelete", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preTruncate", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postTruncate", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preSetAutoIncrement", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postSetAutoIncrement", Lineitem[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preInsert", Lineitem.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postInsert", Lineitem.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("preUpdate", Lineitem.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("postUpdate", Lineitem.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("hashCode", Lineitem.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("equals", Lineitem.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.LineitemCB").getMethod("compareTo", Lineitem.class, Lineitem.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Lineitem> as(final String alias) {
+		return new Table.__Alias<Lineitem>(Lineitem.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getOrderid() == null) ? 0 : orderid.hashCode());
+		result = prime * result + ((getLinenum() == null) ? 0 : linenum.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Lineitem)
+		
+			&& ((orderid == null) ? (((Lineitem)other).orderid == null) : (orderid.equals(((Lineitem)other).orderid)))
+			&& ((linenum == null) ? (((Lineitem)other).linenum == null) : (linenum.equals(((Lineitem)other).linenum)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Lineitem o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (orderid instanceof Comparable) {
+			v = orderid==null ? (o.orderid==null ? 0 : -1) : ((Comparable) orderid).compareTo(o.orderid);
+			if (v != 0) return v;
+		}
+		if (linenum instanceof Comparable) {
+			v = linenum==null ? (o.linenum==null ? 0 : -1) : ((Comparable) linenum).compareTo(o.linenum);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
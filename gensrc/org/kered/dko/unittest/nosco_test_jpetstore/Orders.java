@@ -0,0 +1,1854 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.ORDERS
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Orders extends Table implements Comparable<Orders>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: ORDERS.BILLADDR1
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLADDR1 = new org.kered.dko.Field<java.lang.String>(0, Orders.class, "BILLADDR1", "BILLADDR1", "getBilladdr1",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLADDR2
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLADDR2 = new org.kered.dko.Field<java.lang.String>(1, Orders.class, "BILLADDR2", "BILLADDR2", "getBilladdr2",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLCITY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLCITY = new org.kered.dko.Field<java.lang.String>(2, Orders.class, "BILLCITY", "BILLCITY", "getBillcity",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLCOUNTRY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLCOUNTRY = new org.kered.dko.Field<java.lang.String>(3, Orders.class, "BILLCOUNTRY", "BILLCOUNTRY", "getBillcountry",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLSTATE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLSTATE = new org.kered.dko.Field<java.lang.String>(4, Orders.class, "BILLSTATE", "BILLSTATE", "getBillstate",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLTOFIRSTNAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLTOFIRSTNAME = new org.kered.dko.Field<java.lang.String>(5, Orders.class, "BILLTOFIRSTNAME", "BILLTOFIRSTNAME", "getBilltofirstname",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLTOLASTNAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLTOLASTNAME = new org.kered.dko.Field<java.lang.String>(6, Orders.class, "BILLTOLASTNAME", "BILLTOLASTNAME", "getBilltolastname",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.BILLZIP
+	 */
+	public static final org.kered.dko.Field<java.lang.String> BILLZIP = new org.kered.dko.Field<java.lang.String>(7, Orders.class, "BILLZIP", "BILLZIP", "getBillzip",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.CARDTYPE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> CARDTYPE = new org.kered.dko.Field<java.lang.String>(8, Orders.class, "CARDTYPE", "CARDTYPE", "getCardtype",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.COURIER
+	 */
+	public static final org.kered.dko.Field<java.lang.String> COURIER = new org.kered.dko.Field<java.lang.String>(9, Orders.class, "COURIER", "COURIER", "getCourier",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.CREDITCARD
+	 */
+	public static final org.kered.dko.Field<java.lang.String> CREDITCARD = new org.kered.dko.Field<java.lang.String>(10, Orders.class, "CREDITCARD", "CREDITCARD", "getCreditcard",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.EXPRDATE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> EXPRDATE = new org.kered.dko.Field<java.lang.String>(11, Orders.class, "EXPRDATE", "EXPRDATE", "getExprdate",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.LOCALE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> LOCALE = new org.kered.dko.Field<java.lang.String>(12, Orders.class, "LOCALE", "LOCALE", "getLocale",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.ORDERDATE
+	 */
+	public static final org.kered.dko.Field<java.sql.Date> ORDERDATE = new org.kered.dko.Field<java.sql.Date>(13, Orders.class, "ORDERDATE", "ORDERDATE", "getOrderdate",java.sql.Date.class, "DATE");
+	/**
+	 * Represents the database field: ORDERS.ORDERID
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> ORDERID = new org.kered.dko.Field<java.lang.Integer>(14, Orders.class, "ORDERID", "ORDERID", "getOrderid",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: ORDERS.SHIPADDR1
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPADDR1 = new org.kered.dko.Field<java.lang.String>(15, Orders.class, "SHIPADDR1", "SHIPADDR1", "getShipaddr1",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPADDR2
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPADDR2 = new org.kered.dko.Field<java.lang.String>(16, Orders.class, "SHIPADDR2", "SHIPADDR2", "getShipaddr2",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPCITY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPCITY = new org.kered.dko.Field<java.lang.String>(17, Orders.class, "SHIPCITY", "SHIPCITY", "getShipcity",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPCOUNTRY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPCOUNTRY = new org.kered.dko.Field<java.lang.String>(18, Orders.class, "SHIPCOUNTRY", "SHIPCOUNTRY", "getShipcountry",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPSTATE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPSTATE = new org.kered.dko.Field<java.lang.String>(19, Orders.class, "SHIPSTATE", "SHIPSTATE", "getShipstate",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPTOFIRSTNAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPTOFIRSTNAME = new org.kered.dko.Field<java.lang.String>(20, Orders.class, "SHIPTOFIRSTNAME", "SHIPTOFIRSTNAME", "getShiptofirstname",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPTOLASTNAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPTOLASTNAME = new org.kered.dko.Field<java.lang.String>(21, Orders.class, "SHIPTOLASTNAME", "SHIPTOLASTNAME", "getShiptolastname",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.SHIPZIP
+	 */
+	public static final org.kered.dko.Field<java.lang.String> SHIPZIP = new org.kered.dko.Field<java.lang.String>(22, Orders.class, "SHIPZIP", "SHIPZIP", "getShipzip",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERS.TOTALPRICE
+	 */
+	public static final org.kered.dko.Field<java.math.BigDecimal> TOTALPRICE = new org.kered.dko.Field<java.math.BigDecimal>(23, Orders.class, "TOTALPRICE", "TOTALPRICE", "getTotalprice",java.math.BigDecimal.class, "DECIMAL");
+	/**
+	 * Represents the database field: ORDERS.USERID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> USERID = new org.kered.dko.Field<java.lang.String>(24, Orders.class, "USERID", "USERID", "getUserid",java.lang.String.class, "CHARACTER VARYING");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Orders> PK = new org.kered.dko.Field.PK<Orders>(ORDERID);
+
+	private java.lang.Integer orderid = null;
+	private java.lang.String billaddr1 = null;
+	private java.lang.String billaddr2 = null;
+	private java.lang.String billcity = null;
+	private java.lang.String billcountry = null;
+	private java.lang.String billstate = null;
+	private java.lang.String billtofirstname = null;
+	private java.lang.String billtolastname = null;
+	private java.lang.String billzip = null;
+	private java.lang.String cardtype = null;
+	private java.lang.String courier = null;
+	private java.lang.String creditcard = null;
+	private java.lang.String exprdate = null;
+	private java.lang.String locale = null;
+	private java.sql.Date orderdate = null;
+	private java.lang.String shipaddr1 = null;
+	private java.lang.String shipaddr2 = null;
+	private java.lang.String shipcity = null;
+	private java.lang.String shipcountry = null;
+	private java.lang.String shipstate = null;
+	private java.lang.String shiptofirstname = null;
+	private java.lang.String shiptolastname = null;
+	private java.lang.String shipzip = null;
+	private java.math.BigDecimal totalprice = null;
+	private java.lang.String userid = null;
+
+	/**
+	 * Creates a new (empty) instance of Orders.  Call .insert() to insert it into the database.
+	 */
+	public Orders() {}
+
+	public Orders(Orders o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLADDR1.INDEX)) {
+			billaddr1 = o.getBilladdr1();
+			__NOSCO_FETCHED_VALUES.set(BILLADDR1.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLADDR2.INDEX)) {
+			billaddr2 = o.getBilladdr2();
+			__NOSCO_FETCHED_VALUES.set(BILLADDR2.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLCITY.INDEX)) {
+			billcity = o.getBillcity();
+			__NOSCO_FETCHED_VALUES.set(BILLCITY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLCOUNTRY.INDEX)) {
+			billcountry = o.getBillcountry();
+			__NOSCO_FETCHED_VALUES.set(BILLCOUNTRY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLSTATE.INDEX)) {
+			billstate = o.getBillstate();
+			__NOSCO_FETCHED_VALUES.set(BILLSTATE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLTOFIRSTNAME.INDEX)) {
+			billtofirstname = o.getBilltofirstname();
+			__NOSCO_FETCHED_VALUES.set(BILLTOFIRSTNAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLTOLASTNAME.INDEX)) {
+			billtolastname = o.getBilltolastname();
+			__NOSCO_FETCHED_VALUES.set(BILLTOLASTNAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(BILLZIP.INDEX)) {
+			billzip = o.getBillzip();
+			__NOSCO_FETCHED_VALUES.set(BILLZIP.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(CARDTYPE.INDEX)) {
+			cardtype = o.getCardtype();
+			__NOSCO_FETCHED_VALUES.set(CARDTYPE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(COURIER.INDEX)) {
+			courier = o.getCourier();
+			__NOSCO_FETCHED_VALUES.set(COURIER.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(CREDITCARD.INDEX)) {
+			creditcard = o.getCreditcard();
+			__NOSCO_FETCHED_VALUES.set(CREDITCARD.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(EXPRDATE.INDEX)) {
+			exprdate = o.getExprdate();
+			__NOSCO_FETCHED_VALUES.set(EXPRDATE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LOCALE.INDEX)) {
+			locale = o.getLocale();
+			__NOSCO_FETCHED_VALUES.set(LOCALE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ORDERDATE.INDEX)) {
+			orderdate = o.getOrderdate();
+			__NOSCO_FETCHED_VALUES.set(ORDERDATE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			orderid = o.getOrderid();
+			__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPADDR1.INDEX)) {
+			shipaddr1 = o.getShipaddr1();
+			__NOSCO_FETCHED_VALUES.set(SHIPADDR1.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPADDR2.INDEX)) {
+			shipaddr2 = o.getShipaddr2();
+			__NOSCO_FETCHED_VALUES.set(SHIPADDR2.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPCITY.INDEX)) {
+			shipcity = o.getShipcity();
+			__NOSCO_FETCHED_VALUES.set(SHIPCITY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPCOUNTRY.INDEX)) {
+			shipcountry = o.getShipcountry();
+			__NOSCO_FETCHED_VALUES.set(SHIPCOUNTRY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPSTATE.INDEX)) {
+			shipstate = o.getShipstate();
+			__NOSCO_FETCHED_VALUES.set(SHIPSTATE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPTOFIRSTNAME.INDEX)) {
+			shiptofirstname = o.getShiptofirstname();
+			__NOSCO_FETCHED_VALUES.set(SHIPTOFIRSTNAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPTOLASTNAME.INDEX)) {
+			shiptolastname = o.getShiptolastname();
+			__NOSCO_FETCHED_VALUES.set(SHIPTOLASTNAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SHIPZIP.INDEX)) {
+			shipzip = o.getShipzip();
+			__NOSCO_FETCHED_VALUES.set(SHIPZIP.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(TOTALPRICE.INDEX)) {
+			totalprice = o.getTotalprice();
+			__NOSCO_FETCHED_VALUES.set(TOTALPRICE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			userid = o.getUserid();
+			__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Orders(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==BILLADDR1) {
+				billaddr1 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLADDR1.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLADDR2) {
+				billaddr2 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLADDR2.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLCITY) {
+				billcity = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLCITY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLCOUNTRY) {
+				billcountry = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLCOUNTRY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLSTATE) {
+				billstate = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLSTATE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLTOFIRSTNAME) {
+				billtofirstname = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLTOFIRSTNAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLTOLASTNAME) {
+				billtolastname = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLTOLASTNAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==BILLZIP) {
+				billzip = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BILLZIP.INDEX);
+				continue;
+			}
+			if (_fields[_i]==CARDTYPE) {
+				cardtype = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(CARDTYPE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==COURIER) {
+				courier = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(COURIER.INDEX);
+				continue;
+			}
+			if (_fields[_i]==CREDITCARD) {
+				creditcard = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(CREDITCARD.INDEX);
+				continue;
+			}
+			if (_fields[_i]==EXPRDATE) {
+				exprdate = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(EXPRDATE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LOCALE) {
+				locale = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LOCALE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ORDERDATE) {
+				orderdate = (java.sql.Date) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ORDERDATE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ORDERID) {
+				orderid = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPADDR1) {
+				shipaddr1 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPADDR1.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPADDR2) {
+				shipaddr2 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPADDR2.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPCITY) {
+				shipcity = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPCITY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPCOUNTRY) {
+				shipcountry = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPCOUNTRY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPSTATE) {
+				shipstate = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPSTATE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPTOFIRSTNAME) {
+				shiptofirstname = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPTOFIRSTNAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPTOLASTNAME) {
+				shiptolastname = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPTOLASTNAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SHIPZIP) {
+				shipzip = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SHIPZIP.INDEX);
+				continue;
+			}
+			if (_fields[_i]==TOTALPRICE) {
+				totalprice = (java.math.BigDecimal) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(TOTALPRICE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==USERID) {
+				userid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "ORDERS";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(BILLADDR1);
+		fields.add(BILLADDR2);
+		fields.add(BILLCITY);
+		fields.add(BILLCOUNTRY);
+		fields.add(BILLSTATE);
+		fields.add(BILLTOFIRSTNAME);
+		fields.add(BILLTOLASTNAME);
+		fields.add(BILLZIP);
+		fields.add(CARDTYPE);
+		fields.add(COURIER);
+		fields.add(CREDITCARD);
+		fields.add(EXPRDATE);
+		fields.add(LOCALE);
+		fields.add(ORDERDATE);
+		fields.add(ORDERID);
+		fields.add(SHIPADDR1);
+		fields.add(SHIPADDR2);
+		fields.add(SHIPCITY);
+		fields.add(SHIPCOUNTRY);
+		fields.add(SHIPSTATE);
+		fields.add(SHIPTOFIRSTNAME);
+		fields.add(SHIPTOLASTNAME);
+		fields.add(SHIPZIP);
+		fields.add(TOTALPRICE);
+		fields.add(USERID);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Orders.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==BILLADDR1) return (S) getBilladdr1();
+			if (_field==BILLADDR2) return (S) getBilladdr2();
+			if (_field==BILLCITY) return (S) getBillcity();
+			if (_field==BILLCOUNTRY) return (S) getBillcountry();
+			if (_field==BILLSTATE) return (S) getBillstate();
+			if (_field==BILLTOFIRSTNAME) return (S) getBilltofirstname();
+			if (_field==BILLTOLASTNAME) return (S) getBilltolastname();
+			if (_field==BILLZIP) return (S) getBillzip();
+			if (_field==CARDTYPE) return (S) getCardtype();
+			if (_field==COURIER) return (S) getCourier();
+			if (_field==CREDITCARD) return (S) getCreditcard();
+			if (_field==EXPRDATE) return (S) getExprdate();
+			if (_field==LOCALE) return (S) getLocale();
+			if (_field==ORDERDATE) return (S) getOrderdate();
+			if (_field==ORDERID) return (S) getOrderid();
+			if (_field==SHIPADDR1) return (S) getShipaddr1();
+			if (_field==SHIPADDR2) return (S) getShipaddr2();
+			if (_field==SHIPCITY) return (S) getShipcity();
+			if (_field==SHIPCOUNTRY) return (S) getShipcountry();
+			if (_field==SHIPSTATE) return (S) getShipstate();
+			if (_field==SHIPTOFIRSTNAME) return (S) getShiptofirstname();
+			if (_field==SHIPTOLASTNAME) return (S) getShiptolastname();
+			if (_field==SHIPZIP) return (S) getShipzip();
+			if (_field==TOTALPRICE) return (S) getTotalprice();
+			if (_field==USERID) return (S) getUserid();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Orders set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==BILLADDR1) return setBilladdr1((java.lang.String) _value);
+		if (_field==BILLADDR2) return setBilladdr2((java.lang.String) _value);
+		if (_field==BILLCITY) return setBillcity((java.lang.String) _value);
+		if (_field==BILLCOUNTRY) return setBillcountry((java.lang.String) _value);
+		if (_field==BILLSTATE) return setBillstate((java.lang.String) _value);
+		if (_field==BILLTOFIRSTNAME) return setBilltofirstname((java.lang.String) _value);
+		if (_field==BILLTOLASTNAME) return setBilltolastname((java.lang.String) _value);
+		if (_field==BILLZIP) return setBillzip((java.lang.String) _value);
+		if (_field==CARDTYPE) return setCardtype((java.lang.String) _value);
+		if (_field==COURIER) return setCourier((java.lang.String) _value);
+		if (_field==CREDITCARD) return setCreditcard((java.lang.String) _value);
+		if (_field==EXPRDATE) return setExprdate((java.lang.String) _value);
+		if (_field==LOCALE) return setLocale((java.lang.String) _value);
+		if (_field==ORDERDATE) return setOrderdate((java.sql.Date) _value);
+		if (_field==ORDERID) return setOrderid((java.lang.Integer) _value);
+		if (_field==SHIPADDR1) return setShipaddr1((java.lang.String) _value);
+		if (_field==SHIPADDR2) return setShipaddr2((java.lang.String) _value);
+		if (_field==SHIPCITY) return setShipcity((java.lang.String) _value);
+		if (_field==SHIPCOUNTRY) return setShipcountry((java.lang.String) _value);
+		if (_field==SHIPSTATE) return setShipstate((java.lang.String) _value);
+		if (_field==SHIPTOFIRSTNAME) return setShiptofirstname((java.lang.String) _value);
+		if (_field==SHIPTOLASTNAME) return setShiptolastname((java.lang.String) _value);
+		if (_field==SHIPZIP) return setShipzip((java.lang.String) _value);
+		if (_field==TOTALPRICE) return setTotalprice((java.math.BigDecimal) _value);
+		if (_field==USERID) return setUserid((java.lang.String) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Orders> ALL = QueryFactory.IT.getQuery(Orders.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Orders");		if (__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			_sb.append(" ORDERID:");
+			String _tmp = orderid==null ? "null" : orderid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLTOFIRSTNAME.INDEX)) {
+			_sb.append(" BILLTOFIRSTNAME:");
+			String _tmp = billtofirstname==null ? "null" : billtofirstname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLTOLASTNAME.INDEX)) {
+			_sb.append(" BILLTOLASTNAME:");
+			String _tmp = billtolastname==null ? "null" : billtolastname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPTOFIRSTNAME.INDEX)) {
+			_sb.append(" SHIPTOFIRSTNAME:");
+			String _tmp = shiptofirstname==null ? "null" : shiptofirstname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPTOLASTNAME.INDEX)) {
+			_sb.append(" SHIPTOLASTNAME:");
+			String _tmp = shiptolastname==null ? "null" : shiptolastname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Orders");		if (__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			_sb.append(" ORDERID:");
+			String _tmp = orderid==null ? "null" : orderid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLADDR1.INDEX)) {
+			_sb.append(" BILLADDR1:");
+			String _tmp = billaddr1==null ? "null" : billaddr1.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLADDR2.INDEX)) {
+			_sb.append(" BILLADDR2:");
+			String _tmp = billaddr2==null ? "null" : billaddr2.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLCITY.INDEX)) {
+			_sb.append(" BILLCITY:");
+			String _tmp = billcity==null ? "null" : billcity.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLCOUNTRY.INDEX)) {
+			_sb.append(" BILLCOUNTRY:");
+			String _tmp = billcountry==null ? "null" : billcountry.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLSTATE.INDEX)) {
+			_sb.append(" BILLSTATE:");
+			String _tmp = billstate==null ? "null" : billstate.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLTOFIRSTNAME.INDEX)) {
+			_sb.append(" BILLTOFIRSTNAME:");
+			String _tmp = billtofirstname==null ? "null" : billtofirstname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLTOLASTNAME.INDEX)) {
+			_sb.append(" BILLTOLASTNAME:");
+			String _tmp = billtolastname==null ? "null" : billtolastname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BILLZIP.INDEX)) {
+			_sb.append(" BILLZIP:");
+			String _tmp = billzip==null ? "null" : billzip.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(CARDTYPE.INDEX)) {
+			_sb.append(" CARDTYPE:");
+			String _tmp = cardtype==null ? "null" : cardtype.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(COURIER.INDEX)) {
+			_sb.append(" COURIER:");
+			String _tmp = courier==null ? "null" : courier.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(CREDITCARD.INDEX)) {
+			_sb.append(" CREDITCARD:");
+			String _tmp = creditcard==null ? "null" : creditcard.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(EXPRDATE.INDEX)) {
+			_sb.append(" EXPRDATE:");
+			String _tmp = exprdate==null ? "null" : exprdate.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LOCALE.INDEX)) {
+			_sb.append(" LOCALE:");
+			String _tmp = locale==null ? "null" : locale.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ORDERDATE.INDEX)) {
+			_sb.append(" ORDERDATE:");
+			String _tmp = orderdate==null ? "null" : orderdate.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPADDR1.INDEX)) {
+			_sb.append(" SHIPADDR1:");
+			String _tmp = shipaddr1==null ? "null" : shipaddr1.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPADDR2.INDEX)) {
+			_sb.append(" SHIPADDR2:");
+			String _tmp = shipaddr2==null ? "null" : shipaddr2.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPCITY.INDEX)) {
+			_sb.append(" SHIPCITY:");
+			String _tmp = shipcity==null ? "null" : shipcity.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPCOUNTRY.INDEX)) {
+			_sb.append(" SHIPCOUNTRY:");
+			String _tmp = shipcountry==null ? "null" : shipcountry.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPSTATE.INDEX)) {
+			_sb.append(" SHIPSTATE:");
+			String _tmp = shipstate==null ? "null" : shipstate.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPTOFIRSTNAME.INDEX)) {
+			_sb.append(" SHIPTOFIRSTNAME:");
+			String _tmp = shiptofirstname==null ? "null" : shiptofirstname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPTOLASTNAME.INDEX)) {
+			_sb.append(" SHIPTOLASTNAME:");
+			String _tmp = shiptolastname==null ? "null" : shiptolastname.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(SHIPZIP.INDEX)) {
+			_sb.append(" SHIPZIP:");
+			String _tmp = shipzip==null ? "null" : shipzip.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(TOTALPRICE.INDEX)) {
+			_sb.append(" TOTALPRICE:");
+			String _tmp = totalprice==null ? "null" : totalprice.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			_sb.append(" USERID:");
+			String _tmp = userid==null ? "null" : userid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column BILLADDR1.
+	 */
+	public java.lang.String getBilladdr1() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLADDR1);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLADDR1.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLADDR1)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLADDR1).where(ORDERID.eq(orderid)).getTheOnly();
+			billaddr1 = _tmp == null ? null : _tmp.billaddr1;
+			__NOSCO_FETCHED_VALUES.set(BILLADDR1.INDEX);
+		}
+		return billaddr1;
+	}
+
+	/**
+	 * Sets the value of column BILLADDR1.
+	 */
+	public Orders setBilladdr1(final java.lang.String v) {
+		if (billaddr1==null ? v==null : billaddr1.equals(v)) return this;
+		billaddr1 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLADDR1.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLADDR1.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLADDR2.
+	 */
+	public java.lang.String getBilladdr2() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLADDR2);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLADDR2.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLADDR2)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLADDR2).where(ORDERID.eq(orderid)).getTheOnly();
+			billaddr2 = _tmp == null ? null : _tmp.billaddr2;
+			__NOSCO_FETCHED_VALUES.set(BILLADDR2.INDEX);
+		}
+		return billaddr2;
+	}
+
+	/**
+	 * Sets the value of column BILLADDR2.
+	 */
+	public Orders setBilladdr2(final java.lang.String v) {
+		if (billaddr2==null ? v==null : billaddr2.equals(v)) return this;
+		billaddr2 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLADDR2.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLADDR2.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLCITY.
+	 */
+	public java.lang.String getBillcity() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLCITY);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLCITY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLCITY)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLCITY).where(ORDERID.eq(orderid)).getTheOnly();
+			billcity = _tmp == null ? null : _tmp.billcity;
+			__NOSCO_FETCHED_VALUES.set(BILLCITY.INDEX);
+		}
+		return billcity;
+	}
+
+	/**
+	 * Sets the value of column BILLCITY.
+	 */
+	public Orders setBillcity(final java.lang.String v) {
+		if (billcity==null ? v==null : billcity.equals(v)) return this;
+		billcity = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLCITY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLCITY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLCOUNTRY.
+	 */
+	public java.lang.String getBillcountry() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLCOUNTRY);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLCOUNTRY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLCOUNTRY)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLCOUNTRY).where(ORDERID.eq(orderid)).getTheOnly();
+			billcountry = _tmp == null ? null : _tmp.billcountry;
+			__NOSCO_FETCHED_VALUES.set(BILLCOUNTRY.INDEX);
+		}
+		return billcountry;
+	}
+
+	/**
+	 * Sets the value of column BILLCOUNTRY.
+	 */
+	public Orders setBillcountry(final java.lang.String v) {
+		if (billcountry==null ? v==null : billcountry.equals(v)) return this;
+		billcountry = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLCOUNTRY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLCOUNTRY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLSTATE.
+	 */
+	public java.lang.String getBillstate() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLSTATE);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLSTATE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLSTATE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLSTATE).where(ORDERID.eq(orderid)).getTheOnly();
+			billstate = _tmp == null ? null : _tmp.billstate;
+			__NOSCO_FETCHED_VALUES.set(BILLSTATE.INDEX);
+		}
+		return billstate;
+	}
+
+	/**
+	 * Sets the value of column BILLSTATE.
+	 */
+	public Orders setBillstate(final java.lang.String v) {
+		if (billstate==null ? v==null : billstate.equals(v)) return this;
+		billstate = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLSTATE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLSTATE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLTOFIRSTNAME.
+	 */
+	public java.lang.String getBilltofirstname() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLTOFIRSTNAME);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLTOFIRSTNAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLTOFIRSTNAME)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLTOFIRSTNAME).where(ORDERID.eq(orderid)).getTheOnly();
+			billtofirstname = _tmp == null ? null : _tmp.billtofirstname;
+			__NOSCO_FETCHED_VALUES.set(BILLTOFIRSTNAME.INDEX);
+		}
+		return billtofirstname;
+	}
+
+	/**
+	 * Sets the value of column BILLTOFIRSTNAME.
+	 */
+	public Orders setBilltofirstname(final java.lang.String v) {
+		if (billtofirstname==null ? v==null : billtofirstname.equals(v)) return this;
+		billtofirstname = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLTOFIRSTNAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLTOFIRSTNAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLTOLASTNAME.
+	 */
+	public java.lang.String getBilltolastname() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLTOLASTNAME);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLTOLASTNAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLTOLASTNAME)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLTOLASTNAME).where(ORDERID.eq(orderid)).getTheOnly();
+			billtolastname = _tmp == null ? null : _tmp.billtolastname;
+			__NOSCO_FETCHED_VALUES.set(BILLTOLASTNAME.INDEX);
+		}
+		return billtolastname;
+	}
+
+	/**
+	 * Sets the value of column BILLTOLASTNAME.
+	 */
+	public Orders setBilltolastname(final java.lang.String v) {
+		if (billtolastname==null ? v==null : billtolastname.equals(v)) return this;
+		billtolastname = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLTOLASTNAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLTOLASTNAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column BILLZIP.
+	 */
+	public java.lang.String getBillzip() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BILLZIP);
+		if (!__NOSCO_FETCHED_VALUES.get(BILLZIP.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BILLZIP)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BILLZIP).where(ORDERID.eq(orderid)).getTheOnly();
+			billzip = _tmp == null ? null : _tmp.billzip;
+			__NOSCO_FETCHED_VALUES.set(BILLZIP.INDEX);
+		}
+		return billzip;
+	}
+
+	/**
+	 * Sets the value of column BILLZIP.
+	 */
+	public Orders setBillzip(final java.lang.String v) {
+		if (billzip==null ? v==null : billzip.equals(v)) return this;
+		billzip = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BILLZIP.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BILLZIP.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column CARDTYPE.
+	 */
+	public java.lang.String getCardtype() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, CARDTYPE);
+		if (!__NOSCO_FETCHED_VALUES.get(CARDTYPE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(CARDTYPE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(CARDTYPE).where(ORDERID.eq(orderid)).getTheOnly();
+			cardtype = _tmp == null ? null : _tmp.cardtype;
+			__NOSCO_FETCHED_VALUES.set(CARDTYPE.INDEX);
+		}
+		return cardtype;
+	}
+
+	/**
+	 * Sets the value of column CARDTYPE.
+	 */
+	public Orders setCardtype(final java.lang.String v) {
+		if (cardtype==null ? v==null : cardtype.equals(v)) return this;
+		cardtype = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(CARDTYPE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(CARDTYPE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column COURIER.
+	 */
+	public java.lang.String getCourier() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, COURIER);
+		if (!__NOSCO_FETCHED_VALUES.get(COURIER.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(COURIER)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(COURIER).where(ORDERID.eq(orderid)).getTheOnly();
+			courier = _tmp == null ? null : _tmp.courier;
+			__NOSCO_FETCHED_VALUES.set(COURIER.INDEX);
+		}
+		return courier;
+	}
+
+	/**
+	 * Sets the value of column COURIER.
+	 */
+	public Orders setCourier(final java.lang.String v) {
+		if (courier==null ? v==null : courier.equals(v)) return this;
+		courier = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(COURIER.INDEX);
+		__NOSCO_FETCHED_VALUES.set(COURIER.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column CREDITCARD.
+	 */
+	public java.lang.String getCreditcard() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, CREDITCARD);
+		if (!__NOSCO_FETCHED_VALUES.get(CREDITCARD.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(CREDITCARD)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(CREDITCARD).where(ORDERID.eq(orderid)).getTheOnly();
+			creditcard = _tmp == null ? null : _tmp.creditcard;
+			__NOSCO_FETCHED_VALUES.set(CREDITCARD.INDEX);
+		}
+		return creditcard;
+	}
+
+	/**
+	 * Sets the value of column CREDITCARD.
+	 */
+	public Orders setCreditcard(final java.lang.String v) {
+		if (creditcard==null ? v==null : creditcard.equals(v)) return this;
+		creditcard = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(CREDITCARD.INDEX);
+		__NOSCO_FETCHED_VALUES.set(CREDITCARD.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column EXPRDATE.
+	 */
+	public java.lang.String getExprdate() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, EXPRDATE);
+		if (!__NOSCO_FETCHED_VALUES.get(EXPRDATE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(EXPRDATE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(EXPRDATE).where(ORDERID.eq(orderid)).getTheOnly();
+			exprdate = _tmp == null ? null : _tmp.exprdate;
+			__NOSCO_FETCHED_VALUES.set(EXPRDATE.INDEX);
+		}
+		return exprdate;
+	}
+
+	/**
+	 * Sets the value of column EXPRDATE.
+	 */
+	public Orders setExprdate(final java.lang.String v) {
+		if (exprdate==null ? v==null : exprdate.equals(v)) return this;
+		exprdate = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(EXPRDATE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(EXPRDATE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column LOCALE.
+	 */
+	public java.lang.String getLocale() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LOCALE);
+		if (!__NOSCO_FETCHED_VALUES.get(LOCALE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LOCALE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LOCALE).where(ORDERID.eq(orderid)).getTheOnly();
+			locale = _tmp == null ? null : _tmp.locale;
+			__NOSCO_FETCHED_VALUES.set(LOCALE.INDEX);
+		}
+		return locale;
+	}
+
+	/**
+	 * Sets the value of column LOCALE.
+	 */
+	public Orders setLocale(final java.lang.String v) {
+		if (locale==null ? v==null : locale.equals(v)) return this;
+		locale = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LOCALE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LOCALE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ORDERDATE.
+	 */
+	public java.sql.Date getOrderdate() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ORDERDATE);
+		if (!__NOSCO_FETCHED_VALUES.get(ORDERDATE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ORDERDATE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ORDERDATE).where(ORDERID.eq(orderid)).getTheOnly();
+			orderdate = _tmp == null ? null : _tmp.orderdate;
+			__NOSCO_FETCHED_VALUES.set(ORDERDATE.INDEX);
+		}
+		return orderdate;
+	}
+
+	/**
+	 * Sets the value of column ORDERDATE.
+	 */
+	public Orders setOrderdate(final java.sql.Date v) {
+		if (orderdate==null ? v==null : orderdate.equals(v)) return this;
+		orderdate = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ORDERDATE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ORDERDATE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ORDERID.
+	 */
+	public java.lang.Integer getOrderid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ORDERID);
+		if (!__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ORDERID)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ORDERID).where(ORDERID.eq(orderid)).getTheOnly();
+			orderid = _tmp == null ? null : _tmp.orderid;
+			__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		}
+		return orderid;
+	}
+
+	/**
+	 * Sets the value of column ORDERID.
+	 */
+	public Orders setOrderid(final java.lang.Integer v) {
+		if (orderid==null ? v==null : orderid.equals(v)) return this;
+		orderid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ORDERID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPADDR1.
+	 */
+	public java.lang.String getShipaddr1() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPADDR1);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPADDR1.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPADDR1)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPADDR1).where(ORDERID.eq(orderid)).getTheOnly();
+			shipaddr1 = _tmp == null ? null : _tmp.shipaddr1;
+			__NOSCO_FETCHED_VALUES.set(SHIPADDR1.INDEX);
+		}
+		return shipaddr1;
+	}
+
+	/**
+	 * Sets the value of column SHIPADDR1.
+	 */
+	public Orders setShipaddr1(final java.lang.String v) {
+		if (shipaddr1==null ? v==null : shipaddr1.equals(v)) return this;
+		shipaddr1 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPADDR1.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPADDR1.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPADDR2.
+	 */
+	public java.lang.String getShipaddr2() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPADDR2);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPADDR2.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPADDR2)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPADDR2).where(ORDERID.eq(orderid)).getTheOnly();
+			shipaddr2 = _tmp == null ? null : _tmp.shipaddr2;
+			__NOSCO_FETCHED_VALUES.set(SHIPADDR2.INDEX);
+		}
+		return shipaddr2;
+	}
+
+	/**
+	 * Sets the value of column SHIPADDR2.
+	 */
+	public Orders setShipaddr2(final java.lang.String v) {
+		if (shipaddr2==null ? v==null : shipaddr2.equals(v)) return this;
+		shipaddr2 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPADDR2.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPADDR2.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPCITY.
+	 */
+	public java.lang.String getShipcity() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPCITY);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPCITY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPCITY)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPCITY).where(ORDERID.eq(orderid)).getTheOnly();
+			shipcity = _tmp == null ? null : _tmp.shipcity;
+			__NOSCO_FETCHED_VALUES.set(SHIPCITY.INDEX);
+		}
+		return shipcity;
+	}
+
+	/**
+	 * Sets the value of column SHIPCITY.
+	 */
+	public Orders setShipcity(final java.lang.String v) {
+		if (shipcity==null ? v==null : shipcity.equals(v)) return this;
+		shipcity = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPCITY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPCITY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPCOUNTRY.
+	 */
+	public java.lang.String getShipcountry() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPCOUNTRY);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPCOUNTRY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPCOUNTRY)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPCOUNTRY).where(ORDERID.eq(orderid)).getTheOnly();
+			shipcountry = _tmp == null ? null : _tmp.shipcountry;
+			__NOSCO_FETCHED_VALUES.set(SHIPCOUNTRY.INDEX);
+		}
+		return shipcountry;
+	}
+
+	/**
+	 * Sets the value of column SHIPCOUNTRY.
+	 */
+	public Orders setShipcountry(final java.lang.String v) {
+		if (shipcountry==null ? v==null : shipcountry.equals(v)) return this;
+		shipcountry = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPCOUNTRY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPCOUNTRY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPSTATE.
+	 */
+	public java.lang.String getShipstate() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPSTATE);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPSTATE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPSTATE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPSTATE).where(ORDERID.eq(orderid)).getTheOnly();
+			shipstate = _tmp == null ? null : _tmp.shipstate;
+			__NOSCO_FETCHED_VALUES.set(SHIPSTATE.INDEX);
+		}
+		return shipstate;
+	}
+
+	/**
+	 * Sets the value of column SHIPSTATE.
+	 */
+	public Orders setShipstate(final java.lang.String v) {
+		if (shipstate==null ? v==null : shipstate.equals(v)) return this;
+		shipstate = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPSTATE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPSTATE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPTOFIRSTNAME.
+	 */
+	public java.lang.String getShiptofirstname() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPTOFIRSTNAME);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPTOFIRSTNAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPTOFIRSTNAME)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPTOFIRSTNAME).where(ORDERID.eq(orderid)).getTheOnly();
+			shiptofirstname = _tmp == null ? null : _tmp.shiptofirstname;
+			__NOSCO_FETCHED_VALUES.set(SHIPTOFIRSTNAME.INDEX);
+		}
+		return shiptofirstname;
+	}
+
+	/**
+	 * Sets the value of column SHIPTOFIRSTNAME.
+	 */
+	public Orders setShiptofirstname(final java.lang.String v) {
+		if (shiptofirstname==null ? v==null : shiptofirstname.equals(v)) return this;
+		shiptofirstname = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPTOFIRSTNAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPTOFIRSTNAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPTOLASTNAME.
+	 */
+	public java.lang.String getShiptolastname() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPTOLASTNAME);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPTOLASTNAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPTOLASTNAME)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPTOLASTNAME).where(ORDERID.eq(orderid)).getTheOnly();
+			shiptolastname = _tmp == null ? null : _tmp.shiptolastname;
+			__NOSCO_FETCHED_VALUES.set(SHIPTOLASTNAME.INDEX);
+		}
+		return shiptolastname;
+	}
+
+	/**
+	 * Sets the value of column SHIPTOLASTNAME.
+	 */
+	public Orders setShiptolastname(final java.lang.String v) {
+		if (shiptolastname==null ? v==null : shiptolastname.equals(v)) return this;
+		shiptolastname = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPTOLASTNAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPTOLASTNAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SHIPZIP.
+	 */
+	public java.lang.String getShipzip() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SHIPZIP);
+		if (!__NOSCO_FETCHED_VALUES.get(SHIPZIP.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SHIPZIP)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SHIPZIP).where(ORDERID.eq(orderid)).getTheOnly();
+			shipzip = _tmp == null ? null : _tmp.shipzip;
+			__NOSCO_FETCHED_VALUES.set(SHIPZIP.INDEX);
+		}
+		return shipzip;
+	}
+
+	/**
+	 * Sets the value of column SHIPZIP.
+	 */
+	public Orders setShipzip(final java.lang.String v) {
+		if (shipzip==null ? v==null : shipzip.equals(v)) return this;
+		shipzip = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SHIPZIP.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SHIPZIP.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column TOTALPRICE.
+	 */
+	public java.math.BigDecimal getTotalprice() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, TOTALPRICE);
+		if (!__NOSCO_FETCHED_VALUES.get(TOTALPRICE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(TOTALPRICE)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(TOTALPRICE).where(ORDERID.eq(orderid)).getTheOnly();
+			totalprice = _tmp == null ? null : _tmp.totalprice;
+			__NOSCO_FETCHED_VALUES.set(TOTALPRICE.INDEX);
+		}
+		return totalprice;
+	}
+
+	/**
+	 * Sets the value of column TOTALPRICE.
+	 */
+	public Orders setTotalprice(final java.math.BigDecimal v) {
+		if (totalprice==null ? v==null : totalprice.equals(v)) return this;
+		totalprice = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(TOTALPRICE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(TOTALPRICE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column USERID.
+	 */
+	public java.lang.String getUserid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, USERID);
+		if (!__NOSCO_FETCHED_VALUES.get(USERID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(USERID)) {
+			final Orders _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(USERID).where(ORDERID.eq(orderid)).getTheOnly();
+			userid = _tmp == null ? null : _tmp.userid;
+			__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		}
+		return userid;
+	}
+
+	/**
+	 * Sets the value of column USERID.
+	 */
+	public Orders setUserid(final java.lang.String v) {
+		if (userid==null ? v==null : userid.equals(v)) return this;
+		userid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(USERID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || orderid==null) return this.insert(_ds);
+		final Query<Orders> query = ALL.use(_ds).where(ORDERID.eq(orderid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Orders> query = ALL.use(_ds).where(ORDERID.eq(orderid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(BILLADDR1.INDEX)) {
+			updates.put(BILLADDR1, billaddr1);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLADDR2.INDEX)) {
+			updates.put(BILLADDR2, billaddr2);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLCITY.INDEX)) {
+			updates.put(BILLCITY, billcity);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLCOUNTRY.INDEX)) {
+			updates.put(BILLCOUNTRY, billcountry);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLSTATE.INDEX)) {
+			updates.put(BILLSTATE, billstate);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLTOFIRSTNAME.INDEX)) {
+			updates.put(BILLTOFIRSTNAME, billtofirstname);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLTOLASTNAME.INDEX)) {
+			updates.put(BILLTOLASTNAME, billtolastname);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(BILLZIP.INDEX)) {
+			updates.put(BILLZIP, billzip);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(CARDTYPE.INDEX)) {
+			updates.put(CARDTYPE, cardtype);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(COURIER.INDEX)) {
+			updates.put(COURIER, courier);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(CREDITCARD.INDEX)) {
+			updates.put(CREDITCARD, creditcard);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(EXPRDATE.INDEX)) {
+			updates.put(EXPRDATE, exprdate);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LOCALE.INDEX)) {
+			updates.put(LOCALE, locale);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ORDERDATE.INDEX)) {
+			updates.put(ORDERDATE, orderdate);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ORDERID.INDEX)) {
+			updates.put(ORDERID, orderid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPADDR1.INDEX)) {
+			updates.put(SHIPADDR1, shipaddr1);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPADDR2.INDEX)) {
+			updates.put(SHIPADDR2, shipaddr2);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPCITY.INDEX)) {
+			updates.put(SHIPCITY, shipcity);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPCOUNTRY.INDEX)) {
+			updates.put(SHIPCOUNTRY, shipcountry);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPSTATE.INDEX)) {
+			updates.put(SHIPSTATE, shipstate);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPTOFIRSTNAME.INDEX)) {
+			updates.put(SHIPTOFIRSTNAME, shiptofirstname);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPTOLASTNAME.INDEX)) {
+			updates.put(SHIPTOLASTNAME, shiptolastname);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SHIPZIP.INDEX)) {
+			updates.put(SHIPZIP, shipzip);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(TOTALPRICE.INDEX)) {
+			updates.put(TOTALPRICE, totalprice);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(USERID.INDEX)) {
+			updates.put(USERID, userid);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Orders> query = ALL.use(_ds).where(ORDERID.eq(orderid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Orders> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Orders> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Orders> query = ALL.use(_ds).where(ORDERID.eq(orderid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (billaddr1!=null) updates.put(BILLADDR1, billaddr1);
+		if (billaddr2!=null) updates.put(BILLADDR2, billaddr2);
+		if (billcity!=null) updates.put(BILLCITY, billcity);
+		if (billcountry!=null) updates.put(BILLCOUNTRY, billcountry);
+		if (billstate!=null) updates.put(BILLSTATE, billstate);
+		if (billtofirstname!=null) updates.put(BILLTOFIRSTNAME, billtofirstname);
+		if (billtolastname!=null) updates.put(BILLTOLASTNAME, billtolastname);
+		if (billzip!=null) updates.put(BILLZIP, billzip);
+		if (cardtype!=null) updates.put(CARDTYPE, cardtype);
+		if (courier!=null) updates.put(COURIER, courier);
+		if (creditcard!=null) updates.put(CREDITCARD, creditcard);
+		if (exprdate!=null) updates.put(EXPRDATE, exprdate);
+		if (locale!=null) updates.put(LOCALE, locale);
+		if (orderdate!=null) updates.put(ORDERDATE, orderdate);
+		if (orderid!=null) updates.put(ORDERID, orderid);
+		if (shipaddr1!=null) updates.put(SHIPADDR1, shipaddr1);
+		if (shipaddr2!=null) updates.put(SHIPADDR2, shipaddr2);
+		if (shipcity!=null) updates.put(SHIPCITY, shipcity);
+		if (shipcountry!=null) updates.put(SHIPCOUNTRY, shipcountry);
+		if (shipstate!=null) updates.put(SHIPSTATE, shipstate);
+		if (shiptofirstname!=null) updates.put(SHIPTOFIRSTNAME, shiptofirstname);
+		if (shiptolastname!=null) updates.put(SHIPTOLASTNAME, shiptolastname);
+		if (shipzip!=null) updates.put(SHIPZIP, shipzip);
+		if (totalprice!=null) updates.put(TOTALPRICE, totalprice);
+		if (userid!=null) updates.put(USERID, userid);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.Integer) orderid = (java.lang.Integer)_rowid;
+		if (_rowid!=null && _rowid instanceof java.lang.Long) orderid = ((java.lang.Long) _rowid).intValue();
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Orders[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Orders> query = ALL.use(_ds).where(ORDERID.eq(orderid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Orders");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("toString", Orders.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preInsert", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postInsert", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preUpdate", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postUpdate", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preDelete", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postDelete", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preTruncate", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postTruncate", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preSetAutoIncrement", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postSetAutoIncrement", Orders[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preInsert", Orders.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postInsert", Orders.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("preUpdate", Orders.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("postUpdate", Orders.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("hashCode", Orders.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("equals", Orders.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.OrdersCB").getMethod("compareTo", Orders.class, Orders.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Orders> as(final String alias) {
+		return new Table.__Alias<Orders>(Orders.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getOrderid() == null) ? 0 : orderid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Orders)
+		
+			&& ((orderid == null) ? (((Orders)other).orderid == null) : (orderid.equals(((Orders)other).orderid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Orders o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (orderid instanceof Comparable) {
+			v = orderid==null ? (o.orderid==null ? 0 : -1) : ((Comparable) orderid).compareTo(o.orderid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
@@ -0,0 +1,679 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.ORDERSTATUS
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Orderstatus extends Table implements Comparable<Orderstatus>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: ORDERSTATUS.LINENUM
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> LINENUM = new org.kered.dko.Field<java.lang.Integer>(0, Orderstatus.class, "LINENUM", "LINENUM", "getLinenum",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: ORDERSTATUS.ORDERID
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> ORDERID = new org.kered.dko.Field<java.lang.Integer>(1, Orderstatus.class, "ORDERID", "ORDERID", "getOrderid",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: ORDERSTATUS.STATUS
+	 */
+	public static final org.kered.dko.Field<java.lang.String> STATUS = new org.kered.dko.Field<java.lang.String>(2, Orderstatus.class, "STATUS", "STATUS", "getStatus",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: ORDERSTATUS.TIMESTAMP
+	 */
+	public static final org.kered.dko.Field<java.sql.Date> TIMESTAMP = new org.kered.dko.Field<java.sql.Date>(3, Orderstatus.class, "TIMESTAMP", "TIMESTAMP", "getTimestamp",java.sql.Date.class, "DATE");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Orderstatus> PK = new org.kered.dko.Field.PK<Orderstatus>(LINENUM, ORDERID);
+
+	private java.lang.Integer orderid = null;
+	private java.lang.Integer linenum = null;
+	private java.lang.String status = null;
+	private java.sql.Date timestamp = null;
+
+	/**
+	 * Creates a new (empty) instance of Orderstatus.  Call .insert() to insert it into the database.
+	 */
+	public Orderstatus() {}
+
+	public Orderstatus(Orderstatus o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX)) {
+			linenum = o.getLinenum();
+			__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			orderid = o.getOrderid();
+			__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			status = o.getStatus();
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(TIMESTAMP.INDEX)) {
+			timestamp = o.getTimestamp();
+			__NOSCO_FETCHED_VALUES.set(TIMESTAMP.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Orderstatus(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==LINENUM) {
+				linenum = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ORDERID) {
+				orderid = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STATUS) {
+				status = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+				continue;
+			}
+			if (_fields[_i]==TIMESTAMP) {
+				timestamp = (java.sql.Date) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(TIMESTAMP.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "ORDERSTATUS";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(LINENUM);
+		fields.add(ORDERID);
+		fields.add(STATUS);
+		fields.add(TIMESTAMP);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Orderstatus.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==LINENUM) return (S) getLinenum();
+			if (_field==ORDERID) return (S) getOrderid();
+			if (_field==STATUS) return (S) getStatus();
+			if (_field==TIMESTAMP) return (S) getTimestamp();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Orderstatus set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==LINENUM) return setLinenum((java.lang.Integer) _value);
+		if (_field==ORDERID) return setOrderid((java.lang.Integer) _value);
+		if (_field==STATUS) return setStatus((java.lang.String) _value);
+		if (_field==TIMESTAMP) return setTimestamp((java.sql.Date) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Orderstatus> ALL = QueryFactory.IT.getQuery(Orderstatus.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Orderstatus");		if (__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			_sb.append(" ORDERID:");
+			String _tmp = orderid==null ? "null" : orderid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX)) {
+			_sb.append(" LINENUM:");
+			String _tmp = linenum==null ? "null" : linenum.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Orderstatus");		if (__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX)) {
+			_sb.append(" ORDERID:");
+			String _tmp = orderid==null ? "null" : orderid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX)) {
+			_sb.append(" LINENUM:");
+			String _tmp = linenum==null ? "null" : linenum.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			_sb.append(" STATUS:");
+			String _tmp = status==null ? "null" : status.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(TIMESTAMP.INDEX)) {
+			_sb.append(" TIMESTAMP:");
+			String _tmp = timestamp==null ? "null" : timestamp.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column LINENUM.
+	 */
+	public java.lang.Integer getLinenum() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LINENUM);
+		if (!__NOSCO_FETCHED_VALUES.get(LINENUM.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LINENUM)) {
+			final Orderstatus _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LINENUM).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			linenum = _tmp == null ? null : _tmp.linenum;
+			__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+		}
+		return linenum;
+	}
+
+	/**
+	 * Sets the value of column LINENUM.
+	 */
+	public Orderstatus setLinenum(final java.lang.Integer v) {
+		if (linenum==null ? v==null : linenum.equals(v)) return this;
+		linenum = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LINENUM.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LINENUM.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ORDERID.
+	 */
+	public java.lang.Integer getOrderid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ORDERID);
+		if (!__NOSCO_FETCHED_VALUES.get(ORDERID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ORDERID)) {
+			final Orderstatus _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ORDERID).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			orderid = _tmp == null ? null : _tmp.orderid;
+			__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		}
+		return orderid;
+	}
+
+	/**
+	 * Sets the value of column ORDERID.
+	 */
+	public Orderstatus setOrderid(final java.lang.Integer v) {
+		if (orderid==null ? v==null : orderid.equals(v)) return this;
+		orderid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ORDERID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ORDERID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column STATUS.
+	 */
+	public java.lang.String getStatus() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STATUS);
+		if (!__NOSCO_FETCHED_VALUES.get(STATUS.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STATUS)) {
+			final Orderstatus _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STATUS).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			status = _tmp == null ? null : _tmp.status;
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		return status;
+	}
+
+	/**
+	 * Sets the value of column STATUS.
+	 */
+	public Orderstatus setStatus(final java.lang.String v) {
+		if (status==null ? v==null : status.equals(v)) return this;
+		status = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STATUS.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column TIMESTAMP.
+	 */
+	public java.sql.Date getTimestamp() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, TIMESTAMP);
+		if (!__NOSCO_FETCHED_VALUES.get(TIMESTAMP.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(TIMESTAMP)) {
+			final Orderstatus _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(TIMESTAMP).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum)).getTheOnly();
+			timestamp = _tmp == null ? null : _tmp.timestamp;
+			__NOSCO_FETCHED_VALUES.set(TIMESTAMP.INDEX);
+		}
+		return timestamp;
+	}
+
+	/**
+	 * Sets the value of column TIMESTAMP.
+	 */
+	public Orderstatus setTimestamp(final java.sql.Date v) {
+		if (timestamp==null ? v==null : timestamp.equals(v)) return this;
+		timestamp = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(TIMESTAMP.INDEX);
+		__NOSCO_FETCHED_VALUES.set(TIMESTAMP.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || orderid==null || linenum==null) return this.insert(_ds);
+		final Query<Orderstatus> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Orderstatus> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(LINENUM.INDEX)) {
+			updates.put(LINENUM, linenum);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ORDERID.INDEX)) {
+			updates.put(ORDERID, orderid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STATUS.INDEX)) {
+			updates.put(STATUS, status);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(TIMESTAMP.INDEX)) {
+			updates.put(TIMESTAMP, timestamp);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Orderstatus> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Orderstatus> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Orderstatus> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Orderstatus> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (linenum!=null) updates.put(LINENUM, linenum);
+		if (orderid!=null) updates.put(ORDERID, orderid);
+		if (status!=null) updates.put(STATUS, status);
+		if (timestamp!=null) updates.put(TIMESTAMP, timestamp);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Orderstatus[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Orderstatus> query = ALL.use(_ds).where(ORDERID.eq(orderid)).where(LINENUM.eq(linenum));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Orderstatus");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("toString", Orderstatus.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preInsert", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postInsert", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preUpdate", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postUpdate", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preDelete", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postDelete", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preTruncate", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postTruncate", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preSetAutoIncrement", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postSetAutoIncrement", Orderstatus[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preInsert", Orderstatus.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postInsert", Orderstatus.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("preUpdate", Orderstatus.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("postUpdate", Orderstatus.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("hashCode", Orderstatus.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("equals", Orderstatus.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.OrderstatusCB").getMethod("compareTo", Orderstatus.class, Orderstatus.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Orderstatus> as(final String alias) {
+		return new Table.__Alias<Orderstatus>(Orderstatus.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getOrderid() == null) ? 0 : orderid.hashCode());
+		result = prime * result + ((getLinenum() == null) ? 0 : linenum.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Orderstatus)
+		
+			&& ((orderid == null) ? (((Orderstatus)other).orderid == null) : (orderid.equals(((Orderstatus)other).orderid)))
+			&& ((linenum == null) ? (((Orderstatus)other).linenum == null) : (linenum.equals(((Orderstatus)other).linenum)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Orderstatus o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (orderid instanceof Comparable) {
+			v = orderid==null ? (o.orderid==null ? 0 : -1) : ((Comparable) orderid).compareTo(o.orderid);
+			if (v != 0) return v;
+		}
+		if (linenum instanceof Comparable) {
+			v = linenum==null ? (o.linenum==null ? 0 : -1) : ((Comparable) linenum).compareTo(o.linenum);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
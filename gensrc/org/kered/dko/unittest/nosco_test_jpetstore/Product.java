@@ -0,0 +1,733 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.PRODUCT
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Product extends Table implements Comparable<Product>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: PRODUCT.CATEGORY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> CATEGORY = new org.kered.dko.Field<java.lang.String>(0, Product.class, "CATEGORY", "CATEGORY", "getCategory",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: PRODUCT.DESCN
+	 */
+	public static final org.kered.dko.Field<java.lang.String> DESCN = new org.kered.dko.Field<java.lang.String>(1, Product.class, "DESCN", "DESCN", "getDescn",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: PRODUCT.NAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> NAME = new org.kered.dko.Field<java.lang.String>(2, Product.class, "NAME", "NAME", "getName",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: PRODUCT.PRODUCTID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> PRODUCTID = new org.kered.dko.Field<java.lang.String>(3, Product.class, "PRODUCTID", "PRODUCTID", "getProductid",java.lang.String.class, "CHARACTER VARYING");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Product> PK = new org.kered.dko.Field.PK<Product>(PRODUCTID);
+	/**
+	 * A special object defining the foreign key relationship between this table and:
+	 * PUBLIC.CATEGORY
+	 */
+	public static final Field.FK<Category> FK_CATEGORY = new Field.FK<Category>("FK_CATEGORY", 4, Product.class, Category.class, CATEGORY, Category.CATID);
+
+	private java.lang.String productid = null;
+	private java.lang.String category = null;
+	private java.lang.String descn = null;
+	private java.lang.String name = null;
+
+	/**
+	 * Creates a new (empty) instance of Product.  Call .insert() to insert it into the database.
+	 */
+	public Product() {}
+
+	public Product(Product o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(CATEGORY.INDEX)) {
+			category = o.getCategory();
+			__NOSCO_FETCHED_VALUES.set(CATEGORY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(DESCN.INDEX)) {
+			descn = o.getDescn();
+			__NOSCO_FETCHED_VALUES.set(DESCN.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(NAME.INDEX)) {
+			name = o.getName();
+			__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX)) {
+			productid = o.getProductid();
+			__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Product(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==CATEGORY) {
+				category = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(CATEGORY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==DESCN) {
+				descn = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(DESCN.INDEX);
+				continue;
+			}
+			if (_fields[_i]==NAME) {
+				name = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==PRODUCTID) {
+				productid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "PRODUCT";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(CATEGORY);
+		fields.add(DESCN);
+		fields.add(NAME);
+		fields.add(PRODUCTID);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {FK_CATEGORY,};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Product.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==CATEGORY) return (S) getCategory();
+			if (_field==DESCN) return (S) getDescn();
+			if (_field==NAME) return (S) getName();
+			if (_field==PRODUCTID) return (S) getProductid();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		if (_NOSCO_FK_category!=null) {
+			S _value = _NOSCO_FK_category.get(_select);
+			if(_value!=null) return _value;
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Product set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==CATEGORY) return setCategory((java.lang.String) _value);
+		if (_field==DESCN) return setDescn((java.lang.String) _value);
+		if (_field==NAME) return setName((java.lang.String) _value);
+		if (_field==PRODUCTID) return setProductid((java.lang.String) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Product> ALL = QueryFactory.IT.getQuery(Product.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Product");		if (__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX)) {
+			_sb.append(" PRODUCTID:");
+			String _tmp = productid==null ? "null" : productid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(NAME.INDEX)) {
+			_sb.append(" NAME:");
+			String _tmp = name==null ? "null" : name.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Product");		if (__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX)) {
+			_sb.append(" PRODUCTID:");
+			String _tmp = productid==null ? "null" : productid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(CATEGORY.INDEX)) {
+			_sb.append(" CATEGORY:");
+			String _tmp = category==null ? "null" : category.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(DESCN.INDEX)) {
+			_sb.append(" DESCN:");
+			String _tmp = descn==null ? "null" : descn.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(NAME.INDEX)) {
+			_sb.append(" NAME:");
+			String _tmp = name==null ? "null" : name.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column CATEGORY.
+	 */
+	public java.lang.String getCategory() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, CATEGORY);
+		if (!__NOSCO_FETCHED_VALUES.get(CATEGORY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(CATEGORY)) {
+			final Product _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(CATEGORY).where(PRODUCTID.eq(productid)).getTheOnly();
+			category = _tmp == null ? null : _tmp.category;
+			__NOSCO_FETCHED_VALUES.set(CATEGORY.INDEX);
+		}
+		return category;
+	}
+
+	/**
+	 * Sets the value of column CATEGORY.
+	 */
+	public Product setCategory(final java.lang.String v) {
+		if (category==null ? v==null : category.equals(v)) return this;
+		category = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(CATEGORY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(CATEGORY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column DESCN.
+	 */
+	public java.lang.String getDescn() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, DESCN);
+		if (!__NOSCO_FETCHED_VALUES.get(DESCN.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(DESCN)) {
+			final Product _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(DESCN).where(PRODUCTID.eq(productid)).getTheOnly();
+			descn = _tmp == null ? null : _tmp.descn;
+			__NOSCO_FETCHED_VALUES.set(DESCN.INDEX);
+		}
+		return descn;
+	}
+
+	/**
+	 * Sets the value of column DESCN.
+	 */
+	public Product setDescn(final java.lang.String v) {
+		if (descn==null ? v==null : descn.equals(v)) return this;
+		descn = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(DESCN.INDEX);
+		__NOSCO_FETCHED_VALUES.set(DESCN.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column NAME.
+	 */
+	public java.lang.String getName() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, NAME);
+		if (!__NOSCO_FETCHED_VALUES.get(NAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(NAME)) {
+			final Product _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(NAME).where(PRODUCTID.eq(productid)).getTheOnly();
+			name = _tmp == null ? null : _tmp.name;
+			__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+		}
+		return name;
+	}
+
+	/**
+	 * Sets the value of column NAME.
+	 */
+	public Product setName(final java.lang.String v) {
+		if (name==null ? v==null : name.equals(v)) return this;
+		name = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(NAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column PRODUCTID.
+	 */
+	public java.lang.String getProductid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, PRODUCTID);
+		if (!__NOSCO_FETCHED_VALUES.get(PRODUCTID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(PRODUCTID)) {
+			final Product _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(PRODUCTID).where(PRODUCTID.eq(productid)).getTheOnly();
+			productid = _tmp == null ? null : _tmp.productid;
+			__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+		}
+		return productid;
+	}
+
+	/**
+	 * Sets the value of column PRODUCTID.
+	 */
+	public Product setProductid(final java.lang.String v) {
+		if (productid==null ? v==null : productid.equals(v)) return this;
+		productid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(PRODUCTID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(PRODUCTID.INDEX);
+		return this;
+	}
+
+	private Category _NOSCO_FK_category = null;
+
+	/**
+	 * Gets the object representing the row this FK is referencing.
+	 * If it was not pre-loaded with the .with(FK), object is lazy-loaded.
+	 */
+	public Category getCategoryFK() {
+		if (!__NOSCO_FETCHED_VALUES.get(FK_CATEGORY.INDEX)) {
+			if (!__NOSCO_PRIVATE_batchLoadFK(FK_CATEGORY)) {
+				_NOSCO_FK_category = Category.ALL.where(Category.CATID.eq(getCategory())).getTheOnly();
+				__NOSCO_FETCHED_VALUES.set(FK_CATEGORY.INDEX);
+			}
+			__NOSCO_PRIVATE_accessedFkCallback(this, FK_CATEGORY);
+		}
+		return _NOSCO_FK_category;
+	}
+
+	/**
+	 * Sets the row this FK is referencing.
+	 */
+	public Product setCategoryFK(final Category v) {
+		category = v.getCatid();
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(CATEGORY.INDEX);
+		_NOSCO_FK_category = v;
+		__NOSCO_UPDATED_VALUES.set(FK_CATEGORY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(FK_CATEGORY.INDEX);
+		return this;
+
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else if (field == FK_CATEGORY) {
+			_NOSCO_FK_category = (Category) v;
+			__NOSCO_FETCHED_VALUES.set(FK_CATEGORY.INDEX);
+		}
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else if (Item.FK_PRODUCTID_PRODUCT.equals(fk)) {
+			__NOSCO_CACHED_FK_SET___ITEM___PRODUCTID = (Query<Item>) v;
+		}
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	private Query<Item> __NOSCO_CACHED_FK_SET___ITEM___PRODUCTID = null;
+	/**
+	 * Returns a query representing the collection of rows this FK is referencing.
+	 * If it pre-loaded with the .with(FK), collection is in memory.
+	 * Else, iterations over this query will query the database.
+	 */
+	public Query<Item> getItemSet() {
+		if (__NOSCO_CACHED_FK_SET___ITEM___PRODUCTID != null) return __NOSCO_CACHED_FK_SET___ITEM___PRODUCTID;
+		Condition condition = Condition.TRUE.and(Item.PRODUCTID.eq(getProductid()));
+		return Item.ALL.where(condition);
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || productid==null) return this.insert(_ds);
+		final Query<Product> query = ALL.use(_ds).where(PRODUCTID.eq(productid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Product> query = ALL.use(_ds).where(PRODUCTID.eq(productid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(CATEGORY.INDEX)) {
+			updates.put(CATEGORY, category);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(DESCN.INDEX)) {
+			updates.put(DESCN, descn);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(NAME.INDEX)) {
+			updates.put(NAME, name);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(PRODUCTID.INDEX)) {
+			updates.put(PRODUCTID, productid);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Product> query = ALL.use(_ds).where(PRODUCTID.eq(productid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Product> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Product> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Product> query = ALL.use(_ds).where(PRODUCTID.eq(productid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (category!=null) updates.put(CATEGORY, category);
+		if (descn!=null) updates.put(DESCN, descn);
+		if (name!=null) updates.put(NAME, name);
+		if (productid!=null) updates.put(PRODUCTID, productid);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.String) productid = (java.lang.String)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Product[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Product> query = ALL.use(_ds).where(PRODUCTID.eq(productid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Product");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("toString", Product.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preInsert", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postInsert", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preUpdate", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postUpdate", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preDelete", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postDelete", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preTruncate", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postTruncate", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preSetAutoIncrement", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postSetAutoIncrement", Product[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preInsert", Product.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postInsert", Product.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("preUpdate", Product.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("postUpdate", Product.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("hashCode", Product.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("equals", Product.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.ProductCB").getMethod("compareTo", Product.class, Product.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Product> as(final String alias) {
+		return new Table.__Alias<Product>(Product.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getProductid() == null) ? 0 : productid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Product)
+		
+			&& ((productid == null) ? (((Product)other).productid == null) : (productid.equals(((Product)other).productid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Product o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (productid instanceof Comparable) {
+			v = productid==null ? (o.productid==null ? 0 : -1) : ((Comparable) productid).compareTo(o.productid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
@@ -0,0 +1,721 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.PROFILE
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Profile extends Table implements Comparable<Profile>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: PROFILE.BANNEROPT
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> BANNEROPT = new org.kered.dko.Field<java.lang.Integer>(0, Profile.class, "BANNEROPT", "BANNEROPT", "getBanneropt",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: PROFILE.FAVCATEGORY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> FAVCATEGORY = new org.kered.dko.Field<java.lang.String>(1, Profile.class, "FAVCATEGORY", "FAVCATEGORY", "getFavcategory",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: PROFILE.LANGPREF
+	 */
+	public static final org.kered.dko.Field<java.lang.String> LANGPREF = new org.kered.dko.Field<java.lang.String>(2, Profile.class, "LANGPREF", "LANGPREF", "getLangpref",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: PROFILE.MYLISTOPT
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> MYLISTOPT = new org.kered.dko.Field<java.lang.Integer>(3, Profile.class, "MYLISTOPT", "MYLISTOPT", "getMylistopt",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: PROFILE.USERID
+	 */
+	public static final org.kered.dko.Field<java.lang.String> USERID = new org.kered.dko.Field<java.lang.String>(4, Profile.class, "USERID", "USERID", "getUserid",java.lang.String.class, "CHARACTER VARYING");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Profile> PK = new org.kered.dko.Field.PK<Profile>(USERID);
+
+	private java.lang.String userid = null;
+	private java.lang.Integer banneropt = null;
+	private java.lang.String favcategory = null;
+	private java.lang.String langpref = null;
+	private java.lang.Integer mylistopt = null;
+
+	/**
+	 * Creates a new (empty) instance of Profile.  Call .insert() to insert it into the database.
+	 */
+	public Profile() {}
+
+	public Profile(Profile o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(BANNEROPT.INDEX)) {
+			banneropt = o.getBanneropt();
+			__NOSCO_FETCHED_VALUES.set(BANNEROPT.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(FAVCATEGORY.INDEX)) {
+			favcategory = o.getFavcategory();
+			__NOSCO_FETCHED_VALUES.set(FAVCATEGORY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(LANGPREF.INDEX)) {
+			langpref = o.getLangpref();
+			__NOSCO_FETCHED_VALUES.set(LANGPREF.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(MYLISTOPT.INDEX)) {
+			mylistopt = o.getMylistopt();
+			__NOSCO_FETCHED_VALUES.set(MYLISTOPT.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			userid = o.getUserid();
+			__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Profile(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==BANNEROPT) {
+				banneropt = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(BANNEROPT.INDEX);
+				continue;
+			}
+			if (_fields[_i]==FAVCATEGORY) {
+				favcategory = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(FAVCATEGORY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==LANGPREF) {
+				langpref = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(LANGPREF.INDEX);
+				continue;
+			}
+			if (_fields[_i]==MYLISTOPT) {
+				mylistopt = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(MYLISTOPT.INDEX);
+				continue;
+			}
+			if (_fields[_i]==USERID) {
+				userid = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "PROFILE";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(BANNEROPT);
+		fields.add(FAVCATEGORY);
+		fields.add(LANGPREF);
+		fields.add(MYLISTOPT);
+		fields.add(USERID);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Profile.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==BANNEROPT) return (S) getBanneropt();
+			if (_field==FAVCATEGORY) return (S) getFavcategory();
+			if (_field==LANGPREF) return (S) getLangpref();
+			if (_field==MYLISTOPT) return (S) getMylistopt();
+			if (_field==USERID) return (S) getUserid();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Profile set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==BANNEROPT) return setBanneropt((java.lang.Integer) _value);
+		if (_field==FAVCATEGORY) return setFavcategory((java.lang.String) _value);
+		if (_field==LANGPREF) return setLangpref((java.lang.String) _value);
+		if (_field==MYLISTOPT) return setMylistopt((java.lang.Integer) _value);
+		if (_field==USERID) return setUserid((java.lang.String) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Profile> ALL = QueryFactory.IT.getQuery(Profile.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Profile");		if (__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			_sb.append(" USERID:");
+			String _tmp = userid==null ? "null" : userid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Profile");		if (__NOSCO_FETCHED_VALUES.get(USERID.INDEX)) {
+			_sb.append(" USERID:");
+			String _tmp = userid==null ? "null" : userid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(BANNEROPT.INDEX)) {
+			_sb.append(" BANNEROPT:");
+			String _tmp = banneropt==null ? "null" : banneropt.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(FAVCATEGORY.INDEX)) {
+			_sb.append(" FAVCATEGORY:");
+			String _tmp = favcategory==null ? "null" : favcategory.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(LANGPREF.INDEX)) {
+			_sb.append(" LANGPREF:");
+			String _tmp = langpref==null ? "null" : langpref.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(MYLISTOPT.INDEX)) {
+			_sb.append(" MYLISTOPT:");
+			String _tmp = mylistopt==null ? "null" : mylistopt.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column BANNEROPT.
+	 */
+	public java.lang.Integer getBanneropt() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, BANNEROPT);
+		if (!__NOSCO_FETCHED_VALUES.get(BANNEROPT.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(BANNEROPT)) {
+			final Profile _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(BANNEROPT).where(USERID.eq(userid)).getTheOnly();
+			banneropt = _tmp == null ? null : _tmp.banneropt;
+			__NOSCO_FETCHED_VALUES.set(BANNEROPT.INDEX);
+		}
+		return banneropt;
+	}
+
+	/**
+	 * Sets the value of column BANNEROPT.
+	 */
+	public Profile setBanneropt(final java.lang.Integer v) {
+		if (banneropt==null ? v==null : banneropt.equals(v)) return this;
+		banneropt = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(BANNEROPT.INDEX);
+		__NOSCO_FETCHED_VALUES.set(BANNEROPT.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column FAVCATEGORY.
+	 */
+	public java.lang.String getFavcategory() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, FAVCATEGORY);
+		if (!__NOSCO_FETCHED_VALUES.get(FAVCATEGORY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(FAVCATEGORY)) {
+			final Profile _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(FAVCATEGORY).where(USERID.eq(userid)).getTheOnly();
+			favcategory = _tmp == null ? null : _tmp.favcategory;
+			__NOSCO_FETCHED_VALUES.set(FAVCATEGORY.INDEX);
+		}
+		return favcategory;
+	}
+
+	/**
+	 * Sets the value of column FAVCATEGORY.
+	 */
+	public Profile setFavcategory(final java.lang.String v) {
+		if (favcategory==null ? v==null : favcategory.equals(v)) return this;
+		favcategory = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(FAVCATEGORY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(FAVCATEGORY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column LANGPREF.
+	 */
+	public java.lang.String getLangpref() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, LANGPREF);
+		if (!__NOSCO_FETCHED_VALUES.get(LANGPREF.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(LANGPREF)) {
+			final Profile _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(LANGPREF).where(USERID.eq(userid)).getTheOnly();
+			langpref = _tmp == null ? null : _tmp.langpref;
+			__NOSCO_FETCHED_VALUES.set(LANGPREF.INDEX);
+		}
+		return langpref;
+	}
+
+	/**
+	 * Sets the value of column LANGPREF.
+	 */
+	public Profile setLangpref(final java.lang.String v) {
+		if (langpref==null ? v==null : langpref.equals(v)) return this;
+		langpref = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(LANGPREF.INDEX);
+		__NOSCO_FETCHED_VALUES.set(LANGPREF.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column MYLISTOPT.
+	 */
+	public java.lang.Integer getMylistopt() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, MYLISTOPT);
+		if (!__NOSCO_FETCHED_VALUES.get(MYLISTOPT.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(MYLISTOPT)) {
+			final Profile _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(MYLISTOPT).where(USERID.eq(userid)).getTheOnly();
+			mylistopt = _tmp == null ? null : _tmp.mylistopt;
+			__NOSCO_FETCHED_VALUES.set(MYLISTOPT.INDEX);
+		}
+		return mylistopt;
+	}
+
+	/**
+	 * Sets the value of column MYLISTOPT.
+	 */
+	public Profile setMylistopt(final java.lang.Integer v) {
+		if (mylistopt==null ? v==null : mylistopt.equals(v)) return this;
+		mylistopt = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(MYLISTOPT.INDEX);
+		__NOSCO_FETCHED_VALUES.set(MYLISTOPT.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column USERID.
+	 */
+	public java.lang.String getUserid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, USERID);
+		if (!__NOSCO_FETCHED_VALUES.get(USERID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(USERID)) {
+			final Profile _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(USERID).where(USERID.eq(userid)).getTheOnly();
+			userid = _tmp == null ? null : _tmp.userid;
+			__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		}
+		return userid;
+	}
+
+	/**
+	 * Sets the value of column USERID.
+	 */
+	public Profile setUserid(final java.lang.String v) {
+		if (userid==null ? v==null : userid.equals(v)) return this;
+		userid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(USERID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(USERID.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || userid==null) return this.insert(_ds);
+		final Query<Profile> query = ALL.use(_ds).where(USERID.eq(userid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Profile> query = ALL.use(_ds).where(USERID.eq(userid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(BANNEROPT.INDEX)) {
+			updates.put(BANNEROPT, banneropt);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(FAVCATEGORY.INDEX)) {
+			updates.put(FAVCATEGORY, favcategory);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(LANGPREF.INDEX)) {
+			updates.put(LANGPREF, langpref);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(MYLISTOPT.INDEX)) {
+			updates.put(MYLISTOPT, mylistopt);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(USERID.INDEX)) {
+			updates.put(USERID, userid);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Profile> query = ALL.use(_ds).where(USERID.eq(userid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Profile> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Profile> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Profile> query = ALL.use(_ds).where(USERID.eq(userid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (banneropt!=null) updates.put(BANNEROPT, banneropt);
+		if (favcategory!=null) updates.put(FAVCATEGORY, favcategory);
+		if (langpref!=null) updates.put(LANGPREF, langpref);
+		if (mylistopt!=null) updates.put(MYLISTOPT, mylistopt);
+		if (userid!=null) updates.put(USERID, userid);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.String) userid = (java.lang.String)_rowid;
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Profile[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Profile> query = ALL.use(_ds).where(USERID.eq(userid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Profile");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("toString", Profile.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preInsert", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postInsert", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preUpdate", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postUpdate", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preDelete", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postDelete", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preTruncate", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postTruncate", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preSetAutoIncrement", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postSetAutoIncrement", Profile[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preInsert", Profile.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postInsert", Profile.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("preUpdate", Profile.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("postUpdate", Profile.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("hashCode", Profile.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("equals", Profile.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.ProfileCB").getMethod("compareTo", Profile.class, Profile.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Profile> as(final String alias) {
+		return new Table.__Alias<Profile>(Profile.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getUserid() == null) ? 0 : userid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Profile)
+		
+			&& ((userid == null) ? (((Profile)other).userid == null) : (userid.equals(((Profile)other).userid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Profile o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (userid instanceof Comparable) {
+			v = userid==null ? (o.userid==null ? 0 : -1) : ((Comparable) userid).compareTo(o.userid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
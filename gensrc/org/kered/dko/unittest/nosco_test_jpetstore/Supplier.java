@@ -0,0 +1,965 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.Map;
+
+import java.util.HashMap;
+
+import org.kered.dko.Field;
+import org.kered.dko.Query;
+import org.kered.dko.QueryFactory;
+import org.kered.dko.Condition;
+import org.kered.dko.Table;
+
+/**
+ * This class represents the database table: PUBLIC.SUPPLIER
+ * Static elements represent the table as a whole.  Instances represent rows in the database.
+ */
+public class Supplier extends Table implements Comparable<Supplier>, java.io.Serializable {
+
+	/**
+	 * Represents the database field: SUPPLIER.ADDR1
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ADDR1 = new org.kered.dko.Field<java.lang.String>(0, Supplier.class, "ADDR1", "ADDR1", "getAddr1",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.ADDR2
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ADDR2 = new org.kered.dko.Field<java.lang.String>(1, Supplier.class, "ADDR2", "ADDR2", "getAddr2",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.CITY
+	 */
+	public static final org.kered.dko.Field<java.lang.String> CITY = new org.kered.dko.Field<java.lang.String>(2, Supplier.class, "CITY", "CITY", "getCity",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.NAME
+	 */
+	public static final org.kered.dko.Field<java.lang.String> NAME = new org.kered.dko.Field<java.lang.String>(3, Supplier.class, "NAME", "NAME", "getName",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.PHONE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> PHONE = new org.kered.dko.Field<java.lang.String>(4, Supplier.class, "PHONE", "PHONE", "getPhone",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.STATE
+	 */
+	public static final org.kered.dko.Field<java.lang.String> STATE = new org.kered.dko.Field<java.lang.String>(5, Supplier.class, "STATE", "STATE", "getState",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.STATUS
+	 */
+	public static final org.kered.dko.Field<java.lang.String> STATUS = new org.kered.dko.Field<java.lang.String>(6, Supplier.class, "STATUS", "STATUS", "getStatus",java.lang.String.class, "CHARACTER VARYING");
+	/**
+	 * Represents the database field: SUPPLIER.SUPPID
+	 */
+	public static final org.kered.dko.Field<java.lang.Integer> SUPPID = new org.kered.dko.Field<java.lang.Integer>(7, Supplier.class, "SUPPID", "SUPPID", "getSuppid",java.lang.Integer.class, "INTEGER");
+	/**
+	 * Represents the database field: SUPPLIER.ZIP
+	 */
+	public static final org.kered.dko.Field<java.lang.String> ZIP = new org.kered.dko.Field<java.lang.String>(8, Supplier.class, "ZIP", "ZIP", "getZip",java.lang.String.class, "CHARACTER VARYING");
+
+	/**
+	 * A special object defining what fields make up the primary key of this table
+	 */
+	public static org.kered.dko.Field.PK<Supplier> PK = new org.kered.dko.Field.PK<Supplier>(SUPPID);
+
+	private java.lang.Integer suppid = null;
+	private java.lang.String addr1 = null;
+	private java.lang.String addr2 = null;
+	private java.lang.String city = null;
+	private java.lang.String name = null;
+	private java.lang.String phone = null;
+	private java.lang.String state = null;
+	private java.lang.String status = null;
+	private java.lang.String zip = null;
+
+	/**
+	 * Creates a new (empty) instance of Supplier.  Call .insert() to insert it into the database.
+	 */
+	public Supplier() {}
+
+	public Supplier(Supplier o) {
+		if (o.__NOSCO_FETCHED_VALUES.get(ADDR1.INDEX)) {
+			addr1 = o.getAddr1();
+			__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ADDR2.INDEX)) {
+			addr2 = o.getAddr2();
+			__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(CITY.INDEX)) {
+			city = o.getCity();
+			__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(NAME.INDEX)) {
+			name = o.getName();
+			__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(PHONE.INDEX)) {
+			phone = o.getPhone();
+			__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STATE.INDEX)) {
+			state = o.getState();
+			__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			status = o.getStatus();
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(SUPPID.INDEX)) {
+			suppid = o.getSuppid();
+			__NOSCO_FETCHED_VALUES.set(SUPPID.INDEX);
+		}
+		if (o.__NOSCO_FETCHED_VALUES.get(ZIP.INDEX)) {
+			zip = o.getZip();
+			__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+		}
+		if(o.__NOSCO_UPDATED_VALUES != null) __NOSCO_UPDATED_VALUES = (java.util.BitSet) o.__NOSCO_UPDATED_VALUES.clone();
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected Supplier(final org.kered.dko.Expression.Select[] _fields, final Object[] _objects, final int _start, final int _end) {
+		if (_fields.length != _objects.length)
+			throw new IllegalArgumentException("fields.length != objects.length => "+ _fields.length +" != "+ _objects.length +"");
+		for (int _i=_start; _i<_end; ++_i) {
+			if (_fields[_i]==ADDR1) {
+				addr1 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ADDR2) {
+				addr2 = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+				continue;
+			}
+			if (_fields[_i]==CITY) {
+				city = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+				continue;
+			}
+			if (_fields[_i]==NAME) {
+				name = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+				continue;
+			}
+			if (_fields[_i]==PHONE) {
+				phone = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STATE) {
+				state = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+				continue;
+			}
+			if (_fields[_i]==STATUS) {
+				status = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+				continue;
+			}
+			if (_fields[_i]==SUPPID) {
+				suppid = (java.lang.Integer) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(SUPPID.INDEX);
+				continue;
+			}
+			if (_fields[_i]==ZIP) {
+				zip = (java.lang.String) _objects[_i];
+				__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+				continue;
+			}
+		}
+	}
+
+	public final static String _SCHEMA_NAME = "PUBLIC";
+	public final static String _TABLE_NAME= "SUPPLIER";
+
+	public static java.util.List<Field<?>> _FIELDS;
+	static {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		fields.add(ADDR1);
+		fields.add(ADDR2);
+		fields.add(CITY);
+		fields.add(NAME);
+		fields.add(PHONE);
+		fields.add(STATE);
+		fields.add(STATUS);
+		fields.add(SUPPID);
+		fields.add(ZIP);
+		_FIELDS = java.util.Collections.unmodifiableList(fields);
+	}
+	@SuppressWarnings("rawtypes")
+	public java.util.List<Field<?>> fields() {
+		java.util.List<Field<?>> fields = new java.util.ArrayList<Field<?>>();
+		for (Field<?> field : _FIELDS) {
+			if (__NOSCO_FETCHED_VALUES.get(field.INDEX)) fields.add(field);
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			for (org.kered.dko.Expression.Select _select : __NOSCO_EXTRA_VALUES.keySet()) {
+				 if (_select instanceof org.kered.dko.Field) fields.add((org.kered.dko.Field) _select);
+			}
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public Field.FK[] FKS() {
+		final Field.FK[] fields = {};
+		return fields;
+	}
+
+	{ __NOSCO_FETCHED_VALUES = new java.util.BitSet(); }
+
+	@SuppressWarnings("unchecked")
+	public <S> S get(final org.kered.dko.Expression.Select<S> _select) {
+		if (_select instanceof org.kered.dko.Field && Supplier.class==((org.kered.dko.Field)_select).TABLE) {
+			org.kered.dko.Field _field = (org.kered.dko.Field)_select;
+			if (_field.GETTER != null) {
+				try { return (S) _field.GETTER.invoke(this, (Object[])null); }
+				catch (Exception e) { e.printStackTrace(); }
+			}
+			if (_field==ADDR1) return (S) getAddr1();
+			if (_field==ADDR2) return (S) getAddr2();
+			if (_field==CITY) return (S) getCity();
+			if (_field==NAME) return (S) getName();
+			if (_field==PHONE) return (S) getPhone();
+			if (_field==STATE) return (S) getState();
+			if (_field==STATUS) return (S) getStatus();
+			if (_field==SUPPID) return (S) getSuppid();
+			if (_field==ZIP) return (S) getZip();
+		}
+		if (__NOSCO_EXTRA_VALUES!=null) {
+			Object _value = __NOSCO_EXTRA_VALUES.get(_select);
+			if(_value!=null) return (S) _value;
+			
+		}
+		return null;
+	}
+
+	private java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;
+
+	public <S> Supplier set(final org.kered.dko.Expression.Select<S> _field, final S _value) {
+		if (_field==ADDR1) return setAddr1((java.lang.String) _value);
+		if (_field==ADDR2) return setAddr2((java.lang.String) _value);
+		if (_field==CITY) return setCity((java.lang.String) _value);
+		if (_field==NAME) return setName((java.lang.String) _value);
+		if (_field==PHONE) return setPhone((java.lang.String) _value);
+		if (_field==STATE) return setState((java.lang.String) _value);
+		if (_field==STATUS) return setStatus((java.lang.String) _value);
+		if (_field==SUPPID) return setSuppid((java.lang.Integer) _value);
+		if (_field==ZIP) return setZip((java.lang.String) _value);
+		if (__NOSCO_EXTRA_VALUES==null) __NOSCO_EXTRA_VALUES = new java.util.HashMap<org.kered.dko.Expression.Select<?>,Object>();
+		__NOSCO_EXTRA_VALUES.put(_field, _value);
+		return this;
+	}
+
+	/**
+	 * Represents all rows in the database.  This is the object you will likely
+	 * use the most.  Iterating over this object will stream to you all rows in
+	 * this table.  Filtering it with .where() calls constrains your query.
+	 * Please see the DKO documentation <a href='http://nosco.googlecode.com/hg/doc/api/org/nosco/Query.html'>here</a>
+	 * for more usage information.  (Or the 'introduction to DKOs' document 
+	 * <a href='http://nosco.googlecode.com/hg/doc/introduction.html'>here</a>)
+	 */
+	public static final org.kered.dko.Query<Supplier> ALL = QueryFactory.IT.getQuery(Supplier.class);
+
+	 public String toString() {
+		if (__NOSCO_CALLBACK_TOSTRING!=null) {
+			try { return (String) __NOSCO_CALLBACK_TOSTRING.invoke(null, this); }
+			catch (Throwable e) { __NOSCO_LOGGER.warning(e.toString()); }
+		}
+		return this.toStringSimple();
+	}
+	 public String toStringSimple() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Supplier");		if (__NOSCO_FETCHED_VALUES.get(SUPPID.INDEX)) {
+			_sb.append(" SUPPID:");
+			String _tmp = suppid==null ? "null" : suppid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(NAME.INDEX)) {
+			_sb.append(" NAME:");
+			String _tmp = name==null ? "null" : name.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	 public String toStringDetailed() {
+		StringBuffer _sb = new StringBuffer();
+		_sb.append("[Supplier");		if (__NOSCO_FETCHED_VALUES.get(SUPPID.INDEX)) {
+			_sb.append(" SUPPID:");
+			String _tmp = suppid==null ? "null" : suppid.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ADDR1.INDEX)) {
+			_sb.append(" ADDR1:");
+			String _tmp = addr1==null ? "null" : addr1.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ADDR2.INDEX)) {
+			_sb.append(" ADDR2:");
+			String _tmp = addr2==null ? "null" : addr2.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(CITY.INDEX)) {
+			_sb.append(" CITY:");
+			String _tmp = city==null ? "null" : city.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(NAME.INDEX)) {
+			_sb.append(" NAME:");
+			String _tmp = name==null ? "null" : name.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(PHONE.INDEX)) {
+			_sb.append(" PHONE:");
+			String _tmp = phone==null ? "null" : phone.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STATE.INDEX)) {
+			_sb.append(" STATE:");
+			String _tmp = state==null ? "null" : state.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(STATUS.INDEX)) {
+			_sb.append(" STATUS:");
+			String _tmp = status==null ? "null" : status.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		if (__NOSCO_FETCHED_VALUES.get(ZIP.INDEX)) {
+			_sb.append(" ZIP:");
+			String _tmp = zip==null ? "null" : zip.toString();
+			boolean _quote = _tmp.contains(" ");
+			if (_quote) _sb.append('"');
+			_sb.append(_tmp.replace("\"", "\\\""));
+			if (_quote) _sb.append('"');
+		}
+		_sb.append("]");
+		return _sb.toString();
+	}
+
+	/**
+	 * Gets the value of column ADDR1.
+	 */
+	public java.lang.String getAddr1() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ADDR1);
+		if (!__NOSCO_FETCHED_VALUES.get(ADDR1.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ADDR1)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ADDR1).where(SUPPID.eq(suppid)).getTheOnly();
+			addr1 = _tmp == null ? null : _tmp.addr1;
+			__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+		}
+		return addr1;
+	}
+
+	/**
+	 * Sets the value of column ADDR1.
+	 */
+	public Supplier setAddr1(final java.lang.String v) {
+		if (addr1==null ? v==null : addr1.equals(v)) return this;
+		addr1 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ADDR1.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ADDR1.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ADDR2.
+	 */
+	public java.lang.String getAddr2() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ADDR2);
+		if (!__NOSCO_FETCHED_VALUES.get(ADDR2.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ADDR2)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ADDR2).where(SUPPID.eq(suppid)).getTheOnly();
+			addr2 = _tmp == null ? null : _tmp.addr2;
+			__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+		}
+		return addr2;
+	}
+
+	/**
+	 * Sets the value of column ADDR2.
+	 */
+	public Supplier setAddr2(final java.lang.String v) {
+		if (addr2==null ? v==null : addr2.equals(v)) return this;
+		addr2 = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ADDR2.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ADDR2.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column CITY.
+	 */
+	public java.lang.String getCity() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, CITY);
+		if (!__NOSCO_FETCHED_VALUES.get(CITY.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(CITY)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(CITY).where(SUPPID.eq(suppid)).getTheOnly();
+			city = _tmp == null ? null : _tmp.city;
+			__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+		}
+		return city;
+	}
+
+	/**
+	 * Sets the value of column CITY.
+	 */
+	public Supplier setCity(final java.lang.String v) {
+		if (city==null ? v==null : city.equals(v)) return this;
+		city = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(CITY.INDEX);
+		__NOSCO_FETCHED_VALUES.set(CITY.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column NAME.
+	 */
+	public java.lang.String getName() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, NAME);
+		if (!__NOSCO_FETCHED_VALUES.get(NAME.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(NAME)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(NAME).where(SUPPID.eq(suppid)).getTheOnly();
+			name = _tmp == null ? null : _tmp.name;
+			__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+		}
+		return name;
+	}
+
+	/**
+	 * Sets the value of column NAME.
+	 */
+	public Supplier setName(final java.lang.String v) {
+		if (name==null ? v==null : name.equals(v)) return this;
+		name = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(NAME.INDEX);
+		__NOSCO_FETCHED_VALUES.set(NAME.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column PHONE.
+	 */
+	public java.lang.String getPhone() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, PHONE);
+		if (!__NOSCO_FETCHED_VALUES.get(PHONE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(PHONE)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(PHONE).where(SUPPID.eq(suppid)).getTheOnly();
+			phone = _tmp == null ? null : _tmp.phone;
+			__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+		}
+		return phone;
+	}
+
+	/**
+	 * Sets the value of column PHONE.
+	 */
+	public Supplier setPhone(final java.lang.String v) {
+		if (phone==null ? v==null : phone.equals(v)) return this;
+		phone = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(PHONE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(PHONE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column STATE.
+	 */
+	public java.lang.String getState() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STATE);
+		if (!__NOSCO_FETCHED_VALUES.get(STATE.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STATE)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STATE).where(SUPPID.eq(suppid)).getTheOnly();
+			state = _tmp == null ? null : _tmp.state;
+			__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+		}
+		return state;
+	}
+
+	/**
+	 * Sets the value of column STATE.
+	 */
+	public Supplier setState(final java.lang.String v) {
+		if (state==null ? v==null : state.equals(v)) return this;
+		state = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STATE.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STATE.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column STATUS.
+	 */
+	public java.lang.String getStatus() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, STATUS);
+		if (!__NOSCO_FETCHED_VALUES.get(STATUS.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(STATUS)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(STATUS).where(SUPPID.eq(suppid)).getTheOnly();
+			status = _tmp == null ? null : _tmp.status;
+			__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		}
+		return status;
+	}
+
+	/**
+	 * Sets the value of column STATUS.
+	 */
+	public Supplier setStatus(final java.lang.String v) {
+		if (status==null ? v==null : status.equals(v)) return this;
+		status = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(STATUS.INDEX);
+		__NOSCO_FETCHED_VALUES.set(STATUS.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column SUPPID.
+	 */
+	public java.lang.Integer getSuppid() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, SUPPID);
+		if (!__NOSCO_FETCHED_VALUES.get(SUPPID.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(SUPPID)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(SUPPID).where(SUPPID.eq(suppid)).getTheOnly();
+			suppid = _tmp == null ? null : _tmp.suppid;
+			__NOSCO_FETCHED_VALUES.set(SUPPID.INDEX);
+		}
+		return suppid;
+	}
+
+	/**
+	 * Sets the value of column SUPPID.
+	 */
+	public Supplier setSuppid(final java.lang.Integer v) {
+		if (suppid==null ? v==null : suppid.equals(v)) return this;
+		suppid = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(SUPPID.INDEX);
+		__NOSCO_FETCHED_VALUES.set(SUPPID.INDEX);
+		return this;
+	}
+
+	/**
+	 * Gets the value of column ZIP.
+	 */
+	public java.lang.String getZip() {
+			__NOSCO_PRIVATE_accessedColumnCallback(this, ZIP);
+		if (!__NOSCO_FETCHED_VALUES.get(ZIP.INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null
+				&& !__NOSCO_PRIVATE_batchLoadColumn(ZIP)) {
+			final Supplier _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(ZIP).where(SUPPID.eq(suppid)).getTheOnly();
+			zip = _tmp == null ? null : _tmp.zip;
+			__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+		}
+		return zip;
+	}
+
+	/**
+	 * Sets the value of column ZIP.
+	 */
+	public Supplier setZip(final java.lang.String v) {
+		if (zip==null ? v==null : zip.equals(v)) return this;
+		zip = v;
+		if (__NOSCO_UPDATED_VALUES == null) __NOSCO_UPDATED_VALUES = new java.util.BitSet();
+		__NOSCO_UPDATED_VALUES.set(ZIP.INDEX);
+		__NOSCO_FETCHED_VALUES.set(ZIP.INDEX);
+		return this;
+	}
+
+	protected void SET_FK(final Field.FK<?> field, final Object v) {
+		if (false);
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void SET_FK_SET(final Field.FK<?> fk, final Query<?> v) {
+		if (false);
+		else if (Item.FK_SUPPLIER.equals(fk)) {
+			__NOSCO_CACHED_FK_SET___ITEM___SUPPLIER = (Query<Item>) v;
+		}
+		else {throw new RuntimeException("unknown FK");}
+	}
+
+	private Query<Item> __NOSCO_CACHED_FK_SET___ITEM___SUPPLIER = null;
+	/**
+	 * Returns a query representing the collection of rows this FK is referencing.
+	 * If it pre-loaded with the .with(FK), collection is in memory.
+	 * Else, iterations over this query will query the database.
+	 */
+	public Query<Item> getItemSet() {
+		if (__NOSCO_CACHED_FK_SET___ITEM___SUPPLIER != null) return __NOSCO_CACHED_FK_SET___ITEM___SUPPLIER;
+		Condition condition = Condition.TRUE.and(Item.SUPPLIER.eq(getSuppid()));
+		return Item.ALL.where(condition);
+	}
+
+	/**
+	 * Saves the object by either an insert or an update operation to the default DataSource.
+	 */
+	public boolean save() throws SQLException {
+		 return save(ALL.getDataSource());
+	}
+	/**
+	 * Saves the object by either an insert or an update operation to the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean save(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		if (false || suppid==null) return this.insert(_ds);
+		final Query<Supplier> query = ALL.use(_ds).where(SUPPID.eq(suppid));
+		final long size = query.size();
+		if (size == 0) return this.insert(_ds);
+		else if (size == 1) return this.update(_ds);
+		else throw new RuntimeException("more than one result was returned for a query that specified all the PKs.  this is bad.");
+		
+	}
+	/**
+	 * Updates this row in the database using the default DataSource.
+	 */
+	public boolean update() throws SQLException {
+		 return update(ALL.getDataSource());
+	}
+	/**
+	 * Updates this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean update(final DataSource _ds) throws SQLException {
+		if (!dirty()) return false;
+		Query<Supplier> query = ALL.use(_ds).where(SUPPID.eq(suppid));
+		if (__NOSCO_CALLBACK_UPDATE_PRE!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_PRE==null && __NOSCO_CALLBACK_UPDATE_PRE_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		final Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (__NOSCO_UPDATED_VALUES.get(ADDR1.INDEX)) {
+			updates.put(ADDR1, addr1);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ADDR2.INDEX)) {
+			updates.put(ADDR2, addr2);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(CITY.INDEX)) {
+			updates.put(CITY, city);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(NAME.INDEX)) {
+			updates.put(NAME, name);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(PHONE.INDEX)) {
+			updates.put(PHONE, phone);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STATE.INDEX)) {
+			updates.put(STATE, state);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(STATUS.INDEX)) {
+			updates.put(STATUS, status);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(SUPPID.INDEX)) {
+			updates.put(SUPPID, suppid);
+		}
+		if (__NOSCO_UPDATED_VALUES.get(ZIP.INDEX)) {
+			updates.put(ZIP, zip);
+		}
+		query = query.set(updates);
+		final int count = query.update();
+		if (__NOSCO_CALLBACK_UPDATE_POST!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_UPDATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_UPDATE_POST==null && __NOSCO_CALLBACK_UPDATE_POST_OLD!=null) try { __NOSCO_CALLBACK_UPDATE_POST_OLD.invoke(null, this, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Deletes this row in the database using the default DataSource.
+	 */
+	public boolean delete() throws SQLException {
+		 return delete(ALL.getDataSource());
+	}
+	/**
+	 * Deletes this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean delete(final DataSource _ds) throws SQLException {
+		final Query<Supplier> query = ALL.use(_ds).where(SUPPID.eq(suppid));
+		if (__NOSCO_CALLBACK_DELETE_PRE!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int count = query.delete();
+		if (__NOSCO_CALLBACK_DELETE_POST!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_DELETE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		return count==1;
+	}
+	/**
+	 * Truncates this table in the database using the default DataSource.
+	 */
+	public void truncate() throws SQLException {
+		 truncate(ALL.getDataSource());
+	}
+	/**
+	 * Truncates this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void truncate(final DataSource _ds) throws SQLException {
+		final Query<Supplier> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_TRUNCATE_PRE!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.truncate();
+		if (__NOSCO_CALLBACK_TRUNCATE_POST!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_TRUNCATE_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the default DataSource.
+	 */
+	public void setAutoIncrement( long ai ) throws SQLException {
+		 setAutoIncrement(ai, ALL.getDataSource());
+	}
+	/**
+	 * Sets the auto_increment value of this table in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public void setAutoIncrement( long ai, final DataSource _ds) throws SQLException {
+		final Query<Supplier> query = ALL.use(_ds);
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		query.setAutoIncrement( ai );
+		if (__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+	}
+	/**
+	 * Inserts this row in the database using the default DataSource.
+	 */
+	public boolean insert() throws SQLException {
+		 return insert(ALL.getDataSource());
+	}
+	/**
+	 * Inserts this row in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean insert(final DataSource _ds) throws SQLException {
+		Query<Supplier> query = ALL.use(_ds).where(SUPPID.eq(suppid));
+		if (__NOSCO_CALLBACK_INSERT_PRE!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_PRE.invoke(null, (Object)__NOSCO_CALLBACKS, _ds); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_PRE==null && __NOSCO_CALLBACK_INSERT_PRE_OLD!=null) try { __NOSCO_CALLBACK_INSERT_PRE_OLD.invoke(null, this); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		Map<Field<?>,Object> updates = new HashMap<Field<?>,Object>();
+		if (addr1!=null) updates.put(ADDR1, addr1);
+		if (addr2!=null) updates.put(ADDR2, addr2);
+		if (city!=null) updates.put(CITY, city);
+		if (name!=null) updates.put(NAME, name);
+		if (phone!=null) updates.put(PHONE, phone);
+		if (state!=null) updates.put(STATE, state);
+		if (status!=null) updates.put(STATUS, status);
+		if (suppid!=null) updates.put(SUPPID, suppid);
+		if (zip!=null) updates.put(ZIP, zip);
+		query = query.set(updates);
+		Object _rowid = query.insert();
+		if (_rowid!=null && _rowid instanceof java.lang.Integer) suppid = (java.lang.Integer)_rowid;
+		if (_rowid!=null && _rowid instanceof java.lang.Long) suppid = ((java.lang.Long) _rowid).intValue();
+		if (__NOSCO_CALLBACK_INSERT_POST!=null) try {
+			final Supplier[] __NOSCO_CALLBACKS = {this};
+			__NOSCO_CALLBACK_INSERT_POST.invoke(null, (Object)__NOSCO_CALLBACKS, _ds);
+		}
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		if (__NOSCO_CALLBACK_INSERT_POST==null && __NOSCO_CALLBACK_INSERT_POST_OLD!=null) try { __NOSCO_CALLBACK_INSERT_POST_OLD.invoke(null, this, _ds); }
+		catch (IllegalAccessException e) { e.printStackTrace(); }
+		catch (InvocationTargetException e) { e.printStackTrace(); }
+		return true;
+	}
+	/**
+	 * Tests if this row exists in the database using the default DataSource.
+	 */
+	public boolean exists() throws SQLException {
+		 return exists(ALL.getDataSource());
+	}
+	/**
+	 * Tests if this row exists in the database using the specified DataSource.
+	 */
+	@SuppressWarnings("rawtypes")
+	public boolean exists(final DataSource _ds) throws SQLException {
+		final Query<Supplier> query = ALL.use(_ds).where(SUPPID.eq(suppid));
+		final long size = query.size();
+		return size > 0;
+	}
+	private static final java.util.logging.Logger __NOSCO_LOGGER = java.util.logging.Logger.getLogger("nosco_test_jpetstore.Supplier");
+	private static Method __NOSCO_CALLBACK_TOSTRING = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST = null;
+	private static Method __NOSCO_CALLBACK_DELETE_PRE = null;
+	private static Method __NOSCO_CALLBACK_DELETE_POST = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_PRE = null;
+	private static Method __NOSCO_CALLBACK_TRUNCATE_POST = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = null;
+	private static Method __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = null;
+	private static Method __NOSCO_CALLBACK_HASH_CODE = null;
+	private static Method __NOSCO_CALLBACK_EQUALS = null;
+	private static Method __NOSCO_CALLBACK_COMPARE_TO = null;
+	private static Method __NOSCO_CALLBACK_INSERT_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_INSERT_POST_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_PRE_OLD = null;
+	private static Method __NOSCO_CALLBACK_UPDATE_POST_OLD = null;
+	static {
+		try {
+			 __NOSCO_CALLBACK_TOSTRING = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("toString", Supplier.class);
+			__NOSCO_LOGGER.fine("found toString callback "+ __NOSCO_CALLBACK_TOSTRING);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preInsert", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preInsert callback "+ __NOSCO_CALLBACK_INSERT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postInsert", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postInsert callback "+ __NOSCO_CALLBACK_INSERT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preUpdate", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preUpdate callback "+ __NOSCO_CALLBACK_UPDATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postUpdate", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postUpdate callback "+ __NOSCO_CALLBACK_UPDATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preDelete", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preDelete callback "+ __NOSCO_CALLBACK_DELETE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_DELETE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postDelete", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postDelete callback "+ __NOSCO_CALLBACK_DELETE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preTruncate", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_TRUNCATE_POST = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postTruncate", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postTruncate callback "+ __NOSCO_CALLBACK_TRUNCATE_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preSetAutoIncrement", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found preSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_PRE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postSetAutoIncrement", Supplier[].class, DataSource.class);
+			__NOSCO_LOGGER.fine("found postSetAutoIncrement callback "+ __NOSCO_CALLBACK_SET_AUTO_INCREMENT_POST);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preInsert", Supplier.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_INSERT_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postInsert", Supplier.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_PRE_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("preUpdate", Supplier.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_UPDATE_POST_OLD = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("postUpdate", Supplier.class, DataSource.class);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_HASH_CODE = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("hashCode", Supplier.class);
+			__NOSCO_LOGGER.fine("found hashCode callback "+ __NOSCO_CALLBACK_HASH_CODE);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_EQUALS = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("equals", Supplier.class, Object.class);
+			__NOSCO_LOGGER.fine("found equals callback "+ __NOSCO_CALLBACK_EQUALS);
+		} catch (final Exception e) { /* ignore */ }
+		try {
+			 __NOSCO_CALLBACK_COMPARE_TO = Class.forName("test.db.callback.nosco_test_jpetstore.SupplierCB").getMethod("compareTo", Supplier.class, Supplier.class);
+			__NOSCO_LOGGER.fine("found compareTo callback "+ __NOSCO_CALLBACK_COMPARE_TO);
+		} catch (final Exception e) { /* ignore */ }
+	}
+	/**
+	 * Returns a table alias.  This is used when specifying manual joins
+	 * to reference later using Field.from(alias) in where() conditions.
+	 */
+	public static Table.__Alias<Supplier> as(final String alias) {
+		return new Table.__Alias<Supplier>(Supplier.class, alias);
+	}
+
+	@java.lang.Override
+	public int hashCode() {
+		if (__NOSCO_CALLBACK_HASH_CODE!=null)
+			try { return (Integer) __NOSCO_CALLBACK_HASH_CODE.invoke(null, this); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((getSuppid() == null) ? 0 : suppid.hashCode());
+		return result;
+	}
+
+	@java.lang.Override
+	public boolean equals(final Object other) {
+		if (__NOSCO_CALLBACK_EQUALS!=null)
+			try { return (Boolean) __NOSCO_CALLBACK_EQUALS.invoke(null, this, other); }
+			catch (final IllegalAccessException e) { e.printStackTrace(); }
+			catch (final InvocationTargetException e) { e.printStackTrace(); }
+		return (other == this) || ((other != null) 
+			&& (other instanceof Supplier)
+		
+			&& ((suppid == null) ? (((Supplier)other).suppid == null) : (suppid.equals(((Supplier)other).suppid)))
+		);
+	}
+
+	@java.lang.Override
+	@SuppressWarnings({"rawtypes","unchecked"})
+	public int compareTo(final Supplier o) {
+		if (__NOSCO_CALLBACK_COMPARE_TO!=null) try { return (Integer) __NOSCO_CALLBACK_COMPARE_TO.invoke(null, this, o); }catch (IllegalAccessException e) { e.printStackTrace(); } catch (InvocationTargetException e) { e.printStackTrace(); }
+		int v = 0;
+		if (suppid instanceof Comparable) {
+			v = suppid==null ? (o.suppid==null ? 0 : -1) : ((Comparable) suppid).compareTo(o.suppid);
+			if (v != 0) return v;
+		}
+		return 0;
+	}
+
+	@java.lang.Override
+	/**
+	 * Internal method - please do not use.
+	 */
+	public java.lang.Object __NOSCO_PRIVATE_mapType(final java.lang.Object o) {
+		return o;
+	}
+
+}
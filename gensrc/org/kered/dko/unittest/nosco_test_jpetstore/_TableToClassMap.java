@@ -0,0 +1,28 @@
+package org.kered.dko.unittest.nosco_test_jpetstore;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.HashMap;
+import org.kered.dko.Expression;
+import org.kered.dko.Table;
+
+public class _TableToClassMap {
+	public static final Map<String, Class<? extends Table>> IT;
+	static {
+		Map<String, Class<? extends Table>> it = new HashMap<String, Class<? extends Table>>();
+		it.put("ACCOUNT", Account.class);
+		it.put("BANNERDATA", Bannerdata.class);
+		it.put("CATEGORY", Category.class);
+		it.put("INVENTORY", Inventory.class);
+		it.put("ITEM", Item.class);
+		it.put("LINEITEM", Lineitem.class);
+		it.put("ORDERS", Orders.class);
+		it.put("ORDERSTATUS", Orderstatus.class);
+		it.put("PRODUCT", Product.class);
+		it.put("PROFILE", Profile.class);
+		it.put("SEQUENCE", Sequence.class);
+		it.put("SIGNON", Signon.class);
+		it.put("SUPPLIER", Supplier.class);
+		IT = Collections.unmodifiableMap(it);
+	}
+}
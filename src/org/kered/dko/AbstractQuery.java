@@ -6,6 +6,7 @@ import java.io.File;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -14,7 +15,12 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
 
 import org.kered.dko.Constants.DIRECTION;
 import org.kered.dko.Table.__Alias;
@@ -25,6 +31,8 @@ import org.kered.dko.Table.__PrimaryKey;
  */
 public abstract class AbstractQuery<T extends Table> implements Query<T> {
 
+	private static final int INITIAL_ARRAY_SIZE = 1024;
+
 	@Override
 	public Query<T> groupBy(Field<?>... fields) {
 		throw new UnsupportedOperationException(" does not implement groupBy().");
@@ -56,6 +64,11 @@ public abstract class AbstractQuery<T extends Table> implements Query<T> {
 		return new InMemoryQuery<T>(this);
 	}
 
+	@Override
+	public Query<T> toColumnarMemory(final boolean offHeap) {
+		return new InMemoryQuery<T>(this, true, offHeap);
+	}
+
 	public AbstractQuery(final Class<? extends Table> type) {
 		this.ofType = (Class<T>) type;
 	}
@@ -641,6 +654,97 @@ public abstract class AbstractQuery<T extends Table> implements Query<T> {
 		return new SelectSingleColumn<S>(this, field);
 	}
 
+	/* field's value for every row, NULLs included (asIterableOf() skips them) */
+	Iterator<? extends Number> columnValues(final Field<? extends Number> field) {
+		final Iterator<T> it = iterator();
+		return new Iterator<Number>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+			@Override
+			public Number next() {
+				return it.next().get(field);
+			}
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public ColumnIterator.OfLong longIterator(final Field<? extends Number> field) {
+		return new ColumnIterator.OfLong(ColumnIterator.source(columnValues(field)));
+	}
+
+	@Override
+	public ColumnIterator.OfDouble doubleIterator(final Field<? extends Number> field) {
+		return new ColumnIterator.OfDouble(ColumnIterator.source(columnValues(field)));
+	}
+
+	@Override
+	public ColumnIterator.OfInt intIterator(final Field<? extends Number> field) {
+		return new ColumnIterator.OfInt(ColumnIterator.source(columnValues(field)));
+	}
+
+	@Override
+	public long[] asLongArray(final Field<? extends Number> field) {
+		return asLongArray(field, null);
+	}
+
+	@Override
+	public long[] asLongArray(final Field<? extends Number> field, final BitSet nulls) {
+		final ColumnIterator.OfLong it = longIterator(field);
+		long[] values = new long[INITIAL_ARRAY_SIZE];
+		int c = 0;
+		while (it.hasNext()) {
+			if (c == values.length) values = Arrays.copyOf(values, c * 2);
+			values[c] = it.nextLong();
+			if (nulls != null && it.wasNull()) nulls.set(c);
+			++c;
+		}
+		return c == values.length ? values : Arrays.copyOf(values, c);
+	}
+
+	@Override
+	public double[] asDoubleArray(final Field<? extends Number> field) {
+		return asDoubleArray(field, null);
+	}
+
+	@Override
+	public double[] asDoubleArray(final Field<? extends Number> field, final BitSet nulls) {
+		final ColumnIterator.OfDouble it = doubleIterator(field);
+		double[] values = new double[INITIAL_ARRAY_SIZE];
+		int c = 0;
+		while (it.hasNext()) {
+			if (c == values.length) values = Arrays.copyOf(values, c * 2);
+			values[c] = it.nextDouble();
+			if (nulls != null && it.wasNull()) nulls.set(c);
+			++c;
+		}
+		return c == values.length ? values : Arrays.copyOf(values, c);
+	}
+
+	@Override
+	public int[] asIntArray(final Field<? extends Number> field) {
+		return asIntArray(field, null);
+	}
+
+	@Override
+	public int[] asIntArray(final Field<? extends Number> field, final BitSet nulls) {
+		final ColumnIterator.OfInt it = intIterator(field);
+		int[] values = new int[INITIAL_ARRAY_SIZE];
+		int c = 0;
+		while (it.hasNext()) {
+			if (c == values.length) values = Arrays.copyOf(values, c * 2);
+			values[c] = it.nextInt();
+			if (nulls != null && it.wasNull()) nulls.set(c);
+			++c;
+		}
+		return c == values.length ? values : Arrays.copyOf(values, c);
+	}
+
 	@Override
 	public Condition exists() {
 		return new Condition.Exists(this);
@@ -650,6 +754,8 @@ public abstract class AbstractQuery<T extends Table> implements Query<T> {
 	public <S extends Comparable> S max(final Field<S> f) throws SQLException {
 		S max = null;
 		for (final S s : this.asIterableOf(f)) {
+			// like SQL, ignore nulls
+			if (s==null) continue;
 			if (max==null || max.compareTo(s)<0) {
 				max = s;
 			}
@@ -676,6 +782,7 @@ public abstract class AbstractQuery<T extends Table> implements Query<T> {
 	public <S extends Comparable> S min(final Field<S> f) throws SQLException {
 		S min = null;
 		for (final S s : this.asIterableOf(f)) {
+			if (s==null) continue;
 			if (min==null || min.compareTo(s)>0) {
 				min = s;
 			}
@@ -760,6 +867,199 @@ public abstract class AbstractQuery<T extends Table> implements Query<T> {
 		return this;
 	}
 
+	@Override
+	public Query<T> setStreaming(boolean enable) {
+		return this;
+	}
+
+	@Override
+	public Query<T> setPipelined(boolean enable) {
+		return this;
+	}
+
+	@Override
+	public Query<T> setLazyFKBatching(boolean enable) {
+		return this;
+	}
+
+	@Override
+	public Query<T> setLazyColumnBatching(boolean enable) {
+		return this;
+	}
+
+	@Override
+	public Future<Long> countAsync() {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<Long>() {
+			@Override
+			public Long call() throws SQLException {
+				return q.count();
+			}
+		});
+	}
+
+	@Override
+	public Future<List<T>> asListAsync() {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<List<T>>() {
+			@Override
+			public List<T> call() {
+				return q.asList();
+			}
+		});
+	}
+
+	@Override
+	public Future<T> firstAsync() {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<T>() {
+			@Override
+			public T call() {
+				return q.first();
+			}
+		});
+	}
+
+	@Override
+	public Future<T> getTheOnlyAsync() {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<T>() {
+			@Override
+			public T call() {
+				return q.getTheOnly();
+			}
+		});
+	}
+
+	@Override
+	public <S> Future<Map<S, T>> mapByAsync(final Field<S> byField) {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<Map<S, T>>() {
+			@Override
+			public Map<S, T> call() throws SQLException {
+				return q.mapBy(byField);
+			}
+		});
+	}
+
+	@Override
+	public Future<Integer> updateAsync() {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<Integer>() {
+			@Override
+			public Integer call() throws SQLException {
+				return q.update();
+			}
+		});
+	}
+
+	@Override
+	public Future<Integer> deleteAsync() {
+		final Query<T> q = pinned();
+		return Async.submit(q.getDataSource(), new Callable<Integer>() {
+			@Override
+			public Integer call() throws SQLException {
+				return q.delete();
+			}
+		});
+	}
+
+	/* this query bound to the datasource in effect on the caller's thread, before we hand it to another */
+	private Query<T> pinned() {
+		final DataSource ds = getDataSource();
+		return ds == null ? this : use(ds);
+	}
+
+	@Override
+	public Query<T> prefetch() {
+		return this;
+	}
+
+	@Override
+	public RowPublisher<T> asPublisher() {
+		return new RowPublisher<T>(this);
+	}
+
+	@Override
+	public Query<T> parallel(final int n) {
+		return this;
+	}
+
+	@Override
+	public Query<T> parallel(final int n, final Field<? extends Number> field) {
+		return this;
+	}
+
+	@Override
+	public List<Query<T>> split(final int n) {
+		return split(n, null);
+	}
+
+	@Override
+	public List<Query<T>> split(final int n, final Field<? extends Number> field) {
+		return Collections.<Query<T>>singletonList(this);
+	}
+
+	@Override
+	public Query<T> pageAfter(final T lastRow, final int pageSize) {
+		throw new UnsupportedOperationException("pageAfter() on "+ this.getClass().getSimpleName() +" is not supported");
+	}
+
+	@Override
+	public Query<T> hashIndex(final Field<?>... fields) {
+		return this;
+	}
+
+	@Override
+	public Query<T> sortedIndex(final Field<?>... fields) {
+		return this;
+	}
+
+	@Override
+	public Iterable<List<T>> pages(final int pageSize) {
+		if (pageSize < 1) throw new IllegalArgumentException("pageSize must be positive: "+ pageSize);
+		return new Iterable<List<T>>() {
+			@Override
+			public Iterator<List<T>> iterator() {
+				return new Iterator<List<T>>() {
+					private List<T> page = null;
+					private T lastRow = null;
+					private boolean last = false;
+					@Override
+					public boolean hasNext() {
+						if (page == null && !last) {
+							page = pageAfter(lastRow, pageSize).asList();
+							last = page.size() < pageSize;
+						}
+						return page != null && !page.isEmpty();
+					}
+					@Override
+					public List<T> next() {
+						if (!hasNext()) throw new NoSuchElementException();
+						final List<T> ret = page;
+						lastRow = ret.get(ret.size()-1);
+						page = null;
+						return ret;
+					}
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	@Override
+	public Query<T> cached(final long ttlMillis) {
+		return this;
+	}
+
+	@Override
+	public PreparedQuery<T> prepare(final Param<?>... params) {
+		throw new UnsupportedOperationException(this.getClass().getSimpleName() +" does not implement prepare().");
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		// TODO Auto-generated method stub
@@ -0,0 +1,72 @@
+package org.kered.dko;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * Runs the {@code *Async()} query methods and {@code prefetch()}es on the executor
+ * set with {@code Context.setExecutor()}, or else a shared pool of daemon threads
+ * (sized by {@code Constants.PROPERTY_ASYNC_THREADS}). &nbsp; Tasks run with snapshots of the
+ * caller's thread and thread group contexts in effect (see {@code Context.callIn()}), so they
+ * see the same schema overrides, datasources, row caches, etc. &nbsp; A transaction's connection
+ * can't be shared between threads, so the snapshots leave out transactions, and queries against
+ * a datasource in a transaction run on the caller's thread instead, and return an already
+ * completed {@code Future}.
+ */
+class Async {
+
+	static final int DEFAULT_THREADS = 16;
+
+	private static ExecutorService defaultExecutor = null;
+
+	static <R> Future<R> submit(final DataSource ds, final Callable<R> task) {
+		if (ds != null && Context.inTransaction(ds)) {
+			final FutureTask<R> f = new FutureTask<R>(task);
+			f.run();
+			return f;
+		}
+		// run it in the caller's context, not whatever the pool thread happens to have
+		final Context thread = Context.getThreadContext().snapshot();
+		final Context threadGroup = Context.getThreadGroupContext().snapshot();
+		return executor().submit(new Callable<R>() {
+			@Override
+			public R call() throws Exception {
+				return Context.callIn(thread, threadGroup, task);
+			}
+		});
+	}
+
+	static ExecutorService executor() {
+		final ExecutorService executor = Context.getExecutor();
+		return executor == null ? defaultExecutor() : executor;
+	}
+
+	private static synchronized ExecutorService defaultExecutor() {
+		if (defaultExecutor == null) {
+			final int threads = Integer.getInteger(Constants.PROPERTY_ASYNC_THREADS, DEFAULT_THREADS);
+			final AtomicInteger count = new AtomicInteger();
+			final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable r) {
+					final Thread t = new Thread(r, "dko-async-"+ count.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			pool.allowCoreThreadTimeOut(true);
+			defaultExecutor = pool;
+		}
+		return defaultExecutor;
+	}
+
+}
@@ -137,7 +137,7 @@ public class Bulk {
 
 	private static void safeClose(final PreparedStatement ps) {
 		// c3p0 sometimes throws a NPE on isClosed()
-		try { if (ps != null && !ps.isClosed()) ps.close(); }
+		try { if (ps != null) StatementCache.release(ps); }
 		catch (final Throwable e) { /* ignore */ }
 	}
 
@@ -250,6 +250,14 @@ public class Bulk {
 				}
 			}
 			executeBatch(0, pos);
+			ResultCache.written(ds, clazz);
+			if (changesExistingRows()) {
+				RowCache.written(ds, clazz);
+				final IdentityMap identityMap = Context.getIdentityMap(ds);
+				if (identityMap != null) {
+					for (int i=0; i<pos; ++i) written(identityMap, buffer[i]);
+				}
+			}
 			if (post != null) {
 				try {
 					final Object[] cba = (Object[]) Array.newInstance(clazz, pos);
@@ -323,6 +331,16 @@ public class Bulk {
 			}
 		}
 
+		/* inserts only add rows, so don't need to invalidate any cached ones */
+		protected boolean changesExistingRows() {
+			return true;
+		}
+
+		/* keeps the transaction's identity map from serving t's row stale */
+		protected void written(final IdentityMap identityMap, final T t) {
+			identityMap.written(t);
+		}
+
 		protected void init(final Table table) throws SQLException {
 			init = true;
 			clazz = table.getClass();
@@ -357,6 +375,11 @@ public class Bulk {
 			this.rc  = rc;
 		}
 
+		@Override
+		protected boolean changesExistingRows() {
+			return false;
+		}
+
 		protected void init(final Table table) throws SQLException {
 			super.init(table);
 			final List<Field<?>> allFields = Util.getFields(table.getClass());
@@ -397,7 +420,7 @@ public class Bulk {
 			sb.append(")");
 			final String sql = sb.toString();
 			Util.log(sql, null);
-			ps = conn.prepareStatement(sql);
+			ps = StatementCache.prepare(conn, sql);
 		}
 
 	}
@@ -465,7 +488,7 @@ public class Bulk {
 			sb.append("=?");
 			final String sql = sb.toString();
 			Util.log(sql, null);
-			ps = conn.prepareStatement(sql);
+			ps = StatementCache.prepare(conn, sql);
 		}
 
 	}
@@ -474,6 +497,11 @@ public class Bulk {
 
 		Deleter() {}
 
+		@Override
+		protected void written(final IdentityMap identityMap, final T t) {
+			identityMap.evict(t);
+		}
+
 		@Override
 		protected void init(final Table table) throws SQLException {
 			super.init(table);
@@ -504,7 +532,7 @@ public class Bulk {
 			sb.append("=?");
 			final String sql = sb.toString();
 			Util.log(sql, null);
-			ps = conn.prepareStatement(sql);
+			ps = StatementCache.prepare(conn, sql);
 		}
 
 	}
@@ -0,0 +1,80 @@
+package org.kered.dko;
+
+/**
+ * A snapshot of the hit/miss counters of one of DKO's internal caches.
+ * For example:
+ * <pre>   {@code System.out.println(CacheStats.forSQL());}</pre>
+ */
+public class CacheStats {
+
+	private final String name;
+	private final long hits;
+	private final long misses;
+	private final int size;
+
+	CacheStats(final String name, final long hits, final long misses, final int size) {
+		this.name = name;
+		this.hits = hits;
+		this.misses = misses;
+		this.size = size;
+	}
+
+	/**
+	 * @return the counters of the cache of generated SQL statements
+	 */
+	public static CacheStats forSQL() {
+		return SqlCache.stats();
+	}
+
+	/**
+	 * @return the counters of the per-connection {@code PreparedStatement} cache
+	 */
+	public static CacheStats forPreparedStatements() {
+		return StatementCache.stats();
+	}
+
+	/**
+	 * @return the counters of the query result cache (see {@code Query.cached()})
+	 */
+	public static CacheStats forResults() {
+		return ResultCache.stats();
+	}
+
+	/**
+	 * @return the counters of the second-level row cache in effect for {@code cls},
+	 * or null if it has none
+	 */
+	public static CacheStats forRows(final Class<? extends Table> cls) {
+		final RowCache cache = Context.getRowCache(cls);
+		return cache == null ? null : cache.stats();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of entries currently cached
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return hits / (hits + misses), or 0 if the cache has never been used
+	 */
+	public double getHitRate() {
+		final long total = hits + misses;
+		return total == 0 ? 0 : hits / (double) total;
+	}
+
+	@Override
+	public String toString() {
+		return "[CacheStats "+ name +" hits="+ hits +" misses="+ misses +" size="+ size +"]";
+	}
+
+}
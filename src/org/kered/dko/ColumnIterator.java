@@ -0,0 +1,180 @@
+package org.kered.dko;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over one numeric column of a query's results as primitives, returned by
+ * {@code Query.longIterator()}, {@code doubleIterator()} and {@code intIterator()}. &nbsp;
+ * For database queries values are read straight from the {@code ResultSet} with
+ * {@code getLong()}/{@code getDouble()}/{@code getInt()}, without building table objects
+ * or boxing. &nbsp; SQL NULLs are returned as 0; call {@code wasNull()} after reading a value
+ * to tell them apart, like with JDBC. &nbsp; Iterators close themselves when exhausted; call
+ * {@code close()} if you stop early.
+ */
+public abstract class ColumnIterator {
+
+	private final Source src;
+	private boolean peeked = false;
+	private boolean more = false;
+
+	private ColumnIterator(final Source src) {
+		this.src = src;
+	}
+
+	public boolean hasNext() {
+		if (!peeked) {
+			more = src.next();
+			peeked = true;
+		}
+		return more;
+	}
+
+	/**
+	 * @return true if the last value read was SQL NULL
+	 */
+	public boolean wasNull() {
+		return src.wasNull();
+	}
+
+	public void close() {
+		src.close();
+	}
+
+	void advance() {
+		if (!hasNext()) throw new NoSuchElementException();
+		peeked = false;
+	}
+
+	public static final class OfLong extends ColumnIterator {
+		OfLong(final Source src) {
+			super(src);
+		}
+		public long nextLong() {
+			advance();
+			return super.src.getLong();
+		}
+	}
+
+	public static final class OfDouble extends ColumnIterator {
+		OfDouble(final Source src) {
+			super(src);
+		}
+		public double nextDouble() {
+			advance();
+			return super.src.getDouble();
+		}
+	}
+
+	public static final class OfInt extends ColumnIterator {
+		OfInt(final Source src) {
+			super(src);
+		}
+		public int nextInt() {
+			advance();
+			return super.src.getInt();
+		}
+	}
+
+	static abstract class Source {
+		abstract boolean next();
+		abstract long getLong();
+		abstract double getDouble();
+		abstract int getInt();
+		abstract boolean wasNull();
+		abstract void close();
+	}
+
+	/* reads column i of a database query's result set */
+	static Source source(final DBRowIterator<?> rows, final int i) {
+		return new Source() {
+			private ResultSet rs = null;
+			private boolean wasNull = false;
+			@Override
+			boolean next() {
+				try {
+					if (!rows.nextRaw()) return false;
+					if (rs == null) rs = rows.resultSet();
+					return true;
+				} catch (final SQLException e) {
+					rows.close();
+					throw new RuntimeException(e);
+				}
+			}
+			@Override
+			long getLong() {
+				try {
+					final long v = rs.getLong(i);
+					wasNull = rs.wasNull();
+					return v;
+				} catch (final SQLException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			@Override
+			double getDouble() {
+				try {
+					final double v = rs.getDouble(i);
+					wasNull = rs.wasNull();
+					return v;
+				} catch (final SQLException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			@Override
+			int getInt() {
+				try {
+					final int v = rs.getInt(i);
+					wasNull = rs.wasNull();
+					return v;
+				} catch (final SQLException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			@Override
+			boolean wasNull() {
+				return wasNull;
+			}
+			@Override
+			void close() {
+				rows.close();
+			}
+		};
+	}
+
+	/* unboxes the values of a query not backed by a database */
+	static Source source(final Iterator<? extends Number> it) {
+		return new Source() {
+			private Number v = null;
+			@Override
+			boolean next() {
+				if (!it.hasNext()) return false;
+				v = it.next();
+				return true;
+			}
+			@Override
+			long getLong() {
+				return v == null ? 0 : v.longValue();
+			}
+			@Override
+			double getDouble() {
+				return v == null ? 0 : v.doubleValue();
+			}
+			@Override
+			int getInt() {
+				return v == null ? 0 : v.intValue();
+			}
+			@Override
+			boolean wasNull() {
+				return v == null;
+			}
+			@Override
+			void close() {
+				if (it instanceof ClosableIterator) ((ClosableIterator<?>) it).close();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,520 @@
+package org.kered.dko;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.kered.dko.Constants.DIRECTION;
+
+/**
+ * Column oriented row storage for {@code Query.toColumnarMemory()}. &nbsp; Each of the
+ * table's selected fields is kept as one vector: numbers as primitive buffers (on or off
+ * the heap), strings dictionary encoded, anything else as an object array, plus a null
+ * bitmap. &nbsp; Rows are only built into table objects when read through {@code get()},
+ * and each read builds a new one. &nbsp; Simple conditions ({@code eq}, {@code in},
+ * {@code gt}/{@code gte}/{@code lt}/{@code lte}, {@code between}, {@code isNull},
+ * {@code isNotNull}) are evaluated on the vectors directly. &nbsp; Filtered and sorted
+ * results are views sharing the same vectors.
+ */
+class ColumnarRows<T extends Table> extends AbstractList<T> {
+
+	private static final int LONG = 0;
+	private static final int INT = 1;
+	private static final int DOUBLE = 2;
+	private static final int DICT = 3;
+	private static final int OBJECT = 4;
+
+	private static final int INITIAL_SIZE = 1024;
+
+	private static class Column {
+
+		final Field<?> field;
+		final int kind;
+		final BitSet nulls = new BitSet();
+		private long[] longs;
+		private int[] ints;
+		private double[] doubles;
+		private Object[] objects;
+		private LongBuffer longBuffer;
+		private IntBuffer intBuffer;
+		private DoubleBuffer doubleBuffer;
+		private Map<Object,Integer> codes;
+		private List<Object> dictionary;
+
+		Column(final Field<?> field) {
+			this.field = field;
+			final Class<?> type = field.TYPE;
+			if (type == Long.class) kind = LONG;
+			else if (type == Integer.class || type == Short.class || type == Byte.class) kind = INT;
+			else if (type == Double.class || type == Float.class) kind = DOUBLE;
+			else if (type == String.class) kind = DICT;
+			else kind = OBJECT;
+			switch (kind) {
+			case LONG: longs = new long[INITIAL_SIZE]; break;
+			case INT: ints = new int[INITIAL_SIZE]; break;
+			case DOUBLE: doubles = new double[INITIAL_SIZE]; break;
+			case DICT:
+				ints = new int[INITIAL_SIZE];
+				codes = new HashMap<Object,Integer>();
+				dictionary = new ArrayList<Object>();
+				break;
+			default: objects = new Object[INITIAL_SIZE];
+			}
+		}
+
+		void add(final int i, final Object v) {
+			if (v == null) nulls.set(i);
+			switch (kind) {
+			case LONG:
+				if (i == longs.length) longs = Arrays.copyOf(longs, i * 2);
+				if (v != null) longs[i] = ((Number) v).longValue();
+				break;
+			case INT:
+				if (i == ints.length) ints = Arrays.copyOf(ints, i * 2);
+				if (v != null) ints[i] = ((Number) v).intValue();
+				break;
+			case DOUBLE:
+				if (i == doubles.length) doubles = Arrays.copyOf(doubles, i * 2);
+				if (v != null) doubles[i] = ((Number) v).doubleValue();
+				break;
+			case DICT:
+				if (i == ints.length) ints = Arrays.copyOf(ints, i * 2);
+				if (v != null) {
+					Integer code = codes.get(v);
+					if (code == null) {
+						code = dictionary.size();
+						dictionary.add(v);
+						codes.put(v, code);
+					}
+					ints[i] = code;
+				}
+				break;
+			default:
+				if (i == objects.length) objects = Arrays.copyOf(objects, i * 2);
+				objects[i] = v;
+			}
+		}
+
+		/* moves the loaded values into their final (possibly direct) buffers */
+		void finish(final int size, final boolean offHeap) {
+			switch (kind) {
+			case LONG:
+				longBuffer = offHeap ? direct(size * 8).asLongBuffer().put(longs, 0, size)
+						: LongBuffer.wrap(Arrays.copyOf(longs, size));
+				longs = null;
+				break;
+			case INT:
+			case DICT:
+				intBuffer = offHeap ? direct(size * 4).asIntBuffer().put(ints, 0, size)
+						: IntBuffer.wrap(Arrays.copyOf(ints, size));
+				ints = null;
+				codes = null;
+				break;
+			case DOUBLE:
+				doubleBuffer = offHeap ? direct(size * 8).asDoubleBuffer().put(doubles, 0, size)
+						: DoubleBuffer.wrap(Arrays.copyOf(doubles, size));
+				doubles = null;
+				break;
+			default:
+				objects = Arrays.copyOf(objects, size);
+			}
+		}
+
+		private static ByteBuffer direct(final int bytes) {
+			return ByteBuffer.allocateDirect(Math.max(bytes, 1)).order(ByteOrder.nativeOrder());
+		}
+
+		long getLong(final int i) {
+			return kind == LONG ? longBuffer.get(i) : kind == INT ? intBuffer.get(i) : (long) doubleBuffer.get(i);
+		}
+
+		double getDouble(final int i) {
+			return kind == LONG ? longBuffer.get(i) : kind == INT ? intBuffer.get(i) : doubleBuffer.get(i);
+		}
+
+		/* the boxed value of row i, as the field's type */
+		Object get(final int i) {
+			if (nulls.get(i)) return null;
+			final Class<?> type = field.TYPE;
+			switch (kind) {
+			case LONG: return longBuffer.get(i);
+			case INT:
+				if (type == Short.class) return (short) intBuffer.get(i);
+				if (type == Byte.class) return (byte) intBuffer.get(i);
+				return intBuffer.get(i);
+			case DOUBLE:
+				if (type == Float.class) return (float) doubleBuffer.get(i);
+				return doubleBuffer.get(i);
+			case DICT: return dictionary.get(intBuffer.get(i));
+			default: return objects[i];
+			}
+		}
+
+	}
+
+	private final Class<T> type;
+	private final DataSource ds;
+	private final Field<?>[] fields;
+	private final Column[] columns;
+	private final int size;
+	/* the stored rows this view shows, or null for all of them */
+	private final int[] rows;
+
+	private ColumnarRows(final Class<T> type, final DataSource ds, final Field<?>[] fields, final Column[] columns,
+			final int size, final int[] rows) {
+		this.type = type;
+		this.ds = ds;
+		this.fields = fields;
+		this.columns = columns;
+		this.size = size;
+		this.rows = rows;
+	}
+
+	/**
+	 * Reads {@code source} into columns. &nbsp; Only the fields of {@code type} fetched for
+	 * the first row are kept (joined and prefetched objects are dropped).
+	 */
+	static <T extends Table> ColumnarRows<T> load(final Class<T> type, final Iterable<T> source, final boolean offHeap) {
+		Field<?>[] fields = null;
+		Column[] columns = null;
+		DataSource ds = null;
+		int n = 0;
+		for (final T t : source) {
+			if (columns == null) {
+				final List<Field<?>> fetched = new ArrayList<Field<?>>();
+				for (final Field<?> field : Util.getFields(type)) {
+					if (t.__NOSCO_FETCHED_VALUES == null || t.__NOSCO_FETCHED_VALUES.get(field.INDEX)) {
+						fetched.add(field);
+					}
+				}
+				fields = fetched.toArray(new Field<?>[fetched.size()]);
+				columns = new Column[fields.length];
+				for (int i=0; i<fields.length; ++i) columns[i] = new Column(fields[i]);
+				ds = t.__NOSCO_ORIGINAL_DATA_SOURCE;
+			}
+			for (final Column column : columns) column.add(n, t.get(column.field));
+			++n;
+		}
+		if (columns == null) {
+			fields = Util.getFields(type).toArray(new Field<?>[0]);
+			columns = new Column[fields.length];
+			for (int i=0; i<fields.length; ++i) columns[i] = new Column(fields[i]);
+		}
+		for (final Column column : columns) column.finish(n, offHeap);
+		return new ColumnarRows<T>(type, ds, fields, columns, n, null);
+	}
+
+	@Override
+	public int size() {
+		return rows == null ? size : rows.length;
+	}
+
+	private int row(final int i) {
+		if (i < 0 || i >= size()) throw new IndexOutOfBoundsException(i +" of "+ size());
+		return rows == null ? i : rows[i];
+	}
+
+	@Override
+	public T get(final int i) {
+		final int row = row(i);
+		final Object[] values = new Object[columns.length];
+		for (int j=0; j<columns.length; ++j) values[j] = columns[j].get(row);
+		return RowCache.build(type, fields, values, ds);
+	}
+
+	private Column column(final Field<?> field) {
+		for (final Column column : columns) {
+			if (column.field == field) return column;
+		}
+		for (final Column column : columns) {
+			if (field.sameField(column.field)) return column;
+		}
+		return null;
+	}
+
+	/**
+	 * @return the value of {@code field} for row {@code i}, without building the row
+	 */
+	Object value(final int i, final Field<?> field) {
+		final Column column = column(field);
+		if (column == null) return get(i).get(field);
+		return column.get(row(i));
+	}
+
+	boolean hasColumn(final Field<?> field) {
+		return column(field) != null;
+	}
+
+	/**
+	 * @return a view of rows {@code indexes} (of this view), in that order
+	 */
+	ColumnarRows<T> view(final int[] indexes) {
+		final int[] mapped = new int[indexes.length];
+		for (int i=0; i<indexes.length; ++i) mapped[i] = row(indexes[i]);
+		return new ColumnarRows<T>(type, ds, fields, columns, size, mapped);
+	}
+
+	ColumnarRows<T> view(final BitSet indexes) {
+		final int[] tmp = new int[indexes.cardinality()];
+		int c = 0;
+		for (int i=indexes.nextSetBit(0); i>=0; i=indexes.nextSetBit(i+1)) tmp[c++] = i;
+		return view(tmp);
+	}
+
+	/**
+	 * @return the rows (of this view) matching {@code c}, or null if it can't be evaluated
+	 * on the columns
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	BitSet filter(final Condition c) {
+		Field<?> field = null;
+		String op = null;
+		Object a = null;
+		Object b = null;
+		Collection<?> set = null;
+		if (c instanceof Condition.Binary) {
+			final Condition.Binary x = (Condition.Binary) c;
+			if (x.v == null || !"=".equals(x.cmp)) return null;
+			field = x.field;
+			op = "=";
+			a = x.v;
+		} else if (c instanceof Condition.Binary2) {
+			final Condition.Binary2 x = (Condition.Binary2) c;
+			if (!(x.o1 instanceof Field) || !isValue(x.o2)) return null;
+			if (!">".equals(x.cmp) && !">=".equals(x.cmp) && !"<".equals(x.cmp) && !"<=".equals(x.cmp)) return null;
+			field = (Field<?>) x.o1;
+			op = x.cmp;
+			a = x.o2;
+		} else if (c instanceof Condition.Ternary) {
+			final Condition.Ternary x = (Condition.Ternary) c;
+			if (!" between ".equals(x.cmp1) || !(x.v1 instanceof Field) || !isValue(x.v2) || !isValue(x.v3)) return null;
+			field = (Field<?>) x.v1;
+			op = "between";
+			a = x.v2;
+			b = x.v3;
+		} else if (c instanceof Condition.In) {
+			final Condition.In x = (Condition.In) c;
+			if (!" in ".equals(x.cmp)) return null;
+			field = x.field;
+			op = "in";
+			set = x.set != null ? Arrays.asList(x.set) : x.set2;
+			if (set == null) return null;
+		} else if (c instanceof Condition.Unary) {
+			final Condition.Unary x = (Condition.Unary) c;
+			if (x.prefix != null || !(" is null".equals(x.suffix) || " is not null".equals(x.suffix))) return null;
+			field = x.field;
+			op = x.suffix;
+		} else {
+			return null;
+		}
+		final Column column = column(field);
+		if (column == null) return null;
+		final int n = size();
+		final BitSet ret = new BitSet(n);
+
+		if (" is null".equals(op) || " is not null".equals(op)) {
+			final boolean want = " is null".equals(op);
+			for (int i=0; i<n; ++i) {
+				if (column.nulls.get(row(i)) == want) ret.set(i);
+			}
+			return ret;
+		}
+
+		// numbers compare as primitives, as long as the values are of the field's own type
+		// (so equals() and compareTo() would have agreed)
+		if ((column.kind == LONG || column.kind == INT || column.kind == DOUBLE) && sameType(column.field, a, b, set)) {
+			final boolean whole = column.kind != DOUBLE;
+			final long la = a == null ? 0 : ((Number) a).longValue();
+			final long lb = b == null ? 0 : ((Number) b).longValue();
+			final double da = a == null ? 0 : ((Number) a).doubleValue();
+			final double db = b == null ? 0 : ((Number) b).doubleValue();
+			long[] longSet = null;
+			double[] doubleSet = null;
+			boolean nullInSet = false;
+			if (set != null) {
+				longSet = new long[set.size()];
+				doubleSet = new double[set.size()];
+				int k = 0;
+				for (final Object o : set) {
+					if (o == null) nullInSet = true;
+					else {
+						longSet[k] = ((Number) o).longValue();
+						doubleSet[k] = ((Number) o).doubleValue();
+						++k;
+					}
+				}
+				longSet = Arrays.copyOf(longSet, k);
+				doubleSet = Arrays.copyOf(doubleSet, k);
+				Arrays.sort(longSet);
+				Arrays.sort(doubleSet);
+			}
+			for (int i=0; i<n; ++i) {
+				final int row = row(i);
+				if (column.nulls.get(row)) {
+					if (nullInSet) ret.set(i);
+					continue;
+				}
+				final int cmpA;
+				final int cmpB;
+				if (whole) {
+					final long v = column.getLong(row);
+					if (set != null) {
+						if (Arrays.binarySearch(longSet, v) >= 0) ret.set(i);
+						continue;
+					}
+					cmpA = v < la ? -1 : v == la ? 0 : 1;
+					cmpB = v < lb ? -1 : v == lb ? 0 : 1;
+				} else {
+					final double v = column.getDouble(row);
+					if (set != null) {
+						if (contains(doubleSet, v)) ret.set(i);
+						continue;
+					}
+					cmpA = Double.compare(v, da);
+					cmpB = Double.compare(v, db);
+				}
+				if (compared(op, cmpA, cmpB)) ret.set(i);
+			}
+			return ret;
+		}
+
+		// dictionary encoded strings are tested once per distinct value
+		if (column.kind == DICT) {
+			final boolean[] matches = new boolean[column.dictionary.size()];
+			for (int k=0; k<matches.length; ++k) matches[k] = test(op, column.dictionary.get(k), a, b, set);
+			final boolean nullMatches = test(op, null, a, b, set);
+			for (int i=0; i<n; ++i) {
+				final int row = row(i);
+				if (column.nulls.get(row) ? nullMatches : matches[column.intBuffer.get(row)]) ret.set(i);
+			}
+			return ret;
+		}
+
+		for (int i=0; i<n; ++i) {
+			if (test(op, column.get(row(i)), a, b, set)) ret.set(i);
+		}
+		return ret;
+	}
+
+	private static boolean isValue(final Object o) {
+		return o != null && !(o instanceof Expression) && !(o instanceof Expression.Function);
+	}
+
+	private static boolean sameType(final Field<?> field, final Object a, final Object b, final Collection<?> set) {
+		if (a != null && a.getClass() != field.TYPE) return false;
+		if (b != null && b.getClass() != field.TYPE) return false;
+		if (set != null) {
+			for (final Object o : set) {
+				if (o != null && o.getClass() != field.TYPE) return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean contains(final double[] sorted, final double v) {
+		int lo = 0, hi = sorted.length - 1;
+		while (lo <= hi) {
+			final int mid = (lo + hi) >>> 1;
+			final int c = Double.compare(sorted[mid], v);
+			if (c < 0) lo = mid + 1;
+			else if (c > 0) hi = mid - 1;
+			else return true;
+		}
+		return false;
+	}
+
+	/* cmpA and cmpB are the value compared to a and b */
+	private static boolean compared(final String op, final int cmpA, final int cmpB) {
+		if ("=".equals(op)) return cmpA == 0;
+		if (">".equals(op)) return cmpA > 0;
+		if (">=".equals(op)) return cmpA >= 0;
+		if ("<".equals(op)) return cmpA < 0;
+		if ("<=".equals(op)) return cmpA <= 0;
+		return cmpA >= 0 && cmpB <= 0; // between
+	}
+
+	/* the same test Condition.matches() does, on a boxed value */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static boolean test(final String op, final Object v, final Object a, final Object b, final Collection<?> set) {
+		if ("in".equals(op)) {
+			for (final Object o : set) {
+				if (o == v || (o != null && o.equals(v))) return true;
+			}
+			return false;
+		}
+		if ("=".equals(op)) return a.equals(v);
+		if (v == null) return false;
+		final int cmpA = ((Comparable) v).compareTo(a);
+		final int cmpB = b == null ? 0 : ((Comparable) v).compareTo(b);
+		return compared(op, cmpA, cmpB);
+	}
+
+	/**
+	 * @return this view sorted by {@code obes} (nulls last ascending, first descending, ties
+	 * in their current order), or null if they aren't all stored fields
+	 */
+	@SuppressWarnings("rawtypes")
+	ColumnarRows<T> sorted(final Expression.OrderBy<?>[] obes) {
+		final Column[] keys = new Column[obes.length];
+		final int[] muls = new int[obes.length];
+		for (int k=0; k<obes.length; ++k) {
+			final Expression.OrderBy<?> obe = obes[k];
+			Field<?> field = null;
+			muls[k] = 1;
+			if (obe instanceof Field) {
+				field = (Field<?>) obe;
+			} else if (obe instanceof Field.OrderByField) {
+				field = ((Field.OrderByField) obe).underlying;
+				if (((Field.OrderByField) obe).direction == DIRECTION.DESCENDING) muls[k] = -1;
+			}
+			keys[k] = field == null ? null : column(field);
+			if (keys[k] == null) return null;
+		}
+		final Integer[] order = new Integer[size()];
+		for (int i=0; i<order.length; ++i) order[i] = i;
+		Arrays.sort(order, new Comparator<Integer>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public int compare(final Integer i, final Integer j) {
+				final int ri = row(i);
+				final int rj = row(j);
+				for (int k=0; k<keys.length; ++k) {
+					final Column column = keys[k];
+					final boolean ni = column.nulls.get(ri);
+					final boolean nj = column.nulls.get(rj);
+					final int c;
+					if (ni || nj) {
+						c = ni == nj ? 0 : ni ? 1 : -1;
+					} else if (column.kind == LONG || column.kind == INT) {
+						final long a = column.getLong(ri);
+						final long b = column.getLong(rj);
+						c = a < b ? -1 : a == b ? 0 : 1;
+					} else if (column.kind == DOUBLE) {
+						c = Double.compare(column.getDouble(ri), column.getDouble(rj));
+					} else {
+						c = ((Comparable) column.get(ri)).compareTo(column.get(rj));
+					}
+					if (c != 0) return c * muls[k];
+				}
+				return 0;
+			}
+		});
+		final int[] indexes = new int[order.length];
+		for (int i=0; i<indexes.length; ++i) indexes[i] = order[i];
+		return view(indexes);
+	}
+
+}
@@ -0,0 +1,373 @@
+package org.kered.dko;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@code Condition} tree compiled for in-memory matching (see {@code Condition.compiled()}). &nbsp;
+ * {@code Condition.matches()} re-reads each node's operator strings and scans {@code in()}
+ * lists on every row. &nbsp; Compiling does that work once: operators become node types,
+ * {@code in()} lists become hash sets, and comparisons of a field against a number of the
+ * same type are done on primitives. &nbsp; Fields are still read through {@code Table.get()},
+ * so generate classes with {@code switchDispatch} to keep reflection out of that too. &nbsp;
+ * Nodes it doesn't know fall back to the interpreter, so results (and errors) are the
+ * same as {@code matches()}'.
+ */
+abstract class CompiledCondition {
+
+	/* past this many values an in() list is hashed */
+	private static final int HASH_IN_OVER = 4;
+
+	abstract boolean matches(Table t);
+
+	static CompiledCondition compile(final Condition c) {
+		if (c == Condition.TRUE) return ALWAYS;
+		if (c == Condition.FALSE) return NEVER;
+		if (c instanceof Condition.And) return and(((Condition.And) c).conditions);
+		if (c instanceof Condition.Or) return or(((Condition.Or) c).conditions);
+		if (c instanceof Condition.Not) return not(compile(((Condition.Not) c).condition));
+		if (c instanceof Condition.Binary) return binary((Condition.Binary) c);
+		if (c instanceof Condition.Binary2) return binary2((Condition.Binary2) c);
+		if (c instanceof Condition.Ternary) return ternary((Condition.Ternary) c);
+		if (c instanceof Condition.Unary) return unary((Condition.Unary) c);
+		if (c instanceof Condition.In) return in((Condition.In) c);
+		return interpreted(c);
+	}
+
+	private static final CompiledCondition ALWAYS = new CompiledCondition() {
+		@Override
+		boolean matches(final Table t) {
+			return true;
+		}
+	};
+
+	private static final CompiledCondition NEVER = new CompiledCondition() {
+		@Override
+		boolean matches(final Table t) {
+			return false;
+		}
+	};
+
+	private static CompiledCondition interpreted(final Condition c) {
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				return c.matches(t);
+			}
+		};
+	}
+
+	/**
+	 * @return a condition matching rows that match all of {@code conditions}, from their
+	 * cached compiled forms
+	 */
+	static CompiledCondition all(final Condition[] conditions) {
+		if (conditions.length == 1) return conditions[0].compiled();
+		final CompiledCondition[] cs = new CompiledCondition[conditions.length];
+		for (int i=0; i<cs.length; ++i) cs[i] = conditions[i].compiled();
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				for (final CompiledCondition c : cs) {
+					if (!c.matches(t)) return false;
+				}
+				return true;
+			}
+		};
+	}
+
+	private static CompiledCondition[] compile(final List<Condition> conditions) {
+		final CompiledCondition[] ret = new CompiledCondition[conditions.size()];
+		for (int i=0; i<ret.length; ++i) ret[i] = compile(conditions.get(i));
+		return ret;
+	}
+
+	private static CompiledCondition and(final List<Condition> conditions) {
+		final CompiledCondition[] cs = compile(conditions);
+		if (cs.length == 1) return cs[0];
+		if (cs.length == 2) {
+			final CompiledCondition a = cs[0], b = cs[1];
+			return new CompiledCondition() {
+				@Override
+				boolean matches(final Table t) {
+					return a.matches(t) && b.matches(t);
+				}
+			};
+		}
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				for (final CompiledCondition c : cs) {
+					if (!c.matches(t)) return false;
+				}
+				return true;
+			}
+		};
+	}
+
+	private static CompiledCondition or(final List<Condition> conditions) {
+		final CompiledCondition[] cs = compile(conditions);
+		if (cs.length == 1) return cs[0];
+		if (cs.length == 2) {
+			final CompiledCondition a = cs[0], b = cs[1];
+			return new CompiledCondition() {
+				@Override
+				boolean matches(final Table t) {
+					return a.matches(t) || b.matches(t);
+				}
+			};
+		}
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				for (final CompiledCondition c : cs) {
+					if (c.matches(t)) return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	private static CompiledCondition not(final CompiledCondition c) {
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				return !c.matches(t);
+			}
+		};
+	}
+
+	private static CompiledCondition binary(final Condition.Binary b) {
+		final Getter field = getter(b.field);
+		if (b.v != null) {
+			final Object v = b.v;
+			if ("=".equals(b.cmp)) {
+				return new CompiledCondition() {
+					@Override
+					boolean matches(final Table t) {
+						return v.equals(field.get(t));
+					}
+				};
+			}
+			if ("!=".equals(b.cmp)) {
+				return new CompiledCondition() {
+					@Override
+					boolean matches(final Table t) {
+						return !v.equals(field.get(t));
+					}
+				};
+			}
+			return interpreted(b);
+		}
+		if (b.field2 != null) {
+			final Getter field2 = getter(b.field2);
+			return new CompiledCondition() {
+				@Override
+				boolean matches(final Table t) {
+					final Object x = field.get(t);
+					final Object y = field2.get(t);
+					return x == y || (x != null && x.equals(y));
+				}
+			};
+		}
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				return field.get(t) == null;
+			}
+		};
+	}
+
+	/* the <, <=, > and >= conditions Field builds (others override matches() their own way) */
+	private static CompiledCondition binary2(final Condition.Binary2 b) {
+		if (b.getClass().getEnclosingClass() != Field.class) return interpreted(b);
+		final int op = op(b.cmp);
+		if (op == 0 || b.o1 instanceof SQLFunction || b.o2 instanceof SQLFunction) return interpreted(b);
+		final Getter left = value(b.o1);
+		if (b.o1 instanceof Field && (b.o2 instanceof Long || b.o2 instanceof Integer
+				|| b.o2 instanceof Short || b.o2 instanceof Byte)) {
+			final Class<?> type = b.o2.getClass();
+			final long x = ((Number) b.o2).longValue();
+			return new Compare(b.o2, op) {
+				@Override
+				boolean matches(final Table t) {
+					final Object v = left.get(t);
+					if (v == null) return false;
+					if (v.getClass() == type) return test(compare(((Number) v).longValue(), x));
+					return test(v);
+				}
+			};
+		}
+		if (b.o1 instanceof Field && (b.o2 instanceof Double || b.o2 instanceof Float)) {
+			final Class<?> type = b.o2.getClass();
+			final double x = ((Number) b.o2).doubleValue();
+			return new Compare(b.o2, op) {
+				@Override
+				boolean matches(final Table t) {
+					final Object v = left.get(t);
+					if (v == null) return false;
+					// Double.compare() orders NaN and -0.0 like compareTo() does
+					if (v.getClass() == type) return test(Double.compare(((Number) v).doubleValue(), x));
+					return test(v);
+				}
+			};
+		}
+		if (b.o2 instanceof Field) {
+			final Getter right = getter((Field<?>) b.o2);
+			return new Compare(null, op) {
+				@Override
+				boolean matches(final Table t) {
+					final Object v = left.get(t);
+					if (v == null) return false;
+					return test(compare(v, right.get(t)));
+				}
+			};
+		}
+		return new Compare(b.o2, op) {
+			@Override
+			boolean matches(final Table t) {
+				final Object v = left.get(t);
+				if (v == null) return false;
+				return test(v);
+			}
+		};
+	}
+
+	private static final int LT = 1, LTE = 2, GT = 3, GTE = 4;
+
+	private static int op(final String cmp) {
+		if ("<".equals(cmp)) return LT;
+		if ("<=".equals(cmp)) return LTE;
+		if (">".equals(cmp)) return GT;
+		if (">=".equals(cmp)) return GTE;
+		return 0;
+	}
+
+	private static abstract class Compare extends CompiledCondition {
+		private final Object x;
+		private final int op;
+		Compare(final Object x, final int op) {
+			this.x = x;
+			this.op = op;
+		}
+		/* v compared to the literal */
+		final boolean test(final Object v) {
+			return test(compare(v, x));
+		}
+		final boolean test(final int c) {
+			switch (op) {
+			case LT: return c < 0;
+			case LTE: return c <= 0;
+			case GT: return c > 0;
+			default: return c >= 0;
+			}
+		}
+	}
+
+	private static int compare(final long a, final long b) {
+		return a < b ? -1 : a == b ? 0 : 1;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static int compare(final Object a, final Object b) {
+		return ((Comparable) a).compareTo(b);
+	}
+
+	private static CompiledCondition ternary(final Condition.Ternary c) {
+		if (!c.cmp1.trim().equalsIgnoreCase("between") || !c.cmp2.trim().equalsIgnoreCase("and")
+				|| !(c.v1 instanceof Field) || c.v2 instanceof Field || c.v3 instanceof Field) {
+			return interpreted(c);
+		}
+		final Getter field = getter((Field<?>) c.v1);
+		final Object lo = c.v2 instanceof Comparable ? c.v2 : null;
+		final Object hi = c.v3 instanceof Comparable ? c.v3 : null;
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				final Object v = field.get(t);
+				// SQL between in inclusive
+				if (lo != null && compare(lo, v) > 0) return false;
+				if (hi != null && compare(hi, v) < 0) return false;
+				return true;
+			}
+		};
+	}
+
+	private static CompiledCondition unary(final Condition.Unary c) {
+		final Getter field = getter(c.field);
+		if (" is null".equals(c.suffix)) {
+			return new CompiledCondition() {
+				@Override
+				boolean matches(final Table t) {
+					return field.get(t) == null;
+				}
+			};
+		}
+		if (" is not null".equals(c.suffix)) {
+			return new CompiledCondition() {
+				@Override
+				boolean matches(final Table t) {
+					return field.get(t) != null;
+				}
+			};
+		}
+		return interpreted(c);
+	}
+
+	private static CompiledCondition in(final Condition.In c) {
+		final boolean rev;
+		if (c.cmp.trim().equalsIgnoreCase("in")) rev = false;
+		else if (c.cmp.trim().equalsIgnoreCase("not in")) rev = true;
+		else return interpreted(c);
+		final Getter field = getter(c.field);
+		final Collection<?> values;
+		if (c.set != null && c.set.length > 0) {
+			values = c.set.length > HASH_IN_OVER ? new HashSet<Object>(Arrays.asList(c.set)) : Arrays.asList(c.set);
+		} else if (c.set2 != null && c.set2.size() > 0) {
+			values = c.set2 instanceof Set || c.set2.size() <= HASH_IN_OVER ? c.set2 : new HashSet<Object>(c.set2);
+		} else {
+			return NEVER;
+		}
+		return new CompiledCondition() {
+			@Override
+			boolean matches(final Table t) {
+				return values.contains(field.get(t)) != rev;
+			}
+		};
+	}
+
+	/* reads a field's value, or returns a literal */
+	private static Getter value(final Object o) {
+		if (o instanceof Field) return getter((Field<?>) o);
+		return new Getter(null) {
+			@Override
+			Object get(final Table t) {
+				return o;
+			}
+		};
+	}
+
+	/**
+	 * Reads {@code field} off a row.
+	 */
+	static Getter getter(final Field<?> field) {
+		return new Getter(field) {
+			@Override
+			Object get(final Table t) {
+				return t.get(field);
+			}
+		};
+	}
+
+	static abstract class Getter {
+		final Field<?> field;
+		Getter(final Field<?> field) {
+			this.field = field;
+		}
+		abstract Object get(Table t);
+	}
+
+}
@@ -198,6 +198,11 @@ public abstract class Condition {
 		boolean matches(final Table t) {
 			return true;
 		}
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(" 1=1");
+			return true;
+		}
 	};
 
 	/**
@@ -212,6 +217,11 @@ public abstract class Condition {
 		boolean matches(final Table t) {
 			return false;
 		}
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(" 1=0");
+			return true;
+		}
 	};
 
 	/**
@@ -242,6 +252,13 @@ public abstract class Condition {
 			sb.append(s);
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(Literal.class);
+			key.add(s);
+			return true;
+		}
+
 	}
 
 	transient List<Object> bindings = null;
@@ -268,6 +285,34 @@ public abstract class Condition {
 	 */
 	abstract boolean matches(Table t);
 
+	private transient volatile CompiledCondition compiled = null;
+
+	/**
+	 * Internal function.  Do not use.  Subject to change.
+	 * Returns this condition compiled for matching many rows in memory (built on first
+	 * use, then kept). &nbsp; Same results as {@code matches()}.
+	 */
+	CompiledCondition compiled() {
+		CompiledCondition c = compiled;
+		if (c == null) {
+			// racing threads just compile it twice
+			c = CompiledCondition.compile(this);
+			compiled = c;
+		}
+		return c;
+	}
+
+	/**
+	 * Internal function.  Do not use.  Subject to change.
+	 * Adds everything about this condition that affects its SQL (but not its bound values)
+	 * to {@code key}, and its bound values to {@code bindings} in the same order
+	 * {@code getSQL()} would bind them. &nbsp; Returns false if not supported, in which
+	 * case the query's SQL won't be cached.
+	 */
+	boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+		return false;
+	}
+
 	/**
 	 * Internal function.  Do not use.  Subject to change.
 	 */
@@ -351,6 +396,16 @@ public abstract class Condition {
 			sb.append(")");
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(And.class);
+			key.add(conditions.size());
+			for (final Condition condition : conditions) {
+				if (!condition.fingerprint(key, bindings)) return false;
+			}
+			return true;
+		}
+
 		@Override
 		boolean matches(final Table t) {
 			for (final Condition c : conditions) {
@@ -419,6 +474,16 @@ public abstract class Condition {
 			sb.append(")");
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(Or.class);
+			key.add(conditions.size());
+			for (final Condition condition : conditions) {
+				if (!condition.fingerprint(key, bindings)) return false;
+			}
+			return true;
+		}
+
 		@Override
 		boolean matches(final Table t) {
 			for (final Condition c : conditions) {
@@ -452,7 +517,7 @@ public abstract class Condition {
 
 	static class Not extends Condition {
 
-		private final Condition condition;
+		final Condition condition;
 		private boolean parens = true;
 
 		public Not(final Condition condition) {
@@ -472,6 +537,13 @@ public abstract class Condition {
 			if (parens) sb.append(")");
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(Not.class);
+			key.add(parens);
+			return condition.fingerprint(key, bindings);
+		}
+
 		@Override
 		boolean matches(final Table t) {
 			return !condition.matches(t);
@@ -499,9 +571,9 @@ public abstract class Condition {
 	static class Ternary extends Condition {
 
 		final Object v1;
-		private final String cmp1;
+		final String cmp1;
 		final Object v2;
-		private final String cmp2;
+		final String cmp2;
 		final Object v3;
 
 		public Ternary(final Object v1, final String cmp1, final Object v2, final String cmp2, final Object v3) {
@@ -544,6 +616,26 @@ public abstract class Condition {
 			}
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			// only the common "field between ? and ?" shapes
+			if (v2 instanceof Expression || v3 instanceof Expression) return false;
+			key.add(Ternary.class);
+			if (v1 instanceof Field) {
+				if (!((Field<?>)v1).fingerprint(key)) return false;
+			} else if (v1 instanceof Expression) {
+				return false;
+			} else {
+				key.add("?");
+				bindings.add(v1);
+			}
+			key.add(cmp1);
+			key.add(cmp2);
+			bindings.add(v2);
+			bindings.add(v3);
+			return true;
+		}
+
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		@Override
 		boolean matches(final Table t) {
@@ -574,9 +666,9 @@ public abstract class Condition {
 
 	static class Unary extends Condition {
 
-		private final String prefix;
+		final String prefix;
 		final Field<?> field;
-		private final String suffix;
+		final String suffix;
 
 		public <T> Unary(final Field<T> field, final String suffix) {
 			this.prefix = null;
@@ -604,6 +696,14 @@ public abstract class Condition {
 			if (suffix!=null) sb.append(suffix);
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(Unary.class);
+			key.add(prefix);
+			key.add(suffix);
+			return field.fingerprint(key);
+		}
+
 		@Override
 		boolean matches(final Table t) {
 			final Object v = t.get(field);
@@ -622,7 +722,7 @@ public abstract class Condition {
 	static class Binary extends Condition {
 
 		final Field<?> field;
-		private Object v;
+		Object v;
 		Field<?> field2;
 		final String cmp;
 		private DBRowIterator<?> s;
@@ -722,6 +822,24 @@ public abstract class Condition {
 			}
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			if (s!=null || o2!=null) return false;
+			key.add(Binary.class);
+			key.add(cmp);
+			if (!field.fingerprint(key)) return false;
+			if (v!=null) {
+				key.add("?");
+				bindings.add(v);
+				return true;
+			} else if (field2!=null) {
+				return field2.fingerprint(key);
+			} else {
+				key.add(" is null");
+				return true;
+			}
+		}
+
 		@Override
 		boolean matches(final Table t) {
 			if (v!=null) {
@@ -739,6 +857,60 @@ public abstract class Condition {
 
 	}
 
+	/* (a, b, ...) > (?, ?, ...), for dialects with row value comparisons (see Keyset) */
+	static class RowValue extends Condition {
+
+		final Field<?>[] fields;
+		final String cmp;
+		final Object[] values;
+
+		RowValue(final Field<?>[] fields, final String cmp, final Object[] values) {
+			this.fields = fields;
+			this.cmp = cmp;
+			this.values = values;
+		}
+
+		@Override
+		protected void getSQL(final StringBuffer sb, final List<Object> bindings, final SqlContext context) {
+			sb.append(" (");
+			for (int i=0; i<fields.length; ++i) {
+				if (i > 0) sb.append(", ");
+				sb.append(Util.derefField(fields[i], context));
+			}
+			sb.append(")").append(cmp).append("(");
+			for (int i=0; i<values.length; ++i) {
+				sb.append(i > 0 ? ", ?" : "?");
+				bindings.add(values[i]);
+			}
+			sb.append(")");
+		}
+
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(RowValue.class);
+			key.add(cmp);
+			key.add(fields.length);
+			for (final Field<?> field : fields) {
+				if (!field.fingerprint(key)) return false;
+			}
+			for (final Object v : values) bindings.add(v);
+			return true;
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		@Override
+		boolean matches(final Table t) {
+			for (int i=0; i<fields.length; ++i) {
+				final Comparable a = (Comparable) t.get(fields[i]);
+				if (a == null) return false;
+				final int c = a.compareTo(values[i]);
+				if (c != 0) return ">".equals(cmp) ? c > 0 : c < 0;
+			}
+			return false;
+		}
+
+	}
+
 	static class Binary2 extends Condition {
 
 		final String cmp;
@@ -798,14 +970,37 @@ public abstract class Condition {
 				sb.append("?");
 				bindings.add(o2);
 			}
-		}}
+		}
+
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(Binary2.class);
+			key.add(cmp);
+			return fingerprint(o1, key, bindings) && fingerprint(o2, key, bindings);
+		}
+
+		private static boolean fingerprint(final Object o, final List<Object> key, final List<Object> bindings) {
+			if (o instanceof Field) {
+				return ((Field<?>) o).fingerprint(key);
+			} else if (o instanceof Expression) {
+				return false;
+			} else if (o instanceof SQLFunction.SQLLiteral) {
+				key.add(((SQLFunction.SQLLiteral)o).sql);
+			} else {
+				key.add("?");
+				bindings.add(o);
+			}
+			return true;
+		}
+
+	}
 
 	static class In extends Condition {
 
-		private final Field<?> field;
-		private final String cmp;
-		private final Object[] set;
-		private final Collection<?> set2;
+		final Field<?> field;
+		final String cmp;
+		final Object[] set;
+		final Collection<?> set2;
 
 		public In(final Field<?> field, final String cmp, final Object... set) {
 			this.field = field;
@@ -853,6 +1048,30 @@ public abstract class Condition {
 			sb.append(')');
 		}
 
+		@Override
+		boolean fingerprint(final List<Object> key, final List<Object> bindings) {
+			key.add(In.class);
+			key.add(cmp);
+			if (!field.fingerprint(key)) return false;
+			if (set != null && set.length > 0) {
+				key.add(set.length);
+				for (final Object v : set) {
+					if (v instanceof Field) {
+						if (!((Field<?>) v).fingerprint(key)) return false;
+					} else {
+						key.add("?");
+						bindings.add(v);
+					}
+				}
+			} else if (set2 != null && set2.size() > 0) {
+				key.add(set2.size());
+				bindings.addAll(set2);
+			} else {
+				key.add("null");
+			}
+			return true;
+		}
+
 		@Override
 		boolean matches(final Table t) {
 			boolean rev;
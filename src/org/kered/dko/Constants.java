@@ -288,6 +288,51 @@ public class Constants {
 	 */
 	public static final String PROPERTY_PERSISTENCE_DB = "org.kered.dko.persistence_db";
 
+	/**
+	 * A Java property that controls whether query results are streamed from the database
+	 * (instead of buffered by the JDBC driver) by default.
+	 * Disabled by default.
+	 */
+	public static final String PROPERTY_STREAMING = "org.kered.dko.streaming";
+
+	/**
+	 * A Java property that turns on batched loading of lazy FKs for queries that don't
+	 * specify it themselves.  (see {@code Query.setLazyFKBatching()})  Off by default.
+	 */
+	public static final String PROPERTY_LAZY_FK_BATCHING = "org.kered.dko.lazy_fk_batching";
+
+	/**
+	 * A Java property that turns on batched loading of deferred columns for queries that
+	 * don't specify it themselves.  (see {@code Query.setLazyColumnBatching()})  Off by default.
+	 */
+	public static final String PROPERTY_LAZY_COLUMN_BATCHING = "org.kered.dko.lazy_column_batching";
+
+	/**
+	 * A Java property that controls how many {@code PreparedStatement}s are kept open per
+	 * long lived connection (transactions and {@code UnClosableConnection}s) for reuse.
+	 * Set to 0 to disable.  Defaults to 64.
+	 */
+	public static final String PROPERTY_STATEMENT_CACHE_SIZE = "org.kered.dko.statement_cache_size";
+
+	/**
+	 * A Java property that controls how many query results are kept by the result cache.
+	 * (see {@code Query.cached()})  Defaults to 1024.
+	 */
+	public static final String PROPERTY_RESULT_CACHE_SIZE = "org.kered.dko.result_cache_size";
+
+	/**
+	 * A Java property that controls how many threads the shared pool behind the
+	 * {@code *Async()} query methods uses, when no executor is set with
+	 * {@code Context.setExecutor()}.  Defaults to 16.
+	 */
+	public static final String PROPERTY_ASYNC_THREADS = "org.kered.dko.async_threads";
+
+	/**
+	 * A Java property that sets the fewest rows an in-memory query needs before
+	 * {@code parallel()} splits its work across threads.  Defaults to 10000.
+	 */
+	public static final String PROPERTY_PARALLEL_THRESHOLD = "org.kered.dko.parallel_threshold";
+
 	static enum JOIN_TYPE {
 
 		LEFT("left join"),
@@ -5,9 +5,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import javax.sql.DataSource;
 
@@ -59,6 +63,8 @@ public class Context {
 	 * @return the context for the current thread group
 	 */
 	public static Context getThreadGroupContext() {
+		final Context override = threadGroupContextOverride.get();
+		if (override != null) return override;
 		final ThreadGroup tg = Thread.currentThread().getThreadGroup();
 		Context context = threadGroupContexts.get(tg);
 		if (context == null) {
@@ -159,6 +165,112 @@ public class Context {
 		return true;
 	}
 
+	/**
+	 * Returns true if queries should stream their results from the database by default.
+	 * (see {@code Query.setStreaming()})
+	 * @return
+	 */
+	public static boolean streamingEnabled() {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			Boolean x = null;
+			synchronized(context.enableStreaming) {
+				for (final Boolean v : context.enableStreaming.values()) {
+					x = v;
+				}
+			}
+			if (x != null) return x;
+		}
+		final String prop = System.getProperty(Constants.PROPERTY_STREAMING);
+		if (prop != null) return Util.truthy(prop);
+		return false;
+	}
+
+	/**
+	 * Returns true if queries should batch their lazy FK loads by default.
+	 * (see {@code Query.setLazyFKBatching()})
+	 * @return
+	 */
+	public static boolean lazyFKBatchingEnabled() {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			Boolean x = null;
+			synchronized(context.enableLazyFKBatching) {
+				for (final Boolean v : context.enableLazyFKBatching.values()) {
+					x = v;
+				}
+			}
+			if (x != null) return x;
+		}
+		final String prop = System.getProperty(Constants.PROPERTY_LAZY_FK_BATCHING);
+		if (prop != null) return Util.truthy(prop);
+		return false;
+	}
+
+	/**
+	 * Returns true if queries should batch their deferred column loads by default.
+	 * (see {@code Query.setLazyColumnBatching()})
+	 * @return
+	 */
+	public static boolean lazyColumnBatchingEnabled() {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			Boolean x = null;
+			synchronized(context.enableLazyColumnBatching) {
+				for (final Boolean v : context.enableLazyColumnBatching.values()) {
+					x = v;
+				}
+			}
+			if (x != null) return x;
+		}
+		final String prop = System.getProperty(Constants.PROPERTY_LAZY_COLUMN_BATCHING);
+		if (prop != null) return Util.truthy(prop);
+		return false;
+	}
+
+	/**
+	 * Returns the second-level row cache in effect for this class, or null if it has none.
+	 * (see {@code setRowCache()})
+	 * @param cls
+	 * @return
+	 */
+	public static RowCache getRowCache(final Class<? extends Table> cls) {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			final Map<UUID, RowCache> x = context.classRowCaches.get(cls);
+			if (x == null) continue;
+			RowCache cache = null;
+			boolean set = false;
+			synchronized(x) {
+				for (final RowCache tmp : x.values()) {
+					cache = tmp;
+					set = true;
+				}
+			}
+			if (set) return cache;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the executor set for asynchronous queries, or null to use DKO's shared pool.
+	 * (see {@code setExecutor()})
+	 * @return
+	 */
+	public static ExecutorService getExecutor() {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			ExecutorService x = null;
+			synchronized(context.executors) {
+				for (final ExecutorService v : context.executors.values()) {
+					x = v;
+				}
+			}
+			if (x != null) return x;
+		}
+		return null;
+	}
+
 	/**
 	 * Returns true if currently inside a transaction.
 	 * @param ds
@@ -184,6 +296,14 @@ public class Context {
 		return c;
 	}
 
+	static boolean isTransactionConnection(final Connection c) {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			if (context.transactionConnections.containsValue(c)) return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Starts a new transaction.
 	 * @param ds
@@ -211,6 +331,48 @@ public class Context {
 		return true;
 	}
 
+	/**
+	 * Starts a new transaction, optionally with an identity map. &nbsp; With one, every row
+	 * loaded within the transaction (by primary key) is materialized at most once: queries
+	 * return the instance already loaded, and FK getters and {@code Query.get(pk)} are served
+	 * from it without a query. &nbsp; Updates and deletes made through {@code Query} and the
+	 * generated objects are reflected in it; changes made any other way (raw SQL, triggers)
+	 * are not.
+	 * @param ds
+	 * @param identityMap
+	 * @return success
+	 * @throws SQLException
+	 */
+	public boolean startTransaction(final DataSource ds, final boolean identityMap) throws SQLException {
+		if (!startTransaction(ds)) return false;
+		if (identityMap) identityMaps.put(ds, new IdentityMap());
+		return true;
+	}
+
+	static IdentityMap getIdentityMap(final DataSource ds) {
+		IdentityMap m = getThreadContext().identityMaps.get(ds);
+		if (m == null) m = getThreadGroupContext().identityMaps.get(ds);
+		if (m == null) m = getVMContext().identityMaps.get(ds);
+		return m;
+	}
+
+	/* remembers that cls was written in the transaction on ds, so its caches are invalidated again on commit */
+	static void wroteInTransaction(final DataSource ds, final Class<? extends Table> cls) {
+		final Context[] contexts = {getThreadContext(), getThreadGroupContext(), getVMContext()};
+		for (final Context context : contexts) {
+			if (!context.transactionConnections.containsKey(ds)) continue;
+			synchronized(context.transactionWrites) {
+				Set<Class<? extends Table>> written = context.transactionWrites.get(ds);
+				if (written == null) {
+					written = new HashSet<Class<? extends Table>>();
+					context.transactionWrites.put(ds, written);
+				}
+				written.add(cls);
+			}
+			return;
+		}
+	}
+
 	/**
 	 * Commits the current transaction.
 	 * @param ds
@@ -219,6 +381,8 @@ public class Context {
 	 */
 	public boolean commitTransaction(final DataSource ds) throws SQLException {
 		final Connection c = transactionConnections.remove(ds);
+		identityMaps.remove(ds);
+		final Set<Class<? extends Table>> written = transactionWrites.remove(ds);
 		if (c == null) return false;
 		if (Constants.DB_TYPE.detect(ds)==Constants.DB_TYPE.SQLITE3) {
 			Statement stmt = c.createStatement();
@@ -233,6 +397,14 @@ public class Context {
 			Util.log("connection.commit()", null);
 			c.commit();
 		}
+		// other transactions may have cached the old rows since we wrote them
+		if (written != null) {
+			for (final Class<? extends Table> cls : written) {
+				ResultCache.invalidate(cls);
+				RowCache.invalidateAll(cls);
+			}
+		}
+		StatementCache.closeAll(c);
 		c.close();
 		return true;
 	}
@@ -246,7 +418,10 @@ public class Context {
 	public boolean rollbackTransaction(final DataSource ds) {
 		final Connection c = transactionConnections.get(ds);
 		transactionConnections.remove(ds);
+		identityMaps.remove(ds);
+		transactionWrites.remove(ds);
 		if (c == null) return false;
+		StatementCache.closeAll(c);
 		try {
 			if (Constants.DB_TYPE.detect(ds)==Constants.DB_TYPE.SQLITE3) {
 				Statement stmt = c.createStatement();
@@ -293,7 +468,10 @@ public class Context {
 	public boolean rollbackTransactionThrowSQLException(final DataSource ds) throws SQLException {
 		final Connection c = transactionConnections.get(ds);
 		transactionConnections.remove(ds);
+		identityMaps.remove(ds);
+		transactionWrites.remove(ds);
 		if (c == null) return false;
+		StatementCache.closeAll(c);
 		try {
 			c.rollback();
 		} catch (final SQLException e) {
@@ -405,6 +583,104 @@ public class Context {
 		};
 	}
 
+	/**
+	 * Sets the second-level row cache for the specified class in this context. &nbsp;
+	 * (see {@code RowCache})  Pass null to turn off a cache set in a wider context.
+	 * @param cls
+	 * @param cache
+	 * @return
+	 */
+	public Undoer setRowCache(final Class<? extends Table> cls, final RowCache cache) {
+		Map<UUID, RowCache> map = classRowCaches.get(cls);
+		if (map == null) {
+			map = Collections.synchronizedMap(new LinkedHashMap<UUID, RowCache>());
+			classRowCaches.put(cls, map);
+		}
+		final UUID uuid = UUID.randomUUID();
+		map.put(uuid, cache);
+		final Map<UUID, RowCache> map2 = map;
+		return new Undoer() {
+			@Override
+			public void undo() {
+				map2.remove(uuid);
+			}
+		};
+	}
+
+	/**
+	 * Calls {@code task} with {@code thread} and {@code threadGroup} standing in for the current
+	 * thread's own thread and thread group contexts, so work handed from one thread to another
+	 * (see {@code Async}) sees the schema overrides, datasources, row caches, etc. of the thread
+	 * that handed it over. &nbsp; Pass {@code snapshot()}s rather than the live contexts.
+	 */
+	static <R> R callIn(final Context thread, final Context threadGroup, final Callable<R> task) throws Exception {
+		final Context oldThread = threadContextContainer.get();
+		final Context oldThreadGroup = threadGroupContextOverride.get();
+		threadContextContainer.set(thread);
+		threadGroupContextOverride.set(threadGroup);
+		try {
+			return task.call();
+		} finally {
+			threadContextContainer.set(oldThread);
+			threadGroupContextOverride.set(oldThreadGroup);
+		}
+	}
+
+	/**
+	 * A copy of this context's settings (schema overrides, datasources, row caches, executors,
+	 * etc.) as they are now, without its transactions or identity maps. &nbsp; Work handed to
+	 * another thread runs in these, so it never picks up a transaction connection the handing
+	 * thread starts in the meantime (a connection can't be used by two threads at once).
+	 */
+	Context snapshot() {
+		final Context copy = new Context();
+		copyNested(schemaOverrides, copy.schemaOverrides);
+		copy(enableUsageWarnings, copy.enableUsageWarnings);
+		copy(enableSelectOptimizations, copy.enableSelectOptimizations);
+		copy(enableStreaming, copy.enableStreaming);
+		copy(enableLazyFKBatching, copy.enableLazyFKBatching);
+		copy(enableLazyColumnBatching, copy.enableLazyColumnBatching);
+		copy(executors, copy.executors);
+		copy(defaultDataSource, copy.defaultDataSource);
+		copyNested(packageDataSources, copy.packageDataSources);
+		copyNested(classDataSources, copy.classDataSources);
+		copyNested(classRowCaches, copy.classRowCaches);
+		return copy;
+	}
+
+	private static <K,V> void copy(final Map<K,V> from, final Map<K,V> to) {
+		synchronized (from) {
+			to.putAll(from);
+		}
+	}
+
+	private static <K,K2,V> void copyNested(final Map<K,Map<K2,V>> from, final Map<K,Map<K2,V>> to) {
+		synchronized (from) {
+			for (final Map.Entry<K,Map<K2,V>> e : from.entrySet()) {
+				final Map<K2,V> map = Collections.synchronizedMap(new LinkedHashMap<K2,V>());
+				copy(e.getValue(), map);
+				to.put(e.getKey(), map);
+			}
+		}
+	}
+
+	/**
+	 * Sets the executor the {@code *Async()} query methods and {@code Query.prefetch()}
+	 * run on in this context.
+	 * @param executor
+	 * @return
+	 */
+	public Undoer setExecutor(final ExecutorService executor) {
+		final UUID uuid = UUID.randomUUID();
+		executors.put(uuid, executor);
+		return new Undoer() {
+			@Override
+			public void undo() {
+				executors.remove(uuid);
+			}
+		};
+	}
+
 	/**
 	 * Turns on and off warnings for "bad" usage patterns.
 	 * (like lazy loading fk relationships in a tight loop)
@@ -438,6 +714,56 @@ public class Context {
 		};
 	}
 
+	/**
+	 * Turns on and off streaming of query results for queries that don't specify it
+	 * themselves.  (see {@code Query.setStreaming()})
+	 * @param enable
+	 * @return
+	 */
+	public Undoer enableStreaming(final boolean enable) {
+		final UUID uuid = UUID.randomUUID();
+		enableStreaming.put(uuid, enable);
+		return new Undoer() {
+			@Override
+			public void undo() {
+				enableStreaming.remove(uuid);
+			}
+		};
+	}
+
+	/**
+	 * Turns on and off batched loading of lazy FKs for queries that don't specify it
+	 * themselves.  (see {@code Query.setLazyFKBatching()})
+	 * @param enable
+	 * @return
+	 */
+	public Undoer enableLazyFKBatching(final boolean enable) {
+		final UUID uuid = UUID.randomUUID();
+		enableLazyFKBatching.put(uuid, enable);
+		return new Undoer() {
+			@Override
+			public void undo() {
+				enableLazyFKBatching.remove(uuid);
+			}
+		};
+	}
+
+	/**
+	 * Turns on and off batched loading of deferred columns for queries that don't specify
+	 * it themselves.  (see {@code Query.setLazyColumnBatching()})
+	 * @param enable
+	 * @return
+	 */
+	public Undoer enableLazyColumnBatching(final boolean enable) {
+		final UUID uuid = UUID.randomUUID();
+		enableLazyColumnBatching.put(uuid, enable);
+		return new Undoer() {
+			@Override
+			public void undo() {
+				enableLazyColumnBatching.remove(uuid);
+			}
+		};
+	}
 
 	/**
 	 * Allows you to undo any context change. &nbsp; By default will automatically undo
@@ -473,6 +799,9 @@ public class Context {
 		}
 	};
 
+	/* set while a thread runs work handed over by another (see callIn()) */
+	private static ThreadLocal<Context> threadGroupContextOverride = new ThreadLocal<Context>();
+
 	private final Map<Tuple2<DataSource,String>,Map<UUID,String>> schemaOverrides =
 			Collections.synchronizedMap(new HashMap<Tuple2<DataSource,String>,Map<UUID,String>>());
 
@@ -482,6 +811,18 @@ public class Context {
 	private final Map<UUID,Boolean> enableSelectOptimizations =
 			Collections.synchronizedMap(new LinkedHashMap<UUID,Boolean>());
 
+	private final Map<DataSource,IdentityMap> identityMaps =
+			Collections.synchronizedMap(new HashMap<DataSource,IdentityMap>());
+	private final Map<UUID,Boolean> enableStreaming =
+			Collections.synchronizedMap(new LinkedHashMap<UUID,Boolean>());
+	private final Map<UUID,Boolean> enableLazyFKBatching =
+			Collections.synchronizedMap(new LinkedHashMap<UUID,Boolean>());
+	private final Map<UUID,Boolean> enableLazyColumnBatching =
+			Collections.synchronizedMap(new LinkedHashMap<UUID,Boolean>());
+
+	private final Map<UUID,ExecutorService> executors =
+			Collections.synchronizedMap(new LinkedHashMap<UUID,ExecutorService>());
+
 	private final Map<UUID,DataSource> defaultDataSource =
 			Collections.synchronizedMap(new LinkedHashMap<UUID,DataSource>());
 
@@ -491,6 +832,12 @@ public class Context {
 	private final Map<Class<?>,Map<UUID,DataSource>> classDataSources =
 			Collections.synchronizedMap(new LinkedHashMap<Class<?>,Map<UUID,DataSource>>());
 
+	private final Map<Class<?>,Map<UUID,RowCache>> classRowCaches =
+			Collections.synchronizedMap(new LinkedHashMap<Class<?>,Map<UUID,RowCache>>());
+
+	private final Map<DataSource,Set<Class<? extends Table>>> transactionWrites =
+			Collections.synchronizedMap(new HashMap<DataSource,Set<Class<? extends Table>>>());
+
 	private final Map<DataSource,Connection> transactionConnections =
 			Collections.synchronizedMap(new HashMap<DataSource,Connection>());
 
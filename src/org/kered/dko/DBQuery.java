@@ -18,6 +18,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
@@ -65,6 +69,16 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 	private boolean onlySelectFromFirstTableAndJoins = true;
 	List<Union<T>> unions = null;
 	private Integer timeout = null;
+	private Boolean streaming = null;
+	private Boolean lazyFKBatching = null;
+	private Boolean lazyColumnBatching = null;
+	private long resultCacheTTL = 0;
+	private int parallelism = 1;
+	private Field<? extends Number> parallelField = null;
+	// not copied - started by prefetch() and taken by the first iterator()
+	private AtomicReference<Future<List<Object[]>>> prefetched = null;
+	private long prefetchedRowCacheGeneration = 0;
+	boolean pipelined = false;
 
 	private TableInfo addTable(final Class<? extends Table> table) {
 		final String tableName = genTableName(table, usedTableNames);
@@ -134,6 +148,13 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			unions = new ArrayList<Union<T>>(q.unions);
 		}
 		timeout = q.timeout;
+		streaming = q.streaming;
+		lazyFKBatching = q.lazyFKBatching;
+		lazyColumnBatching = q.lazyColumnBatching;
+		resultCacheTTL = q.resultCacheTTL;
+		parallelism = q.parallelism;
+		parallelField = q.parallelField;
+		pipelined = q.pipelined;
 	}
 
 	DBQuery(final Class<T> tableClass) {
@@ -241,10 +262,55 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		this.onlySelectFromFirstTableAndJoins = false;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public Iterator<T> iterator() {
 		//sanityCheckToManyJoins();
-		return new SelectFromOAI<T>(this);
+		final DataSource ds = getDataSource();
+		final Future<List<Object[]>> f = prefetched == null ? null : prefetched.getAndSet(null);
+		if (f != null) {
+			try {
+				return new SelectFromOAI<T>(this, ResultCache.iterator(f.get()), ds, prefetchedRowCacheGeneration);
+			} catch (final InterruptedException e) {
+				throw new RuntimeException(e);
+			} catch (final ExecutionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+			}
+		}
+		if (resultCacheTTL <= 0 || Context.inTransaction(ds)) {
+			if (parallelism > 1) {
+				final long rowCacheGeneration = RowCache.generation();
+				final ParallelRowIterator rows = ParallelRowIterator.build(this, parallelism, parallelField);
+				if (rows != null) return new SelectFromOAI<T>(this, rows, ds, rowCacheGeneration);
+			}
+			return new SelectFromOAI<T>(this);
+		}
+		// row cache first: writes invalidate the result cache before the row cache
+		final long rowCacheGeneration = RowCache.generation();
+		final long generation = ResultCache.generation();
+		final DBRowIterator<T> rows = new DBRowIterator<T>(this, false);
+		final Tuple2<String, List<Object>> sql = rows.getCachedSQL(new SqlContext(this));
+		List<Object[]> cached = (List<Object[]>) cachedResult(ds, sql.a, sql.b);
+		if (cached == null) {
+			rows.preparedSQL = sql;
+			cached = new ArrayList<Object[]>();
+			while (rows.hasNext()) cached.add(rows.next());
+			cacheResult(ds, sql.a, sql.b, generation, cached);
+		}
+		return new SelectFromOAI<T>(this, ResultCache.iterator(cached), ds, rowCacheGeneration);
+	}
+
+	/* the cached result of sql, or null if there isn't one (or this query isn't cached) */
+	private Object cachedResult(final DataSource ds, final String sql, final List<Object> bindings) {
+		if (resultCacheTTL <= 0 || Context.inTransaction(ds)) return null;
+		return ResultCache.get(ds, sql, bindings);
+	}
+
+	private <R> R cacheResult(final DataSource ds, final String sql, final List<Object> bindings,
+			final long generation, final R result) {
+		if (resultCacheTTL <= 0 || Context.inTransaction(ds)) return result;
+		ResultCache.put(ds, sql, bindings, result, getAllTableInfos(), resultCacheTTL, generation);
+		return result;
 	}
 
 	private void sanityCheckToManyJoins() {
@@ -328,7 +394,11 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		final Tuple2<String, List<Object>> wcab = getWhereClauseAndBindings(context);
 		bindings.addAll(wcab.b);
 		final String sql = "select count(1)"+ fromClause + wcab.a;
-		final Tuple2<Connection,Boolean> connInfo = getConnR(getDataSource());
+		final DataSource ds = getDataSource();
+		final long generation = ResultCache.generation();
+		final Long cached = (Long) cachedResult(ds, sql, bindings);
+		if (cached != null) return cached;
+		final Tuple2<Connection,Boolean> connInfo = getConnR(ds);
 		final Connection conn = connInfo.a;
 		Util.log(sql, bindings);
 		PreparedStatement ps;
@@ -341,9 +411,9 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			rs.next();
 			final long count = rs.getLong(1);
 			rs.close();
-			ps.close();
+			StatementCache.release(ps);
 			_postExecute(context, conn);
-			return count;
+			return cacheResult(ds, sql, bindings, generation, count);
 		} catch (final SQLException e) {
 			throw e;
 		} finally {
@@ -457,8 +527,14 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			_preExecute(context, conn);
 			ps.execute();
 			final int count = ps.getUpdateCount();
-			ps.close();
+			StatementCache.release(ps);
 			_postExecute(context, conn);
+			final IdentityMap identityMap = Context.getIdentityMap(ds);
+			if (identityMap != null && count > 0) identityMap.updated(this, data);
+			if (count > 0) {
+				ResultCache.written(ds, ofType);
+				RowCache.written(ds, ofType);
+			}
 			return count;
 		} finally {
 			if (info.b) {
@@ -491,8 +567,8 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
-				return count;
+				StatementCache.release(ps);
+				return deleted(ds, count);
 			} else if (getDBType()==DB_TYPE.SQLITE3) {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("SQLITE3 multi-table delete " +
 						"is not yet supported");
@@ -502,8 +578,8 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
-				return count;
+				StatementCache.release(ps);
+				return deleted(ds, count);
 			} else if (getDBType()==DB_TYPE.SQLSERVER) {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("SQLSERVER multi-table delete " +
 						"is not yet supported");
@@ -514,8 +590,8 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
-				return count;
+				StatementCache.release(ps);
+				return deleted(ds, count);
 			} else {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("multi-table delete " +
 						"is not yet supported");
@@ -525,8 +601,8 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
-				return count;
+				StatementCache.release(ps);
+				return deleted(ds, count);
 			}
 		} finally {
 			if (info.b) {
@@ -536,6 +612,16 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		}
 	}
 
+	private int deleted(final DataSource ds, final int count) {
+		final IdentityMap identityMap = Context.getIdentityMap(ds);
+		if (identityMap != null && count > 0) identityMap.deleted(this);
+		if (count > 0) {
+			ResultCache.written(ds, ofType);
+			RowCache.written(ds, ofType);
+		}
+		return count;
+	}
+
 	@Override
 	public void truncate() throws SQLException {
 		final DBQuery<T> q = new DBQuery<T>(this);
@@ -559,7 +645,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			} else if (getDBType()==DB_TYPE.SQLITE3) {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("SQLITE3 multi-table truncate " +
@@ -570,7 +656,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			} else if (getDBType()==DB_TYPE.SQLSERVER) {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("SQLSERVER multi-table truncate " +
@@ -582,7 +668,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			} else {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("multi-table truncate " +
@@ -593,7 +679,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			}
 		} finally {
@@ -601,6 +687,10 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				if (!conn.getAutoCommit()) conn.commit();
 				conn.close();
 			}
+			ResultCache.written(ds, ofType);
+			RowCache.written(ds, ofType);
+			final IdentityMap identityMap = Context.getIdentityMap(ds);
+			if (identityMap != null) identityMap.evictAll(ofType);
 		}
 	}
 
@@ -627,7 +717,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			} else if (getDBType()==DB_TYPE.SQLITE3) {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("SQLITE3 multi-table alter " +
@@ -638,7 +728,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			} else if (getDBType()==DB_TYPE.SQLSERVER) {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("SQLSERVER multi-table alter " +
@@ -650,7 +740,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			} else {
 				if (q.tableInfos.size() > 1 || !q.joins.isEmpty()) throw new RuntimeException("multi-table alter " +
@@ -661,7 +751,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 				q.setBindings(ps, wcab.b);
 				ps.execute();
 				final int count = ps.getUpdateCount();
-				ps.close();
+				StatementCache.release(ps);
 				return;
 			}
 		} finally {
@@ -689,6 +779,90 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		};
 	}
 
+	/**
+	 * Describes everything that affects this query's select statement except its bound
+	 * values (the "a" list), plus those values in binding order (the "b" list). &nbsp;
+	 * Returns null for queries that can't be described this way. (inner queries, unions,
+	 * functions, etc.)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	Tuple2<List<Object>,List<Object>> getSQLFingerprint(final SqlContext context) {
+		if (unions != null || context.inInnerQuery() || context.fieldNameOverrides != null) return null;
+		final List<Object> key = new ArrayList<Object>();
+		final List<Object> bindings = new ArrayList<Object>();
+		key.add(ofType);
+		key.add(context.dbType);
+		key.add(context.tableNameMap == null);
+		for (final TableInfo ti : context.tableInfos) {
+			if (ti.innerQuery != null) return null;
+			key.add(ti.tableClass);
+			key.add(ti.tableName);
+			key.add(ti.nameAutogenned);
+			key.add(context.getFullTableName(ti));
+		}
+		key.add(tableInfos.size());
+		final List<Object> joinBindings = new ArrayList<Object>();
+		for (final List<JoinInfo> list : new List[] {joins, joinsToOne, joinsToMany}) {
+			key.add(list.size());
+			for (final JoinInfo join : list) {
+				key.add(join.type);
+				key.add(join.reffingTableInfo==null ? null : join.reffingTableInfo.tableName);
+				key.add(join.reffedTableInfo==null ? null : join.reffedTableInfo.tableName);
+				// join conditions are rendered but their values aren't bound (see getJoinClause)
+				if (join.condition != null && !join.condition.fingerprint(key, joinBindings)) return null;
+			}
+		}
+		if (!fingerprintSelects(onlySet, key)) return null;
+		if (!fingerprintSelects(deferSet, key)) return null;
+		if (!fingerprintSelects(groupBySet, key)) return null;
+		if (orderByExpressions != null) {
+			key.add(orderByExpressions.size());
+			for (final Expression.OrderBy<?> obe : orderByExpressions) {
+				if (obe instanceof Field) {
+					if (!((Field<?>) obe).fingerprint(key)) return null;
+				} else if (obe instanceof Field.OrderByField) {
+					if (!((Field.OrderByField<?>) obe).underlying.fingerprint(key)) return null;
+					key.add(((Field.OrderByField<?>) obe).direction);
+				} else {
+					return null;
+				}
+			}
+		} else {
+			key.add(null);
+		}
+		key.add(top);
+		key.add(distinct);
+		key.add(globallyAppliedSelectFunction);
+		key.add(includeCrossInSelect);
+		key.add(onlySelectFromFirstTableAndJoins);
+		if (conditions != null) {
+			key.add(conditions.size());
+			for (final Condition condition : conditions) {
+				if (!condition.fingerprint(key, bindings)) return null;
+			}
+		} else {
+			key.add(null);
+		}
+		// mirrors getWhereClauseAndBindings()
+		if (context.dbType==DB_TYPE.ORACLE && top>0 && joinsToMany.size()==0) {
+			bindings.add(top);
+		}
+		return new Tuple2<List<Object>,List<Object>>(key, bindings);
+	}
+
+	private static boolean fingerprintSelects(final Collection<? extends Expression.Select<?>> selects, final List<Object> key) {
+		if (selects == null) {
+			key.add(null);
+			return true;
+		}
+		key.add(selects.size());
+		for (final Expression.Select<?> select : selects) {
+			if (!(select instanceof Field)) return false;
+			if (!((Field<?>) select).fingerprint(key)) return false;
+		}
+		return true;
+	}
+
 	@SuppressWarnings("unchecked")
 	Tuple2<String,List<Object>> getWhereClauseAndBindings(final SqlContext context) {
 		final StringBuffer sb = new StringBuffer();
@@ -925,6 +1099,9 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			int i=1;
 			if (bindings!=null) {
 				for (Object o : bindings) {
+					if (o instanceof Param) {
+						throw new RuntimeException(o +" has no value - run this query with prepare().execute()");
+					}
 					o = main.__NOSCO_PRIVATE_mapType(o);
 					Util.setBindingWithTypeFixes(ps, i, o);
 					++i;
@@ -1001,8 +1178,9 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			_preExecute(context, conn);
 			ps.execute();
 			final int count = ps.getUpdateCount();
-			ps.close();
+			StatementCache.release(ps);
 			_postExecute(context, conn);
+			if (count > 0) ResultCache.written(ds, ofType);
 
 			if (count==1) {
 				if (getDBType()==DB_TYPE.MYSQL) {
@@ -1053,7 +1231,7 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 
 	PreparedStatement createPS(final String sql, final Connection conn)
 			throws SQLException {
-		PreparedStatement ps = conn.prepareStatement(sql);
+		final PreparedStatement ps = StatementCache.prepare(conn, sql);
 		if (timeout != null) ps.setQueryTimeout(timeout);
 		return ps;
 	}
@@ -1370,8 +1548,12 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		sql = "select "+ Util.derefField(byField, context)
 				+ sums + sql
 				+" group by "+ Util.derefField(byField, context);
+		final DataSource ds = getDataSource();
+		final long generation = ResultCache.generation();
+		final Object cached = cachedResult(ds, sql, bindings);
+		if (cached != null) return (Map<R, Map<Field<S>, S>>) cached;
 		Util.log(sql, null);
-		final Tuple2<Connection,Boolean> connInfo = getConnR(getDataSource());
+		final Tuple2<Connection,Boolean> connInfo = getConnR(ds);
 		final Connection conn = connInfo.a;
 		final PreparedStatement ps = createPS(sql, conn);
 		setBindings(ps, bindings);
@@ -1387,11 +1569,11 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			result.put(key, value);
 		}
 		rs.close();
-		ps.close();
+		StatementCache.release(ps);
 		if (connInfo.b) {
 			conn.close();
 		}
-		return result;
+		return cacheResult(ds, sql, bindings, generation, result);
 	}
 
 	@Override
@@ -1450,8 +1632,12 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		bindings.addAll(wcab.b);
 		String sql = fromClause + wcab.a;
 		sql = "select "+ function +"("+ Util.derefField(sumField, context) +")"+ sql;
+		final DataSource ds = getDataSource();
+		final long generation = ResultCache.generation();
+		final Object cached = cachedResult(ds, sql, bindings);
+		if (cached != null) return (S) cached;
 		Util.log(sql, null);
-		final Tuple2<Connection,Boolean> connInfo = getConnR(getDataSource());
+		final Tuple2<Connection,Boolean> connInfo = getConnR(ds);
 		final Connection conn = connInfo.a;
 		final PreparedStatement ps = createPS(sql, conn);
 		setBindings(ps, bindings);
@@ -1461,12 +1647,12 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		rs.next();
 		final S ret = Util.getTypedValueFromRS(rs, 1, sumField);
 		rs.close();
-		ps.close();
+		StatementCache.release(ps);
 		_postExecute(context, conn);
 		if (connInfo.b) {
 			conn.close();
 		}
-		return ret;
+		return cacheResult(ds, sql, bindings, generation, ret);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1482,8 +1668,12 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		sql = "select "+ Util.derefField(byField, context)
 				+", count("+ Util.derefField(byField, context) +")"+ sql
 				+" group by "+ Util.derefField(byField, context);
+		final DataSource ds = getDataSource();
+		final long generation = ResultCache.generation();
+		final Object cached = cachedResult(ds, sql, bindings);
+		if (cached != null) return (Map<S, Integer>) cached;
 		Util.log(sql, null);
-		final Tuple2<Connection,Boolean> connInfo = getConnR(getDataSource());
+		final Tuple2<Connection,Boolean> connInfo = getConnR(ds);
 		final Connection conn = connInfo.a;
 		final PreparedStatement ps = createPS(sql, conn);
 		setBindings(ps, bindings);
@@ -1500,12 +1690,12 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 			result.put(key, value);
 		}
 		rs.close();
-		ps.close();
+		StatementCache.release(ps);
 		_postExecute(context, conn);
 		if (connInfo.b) {
 			conn.close();
 		}
-		return (Map<S, Integer>) result;
+		return (Map<S, Integer>) cacheResult(ds, sql, bindings, generation, result);
 	}
 
 	@Override
@@ -1578,8 +1768,36 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		return getDefaultDataSource();
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public T get(final __PrimaryKey<T> pk) {
+		if ((conditions==null || conditions.isEmpty()) && tableInfos.size()==1 && joins.isEmpty()
+				&& joinsToOne.isEmpty() && joinsToMany.isEmpty() && unions==null) {
+			final DataSource ds = getDataSource();
+			final IdentityMap identityMap = Context.getIdentityMap(ds);
+			if (identityMap != null) {
+				final T t = identityMap.get(ofType, pk);
+				if (t != null) return t;
+			}
+			final RowCache rowCache = Context.getRowCache(ofType);
+			if (rowCache != null && onlySet == null && deferSet == null) {
+				final Object key = RowCache.key(ds, pk);
+				final Object[] values = rowCache.get(key);
+				T t = values == null ? null : RowCache.build(ofType, values, ds);
+				if (t == null) {
+					final long generation = RowCache.generation();
+					t = get(Util.getPK(ofType).eq(pk));
+					// only cache committed rows
+					if (t != null && !Context.inTransaction(ds)) {
+						final Object[] tValues = RowCache.values(t);
+						if (tValues != null) rowCache.put(generation, key, tValues);
+					}
+				} else if (identityMap != null) {
+					t = (T) identityMap.canonical(t);
+				}
+				return t;
+			}
+		}
 		return get(Util.getPK(ofType).eq(pk));
 	}
 
@@ -1950,6 +2168,132 @@ class DBQuery<T extends Table> extends AbstractQuery<T> {
 		return q;
 	}
 
+	@Override
+	public Query<T> setStreaming(boolean enable) {
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.streaming = enable;
+		return q;
+	}
+
+	@Override
+	public Query<T> prefetch() {
+		final DataSource ds = getDataSource();
+		if (Context.inTransaction(ds)) return this;
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.ds = ds;
+		final DBRowIterator<T> rows = new DBRowIterator<T>(q, false);
+		// generate the SQL here, where the caller's Context (schema overrides, etc.) applies
+		rows.preparedSQL = rows.getCachedSQL(new SqlContext(q));
+		q.prefetchedRowCacheGeneration = RowCache.generation();
+		q.prefetched = new AtomicReference<Future<List<Object[]>>>(Async.submit(ds, new Callable<List<Object[]>>() {
+			@Override
+			public List<Object[]> call() {
+				final List<Object[]> ret = new ArrayList<Object[]>();
+				while (rows.hasNext()) ret.add(rows.next());
+				return ret;
+			}
+		}));
+		return q;
+	}
+
+	@Override
+	public Query<T> parallel(final int n) {
+		return parallel(n, null);
+	}
+
+	@Override
+	public Query<T> parallel(final int n, final Field<? extends Number> field) {
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.parallelism = n;
+		q.parallelField = field;
+		return q;
+	}
+
+	@Override
+	public List<Query<T>> split(final int n, final Field<? extends Number> field) {
+		final List<DBQuery<T>> parts = ParallelRowIterator.split(this, n, field);
+		if (parts == null) return super.split(n, field);
+		return new ArrayList<Query<T>>(parts);
+	}
+
+	@Override
+	public ColumnIterator.OfLong longIterator(final Field<? extends Number> field) {
+		return new ColumnIterator.OfLong(columnSource(field));
+	}
+
+	@Override
+	public ColumnIterator.OfDouble doubleIterator(final Field<? extends Number> field) {
+		return new ColumnIterator.OfDouble(columnSource(field));
+	}
+
+	@Override
+	public ColumnIterator.OfInt intIterator(final Field<? extends Number> field) {
+		return new ColumnIterator.OfInt(columnSource(field));
+	}
+
+	private ColumnIterator.Source columnSource(final Field<? extends Number> field) {
+		final DBRowIterator<T> rows = new DBRowIterator<T>(onlyFields(Collections.<Field<?>>singletonList(field)), false);
+		final int column = rows.columnOf(field);
+		if (column == 0) throw new IllegalArgumentException(field +" is not selectable from "+ this);
+		return ColumnIterator.source(rows, column);
+	}
+
+	@Override
+	public Query<T> pageAfter(final T lastRow, final int pageSize) {
+		if (pageSize < 1) throw new IllegalArgumentException("pageSize must be positive: "+ pageSize);
+		final Keyset keyset = new Keyset(this);
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.orderByExpressions = null;
+		Query<T> ret = q.orderBy(keyset.orderBy());
+		if (lastRow != null) ret = ret.where(keyset.after(lastRow, getDBType()));
+		return ret.top(pageSize);
+	}
+
+	@Override
+	public Query<T> cached(final long ttlMillis) {
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.resultCacheTTL = ttlMillis;
+		return q;
+	}
+
+	@Override
+	public Query<T> setLazyFKBatching(boolean enable) {
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.lazyFKBatching = enable;
+		return q;
+	}
+
+	boolean isLazyFKBatching() {
+		return lazyFKBatching==null ? Context.lazyFKBatchingEnabled() : lazyFKBatching;
+	}
+
+	@Override
+	public Query<T> setLazyColumnBatching(boolean enable) {
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.lazyColumnBatching = enable;
+		return q;
+	}
+
+	boolean isLazyColumnBatching() {
+		return lazyColumnBatching==null ? Context.lazyColumnBatchingEnabled() : lazyColumnBatching;
+	}
+
+	@Override
+	public PreparedQuery<T> prepare(final Param<?>... params) {
+		return new PreparedQuery<T>(new DBQuery<T>(this), params);
+	}
+
+	@Override
+	public Query<T> setPipelined(boolean enable) {
+		final DBQuery<T> q = new DBQuery<T>(this);
+		q.pipelined = enable;
+		return q;
+	}
+
+	boolean isStreaming() {
+		return streaming==null ? Context.streamingEnabled() : streaming;
+	}
+
 	@Override
 	public Query<T> orderBy(Expression.OrderBy<?>... obes) {
 		final DBQuery<T> q = new DBQuery<T>(this);
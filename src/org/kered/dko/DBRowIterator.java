@@ -11,9 +11,7 @@ import java.sql.SQLException;
 import java.sql.SQLRecoverableException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -24,27 +22,38 @@ import org.kered.dko.Expression.Select;
 import org.kered.dko.Tuple.Tuple2;
 
 
-class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[]> {
+class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[]>, RowRecycler {
 
 	private static final int BATCH_SIZE = 2048;
 
+	/*
+	 * when streaming we only buffer as many rows as the driver fetches per round trip,
+	 * so memory stays flat no matter how big the result set is.
+	 */
+	private static final int STREAMING_BATCH_SIZE = 256;
+	private static final int POSTGRES_FETCH_SIZE = 1000;
+	private static final int ORACLE_FETCH_SIZE = 500;
+	private static final int SQLSERVER_FETCH_SIZE = 1000;
+	private static final int HSQL_FETCH_SIZE = 1000;
+
 	@Override
 	protected void finalize() throws Throwable {
 		super.finalize();
 		close();
 		if (rs != null && !rs.isClosed()) rs.close();
-		if (ps != null && !ps.isClosed()) ps.close();
+		if (ps != null) StatementCache.release(ps);
 	}
 
 	private static final Logger log = Logger.getLogger("org.kered.dko.DBRowIterator");
 
 	final DBQuery<T> query;
-	private PreparedStatement ps;
+	private volatile PreparedStatement ps;
 	private ResultSet rs;
 	Select<?>[] selectedFields;
 	private Expression.Select<?>[] selectedBoundFields;
+	private ValueReader<?>[] readers;
 	private Connection conn;
-	private final Queue<Object[]> nextRows = new LinkedList<Object[]>();
+	private final RowBuffer nextRows;
 	private boolean done = false;
 	Object[] lastFieldValues;
 	private boolean shouldCloseConnection = true;
@@ -53,6 +62,10 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 	final UsageMonitor<T> usageMonitor;
 	private boolean initted = false;
 	long count = 0;
+	private int batchSize = BATCH_SIZE;
+	private boolean restoreAutoCommit = false;
+	/* set by PreparedQuery: already generated and bound SQL */
+	Tuple2<String,List<Object>> preparedSQL = null;
 
 	private final Constructor<T> joinConstructor = null;
 
@@ -74,6 +87,7 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 		this.query = usageMonitor==null ? dbQuery : usageMonitor.getSelectOptimizedQuery();
 		final List<Select<?>> selectFieldsList = query.getSelectFields(false);
 		selectedFields = selectFieldsList.toArray(new Expression.Select<?>[0]);
+		nextRows = new RowBuffer(selectedFields.length, BATCH_SIZE);
 		if (this.usageMonitor!=null) {
 			this.usageMonitor.setSelectedFields(selectedFields);
 		}
@@ -88,7 +102,11 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 			conn = connInfo.a;
 			shouldCloseConnection  = connInfo.b;
 			context  = new SqlContext(query);
-			final Tuple2<String, List<Object>> ret = getSQL(context);
+			readers = new ValueReader<?>[selectedFields.length];
+			for (int i=0; i<selectedFields.length; ++i) {
+				readers[i] = ValueReader.forSelect(selectedFields[i], context.dbType);
+			}
+			final Tuple2<String, List<Object>> ret = preparedSQL!=null ? preparedSQL : getCachedSQL(context);
 			sql = ret.a;
 			Util.log(sql, ret.b);
 			query._preExecute(context, conn);
@@ -96,6 +114,7 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 			if (context.dbType==DB_TYPE.DERBY && query.top>0 && query.joinsToMany.size()==0) {
 				ps.setMaxRows((int) query.top);
 			}
+			if (query.isStreaming()) setupStreaming();
 			query.setBindings(ps, ret.b);
 			ps.execute();
 			rs = ps.getResultSet();
@@ -117,6 +136,40 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 		initted  = true;
 	}
 
+	private void setupStreaming() throws SQLException {
+		switch (context.dbType) {
+		case MYSQL:
+			// connector/j only streams forward-only, read-only result sets with this magic value
+			ps.setFetchSize(Integer.MIN_VALUE);
+			batchSize = STREAMING_BATCH_SIZE;
+			break;
+		case POSTGRES:
+			// the postgres driver ignores the fetch size (and buffers everything) unless
+			// we're inside a transaction.  if this is our own connection, open a private one.
+			if (shouldCloseConnection && conn.getAutoCommit()) {
+				conn.setAutoCommit(false);
+				restoreAutoCommit = true;
+			}
+			ps.setFetchSize(POSTGRES_FETCH_SIZE);
+			batchSize = STREAMING_BATCH_SIZE;
+			break;
+		case ORACLE:
+			ps.setFetchSize(ORACLE_FETCH_SIZE);
+			batchSize = ORACLE_FETCH_SIZE;
+			break;
+		case SQLSERVER:
+			ps.setFetchSize(SQLSERVER_FETCH_SIZE);
+			batchSize = SQLSERVER_FETCH_SIZE;
+			break;
+		case HSQL:
+			ps.setFetchSize(HSQL_FETCH_SIZE);
+			batchSize = HSQL_FETCH_SIZE;
+			break;
+		default:
+			log.fine("streaming not supported for "+ context.dbType +", buffering results");
+		}
+	}
+
 	protected String getSQL() {
 		return getSQL(new SqlContext(query)).a;
 	}
@@ -125,6 +178,22 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 		return query;
 	}
 
+	/**
+	 * Like {@code getSQL()}, but reuses the SQL generated for earlier queries of the same
+	 * shape when it can.
+	 */
+	Tuple2<String,List<Object>> getCachedSQL(final SqlContext context) {
+		final Tuple2<List<Object>, List<Object>> fingerprint = query.getSQLFingerprint(context);
+		if (fingerprint == null) return getSQL(context);
+		final String sql = SqlCache.get(fingerprint.a);
+		if (sql != null) {
+			return new Tuple2<String,List<Object>>(sql, fingerprint.b);
+		}
+		final Tuple2<String, List<Object>> ret = getSQL(context);
+		SqlCache.put(fingerprint.a, ret.a, ret.b, fingerprint.b);
+		return ret;
+	}
+
 	protected Tuple2<String,List<Object>> getSQL(final SqlContext context) {
 		selectedBoundFields = query.getSelectFields(true).toArray(new Expression.Select<?>[0]);
 		final StringBuffer sb = new StringBuffer();
@@ -227,7 +296,7 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 	public Object[] peek() {
 		if (!done && nextRows.isEmpty()) {
 			try {
-				readNextRows(BATCH_SIZE);
+				readNextRows(batchSize);
 			} catch (final SQLException e) {
 				throw new RuntimeException(e);
 			}
@@ -239,6 +308,76 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 		else return nextRows.peek();
 	}
 
+	/**
+	 * Sizes the next reads (and the driver's fetch size) to what the consumer has asked for,
+	 * so rows nobody has asked for yet aren't buffered. &nbsp; Only call this from the thread
+	 * reading the rows.
+	 */
+	void demand(final long n) {
+		// streaming queries have their fetch sizes set by setupStreaming()
+		if (query.isStreaming()) return;
+		batchSize = (int) Math.max(1, Math.min(n, BATCH_SIZE));
+		if (rs == null) return;
+		try {
+			rs.setFetchSize(batchSize);
+		} catch (final SQLException e) {
+			/* it's only a hint */
+		}
+	}
+
+	/**
+	 * Cancels the statement being executed or read (from any thread). &nbsp; The reading
+	 * thread sees an exception (or the end of the rows) and should then {@code close()}.
+	 */
+	void cancel() {
+		final PreparedStatement ps = this.ps;
+		if (ps == null) return;
+		try {
+			ps.cancel();
+		} catch (final SQLException e) {
+			/* some drivers don't support cancel */
+		} catch (final AbstractMethodError e) {
+			/* bad jdbc driver */
+		}
+	}
+
+	/**
+	 * Advances the result set without reading any values, for callers that read columns
+	 * straight from {@code resultSet()} (see {@code ColumnIterator}). &nbsp; Don't mix with
+	 * {@code next()}.
+	 * @return false (and closes) at the end of the rows
+	 */
+	boolean nextRaw() throws SQLException {
+		if (!initted) init();
+		if (rs == null || done) return false;
+		if (query.top>0 && count >= query.top) {
+			close();
+			return false;
+		}
+		if (!rs.next()) {
+			finishedNatually = true;
+			close();
+			return false;
+		}
+		++count;
+		return true;
+	}
+
+	ResultSet resultSet() {
+		return rs;
+	}
+
+	/* the 1-based result set column of field, or 0 if it isn't selected */
+	int columnOf(final Field<?> field) {
+		for (int i=0; i<selectedFields.length; ++i) {
+			if (selectedFields[i] == field) return i+1;
+		}
+		for (int i=0; i<selectedFields.length; ++i) {
+			if (field.sameField(selectedFields[i])) return i+1;
+		}
+		return 0;
+	}
+
 	private int readNextRows(final int max) throws SQLException {
 		if (rs == null) return 0;
 		int c = 0;
@@ -249,11 +388,10 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 				return c;
 			}
 			++c;
-			final Object[] nextRow = new Object[selectedFields.length];
+			final Object[] nextRow = nextRows.add();
 			for (int i=0; i<selectedFields.length; ++i) {
-				nextRow[i] = Util.getTypedValueFromRS(rs, i+1, selectedFields[i]);
+				nextRow[i] = readers[i].read(rs, i+1);
 			}
-			nextRows.add(nextRow);
 			if (usageMonitor!=null) ++usageMonitor.rowCount;
 		}
 		//preFetchOtherJoins();
@@ -305,7 +443,8 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 			}
 		}
 		try {
-			if (ps!=null && !ps.isClosed()) ps.close();
+			if (ps!=null) StatementCache.release(ps);
+			ps = null;
 		} catch (final SQLException e1) {
 			e1.printStackTrace();
 		} catch (final AbstractMethodError e) {
@@ -320,6 +459,18 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 		} catch (final SQLException e1) {
 			e1.printStackTrace();
 		}
+		if (restoreAutoCommit) {
+			try {
+				// end our private read transaction
+				if (conn!=null && !conn.isClosed()) {
+					conn.commit();
+					conn.setAutoCommit(true);
+				}
+			} catch (final SQLException e) {
+				e.printStackTrace();
+			}
+			restoreAutoCommit = false;
+		}
 		if (shouldCloseConnection) {
 			try {
 				if (conn!=null && !conn.isClosed()) conn.close();
@@ -338,6 +489,14 @@ class DBRowIterator<T extends Table> implements PeekableClosableIterator<Object[
 		done = true;
 	}
 
+	/**
+	 * Lets the consumer hand back a row returned by {@code next()} once it's done with it.
+	 */
+	@Override
+	public void recycle(final Object[] row) {
+		nextRows.recycle(row);
+	}
+
 	@Override
 	public void remove() {
 		throw new UnsupportedOperationException();
@@ -515,6 +515,16 @@ public class Field<T> implements Cloneable, Expression.OrderBy<T>, Expression.Se
 		return new Condition.In(this, " in ", (Object[]) fields);
 	}
 
+	/**
+	 * Creates a condition representing this field being equal to one of the given
+	 * parameters of a prepared query.
+	 * @param params
+	 * @return
+	 */
+	public Condition in(final Param<T>... params) {
+		return new Condition.In(this, " in ", (Object[]) params);
+	}
+
 	/**
 	 * Creates a condition representing this field being a member of the given set.
 	 * If this collection is large a temporary table is created and joined against.
@@ -1120,6 +1130,17 @@ public class Field<T> implements Cloneable, Expression.OrderBy<T>, Expression.Se
 		return this.boundTable!=null || this.boundTableInfo!=null;
 	}
 
+	/**
+	 * Adds what identifies this field in generated SQL to a query fingerprint.
+	 * (see {@code Condition.fingerprint()})
+	 */
+	boolean fingerprint(final List<Object> key) {
+		if (getClass() != Field.class) return false;
+		key.add(this);
+		key.add(boundTableInfo==null ? null : boundTableInfo.tableName);
+		return true;
+	}
+
 	boolean sameField(final Expression.Select<?> other) {
 		if (this == other)
 			return true;
@@ -186,7 +186,7 @@ class FilteringQuery<T extends Table> extends AbstractQuery<T> implements Matryo
 				if (top > -1 && count >= top) return false;
 				while (i.hasNext()) {
 					T candidate = i.next();
-					if (condition.matches(candidate)) {
+					if (condition.compiled().matches(candidate)) {
 						next = candidate;
 						return true;
 					}
@@ -0,0 +1,243 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.kered.dko.Field.FK;
+import org.kered.dko.Field.PK;
+import org.kered.dko.Table.__PrimaryKey;
+
+/**
+ * Maps (table class, primary key) to the one instance loaded for that row within a
+ * transaction. &nbsp; Created by {@code Context.startTransaction(ds, true)} and dropped when the
+ * transaction ends. &nbsp; Queries run inside the transaction return the already loaded
+ * instance instead of a new copy, FK getters and {@code get(pk)} are served from it without
+ * a query, and updates and deletes run through {@code Query} are applied to (or evicted
+ * from) it so it never serves stale rows. &nbsp; Rows written by {@code Bulk} are evicted, and
+ * a truncate evicts the whole table.
+ */
+class IdentityMap {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.IdentityMap");
+
+	private static final Map<Class<?>,List<Field<?>>> pkFields = new ConcurrentHashMap<Class<?>,List<Field<?>>>();
+
+	private final Map<Class<? extends Table>,Map<Object,Table>> objects =
+			new HashMap<Class<? extends Table>,Map<Object,Table>>();
+
+	/**
+	 * Returns the instance already mapped for this row (with any columns it hadn't loaded
+	 * filled in from {@code t}), or maps and returns {@code t} if there isn't one (or it has
+	 * no primary key).
+	 */
+	synchronized Table canonical(final Table t) {
+		final Object key = key(t);
+		if (key == null) return t;
+		Map<Object, Table> map = objects.get(t.getClass());
+		if (map == null) {
+			map = new HashMap<Object,Table>();
+			objects.put(t.getClass(), map);
+		}
+		final Table existing = map.get(key);
+		if (existing == null) {
+			map.put(key, t);
+			return t;
+		}
+		fillIn(existing, t);
+		return existing;
+	}
+
+	/* copies over the columns t fetched that existing hasn't (like ones deferred when it was loaded) */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static void fillIn(final Table existing, final Table t) {
+		if (t.__NOSCO_FETCHED_VALUES == null || existing.__NOSCO_FETCHED_VALUES == null) return;
+		for (final Field field : Util.getFIELDS(t.getClass())) {
+			if (!t.__NOSCO_FETCHED_VALUES.get(field.INDEX) || existing.__NOSCO_FETCHED_VALUES.get(field.INDEX)) continue;
+			existing.set(field, t.get(field));
+			if (existing.__NOSCO_UPDATED_VALUES != null) existing.__NOSCO_UPDATED_VALUES.clear(field.INDEX);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	synchronized <T extends Table> T get(final Class<T> cls, final __PrimaryKey<T> pk) {
+		final Map<Object, Table> map = objects.get(cls);
+		if (map == null) return null;
+		final List<Field<?>> fields = pk.FIELDS();
+		if (fields.size() == 1) return (T) map.get(pk.get(fields.get(0)));
+		final List<Object> key = new ArrayList<Object>(fields.size());
+		for (final Field<?> field : fields) key.add(pk.get(field));
+		return (T) map.get(key);
+	}
+
+	/**
+	 * Sets {@code fk} on {@code t} if the referenced row is already mapped.
+	 * @return true if it was set
+	 */
+	@SuppressWarnings("rawtypes")
+	boolean loadFK(final Table t, final FK<?> fk) {
+		final Field[] reffing = fk.REFERENCING_FIELDS();
+		final Field[] reffed = fk.REFERENCED_FIELDS();
+		if (!pkFields(fk.referenced).equals(Arrays.asList(reffed))) return false;
+		final Object key;
+		if (reffing.length == 1) {
+			key = t.get(reffing[0]);
+		} else {
+			final List<Object> tmp = new ArrayList<Object>(reffing.length);
+			for (final Field f : reffing) tmp.add(t.get(f));
+			key = tmp;
+		}
+		final Table found;
+		synchronized (this) {
+			final Map<Object, Table> map = objects.get(fk.referenced);
+			found = map == null || key == null ? null : map.get(key);
+		}
+		if (found == null) return false;
+		try {
+			Table.__Factory.of((Class) t.getClass()).setFK(t, fk, found);
+			return true;
+		} catch (final RuntimeException e) {
+			log.warning("could not set "+ fk +": "+ e);
+			return false;
+		}
+	}
+
+	/**
+	 * Applies an update run through {@code q} to the mapped instances it matches.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	synchronized void updated(final DBQuery<?> q, final Map<Field<?>,Object> data) {
+		final Map<Object, Table> map = objects.get(q.ofType);
+		if (map == null) return;
+		boolean computed = false;
+		for (final Object v : data.values()) {
+			if (v instanceof Field || v instanceof SQLFunction) computed = true;
+		}
+		for (final Iterator<Table> it = map.values().iterator(); it.hasNext();) {
+			final Table t = it.next();
+			final Boolean matches = matches(q, t);
+			if (matches == null) {
+				// can't tell which rows changed
+				map.clear();
+				return;
+			}
+			if (!matches) continue;
+			if (computed) {
+				it.remove();
+				continue;
+			}
+			for (final Entry<Field<?>, Object> e : data.entrySet()) {
+				final Field field = e.getKey();
+				t.set(field, e.getValue());
+				if (t.__NOSCO_UPDATED_VALUES != null) t.__NOSCO_UPDATED_VALUES.clear(field.INDEX);
+			}
+		}
+		// a changed primary key would leave the instance under its old key
+		for (final Field<?> field : data.keySet()) {
+			if (pkFields(q.ofType).contains(field)) map.clear();
+		}
+	}
+
+	/**
+	 * Evicts the mapped instances matched by a delete run through {@code q}.
+	 */
+	synchronized void deleted(final DBQuery<?> q) {
+		final Map<Object, Table> map = objects.get(q.ofType);
+		if (map == null) return;
+		for (final Iterator<Table> it = map.values().iterator(); it.hasNext();) {
+			final Boolean matches = matches(q, it.next());
+			if (matches == null) {
+				map.clear();
+				return;
+			}
+			if (matches) it.remove();
+		}
+	}
+
+	/**
+	 * Evicts the mapped instance for {@code t}'s row if it's some other instance, after
+	 * {@code t} was updated without a query (like by {@code Bulk}).
+	 */
+	synchronized void written(final Table t) {
+		final Map<Object, Table> map = objects.get(t.getClass());
+		if (map == null) return;
+		final Object key = key(t, false);
+		if (key == null) map.clear();
+		else if (map.get(key) != t) map.remove(key);
+	}
+
+	/**
+	 * Evicts the mapped instance for {@code t}'s row, after it was deleted without a query.
+	 */
+	synchronized void evict(final Table t) {
+		final Map<Object, Table> map = objects.get(t.getClass());
+		if (map == null) return;
+		final Object key = key(t, false);
+		if (key == null) map.clear();
+		else map.remove(key);
+	}
+
+	/**
+	 * Evicts every mapped instance of {@code cls}, for writes that can't be tracked row by row.
+	 */
+	synchronized void evictAll(final Class<? extends Table> cls) {
+		objects.remove(cls);
+	}
+
+	/* null if we can't evaluate the query's conditions in memory */
+	private static Boolean matches(final DBQuery<?> q, final Table t) {
+		if (!q.joins.isEmpty() || q.tableInfos.size() > 1) return null;
+		if (q.conditions == null) return true;
+		try {
+			for (final Condition c : q.conditions) {
+				if (!c.compiled().matches(t)) return false;
+			}
+			return true;
+		} catch (final RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static Object key(final Table t) {
+		return key(t, true);
+	}
+
+	/* fetched: only if the primary key came from the database (vs. set on a new object) */
+	private static Object key(final Table t, final boolean fetched) {
+		final List<Field<?>> fields = pkFields(t.getClass());
+		if (fields.isEmpty()) return null;
+		if (fetched) {
+			if (t.__NOSCO_FETCHED_VALUES == null) return null;
+			for (final Field<?> field : fields) {
+				if (!t.__NOSCO_FETCHED_VALUES.get(field.INDEX)) return null;
+			}
+		} else {
+			for (final Field<?> field : fields) {
+				if (t.get(field) == null) return null;
+			}
+		}
+		if (fields.size() == 1) return t.get(fields.get(0));
+		final List<Object> key = new ArrayList<Object>(fields.size());
+		for (final Field<?> field : fields) key.add(t.get(field));
+		return key;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static List<Field<?>> pkFields(final Class<?> cls) {
+		List<Field<?>> fields = pkFields.get(cls);
+		if (fields == null) {
+			final PK<?> pk = Util.getPK((Class) cls);
+			fields = pk == null ? Collections.<Field<?>>emptyList() : pk.GET_FIELDS();
+			pkFields.put(cls, fields);
+		}
+		return fields;
+	}
+
+}
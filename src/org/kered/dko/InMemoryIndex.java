@@ -0,0 +1,230 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index over one field of an {@code InMemoryQuery}'s rows, built once when
+ * {@code hashIndex()} or {@code sortedIndex()} is called. &nbsp; Lookups return the
+ * positions of the candidate rows in the query's row order, so a {@code where()} served
+ * from an index returns rows in the same order a full scan would. &nbsp; A hash index
+ * serves {@code eq()} and {@code in()}. &nbsp; A sorted index serves those plus
+ * {@code gt()}, {@code gte()}, {@code lt()}, {@code lte()}, {@code between()} and
+ * {@code orderBy()} on its field.
+ */
+class InMemoryIndex<T extends Table> {
+
+	private static final int[] NONE = new int[0];
+
+	final Field<?> field;
+	final boolean sorted;
+	private final Map<Object,int[]> hash;
+	/* for sorted indexes, the non-null values in order, and the row each came from */
+	@SuppressWarnings("rawtypes")
+	private final Comparable[] keys;
+	private final int[] positions;
+	/* the rows with a null value, in row order */
+	private final int[] nulls;
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	InMemoryIndex(final List<T> rows, final Field<?> field, final boolean sorted) {
+		this.field = field;
+		this.sorted = sorted;
+		final int n = rows.size();
+		if (!sorted) {
+			final Map<Object,List<Integer>> tmp = new HashMap<Object,List<Integer>>();
+			for (int i=0; i<n; ++i) {
+				final Object v = value(rows, i, field);
+				List<Integer> list = tmp.get(v);
+				if (list == null) {
+					list = new ArrayList<Integer>(1);
+					tmp.put(v, list);
+				}
+				list.add(i);
+			}
+			hash = new HashMap<Object,int[]>(tmp.size() * 4 / 3 + 1);
+			for (final Map.Entry<Object,List<Integer>> e : tmp.entrySet()) {
+				hash.put(e.getKey(), toArray(e.getValue()));
+			}
+			keys = null;
+			positions = null;
+			nulls = hash.containsKey(null) ? hash.get(null) : NONE;
+			return;
+		}
+		hash = null;
+		final List<Integer> nonNull = new ArrayList<Integer>(n);
+		final List<Integer> nullList = new ArrayList<Integer>();
+		final Comparable[] values = new Comparable[n];
+		for (int i=0; i<n; ++i) {
+			values[i] = (Comparable) value(rows, i, field);
+			if (values[i] == null) nullList.add(i);
+			else nonNull.add(i);
+		}
+		final Integer[] order = nonNull.toArray(new Integer[nonNull.size()]);
+		// stable, so equal values stay in row order
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer a, final Integer b) {
+				return values[a].compareTo(values[b]);
+			}
+		});
+		keys = new Comparable[order.length];
+		positions = new int[order.length];
+		for (int i=0; i<order.length; ++i) {
+			positions[i] = order[i];
+			keys[i] = values[order[i]];
+		}
+		nulls = toArray(nullList);
+	}
+
+	/* reads columnar rows' values without building the rows */
+	@SuppressWarnings("unchecked")
+	private static <T extends Table> Object value(final List<T> rows, final int i, final Field<?> field) {
+		if (rows instanceof ColumnarRows) return ((ColumnarRows<T>) rows).value(i, field);
+		return rows.get(i).get(field);
+	}
+
+	private static int[] toArray(final List<Integer> list) {
+		final int[] ret = new int[list.size()];
+		for (int i=0; i<ret.length; ++i) ret[i] = list.get(i);
+		return ret;
+	}
+
+	/**
+	 * @return the positions (ascending) of the only rows that can match {@code c}, or null
+	 * if this index can't narrow it down
+	 */
+	int[] lookup(final Condition c) {
+		if (c instanceof Condition.Binary) {
+			final Condition.Binary b = (Condition.Binary) c;
+			if (b.v != null && "=".equals(b.cmp) && isField(b.field)) return eq(b.v);
+		} else if (c instanceof Condition.In) {
+			final Condition.In in = (Condition.In) c;
+			if (" in ".equals(in.cmp) && isField(in.field)) {
+				return in(in.set != null ? Arrays.asList(in.set) : in.set2);
+			}
+		} else if (c instanceof Condition.Binary2 && sorted) {
+			final Condition.Binary2 b = (Condition.Binary2) c;
+			if (isField(b.o1) && isValue(b.o2)) {
+				if (">".equals(b.cmp)) return range(upper(b.o2), keys.length);
+				if (">=".equals(b.cmp)) return range(lower(b.o2), keys.length);
+				if ("<".equals(b.cmp)) return range(0, lower(b.o2));
+				if ("<=".equals(b.cmp)) return range(0, upper(b.o2));
+			}
+		} else if (c instanceof Condition.Ternary && sorted) {
+			final Condition.Ternary t = (Condition.Ternary) c;
+			if (" between ".equals(t.cmp1) && isField(t.v1) && isValue(t.v2) && isValue(t.v3)) {
+				return range(lower(t.v2), upper(t.v3));
+			}
+		}
+		return null;
+	}
+
+	private boolean isField(final Object o) {
+		return o == field || (o instanceof Field && field.sameField((Field<?>) o));
+	}
+
+	/* a literal value, not a field or function */
+	private static boolean isValue(final Object o) {
+		return o != null && !(o instanceof Expression) && !(o instanceof Expression.Function);
+	}
+
+	private int[] eq(final Object v) {
+		if (!sorted) {
+			final int[] ret = hash.get(v);
+			return ret == null ? NONE : ret;
+		}
+		return range(lower(v), upper(v));
+	}
+
+	private int[] in(final Collection<?> values) {
+		if (values == null) return null;
+		int[] ret = NONE;
+		for (final Object v : values) {
+			final int[] more = v == null ? nulls : eq(v);
+			if (more.length == 0) continue;
+			final int[] tmp = new int[ret.length + more.length];
+			System.arraycopy(ret, 0, tmp, 0, ret.length);
+			System.arraycopy(more, 0, tmp, ret.length, more.length);
+			ret = tmp;
+		}
+		// back into row order (values listed twice give the same rows twice, so drop those)
+		Arrays.sort(ret);
+		int c = 0;
+		for (int i=0; i<ret.length; ++i) {
+			if (i == 0 || ret[i] != ret[i-1]) ret[c++] = ret[i];
+		}
+		return c == ret.length ? ret : Arrays.copyOf(ret, c);
+	}
+
+	/* the positions of keys[from, to), in row order */
+	private int[] range(final int from, final int to) {
+		if (from >= to) return NONE;
+		final int[] ret = Arrays.copyOfRange(positions, from, to);
+		Arrays.sort(ret);
+		return ret;
+	}
+
+	/* the first key >= v */
+	@SuppressWarnings("unchecked")
+	private int lower(final Object v) {
+		int lo = 0, hi = keys.length;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (keys[mid].compareTo(v) < 0) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/* the first key > v */
+	@SuppressWarnings("unchecked")
+	private int upper(final Object v) {
+		int lo = 0, hi = keys.length;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (keys[mid].compareTo(v) <= 0) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * @return {@code rows} ordered by this (sorted) index's field, with nulls last when
+	 * ascending and first when descending, and ties kept in row order
+	 */
+	@SuppressWarnings("unchecked")
+	List<T> ordered(final List<T> rows, final boolean descending) {
+		final int[] order = new int[positions.length + nulls.length];
+		int c = 0;
+		if (!descending) {
+			for (final int i : positions) order[c++] = i;
+			for (final int i : nulls) order[c++] = i;
+		} else {
+			for (final int i : nulls) order[c++] = i;
+			int end = positions.length;
+			while (end > 0) {
+				// walk runs of equal keys backwards, but each run forwards
+				int start = end - 1;
+				while (start > 0 && compare(keys[start-1], keys[end-1]) == 0) --start;
+				for (int i=start; i<end; ++i) order[c++] = positions[i];
+				end = start;
+			}
+		}
+		if (rows instanceof ColumnarRows) return ((ColumnarRows<T>) rows).view(order);
+		final List<T> ret = new ArrayList<T>(order.length);
+		for (final int i : order) ret.add(rows.get(i));
+		return ret;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static int compare(final Comparable a, final Comparable b) {
+		return a.compareTo(b);
+	}
+
+}
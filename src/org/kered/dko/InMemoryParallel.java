@@ -0,0 +1,259 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel versions of {@code InMemoryQuery}'s filtering, sorting and grouping, used
+ * once a query is marked {@code parallel(n)} and holds at least
+ * {@code Constants.PROPERTY_PARALLEL_THRESHOLD} rows. &nbsp; Rows are split into chunks,
+ * the chunks are worked on by up to {@code n} threads (the caller's, plus helpers from
+ * {@code Async.executor()}), and the partial results are merged back in chunk order, so
+ * results (including the order of rows, map keys and ties) are the same as the
+ * sequential versions'.
+ */
+class InMemoryParallel {
+
+	static final int THRESHOLD = Integer.getInteger(Constants.PROPERTY_PARALLEL_THRESHOLD, 10000);
+
+	/* never split work smaller than this */
+	private static final int MIN_CHUNK = 1024;
+
+	static boolean worthIt(final int parallelism, final int rows) {
+		return parallelism > 1 && rows >= THRESHOLD;
+	}
+
+	/* about four chunks per thread, so uneven chunks still balance */
+	private static int chunk(final int rows, final int parallelism) {
+		return Math.max(MIN_CHUNK, rows / (parallelism * 4) + 1);
+	}
+
+	private static int chunks(final int rows, final int chunk) {
+		return (rows + chunk - 1) / chunk;
+	}
+
+	/* one piece of work, done once for each index */
+	private static abstract class Work {
+		abstract void run(int i);
+	}
+
+	/**
+	 * Runs {@code work} for every index below {@code count} on up to {@code parallelism}
+	 * threads, and returns once they're all done. &nbsp; The caller's thread takes indexes
+	 * too, and runs any helper the executor hasn't started yet itself, so a busy (or nested)
+	 * executor can't deadlock it.
+	 */
+	private static void forEach(final int count, final int parallelism, final Work work) {
+		final AtomicInteger next = new AtomicInteger();
+		final Runnable worker = new Runnable() {
+			@Override
+			public void run() {
+				for (int i=next.getAndIncrement(); i<count; i=next.getAndIncrement()) work.run(i);
+			}
+		};
+		final List<FutureTask<Object>> helpers = new ArrayList<FutureTask<Object>>();
+		for (int i=1; i<Math.min(parallelism, count); ++i) {
+			final FutureTask<Object> helper = new FutureTask<Object>(worker, null);
+			try {
+				Async.executor().execute(helper);
+			} catch (final RejectedExecutionException e) {
+				break;
+			}
+			helpers.add(helper);
+		}
+		worker.run();
+		for (final FutureTask<Object> helper : helpers) {
+			// a no-op if it already ran (or is running)
+			helper.run();
+			try {
+				helper.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} catch (final ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+				if (cause instanceof Error) throw (Error) cause;
+				throw new RuntimeException(cause);
+			}
+		}
+	}
+
+	/**
+	 * @return the rows matching all the conditions, in order
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends Table> List<T> filter(final List<T> rows, final Condition[] conditions, final int parallelism) {
+		final CompiledCondition matcher = CompiledCondition.all(conditions);
+		final int size = rows.size();
+		final int chunk = chunk(size, parallelism);
+		final List<T>[] matched = new List[chunks(size, chunk)];
+		forEach(matched.length, parallelism, new Work() {
+			@Override
+			void run(final int i) {
+				final List<T> ret = new ArrayList<T>();
+				for (int j=i*chunk, end=Math.min(size, j+chunk); j<end; ++j) {
+					final T t = rows.get(j);
+					if (matcher.matches(t)) ret.add(t);
+				}
+				matched[i] = ret;
+			}
+		});
+		int count = 0;
+		for (final List<T> l : matched) count += l.size();
+		final List<T> ret = new ArrayList<T>(count);
+		for (final List<T> l : matched) ret.addAll(l);
+		return ret;
+	}
+
+	/**
+	 * Stable parallel merge sort of {@code a}: chunks are sorted, then merged pairwise in
+	 * rounds of doubling width.
+	 */
+	static <T> void sort(final T[] a, final Comparator<? super T> cmp, final int parallelism) {
+		final int size = a.length;
+		final int chunk = chunk(size, parallelism);
+		forEach(chunks(size, chunk), parallelism, new Work() {
+			@Override
+			void run(final int i) {
+				Arrays.sort(a, i*chunk, Math.min(size, (i+1)*chunk), cmp);
+			}
+		});
+		T[] src = a;
+		T[] dst = a.clone();
+		for (int width=chunk; width<size; width*=2) {
+			final T[] from = src;
+			final T[] to = dst;
+			final int w = width;
+			forEach(chunks(size, 2*w), parallelism, new Work() {
+				@Override
+				void run(final int i) {
+					final int lo = i*2*w;
+					merge(from, to, lo, Math.min(size, lo+w), Math.min(size, lo+2*w), cmp);
+				}
+			});
+			src = to;
+			dst = from;
+		}
+		if (src != a) System.arraycopy(src, 0, a, 0, size);
+	}
+
+	/* merges the sorted runs from[lo,mid) and from[mid,hi) into to[lo,hi), taking from the left on ties */
+	private static <T> void merge(final T[] from, final T[] to, final int lo, final int mid, final int hi,
+			final Comparator<? super T> cmp) {
+		int i = lo, j = mid, k = lo;
+		while (i < mid && j < hi) to[k++] = cmp.compare(from[j], from[i]) < 0 ? from[j++] : from[i++];
+		while (i < mid) to[k++] = from[i++];
+		while (j < hi) to[k++] = from[j++];
+	}
+
+	/* a grouping of one chunk of rows, merged with the grouping of the next chunk */
+	private static abstract class Grouping<T extends Table, R> {
+		abstract R group(List<T> rows, int from, int to);
+		abstract R merge(R left, R right);
+	}
+
+	private static <T extends Table, R> R group(final List<T> rows, final Grouping<T,R> grouping, final int parallelism) {
+		final int size = rows.size();
+		final int chunk = chunk(size, parallelism);
+		final Object[] groups = new Object[chunks(size, chunk)];
+		forEach(groups.length, parallelism, new Work() {
+			@Override
+			void run(final int i) {
+				groups[i] = grouping.group(rows, i*chunk, Math.min(size, (i+1)*chunk));
+			}
+		});
+		@SuppressWarnings("unchecked")
+		R ret = (R) groups[0];
+		for (int i=1; i<groups.length; ++i) {
+			@SuppressWarnings("unchecked")
+			final R group = (R) groups[i];
+			ret = grouping.merge(ret, group);
+		}
+		return ret;
+	}
+
+	static <T extends Table, S> Map<S,T> mapBy(final List<T> rows, final Field<S> byField, final int parallelism) {
+		return group(rows, new Grouping<T,Map<S,T>>() {
+			@Override
+			Map<S,T> group(final List<T> rows, final int from, final int to) {
+				final Map<S,T> ret = new LinkedHashMap<S,T>();
+				for (int i=from; i<to; ++i) {
+					final T t = rows.get(i);
+					ret.put(t.get(byField), t);
+				}
+				return ret;
+			}
+			@Override
+			Map<S,T> merge(final Map<S,T> left, final Map<S,T> right) {
+				// later rows win, like they do sequentially
+				left.putAll(right);
+				return left;
+			}
+		}, parallelism);
+	}
+
+	static <T extends Table, S> Map<S,Collection<T>> collectBy(final List<T> rows, final Field<S> byField,
+			final int parallelism) {
+		return group(rows, new Grouping<T,Map<S,Collection<T>>>() {
+			@Override
+			Map<S,Collection<T>> group(final List<T> rows, final int from, final int to) {
+				final Map<S,Collection<T>> ret = new LinkedHashMap<S,Collection<T>>();
+				for (int i=from; i<to; ++i) {
+					final T t = rows.get(i);
+					final S key = t.get(byField);
+					Collection<T> col = ret.get(key);
+					if (col == null) {
+						col = new ArrayList<T>();
+						ret.put(key, col);
+					}
+					col.add(t);
+				}
+				return ret;
+			}
+			@Override
+			Map<S,Collection<T>> merge(final Map<S,Collection<T>> left, final Map<S,Collection<T>> right) {
+				for (final Map.Entry<S,Collection<T>> e : right.entrySet()) {
+					final Collection<T> col = left.get(e.getKey());
+					if (col == null) left.put(e.getKey(), e.getValue());
+					else col.addAll(e.getValue());
+				}
+				return left;
+			}
+		}, parallelism);
+	}
+
+	static <T extends Table, S> Map<S,Integer> countBy(final List<T> rows, final Field<S> byField, final int parallelism) {
+		return group(rows, new Grouping<T,Map<S,Integer>>() {
+			@Override
+			Map<S,Integer> group(final List<T> rows, final int from, final int to) {
+				final Map<S,Integer> ret = new HashMap<S,Integer>();
+				for (int i=from; i<to; ++i) {
+					final S key = rows.get(i).get(byField);
+					final Integer value = ret.get(key);
+					ret.put(key, value == null ? 1 : value + 1);
+				}
+				return ret;
+			}
+			@Override
+			Map<S,Integer> merge(final Map<S,Integer> left, final Map<S,Integer> right) {
+				for (final Map.Entry<S,Integer> e : right.entrySet()) {
+					final Integer value = left.get(e.getKey());
+					left.put(e.getKey(), value == null ? e.getValue() : value + e.getValue());
+				}
+				return left;
+			}
+		}, parallelism);
+	}
+
+}
@@ -3,6 +3,8 @@ package org.kered.dko;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -25,6 +27,13 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 	private List<Field<?>> selectFields;
 	private Query<T> query;
 	private boolean loaded = false;
+	/* see hashIndex() and sortedIndex() */
+	private List<InMemoryIndex<T>> indexes = null;
+	/* see toColumnarMemory() */
+	private boolean columnar = false;
+	private boolean offHeap = false;
+	/* see parallel() */
+	private int parallelism = 1;
 
 	InMemoryQuery(final Query<T> query) {
 		this(query, false);
@@ -36,12 +45,24 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 		if (!lazy) load();
 	}
 
+	InMemoryQuery(final Query<T> query, final boolean columnar, final boolean offHeap) {
+		super(query);
+		this.query = query;
+		this.columnar = columnar;
+		this.offHeap = offHeap;
+		load();
+	}
+
 	private synchronized void load() {
 		if (loaded) return;
-		cache = new ArrayList<T>();
 		this.selectFields = query.getSelectFields();
-		for (final T t : query) {
-			cache.add(t);
+		if (columnar) {
+			cache = ColumnarRows.load(ofType, query, offHeap);
+		} else {
+			cache = new ArrayList<T>();
+			for (final T t : query) {
+				cache.add(t);
+			}
 		}
 		loaded = true;
 	}
@@ -49,6 +70,7 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 	private InMemoryQuery(final InMemoryQuery<T> q) {
 		super(q);
 		cache = new ArrayList<T>();
+		parallelism = q.parallelism;
 		loaded = true;
 	}
 
@@ -77,12 +99,140 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 	public Query<T> where(final Condition... conditions) {
 		if (!loaded) load();
 		final InMemoryQuery<T> q = new InMemoryQuery<T>(this);
+		final int[] candidates = lookup(conditions);
+		if (cache instanceof ColumnarRows) {
+			q.cache = filter((ColumnarRows<T>) cache, candidates, conditions);
+			return q;
+		}
+		final CompiledCondition matcher = CompiledCondition.all(conditions);
+		if (candidates != null) {
+			for (final int i : candidates) {
+				final T t = cache.get(i);
+				if (matcher.matches(t)) q.cache.add(t);
+			}
+			return q;
+		}
+		if (inParallel()) {
+			q.cache = InMemoryParallel.filter(cache, conditions, parallelism);
+			return q;
+		}
 		for (final T t : cache) {
-			boolean include = true;
-			for (final Condition c : conditions) {
-				include &= c.matches(t);
+			if (matcher.matches(t)) q.cache.add(t);
+		}
+		return q;
+	}
+
+	/* the rows matching all conditions, evaluating what it can on the column vectors */
+	private static <T extends Table> ColumnarRows<T> filter(final ColumnarRows<T> rows, final int[] candidates,
+			final Condition[] conditions) {
+		final BitSet matches = new BitSet(rows.size());
+		final List<Condition> rest = new ArrayList<Condition>();
+		if (candidates != null) {
+			// an index already narrowed it down, so just check those rows
+			for (final int i : candidates) matches.set(i);
+			rest.addAll(Arrays.asList(conditions));
+		} else {
+			matches.set(0, rows.size());
+			for (final Condition c : flatten(conditions)) {
+				final BitSet m = rows.filter(c);
+				if (m == null) rest.add(c);
+				else matches.and(m);
+			}
+		}
+		if (!rest.isEmpty()) {
+			final CompiledCondition matcher = CompiledCondition.all(rest.toArray(new Condition[rest.size()]));
+			for (int i=matches.nextSetBit(0); i>=0; i=matches.nextSetBit(i+1)) {
+				if (!matcher.matches(rows.get(i))) matches.clear(i);
+			}
+		}
+		return rows.view(matches);
+	}
+
+	/* top level ANDs split into their parts */
+	private static List<Condition> flatten(final Condition[] conditions) {
+		final List<Condition> flattened = new ArrayList<Condition>();
+		for (final Condition c : conditions) {
+			if (c instanceof Condition.And) flattened.addAll(((Condition.And) c).conditions);
+			else flattened.add(c);
+		}
+		return flattened;
+	}
+
+	/* the positions of the rows that can match, from the most selective index, or null to scan */
+	private int[] lookup(final Condition[] conditions) {
+		if (indexes == null) return null;
+		int[] best = null;
+		for (final Condition c : flatten(conditions)) {
+			for (final InMemoryIndex<T> index : indexes) {
+				final int[] candidates = index.lookup(c);
+				if (candidates != null && (best == null || candidates.length < best.length)) best = candidates;
 			}
-			if (include) q.cache.add(t);
+		}
+		return best;
+	}
+
+	/* only the plain row path is split; columnar queries already work column-at-a-time */
+	private boolean inParallel() {
+		return !(cache instanceof ColumnarRows) && InMemoryParallel.worthIt(parallelism, cache.size());
+	}
+
+	@Override
+	public Query<T> parallel(final int n) {
+		if (!loaded) load();
+		final InMemoryQuery<T> q = new InMemoryQuery<T>(this);
+		q.cache = cache;
+		q.selectFields = selectFields;
+		q.indexes = indexes;
+		q.parallelism = Math.max(1, n);
+		return q;
+	}
+
+	@Override
+	public Query<T> parallel(final int n, final Field<? extends Number> field) {
+		// there's nothing to split on in memory, the rows are just divided up
+		return parallel(n);
+	}
+
+	@Override
+	public <S> Map<S, T> mapBy(final Field<S> byField) throws SQLException {
+		if (!loaded) load();
+		if (inParallel()) return InMemoryParallel.mapBy(cache, byField, parallelism);
+		return super.mapBy(byField);
+	}
+
+	@Override
+	public <S> Map<S, Collection<T>> collectBy(final Field<S> byField) throws SQLException {
+		if (!loaded) load();
+		if (inParallel()) return InMemoryParallel.collectBy(cache, byField, parallelism);
+		return super.collectBy(byField);
+	}
+
+	@Override
+	public <S> Map<S, Integer> countBy(final Field<S> byField) throws SQLException {
+		if (!loaded) load();
+		if (inParallel()) return InMemoryParallel.countBy(cache, byField, parallelism);
+		return super.countBy(byField);
+	}
+
+	@Override
+	public Query<T> hashIndex(final Field<?>... fields) {
+		return index(fields, false);
+	}
+
+	@Override
+	public Query<T> sortedIndex(final Field<?>... fields) {
+		return index(fields, true);
+	}
+
+	private Query<T> index(final Field<?>[] fields, final boolean sorted) {
+		if (!loaded) load();
+		final InMemoryQuery<T> q = new InMemoryQuery<T>(this);
+		q.cache = cache;
+		q.selectFields = selectFields;
+		q.indexes = new ArrayList<InMemoryIndex<T>>();
+		if (indexes != null) q.indexes.addAll(indexes);
+		for (final Field<?> field : fields) {
+			q.indexes.add(new InMemoryIndex<T>(cache, field, sorted));
 		}
 		return q;
 	}
@@ -102,8 +252,21 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 	public Query<T> orderBy(final Expression.OrderBy<?>... obes) {
 		if (!loaded) load();
 		final InMemoryQuery<T> q = new InMemoryQuery<T>(this);
-		q.cache.addAll(cache);
-		Collections.sort(q.cache, new Comparator<T>() {
+		final InMemoryIndex<T> index = obes.length == 1 ? sortedIndexOn(obes[0]) : null;
+		if (index != null) {
+			final boolean descending = obes[0] instanceof Field.OrderByField
+					&& ((Field.OrderByField<?>) obes[0]).direction == DIRECTION.DESCENDING;
+			q.cache = index.ordered(cache, descending);
+			return q;
+		}
+		if (cache instanceof ColumnarRows) {
+			final ColumnarRows<T> sorted = ((ColumnarRows<T>) cache).sorted(obes);
+			if (sorted != null) {
+				q.cache = sorted;
+				return q;
+			}
+		}
+		final Comparator<T> cmp = new Comparator<T>() {
 			@SuppressWarnings({ "unchecked", "rawtypes" })
 			@Override
 			public int compare(final T o1, final T o2) {
@@ -128,14 +291,39 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 					}
 				}
 				return 0;
-			}});
+			}};
+		if (inParallel()) {
+			@SuppressWarnings("unchecked")
+			final T[] sorted = cache.toArray((T[]) new Table[cache.size()]);
+			InMemoryParallel.sort(sorted, cmp, parallelism);
+			q.cache.addAll(Arrays.asList(sorted));
+			return q;
+		}
+		q.cache.addAll(cache);
+		Collections.sort(q.cache, cmp);
 		return q;
 	}
 
+	private InMemoryIndex<T> sortedIndexOn(final Expression.OrderBy<?> obe) {
+		if (indexes == null) return null;
+		final Field<?> field = obe instanceof Field ? (Field<?>) obe
+				: obe instanceof Field.OrderByField ? ((Field.OrderByField<?>) obe).underlying : null;
+		for (final InMemoryIndex<T> index : indexes) {
+			if (index.sorted && index.field == field) return index;
+		}
+		return null;
+	}
+
 	@Override
 	public Query<T> limit(final long n) {
 		if (!loaded) load();
 		final InMemoryQuery<T> q = new InMemoryQuery<T>(this);
+		if (cache instanceof ColumnarRows) {
+			final int[] first = new int[Math.min((int)n, cache.size())];
+			for (int i=0; i<first.length; ++i) first[i] = i;
+			q.cache = ((ColumnarRows<T>) cache).view(first);
+			return q;
+		}
 		q.cache = new ArrayList<T>();
 		q.cache.addAll(cache.subList(0, Math.min((int)n, cache.size())));
 		return q;
@@ -242,12 +430,25 @@ class InMemoryQuery<T extends Table> extends AbstractQuery<T> {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <S> Iterable<S> asIterableOf(final Field<S> field) {
 		final List<S> ret = new ArrayList<S>();
+		if (!loaded) load();
+		if (cache instanceof ColumnarRows && ((ColumnarRows<T>) cache).hasColumn(field)) {
+			final ColumnarRows<T> rows = (ColumnarRows<T>) cache;
+			for (int i=0; i<rows.size(); ++i) ret.add((S) rows.value(i, field));
+			return ret;
+		}
 		for (final T t : this) ret.add(t.get(field));
 		return ret;
 	}
 
+	@Override
+	Iterator<? extends Number> columnValues(final Field<? extends Number> field) {
+		// (this one keeps NULLs)
+		return asIterableOf(field).iterator();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public T get(final __PrimaryKey<T> pk) {
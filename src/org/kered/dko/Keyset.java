@@ -0,0 +1,133 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kered.dko.Constants.DB_TYPE;
+import org.kered.dko.Constants.DIRECTION;
+
+/**
+ * Builds keyset (seek) pagination predicates for {@code Query.pageAfter()}. &nbsp;
+ * A query's sort order is its {@code orderBy()} fields followed by any primary key fields
+ * not already in it, so every row has a unique position. &nbsp; "After row r" is then
+ * {@code (a, b) > (r.a, r.b)} on databases with row value comparisons, when all the
+ * fields sort in the same direction, and otherwise the equivalent
+ * {@code a >= r.a and (a > r.a or (a = r.a and b > r.b))} (the redundant leading bound
+ * lets the database seek on an index over {@code a}).
+ * <p>
+ * Fields other than the primary key may be null, so the expanded form also matches the
+ * NULLs on the side of {@code r} the database sorts them on (PostgreSQL, Oracle and Derby
+ * sort them as larger than any value, HSQLDB first in either direction, the others as
+ * smaller), and uses {@code is null} in place of {@code =} where {@code r} has one.
+ */
+class Keyset {
+
+	private final List<Field<?>> fields = new ArrayList<Field<?>>();
+	private final List<Boolean> descending = new ArrayList<Boolean>();
+	/* the primary key fields, which are never null */
+	private final List<Field<?>> keys = new ArrayList<Field<?>>();
+
+	@SuppressWarnings({ "rawtypes" })
+	Keyset(final DBQuery<?> q) {
+		final List<Expression.OrderBy<?>> obes = q.getOrderByExpressions();
+		if (obes != null) {
+			for (final Expression.OrderBy<?> obe : obes) {
+				if (obe instanceof Field) {
+					add((Field<?>) obe, false);
+				} else if (obe instanceof Field.OrderByField) {
+					final Field.OrderByField obf = (Field.OrderByField) obe;
+					add(obf.underlying, obf.direction == DIRECTION.DESCENDING);
+				} else {
+					throw new UnsupportedOperationException("keyset pagination can only order by fields, not "+ obe);
+				}
+			}
+		}
+		final Field.PK<?> pk = Util.getPK(q.getType());
+		if (pk != null) {
+			for (final Field<?> field : pk.GET_FIELDS()) add(field, false);
+			keys.addAll(pk.GET_FIELDS());
+		}
+		if (fields.isEmpty()) {
+			throw new UnsupportedOperationException("keyset pagination needs an orderBy() or a primary key on "+ q.getType());
+		}
+	}
+
+	private void add(final Field<?> field, final boolean desc) {
+		if (fields.contains(field)) return;
+		fields.add(field);
+		descending.add(desc);
+	}
+
+	/**
+	 * @return the sort order pages are read in
+	 */
+	Expression.OrderBy<?>[] orderBy() {
+		final Expression.OrderBy<?>[] obes = new Expression.OrderBy<?>[fields.size()];
+		for (int i=0; i<obes.length; ++i) {
+			obes[i] = descending.get(i) ? fields.get(i).desc() : fields.get(i).asc();
+		}
+		return obes;
+	}
+
+	/**
+	 * @return a condition matching the rows after {@code row} in this order
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	Condition after(final Table row, final DB_TYPE dbType) {
+		final int n = fields.size();
+		final Object[] values = new Object[n];
+		boolean nullable = false;
+		for (int i=0; i<n; ++i) {
+			values[i] = row.get(fields.get(i));
+			if (values[i] == null && keys.contains(fields.get(i))) {
+				throw new IllegalArgumentException("keyset pagination can't seek past a null "
+						+ fields.get(i) +" (was it selected?)");
+			}
+			if (values[i] == null || nullsAfter(i, dbType)) nullable = true;
+		}
+		if (n > 1 && !nullable && sameDirection() && rowValues(dbType)) {
+			return new Condition.RowValue(fields.toArray(new Field<?>[n]), descending.get(0) ? "<" : ">", values);
+		}
+		// c matches the rows after row on fields i.. (null if there are none)
+		Condition c = null;
+		for (int i=n-1; i>=0; --i) {
+			final Field f = fields.get(i);
+			Condition past;
+			if (values[i] == null) {
+				past = nullsAfter(i, dbType) ? null : f.isNotNull();
+			} else {
+				past = descending.get(i) ? f.lt(values[i]) : f.gt(values[i]);
+				if (nullsAfter(i, dbType)) past = past.or(f.isNull());
+			}
+			final Condition tie = c == null ? null : (values[i] == null ? f.isNull() : f.eq(values[i])).and(c);
+			c = past == null ? tie : tie == null ? past : past.or(tie);
+		}
+		if (c == null) return Condition.FALSE;
+		if (n > 1 && values[0] != null && !nullsAfter(0, dbType)) {
+			final Field f = fields.get(0);
+			c = (descending.get(0) ? f.lte(values[0]) : f.gte(values[0])).and(c);
+		}
+		return c;
+	}
+
+	/* true if field i may be null and the database sorts its NULLs after every value */
+	private boolean nullsAfter(final int i, final DB_TYPE dbType) {
+		if (keys.contains(fields.get(i))) return false;
+		if (dbType == DB_TYPE.HSQL) return false;
+		final boolean nullsHigh = dbType == DB_TYPE.POSTGRES || dbType == DB_TYPE.ORACLE || dbType == DB_TYPE.DERBY;
+		return nullsHigh != descending.get(i);
+	}
+
+	private boolean sameDirection() {
+		for (final Boolean desc : descending) {
+			if (!desc.equals(descending.get(0))) return false;
+		}
+		return true;
+	}
+
+	private static boolean rowValues(final DB_TYPE dbType) {
+		// hsqldb supports them too, but can't infer the types of "(a, b) > (?, ?)"
+		return dbType == DB_TYPE.POSTGRES || dbType == DB_TYPE.MYSQL;
+	}
+
+}
@@ -0,0 +1,173 @@
+package org.kered.dko;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.kered.dko.Field.FK;
+
+/**
+ * Batches lazy loads for the objects of one {@code SelectFromOAI} iteration. &nbsp;
+ * When one object touches an FK that wasn't loaded with {@code .with()} (if FK batching
+ * is on) or a column that wasn't selected (if column batching is on), the missing values
+ * for every recent object of the iteration (plus the next window, read ahead) are loaded
+ * with one {@code IN} query, instead of one query per object. &nbsp; Objects are held weakly,
+ * so keeping one of them around doesn't keep its siblings alive. &nbsp; Both are opt-in, as
+ * tracking the objects costs every row of the iteration something.
+ */
+class LazyLoadBatch {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.LazyLoadBatch");
+
+	static final int WINDOW_SIZE = 100;
+
+	private final LinkedList<WeakReference<Table>> window = new LinkedList<WeakReference<Table>>();
+	private SelectFromOAI<?> src;
+	private final boolean batchFKs;
+	private final boolean batchColumns;
+
+	LazyLoadBatch(final SelectFromOAI<?> src, final boolean batchFKs, final boolean batchColumns) {
+		this.src = src;
+		this.batchFKs = batchFKs;
+		this.batchColumns = batchColumns;
+	}
+
+	synchronized void add(final Table t) {
+		t.__NOSCO_LAZY_BATCH = this;
+		window.add(new WeakReference<Table>(t));
+		while (window.size() > 2 * WINDOW_SIZE) window.removeFirst();
+	}
+
+	/**
+	 * Called when the iteration is closed. &nbsp; Objects already read can still batch
+	 * against each other, but nothing more is read ahead.
+	 */
+	synchronized void close() {
+		src = null;
+	}
+
+	/**
+	 * Reads ahead, then returns the objects of the window of type {@code cls} that haven't
+	 * fetched {@code index} yet, or null if {@code t} isn't in the window.
+	 */
+	private List<Table> siblings(final Table t, final Class<? extends Table> cls, final int index) {
+		final SelectFromOAI<?> src;
+		synchronized (this) {
+			src = this.src;
+		}
+		// not holding this lock, as the iterating thread takes it (in add()) while holding src's
+		if (src != null) src.readAhead(WINDOW_SIZE);
+		synchronized (this) {
+			final List<Table> ret = new ArrayList<Table>();
+			boolean found = false;
+			for (final Iterator<WeakReference<Table>> it = window.iterator(); it.hasNext();) {
+				final Table x = it.next().get();
+				if (x == null) {
+					it.remove();
+					continue;
+				}
+				if (x == t) found = true;
+				if (x.getClass() != cls) continue;
+				if (x.__NOSCO_FETCHED_VALUES != null && x.__NOSCO_FETCHED_VALUES.get(index)) continue;
+				ret.add(x);
+			}
+			return found ? ret : null;
+		}
+	}
+
+	/**
+	 * Loads {@code fk} for {@code t} and its siblings.
+	 * @return false if {@code t} was not loaded (and the caller should load it itself)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	boolean load(final Table t, final FK<?> fk) {
+		if (!batchFKs) return false;
+		final Field[] reffingFields = fk.REFERENCING_FIELDS();
+		if (reffingFields.length != 1 || fk.referencing != t.getClass()) return false;
+		final Table.__Factory factory = Table.__Factory.of(fk.referencing);
+		final Field reffing = reffingFields[0];
+		final Field reffed = fk.REFERENCED_FIELDS()[0];
+
+		final List<Table> todo = siblings(t, fk.referencing, fk.INDEX);
+		if (todo == null) return false;
+		final Set<Object> values = new LinkedHashSet<Object>();
+		for (final Table x : todo) {
+			final Object v = x.get(reffing);
+			if (v != null) values.add(v);
+		}
+
+		final Map<Object,Table> byValue = new HashMap<Object,Table>();
+		if (!values.isEmpty()) {
+			Query<? extends Table> q = QueryFactory.IT.getQuery(fk.referenced);
+			if (t.__NOSCO_ORIGINAL_DATA_SOURCE != null) q = q.use(t.__NOSCO_ORIGINAL_DATA_SOURCE);
+			for (final Table r : q.where(reffed.in(values))) {
+				byValue.put(r.get(reffed), r);
+			}
+		}
+		try {
+			for (final Table x : todo) {
+				final Object v = x.get(reffing);
+				factory.setFK(x, fk, v == null ? null : byValue.get(v));
+			}
+		} catch (final RuntimeException e) {
+			log.warning("could not batch load "+ fk +": "+ e);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Loads the deferred column {@code field} for {@code t} and its siblings.
+	 * @return false if {@code t} was not loaded (and the caller should load it itself)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	boolean load(final Table t, final Field<?> field) {
+		if (!batchColumns) return false;
+		final Class<? extends Table> cls = t.getClass();
+		final Field.PK<?> pk = Util.getPK(cls);
+		if (pk == null || pk.GET_FIELDS().size() != 1 || t.__NOSCO_ORIGINAL_DATA_SOURCE == null) return false;
+		final Field pkField = pk.GET_FIELDS().get(0);
+		if (!fetched(t, pkField)) return false;
+
+		final List<Table> todo = siblings(t, cls, field.INDEX);
+		if (todo == null) return false;
+		final Set<Object> values = new LinkedHashSet<Object>();
+		for (final Iterator<Table> it = todo.iterator(); it.hasNext();) {
+			final Table x = it.next();
+			if (!fetched(x, pkField)) {
+				it.remove();
+				continue;
+			}
+			final Object v = x.get(pkField);
+			if (v != null) values.add(v);
+		}
+
+		final Map<Object,Object> byPK = new HashMap<Object,Object>();
+		if (!values.isEmpty()) {
+			final Query<? extends Table> q = QueryFactory.IT.getQuery(cls)
+					.use(t.__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(field, pkField);
+			for (final Table r : q.where(pkField.in(values))) {
+				byPK.put(r.get(pkField), r.get(field));
+			}
+		}
+		for (final Table x : todo) {
+			// set() marks the value as fetched (and dirty, which it isn't)
+			x.set((Field) field, byPK.get(x.get(pkField)));
+			if (x.__NOSCO_FETCHED_VALUES != null) x.__NOSCO_FETCHED_VALUES.set(field.INDEX);
+			if (x.__NOSCO_UPDATED_VALUES != null) x.__NOSCO_UPDATED_VALUES.clear(field.INDEX);
+		}
+		return true;
+	}
+
+	private static boolean fetched(final Table t, final Field<?> field) {
+		return t.__NOSCO_FETCHED_VALUES != null && t.__NOSCO_FETCHED_VALUES.get(field.INDEX);
+	}
+
+}
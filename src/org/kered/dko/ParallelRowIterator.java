@@ -0,0 +1,358 @@
+package org.kered.dko;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Logger;
+
+import org.kered.dko.Constants.DIRECTION;
+
+/**
+ * Splits a query into ranges of a numeric field (by default its primary key) and reads
+ * each range on its own thread and connection. &nbsp; Rows are handed over in batches
+ * through bounded queues, so at most {@code QUEUE_SIZE} batches (or one per range, if
+ * there are more ranges) are buffered in total. &nbsp; If the query is ordered by the
+ * partition field the ranges are returned one after the other in that order (the later
+ * ones read ahead), otherwise batches are returned as they arrive. &nbsp; Rows with a
+ * null partition value come last.
+ * <p>
+ * Like {@code PipelinedRowIterator}, the producer threads only hold their range's source
+ * and queue (never this iterator), so an abandoned iterator is still collected and its
+ * finalizer stops them.
+ */
+class ParallelRowIterator implements PeekableClosableIterator<Object[]> {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.ParallelRowIterator");
+
+	static final int BATCH_SIZE = 256;
+	static final int QUEUE_SIZE = 16;
+	/* the fewest rows worth a range of their own, when the row count is known */
+	static final int MIN_RANGE_ROWS = 1000;
+
+	/* marks the end of a range's rows (or that its producer failed) */
+	private static final Object[][] END = new Object[0][];
+
+	private final List<DBRowIterator<?>> srcs;
+	private final List<BlockingQueue<Object[][]>> queues = new ArrayList<BlockingQueue<Object[][]>>();
+	private final boolean ordered;
+	private final List<Producer> producers = new ArrayList<Producer>();
+	private Object[][] batch = null;
+	private int position = 0;
+	private int current = 0;
+	private int ended = 0;
+	private boolean started = false;
+	private boolean done = false;
+
+	private ParallelRowIterator(final List<DBRowIterator<?>> srcs, final boolean ordered) {
+		this.srcs = srcs;
+		this.ordered = ordered;
+		if (ordered) {
+			final int size = Math.max(1, QUEUE_SIZE / srcs.size());
+			for (int i=0; i<srcs.size(); ++i) queues.add(new ArrayBlockingQueue<Object[][]>(size));
+		} else {
+			final BlockingQueue<Object[][]> queue = new ArrayBlockingQueue<Object[][]>(QUEUE_SIZE);
+			for (int i=0; i<srcs.size(); ++i) queues.add(queue);
+		}
+	}
+
+	/**
+	 * @return an iterator over {@code q}'s rows split {@code n} ways on {@code field} (or the
+	 * primary key if null), or null if the query can't be split
+	 */
+	static <T extends Table> ParallelRowIterator build(final DBQuery<T> q, final int n, final Field<?> field) {
+		final List<DBQuery<T>> parts = split(q, n, field);
+		if (parts == null) return null;
+		final List<DBRowIterator<?>> srcs = new ArrayList<DBRowIterator<?>>();
+		for (final DBQuery<T> part : parts) {
+			final DBRowIterator<T> src = new DBRowIterator<T>(part, false);
+			// generate the SQL here, where the caller's Context (schema overrides, etc.) applies
+			src.preparedSQL = src.getCachedSQL(new SqlContext(part));
+			srcs.add(src);
+		}
+		final List<Expression.OrderBy<?>> obes = q.getOrderByExpressions();
+		return new ParallelRowIterator(srcs, obes != null && !obes.isEmpty());
+	}
+
+	/**
+	 * @return {@code q} split into up to {@code n} disjoint ranges of {@code field} (or the
+	 * primary key if null), in its order if it's ordered by it, or null if it can't be split
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static <T extends Table> List<DBQuery<T>> split(final DBQuery<T> q, int n, Field<?> field) {
+		if (Context.inTransaction(q.getDataSource())) {
+			log.fine("not splitting "+ q +": a transaction has only one connection");
+			return null;
+		}
+		if (q.top > 0 || q.unions != null || !q.joinsToMany.isEmpty() || q.globallyAppliedSelectFunction != null) {
+			log.fine("not splitting "+ q +": it has a limit, union, to-many join or aggregate");
+			return null;
+		}
+		if (field == null) {
+			final Field.PK<T> pk = Util.getPK(q.ofType);
+			if (pk == null || pk.GET_FIELDS().size() != 1) {
+				log.fine("not splitting "+ q +": no single column primary key");
+				return null;
+			}
+			field = pk.GET_FIELDS().get(0);
+		}
+		if (convert(field.TYPE, BigDecimal.ZERO) == null) {
+			log.fine("not splitting "+ q +": "+ field +" isn't numeric");
+			return null;
+		}
+
+		boolean descending = false;
+		final List<Expression.OrderBy<?>> obes = q.getOrderByExpressions();
+		if (obes != null && !obes.isEmpty()) {
+			final Expression.OrderBy<?> obe = obes.get(0);
+			if (obes.size() == 1 && obe == field) {
+				descending = false;
+			} else if (obes.size() == 1 && obe instanceof Field.OrderByField
+					&& ((Field.OrderByField) obe).underlying == field) {
+				descending = ((Field.OrderByField) obe).direction == DIRECTION.DESCENDING;
+			} else {
+				log.fine("not splitting "+ q +": it's not ordered by "+ field);
+				return null;
+			}
+		}
+
+		// don't open more cursors than the (known) row count is worth
+		final long rows = UsageStats.knownRowCount(q);
+		if (rows >= 0) n = (int) Math.max(1, Math.min(n, rows / MIN_RANGE_ROWS));
+		if (n < 2) {
+			log.fine("not splitting "+ q +": only "+ rows +" rows");
+			return null;
+		}
+
+		final Object min;
+		final Object max;
+		try {
+			min = q.min((Field) field);
+			max = q.max((Field) field);
+		} catch (final SQLException e) {
+			throw new RuntimeException(e);
+		}
+		if (min == null || max == null) return null;
+
+		// range i holds [bounds[i], bounds[i+1]), with the first and last ranges open ended
+		final List<Object> bounds = new ArrayList<Object>();
+		final BigDecimal lo = new BigDecimal(min.toString());
+		final BigDecimal width = new BigDecimal(max.toString()).subtract(lo);
+		for (int i=0; i<n; ++i) {
+			final BigDecimal b = lo.add(width.multiply(BigDecimal.valueOf(i))
+					.divide(BigDecimal.valueOf(n), MathContext.DECIMAL64));
+			final Object bound = convert(field.TYPE, b);
+			if (bounds.isEmpty() || !bounds.get(bounds.size()-1).equals(bound)) bounds.add(bound);
+		}
+		final List<Condition> ranges = new ArrayList<Condition>();
+		for (int i=0; i<bounds.size(); ++i) {
+			Condition c = i == 0 ? null : ((Field) field).gte(bounds.get(i));
+			if (i+1 < bounds.size()) {
+				final Condition upper = ((Field) field).lt(bounds.get(i+1));
+				c = c == null ? upper : c.and(upper);
+			}
+			ranges.add(c);
+		}
+		if (descending) Collections.reverse(ranges);
+		// nulls compare false with everything, so they need a range of their own
+		final Field.PK<T> pk = Util.getPK(q.ofType);
+		if (pk == null || !pk.GET_FIELDS().contains(field)) ranges.add(field.isNull());
+
+		final List<DBQuery<T>> parts = new ArrayList<DBQuery<T>>();
+		for (final Condition c : ranges) {
+			parts.add((DBQuery<T>) (c == null ? q : q.where(c)));
+		}
+		return parts;
+	}
+
+	/* v as an instance of type, or null if type isn't numeric */
+	private static Object convert(final Class<?> type, final BigDecimal v) {
+		if (type == Integer.class) return v.intValue();
+		if (type == Long.class) return v.longValue();
+		if (type == Short.class) return v.shortValue();
+		if (type == Byte.class) return v.byteValue();
+		if (type == Double.class) return v.doubleValue();
+		if (type == Float.class) return v.floatValue();
+		if (type == BigDecimal.class) return v;
+		if (type == BigInteger.class) return v.toBigInteger();
+		return null;
+	}
+
+	/* reads one range on its own thread, without keeping the iterator reachable */
+	private static class Producer implements Runnable {
+
+		private final DBRowIterator<?> src;
+		private final BlockingQueue<Object[][]> queue;
+		private final Thread thread;
+		private volatile boolean cancelled = false;
+		private volatile Throwable error = null;
+
+		private Producer(final DBRowIterator<?> src, final BlockingQueue<Object[][]> queue, final String name) {
+			this.src = src;
+			this.queue = queue;
+			thread = new Thread(this, name);
+			thread.setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (!cancelled) {
+					final Object[][] rows = new Object[BATCH_SIZE][];
+					int c = 0;
+					while (c < BATCH_SIZE && !cancelled && src.hasNext()) {
+						rows[c++] = src.next();
+					}
+					if (c > 0) {
+						if (c < BATCH_SIZE) {
+							final Object[][] tmp = new Object[c][];
+							System.arraycopy(rows, 0, tmp, 0, c);
+							queue.put(tmp);
+						} else {
+							queue.put(rows);
+						}
+					}
+					if (c < BATCH_SIZE) break;
+				}
+			} catch (final InterruptedException e) {
+				/* stop() was called */
+			} catch (final Throwable e) {
+				if (!cancelled) {
+					log.warning("parallel read failed: "+ e.getMessage());
+					error = e;
+				}
+			} finally {
+				src.close();
+				if (!cancelled) {
+					try {
+						queue.put(END);
+					} catch (final InterruptedException e) {
+						/* stop() was called */
+					}
+				}
+			}
+		}
+
+		/* tells the producer to stop without waiting for it */
+		private void stop() {
+			cancelled = true;
+			// cancel the statement so a producer blocked reading it returns, and interrupt it
+			// in case it's blocked on its queue instead
+			src.cancel();
+			thread.interrupt();
+		}
+
+	}
+
+	private void start() {
+		started = true;
+		final String name = "dko-parallel-"+ Integer.toHexString(System.identityHashCode(this)) +"-";
+		for (int i=0; i<srcs.size(); ++i) {
+			producers.add(new Producer(srcs.get(i), queues.get(i), name + i));
+		}
+		for (final Producer producer : producers) producer.thread.start();
+	}
+
+	/* the first error any producer hit, or null */
+	private Throwable error() {
+		for (final Producer producer : producers) {
+			if (producer.error != null) return producer.error;
+		}
+		return null;
+	}
+
+	@Override
+	public Object[] peek() {
+		if (done) return null;
+		while (batch == null || position >= batch.length) {
+			if (!started) start();
+			if (ordered ? current >= queues.size() : ended >= queues.size()) {
+				batch = null;
+				close();
+				return null;
+			}
+			try {
+				batch = queues.get(ordered ? current : 0).take();
+			} catch (final InterruptedException e) {
+				close();
+				throw new RuntimeException(e);
+			}
+			position = 0;
+			if (batch == END) {
+				batch = null;
+				final Throwable error = error();
+				if (error != null) {
+					close();
+					throw error instanceof RuntimeException ? (RuntimeException) error : new RuntimeException(error);
+				}
+				if (ordered) ++current;
+				else ++ended;
+			}
+		}
+		return batch[position];
+	}
+
+	@Override
+	public boolean hasNext() {
+		return peek() != null;
+	}
+
+	@Override
+	public Object[] next() {
+		final Object[] row = peek();
+		if (row != null) batch[position++] = null;
+		return row;
+	}
+
+	/* see DBRowIterator.cancel() */
+	void cancel() {
+		for (final DBRowIterator<?> src : srcs) src.cancel();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (done) return;
+		done = true;
+		if (!started) {
+			for (final DBRowIterator<?> src : srcs) src.close();
+			return;
+		}
+		// cancel every statement (so producers blocked reading them return) before waiting on
+		// any of them.  each producer closes its source once it's stopped.
+		for (final Producer producer : producers) producer.stop();
+		for (final BlockingQueue<Object[][]> queue : queues) queue.clear();
+		boolean interrupted = false;
+		for (final Producer producer : producers) {
+			while (producer.thread.isAlive()) {
+				try {
+					producer.thread.join();
+				} catch (final InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected void finalize() throws Throwable {
+		super.finalize();
+		// don't hold up the finalizer thread waiting on the producers, they close the sources
+		if (!started) {
+			for (final DBRowIterator<?> src : srcs) src.close();
+		} else {
+			for (final Producer producer : producers) producer.stop();
+		}
+	}
+
+}
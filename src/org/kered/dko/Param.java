@@ -0,0 +1,44 @@
+package org.kered.dko;
+
+import java.util.List;
+
+/**
+ * A placeholder for a value supplied later, when a prepared query is executed. &nbsp;
+ * Use it anywhere a field comparison takes an expression:
+ * <pre>  {@code Param<Integer> id = new Param<Integer>(Integer.class);
+ *  PreparedQuery<SomeClass> byId = SomeClass.ALL.where(SomeClass.ID.eq(id)).prepare(id);
+ *  SomeClass x = byId.first(123);}</pre>
+ * A query holding an unbound {@code Param} can only be run through {@code Query.prepare()}.
+ * @param <T> the type of value this stands in for
+ */
+public class Param<T> implements Expression<T> {
+
+	private final Class<T> type;
+	private final String name;
+
+	public Param(final Class<T> type) {
+		this(type, null);
+	}
+
+	public Param(final Class<T> type, final String name) {
+		this.type = type;
+		this.name = name;
+	}
+
+	@Override
+	public void __getSQL(final StringBuffer sb, final List<Object> bindings, final SqlContext context) {
+		sb.append("?");
+		bindings.add(this);
+	}
+
+	@Override
+	public Class<T> getType() {
+		return type;
+	}
+
+	@Override
+	public String toString() {
+		return "Param("+ (name==null ? Integer.toHexString(System.identityHashCode(this)) : name) +")";
+	}
+
+}
@@ -0,0 +1,211 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Logger;
+
+/**
+ * Drains an underlying row iterator on a background thread into a bounded hand-off queue,
+ * so reading the {@code ResultSet} overlaps with whatever the caller does with each row
+ * (typically building {@code Table} objects in {@code SelectFromOAI}). &nbsp; The producer
+ * blocks when the queue is full, and {@code close()} cancels the statement and waits for the
+ * producer to stop, which closes the source.
+ * <p>
+ * The producer thread only holds the source and the queues (never this iterator), so an
+ * iterator abandoned mid-loop is still collected, and its finalizer stops the producer.
+ * &nbsp; Rows handed back through {@code recycle()} are passed on to the source from the
+ * producer thread, as the source's buffers aren't thread-safe.
+ */
+class PipelinedRowIterator implements PeekableClosableIterator<Object[]>, RowRecycler {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.PipelinedRowIterator");
+
+	static final int BATCH_SIZE = 256;
+	static final int QUEUE_SIZE = 8;
+
+	/* marks the end of the rows (or that the producer failed) */
+	private static final Object[][] END = new Object[0][];
+
+	private final PeekableClosableIterator<Object[]> src;
+	private Producer producer = null;
+	private Object[][] batch = null;
+	private int position = 0;
+	private boolean done = false;
+
+	PipelinedRowIterator(final PeekableClosableIterator<Object[]> src) {
+		this.src = src;
+	}
+
+	/* everything the background thread needs, so it doesn't keep the iterator reachable */
+	private static class Producer implements Runnable {
+
+		private final PeekableClosableIterator<Object[]> src;
+		private final BlockingQueue<Object[][]> queue = new ArrayBlockingQueue<Object[][]>(QUEUE_SIZE);
+		/* rows the consumer is done with, for the source to reuse */
+		private final BlockingQueue<Object[]> spares;
+		private final Thread thread;
+		private volatile boolean cancelled = false;
+		private volatile Throwable error = null;
+
+		private Producer(final PeekableClosableIterator<Object[]> src, final String name) {
+			this.src = src;
+			spares = src instanceof RowRecycler ? new ArrayBlockingQueue<Object[]>(BATCH_SIZE) : null;
+			thread = new Thread(this, name);
+			thread.setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			final List<Object[]> recycled = new ArrayList<Object[]>();
+			try {
+				while (!cancelled) {
+					if (spares != null) {
+						spares.drainTo(recycled);
+						for (final Object[] row : recycled) ((RowRecycler) src).recycle(row);
+						recycled.clear();
+					}
+					final Object[][] rows = new Object[BATCH_SIZE][];
+					int c = 0;
+					while (c < BATCH_SIZE && !cancelled && src.hasNext()) {
+						rows[c++] = src.next();
+					}
+					if (c > 0) {
+						if (c < BATCH_SIZE) {
+							final Object[][] tmp = new Object[c][];
+							System.arraycopy(rows, 0, tmp, 0, c);
+							queue.put(tmp);
+						} else {
+							queue.put(rows);
+						}
+					}
+					if (c < BATCH_SIZE) break;
+				}
+			} catch (final InterruptedException e) {
+				/* stop() was called */
+			} catch (final Throwable e) {
+				if (!cancelled) {
+					log.warning("pipelined read failed: "+ e.getMessage());
+					error = e;
+				}
+			} finally {
+				src.close();
+				if (!cancelled) {
+					try {
+						queue.put(END);
+					} catch (final InterruptedException e) {
+						/* stop() was called */
+					}
+				}
+			}
+		}
+
+		/* tells the producer to stop without waiting for it */
+		private void stop() {
+			cancelled = true;
+			// cancel the statement so a producer blocked reading it returns, and interrupt it
+			// in case it's blocked on the queue instead
+			if (src instanceof DBRowIterator) ((DBRowIterator<?>) src).cancel();
+			thread.interrupt();
+			queue.clear();
+		}
+
+	}
+
+	private void start() {
+		// the first read happens on the caller's thread so the source picks up the caller's
+		// Context (transactions, datasources, etc.) and any error is thrown right away
+		if (!src.hasNext()) {
+			close();
+			return;
+		}
+		producer = new Producer(src, "dko-pipeline-"+ Integer.toHexString(System.identityHashCode(this)));
+		producer.thread.start();
+	}
+
+	@Override
+	public Object[] peek() {
+		if (done) return null;
+		if (batch == null || position >= batch.length) {
+			if (producer == null) {
+				start();
+				if (done) return null;
+			}
+			try {
+				batch = producer.queue.take();
+			} catch (final InterruptedException e) {
+				close();
+				throw new RuntimeException(e);
+			}
+			position = 0;
+			if (batch == END) {
+				batch = null;
+				close();
+				final Throwable error = producer.error;
+				if (error != null) {
+					throw error instanceof RuntimeException ? (RuntimeException) error : new RuntimeException(error);
+				}
+				return null;
+			}
+		}
+		return batch[position];
+	}
+
+	@Override
+	public boolean hasNext() {
+		return peek() != null;
+	}
+
+	@Override
+	public Object[] next() {
+		final Object[] row = peek();
+		if (row != null) batch[position++] = null;
+		return row;
+	}
+
+	@Override
+	public void recycle(final Object[] row) {
+		final Producer producer = this.producer;
+		if (producer != null && producer.spares != null && !producer.cancelled) producer.spares.offer(row);
+	}
+
+	/* see DBRowIterator.cancel() */
+	void cancel() {
+		if (src instanceof DBRowIterator) ((DBRowIterator<?>) src).cancel();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (done && (producer == null || producer.cancelled)) return;
+		done = true;
+		if (producer == null) {
+			src.close();
+			return;
+		}
+		producer.stop();
+		boolean interrupted = false;
+		while (producer.thread.isAlive()) {
+			try {
+				producer.thread.join();
+			} catch (final InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected void finalize() throws Throwable {
+		super.finalize();
+		// don't hold up the finalizer thread waiting on the producer, it closes the source
+		if (producer != null) producer.stop();
+		else src.close();
+	}
+
+}
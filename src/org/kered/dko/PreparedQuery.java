@@ -0,0 +1,118 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.kered.dko.Tuple.Tuple2;
+
+/**
+ * A query template returned by {@code Query.prepare()}. &nbsp; The query's SQL and selected
+ * fields are frozen (the SQL is generated on the first execution, against whatever
+ * {@code DataSource} is in effect then), and each execution only binds new values for the
+ * template's {@code Param}s. &nbsp; Instances are immutable and safe to share between threads,
+ * so they're typically kept in a static field next to the code that uses them.
+ * @param <T>
+ */
+public class PreparedQuery<T extends Table> {
+
+	private final DBQuery<T> query;
+	private volatile Param<?>[] params;
+	private volatile Tuple2<String, List<Object>> sql = null;
+	/* for each binding in the SQL, the index of its param in params (or -1 if a constant) */
+	private volatile int[] positions = null;
+
+	PreparedQuery(final DBQuery<T> query, final Param<?>[] params) {
+		this.query = query;
+		this.params = params;
+	}
+
+	/**
+	 * Runs the query with the given values for its parameters (in the order they were
+	 * passed to {@code prepare()}, or if none were passed the order they appear in the
+	 * SQL), returning all matching rows.
+	 * @param args
+	 * @return
+	 */
+	public List<T> execute(final Object... args) {
+		final List<T> ret = new ArrayList<T>();
+		final ClosableIterator<T> it = iterator(args);
+		try {
+			while (it.hasNext()) ret.add(it.next());
+		} finally {
+			it.close();
+		}
+		return ret;
+	}
+
+	/**
+	 * Runs the query with the given values for its parameters, returning the first row
+	 * (or null if there are none).
+	 * @param args
+	 * @return
+	 */
+	public T first(final Object... args) {
+		final ClosableIterator<T> it = iterator(args);
+		try {
+			return it.hasNext() ? it.next() : null;
+		} finally {
+			it.close();
+		}
+	}
+
+	ClosableIterator<T> iterator(final Object... args) {
+		final DBRowIterator<T> rows = new DBRowIterator<T>(query, false);
+		rows.preparedSQL = bind(args);
+		return new SelectFromOAI<T>(rows);
+	}
+
+	/**
+	 * @return the parameters of this template, in the order {@code execute()} takes them
+	 */
+	public List<Param<?>> getParams() {
+		if (sql == null) freeze();
+		return Collections.unmodifiableList(Arrays.asList(params));
+	}
+
+	private Tuple2<String, List<Object>> bind(final Object[] args) {
+		if (sql == null) freeze();
+		final int n = args==null ? 0 : args.length;
+		if (n != params.length) {
+			throw new IllegalArgumentException("expected "+ params.length +" arguments, got "+ n);
+		}
+		final List<Object> bindings = new ArrayList<Object>(sql.b);
+		for (int i=0; i<positions.length; ++i) {
+			if (positions[i] >= 0) bindings.set(i, args[positions[i]]);
+		}
+		return new Tuple2<String, List<Object>>(sql.a, bindings);
+	}
+
+	private synchronized void freeze() {
+		if (sql != null) return;
+		final DBRowIterator<T> rows = new DBRowIterator<T>(query, false);
+		final Tuple2<String, List<Object>> ret = rows.getSQL(new SqlContext(query));
+		if (params.length == 0) {
+			final List<Param<?>> found = new ArrayList<Param<?>>();
+			for (final Object o : ret.b) {
+				if (o instanceof Param && !found.contains(o)) found.add((Param<?>) o);
+			}
+			params = found.toArray(new Param<?>[found.size()]);
+		}
+		final int[] positions = new int[ret.b.size()];
+		for (int i=0; i<positions.length; ++i) {
+			positions[i] = -1;
+			final Object o = ret.b.get(i);
+			if (!(o instanceof Param)) continue;
+			for (int j=0; j<params.length; ++j) {
+				if (params[j] == o) positions[i] = j;
+			}
+			if (positions[i] < 0) {
+				throw new RuntimeException(o +" is used by the query but wasn't passed to prepare()");
+			}
+		}
+		this.positions = positions;
+		sql = ret;
+	}
+
+}
@@ -3,10 +3,12 @@ package org.kered.dko;
 import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
 
@@ -652,6 +654,75 @@ public interface Query<T extends Table> extends Iterable<T> {
 	 */
 	public <S> Iterable<S> asIterableOf(Field<S> field);
 
+	/**
+	 * Iterates over the values of a numeric field as {@code long}s, without creating
+	 * table objects or boxing them. &nbsp; See {@code ColumnIterator} for how NULLs are handled.
+	 * @param field
+	 * @return
+	 */
+	public ColumnIterator.OfLong longIterator(Field<? extends Number> field);
+
+	/**
+	 * Like {@code longIterator()}, but for {@code double}s.
+	 * @param field
+	 * @return
+	 */
+	public ColumnIterator.OfDouble doubleIterator(Field<? extends Number> field);
+
+	/**
+	 * Like {@code longIterator()}, but for {@code int}s.
+	 * @param field
+	 * @return
+	 */
+	public ColumnIterator.OfInt intIterator(Field<? extends Number> field);
+
+	/**
+	 * Runs the query, returning the values of a numeric field as a {@code long[]}
+	 * (read with {@code longIterator()}). &nbsp; NULLs are returned as 0.
+	 * @param field
+	 * @return
+	 */
+	public long[] asLongArray(Field<? extends Number> field);
+
+	/**
+	 * Like {@code asLongArray(field)}, but also sets bit {@code i} of {@code nulls} for
+	 * each row {@code i} where the field was NULL.
+	 * @param field
+	 * @param nulls
+	 * @return
+	 */
+	public long[] asLongArray(Field<? extends Number> field, BitSet nulls);
+
+	/**
+	 * Like {@code asLongArray(field)}, but for {@code double}s.
+	 * @param field
+	 * @return
+	 */
+	public double[] asDoubleArray(Field<? extends Number> field);
+
+	/**
+	 * Like {@code asLongArray(field, nulls)}, but for {@code double}s.
+	 * @param field
+	 * @param nulls
+	 * @return
+	 */
+	public double[] asDoubleArray(Field<? extends Number> field, BitSet nulls);
+
+	/**
+	 * Like {@code asLongArray(field)}, but for {@code int}s.
+	 * @param field
+	 * @return
+	 */
+	public int[] asIntArray(Field<? extends Number> field);
+
+	/**
+	 * Like {@code asLongArray(field, nulls)}, but for {@code int}s.
+	 * @param field
+	 * @param nulls
+	 * @return
+	 */
+	public int[] asIntArray(Field<? extends Number> field, BitSet nulls);
+
 	/**
 	 * Evaluates the given query into memory and returns to you a new query backed by
 	 * this in-memory store. &nbsp; (does nothing if this is already an in-memory
@@ -660,6 +731,19 @@ public interface Query<T extends Table> extends Iterable<T> {
 	 */
 	public Query<T> toMemory();
 
+	/**
+	 * Like {@code toMemory()}, but stores the results by column instead of as table
+	 * objects: numbers in primitive arrays (or off the Java heap, in direct buffers), strings
+	 * dictionary encoded, with null bitmaps, typically a fraction of the memory. &nbsp;
+	 * Table objects are built as rows are read (a new one on every read), and only hold the
+	 * table's own selected fields (no joined or prefetched objects). &nbsp; Simple conditions
+	 * ({@code eq()}, {@code in()}, comparisons, {@code between()}, {@code isNull()}) and
+	 * {@code orderBy()} run on the columns without building any rows.
+	 * @param offHeap store numeric columns in direct (off heap) buffers
+	 * @return
+	 */
+	public Query<T> toColumnarMemory(boolean offHeap);
+
 	/**
 	 * Evaluates this query, serializes it to disk (a temporary file that is deleted
 	 * on this object's GC or on VM exit), and returns to you an Iterable backed by
@@ -978,6 +1062,243 @@ public interface Query<T extends Table> extends Iterable<T> {
 	 */
 	public Query<T> setQueryTimeout(int seconds);
 
+	/**
+	 * Turns on (or off) streaming of this query's results. &nbsp; When streaming, the JDBC
+	 * driver is asked to hold only a small window of rows in memory instead of the whole
+	 * result set. &nbsp; (MySQL uses row-by-row streaming, Postgres uses a cursor inside a
+	 * read transaction, and Oracle, SQL Server and HSQL use tuned fetch sizes.) &nbsp;
+	 * Note that on MySQL no other statements can be issued on the same connection until a
+	 * streaming result set is closed.
+	 * If never called, defaults to {@code Context.streamingEnabled()}.
+	 * @param enable
+	 * @return the new query
+	 */
+	public Query<T> setStreaming(boolean enable);
+
+	/**
+	 * Turns on (or off) pipelined reads. &nbsp; When on, a background thread reads rows from
+	 * the database into a small bounded buffer while the calling thread builds objects
+	 * from the rows already read, overlapping network wait with CPU work. &nbsp; Mostly
+	 * useful for wide joins over slow links. &nbsp; Closing the iterator stops the reader.
+	 * Off by default.
+	 * @param enable
+	 * @return the new query
+	 */
+	public Query<T> setPipelined(boolean enable);
+
+	/**
+	 * Turns on (or off) batched loading of lazy FKs. &nbsp; When on and an object from this
+	 * query's results touches an FK that wasn't loaded with {@code with()}, the referenced
+	 * objects for the surrounding window of results (including the next rows, read ahead)
+	 * are loaded with a single query, instead of one query per object. &nbsp;
+	 * Defaults to {@code Context.lazyFKBatchingEnabled()}.
+	 * @param enable
+	 * @return the new query
+	 */
+	public Query<T> setLazyFKBatching(boolean enable);
+
+	/**
+	 * Turns on (or off) batched loading of deferred columns. &nbsp; When on and an object from
+	 * this query's results reads a column that wasn't selected (see {@code deferFields()},
+	 * {@code onlyFields()} and the usage monitor's select optimizer), that column is loaded
+	 * for the surrounding window of results (including the next rows, read ahead) with a
+	 * single query, instead of one query per object. &nbsp;
+	 * Defaults to {@code Context.lazyColumnBatchingEnabled()}.
+	 * @param enable
+	 * @return the new query
+	 */
+	public Query<T> setLazyColumnBatching(boolean enable);
+
+	/**
+	 * Like {@code count()}, but runs on another thread. &nbsp; (see {@code Context.setExecutor()})
+	 * Inside a transaction this runs on the caller's thread and returns a completed {@code Future}.
+	 * @return
+	 */
+	public Future<Long> countAsync();
+
+	/**
+	 * Like {@code asList()}, but runs on another thread.  (see {@code countAsync()})
+	 * @return
+	 */
+	public Future<List<T>> asListAsync();
+
+	/**
+	 * Like {@code first()}, but runs on another thread.  (see {@code countAsync()})
+	 * @return
+	 */
+	public Future<T> firstAsync();
+
+	/**
+	 * Like {@code getTheOnly()}, but runs on another thread.  (see {@code countAsync()})
+	 * @return
+	 */
+	public Future<T> getTheOnlyAsync();
+
+	/**
+	 * Like {@code mapBy()}, but runs on another thread.  (see {@code countAsync()})
+	 * @param byField
+	 * @return
+	 */
+	public <S> Future<Map<S,T>> mapByAsync(Field<S> byField);
+
+	/**
+	 * Like {@code update()}, but runs on another thread.  (see {@code countAsync()})
+	 * @return
+	 */
+	public Future<Integer> updateAsync();
+
+	/**
+	 * Like {@code delete()}, but runs on another thread.  (see {@code countAsync()})
+	 * @return
+	 */
+	public Future<Integer> deleteAsync();
+
+	/**
+	 * Starts running this query in the background now, buffering its results for the first
+	 * {@code iterator()} call on the returned query (later calls run it again). &nbsp;
+	 * Use this to overlap independent queries:
+	 * <pre>  {@code Query<A> a = A.ALL.where(...).prefetch();
+	 *  Query<B> b = B.ALL.where(...).prefetch();
+	 *  for (A x : a) ...
+	 *  for (B y : b) ...}</pre>
+	 * Inside a transaction (or on queries not backed by a database) this does nothing.
+	 * @return the new query
+	 */
+	public Query<T> prefetch();
+
+	/**
+	 * Returns a demand driven (push) view of this query's results. &nbsp; Each subscriber
+	 * runs the query once, reading rows only as it {@code request()}s them (on the async
+	 * executor, see {@code Context.setExecutor()}), with the driver's fetch size following
+	 * the outstanding demand. &nbsp; {@code cancel()} cancels the statement and closes the
+	 * result set. &nbsp; The interfaces mirror Reactive Streams', so any reactive library
+	 * can wrap it.
+	 * @return
+	 */
+	public RowPublisher<T> asPublisher();
+
+	/**
+	 * Splits iteration over this query into {@code n} ranges (fewer, if the usage stats
+	 * record too few rows to be worth it) of its (single column, numeric)
+	 * primary key, each read on its own thread and connection. &nbsp; Range boundaries
+	 * come from the key's min and max. &nbsp; Rows arrive in no particular order, unless the
+	 * query is ordered by the key alone, in which case that order is kept. &nbsp;
+	 * Queries that can't be split this way (in a transaction, with a limit, a union, etc.)
+	 * are read normally.
+	 * <p>
+	 * On an in-memory query (see {@code toMemory()}) this instead spreads {@code where()},
+	 * {@code orderBy()}, {@code mapBy()}, {@code collectBy()} and {@code countBy()} over
+	 * up to {@code n} threads (the caller's, plus the executor's set with
+	 * {@code Context.setExecutor()}, or DKO's shared pool), once it holds at least
+	 * {@code Constants.PROPERTY_PARALLEL_THRESHOLD} rows. &nbsp; Results are the same as
+	 * without it, in the same order.
+	 * @param n
+	 * @return the new query
+	 */
+	public Query<T> parallel(int n);
+
+	/**
+	 * Like {@code parallel(n)}, but splits on the given numeric field instead of the
+	 * primary key. &nbsp; Rows with a null value for it are read last, as a range of their own.
+	 * @param n
+	 * @param field
+	 * @return the new query
+	 */
+	public Query<T> parallel(int n, Field<? extends Number> field);
+
+	/**
+	 * Splits this query into up to {@code n} queries over disjoint ranges of its (single
+	 * column, numeric) primary key, which together return the same rows. &nbsp; Each runs on
+	 * its own cursor (and, outside a transaction, connection), so they can be handed to
+	 * separate threads or a fork/join pool. &nbsp; Fewer are returned when the row count recorded
+	 * by the usage stats is too small to be worth it, and a query that can't be split (see
+	 * {@code parallel()}) returns just itself. &nbsp; If this query is ordered by the key the
+	 * list is in that order. &nbsp; On Java 8 this maps directly to a parallel stream:
+	 * <pre>  {@code q.split(8).parallelStream().flatMap(p -> StreamSupport.stream(p.spliterator(), false))}</pre>
+	 * @param n
+	 * @return
+	 */
+	public List<Query<T>> split(int n);
+
+	/**
+	 * Like {@code split(n)}, but splits on the given numeric field instead of the
+	 * primary key. &nbsp; Rows with a null value for it get a query of their own.
+	 * @param n
+	 * @param field
+	 * @return
+	 */
+	public List<Query<T>> split(int n, Field<? extends Number> field);
+
+	/**
+	 * Returns the page of up to {@code pageSize} rows following {@code lastRow} (or the
+	 * first page if null), using a keyset (seek) predicate instead of an offset, so reading
+	 * page 1000 costs the same as page 1. &nbsp; Rows are ordered by this query's
+	 * {@code orderBy()} fields (which must be plain fields of this table), then by any
+	 * primary key fields not already included, so no row is skipped or repeated when
+	 * the ordering has ties. &nbsp; Rows with NULLs in the {@code orderBy()} fields are placed
+	 * wherever the database sorts NULLs. &nbsp; {@code lastRow} must have all of these fields
+	 * selected, and a non-null primary key.
+	 * @param lastRow the last row of the previous page
+	 * @param pageSize
+	 * @return the new query
+	 */
+	public Query<T> pageAfter(T lastRow, int pageSize);
+
+	/**
+	 * Iterates over this query's results a page at a time, each page read with
+	 * {@code pageAfter()} the last row of the one before. &nbsp; Each page is a separate query,
+	 * so no cursor is held open between pages.
+	 * @param pageSize
+	 * @return
+	 */
+	public Iterable<List<T>> pages(int pageSize);
+
+	/**
+	 * Builds hash indexes on the given fields of an in-memory query (see {@code toMemory()}),
+	 * returning a query over the same rows that uses them. &nbsp; {@code where()} conditions
+	 * (or ANDed parts of them) of the form {@code field.eq(value)} or {@code field.in(...)}
+	 * are then answered from the index instead of by checking every row. &nbsp;
+	 * Queries not held in memory return themselves.
+	 * @param fields
+	 * @return
+	 */
+	public Query<T> hashIndex(Field<?>... fields);
+
+	/**
+	 * Like {@code hashIndex()}, but builds sorted indexes, which also answer
+	 * {@code gt()}, {@code gte()}, {@code lt()}, {@code lte()} and {@code between()}
+	 * conditions, and {@code orderBy()} the field alone without re-sorting.
+	 * @param fields
+	 * @return
+	 */
+	public Query<T> sortedIndex(Field<?>... fields);
+
+	/**
+	 * Caches this query's results (rows, {@code count()}, {@code sum()}, {@code countBy()}, etc.)
+	 * for up to {@code ttlMillis}, keyed by its SQL and bindings. &nbsp; Any insert, update or
+	 * delete DKO makes to a table the query reads drops the cached results early, so the TTL
+	 * only matters for writes made outside of DKO. &nbsp; Results are neither read from nor
+	 * written to the cache inside a transaction. &nbsp; Pass 0 to turn caching back off.
+	 * (see {@code CacheStats.forResults()})
+	 * @param ttlMillis
+	 * @return the new query
+	 */
+	public Query<T> cached(long ttlMillis);
+
+	/**
+	 * Freezes this query into a reusable template. &nbsp; Values are supplied per execution
+	 * through {@code Param}s used in the query's conditions:
+	 * <pre>  {@code Param<String> name = new Param<String>(String.class);
+	 *  PreparedQuery<SomeClass> byName = SomeClass.ALL.where(SomeClass.NAME.eq(name)).prepare(name);
+	 *  List<SomeClass> x = byName.execute("my name");}</pre>
+	 * Executing a template skips rebuilding the query and regenerating its SQL, which makes it
+	 * the fast path for frequently run lookups. &nbsp; Only supported on database backed queries.
+	 * @param params the order in which {@code execute()} takes the parameter values
+	 * (if none are given, the order they appear in the generated SQL)
+	 * @return the template
+	 */
+	public PreparedQuery<T> prepare(Param<?>... params);
+
 	/**
 	 * Group by the following fields.
 	 * @param fields
@@ -0,0 +1,167 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * A bounded LRU cache of query results (rows, counts and aggregates) for queries marked with
+ * {@code Query.cached()}, keyed by their datasource, SQL and bindings. &nbsp; Each entry is
+ * tagged with the tables its query read, and any write DKO makes to one of them (through
+ * {@code Query.update()}, {@code Query.delete()}, {@code insert()} or {@code Bulk}) drops it.
+ * Writes made inside a transaction drop it again when the transaction commits. &nbsp;
+ * Writes made outside DKO are only caught by the entry's TTL.
+ */
+class ResultCache {
+
+	static final int MAX_SIZE = Integer.getInteger(Constants.PROPERTY_RESULT_CACHE_SIZE, 1024);
+
+	private static class CachedResult {
+		final Object value;
+		final Set<Class<? extends Table>> tables;
+		final long expires;
+		CachedResult(final Object value, final Set<Class<? extends Table>> tables, final long expires) {
+			this.value = value;
+			this.tables = tables;
+			this.expires = expires;
+		}
+	}
+
+	private static final Map<List<Object>,CachedResult> cache = new LinkedHashMap<List<Object>,CachedResult>(16, .75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<List<Object>,CachedResult> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	/* bumped on every invalidation, so results read across one aren't cached */
+	private static final AtomicLong generation = new AtomicLong();
+
+	static long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * @return a copy of the cached result, or null on a miss
+	 */
+	static Object get(final DataSource ds, final String sql, final List<Object> bindings) {
+		final List<Object> key = key(ds, sql, bindings);
+		final CachedResult e;
+		synchronized (cache) {
+			e = cache.get(key);
+			if (e != null && e.expires < System.currentTimeMillis()) {
+				cache.remove(key);
+				misses.incrementAndGet();
+				return null;
+			}
+		}
+		if (e == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		return copy(e.value);
+	}
+
+	/**
+	 * Caches a result, unless a table was written since {@code startedAt}.
+	 * (see {@code generation()})
+	 */
+	static void put(final DataSource ds, final String sql, final List<Object> bindings, final Object value,
+			final Collection<TableInfo> tableInfos, final long ttlMillis, final long startedAt) {
+		if (value == null) return;
+		final Set<Class<? extends Table>> tables = new HashSet<Class<? extends Table>>();
+		for (final TableInfo ti : tableInfos) tables.add(ti.tableClass);
+		final CachedResult e = new CachedResult(copy(value), tables, System.currentTimeMillis() + ttlMillis);
+		synchronized (cache) {
+			if (generation.get() != startedAt) return;
+			cache.put(key(ds, sql, bindings), e);
+		}
+	}
+
+	/* called after cls is written through ds */
+	static void written(final DataSource ds, final Class<? extends Table> cls) {
+		invalidate(cls);
+		Context.wroteInTransaction(ds, cls);
+	}
+
+	static void invalidate(final Class<? extends Table> cls) {
+		synchronized (cache) {
+			generation.incrementAndGet();
+			for (final Iterator<CachedResult> it = cache.values().iterator(); it.hasNext();) {
+				if (it.next().tables.contains(cls)) it.remove();
+			}
+		}
+	}
+
+	static CacheStats stats() {
+		final int size;
+		synchronized (cache) {
+			size = cache.size();
+		}
+		return new CacheStats("results", hits.get(), misses.get(), size);
+	}
+
+	private static List<Object> key(final DataSource ds, final String sql, final List<Object> bindings) {
+		final List<Object> key = new ArrayList<Object>(bindings.size() + 2);
+		key.add(ds);
+		key.add(sql);
+		key.addAll(bindings);
+		return key;
+	}
+
+	/* callers may change the maps and lists we return, so never hand out the cached ones */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Object copy(final Object value) {
+		if (value instanceof Map) {
+			final Map<Object,Object> ret = new LinkedHashMap<Object,Object>();
+			for (final Map.Entry e : ((Map<?,?>) value).entrySet()) {
+				ret.put(e.getKey(), copy(e.getValue()));
+			}
+			return ret;
+		}
+		if (value instanceof List) return new ArrayList((List) value);
+		return value;
+	}
+
+	/**
+	 * @return a row iterator over cached rows (for {@code SelectFromOAI})
+	 */
+	static PeekableClosableIterator<Object[]> iterator(final List<Object[]> rows) {
+		return new PeekableClosableIterator<Object[]>() {
+			private int i = 0;
+			@Override
+			public Object[] peek() {
+				return i < rows.size() ? rows.get(i) : null;
+			}
+			@Override
+			public boolean hasNext() {
+				return i < rows.size();
+			}
+			@Override
+			public Object[] next() {
+				return rows.get(i++);
+			}
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+			@Override
+			public void close() {
+				i = rows.size();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,75 @@
+package org.kered.dko;
+
+/**
+ * A FIFO ring buffer of fixed-width rows. &nbsp; Rows handed back via {@code recycle()}
+ * are reused by later calls to {@code add()}, so a steady state scan doesn't allocate
+ * a new {@code Object[]} (or a queue node) per row.
+ */
+class RowBuffer {
+
+	private final int width;
+	private Object[][] ring;
+	private int head = 0;
+	private int size = 0;
+	private final Object[][] free;
+	private int freeCount = 0;
+
+	RowBuffer(final int width, final int capacity) {
+		this.width = width;
+		ring = new Object[capacity < 1 ? 1 : capacity][];
+		free = new Object[ring.length][];
+	}
+
+	/**
+	 * Appends a row to the end of the buffer and returns it for the caller to fill in.
+	 * The returned array may hold stale values from a previously recycled row.
+	 */
+	Object[] add() {
+		if (size == ring.length) grow();
+		final Object[] row = freeCount > 0 ? free[--freeCount] : new Object[width];
+		free[freeCount] = null;
+		ring[(head + size) % ring.length] = row;
+		++size;
+		return row;
+	}
+
+	Object[] peek() {
+		return size == 0 ? null : ring[head];
+	}
+
+	Object[] poll() {
+		if (size == 0) return null;
+		final Object[] row = ring[head];
+		ring[head] = null;
+		head = (head + 1) % ring.length;
+		--size;
+		return row;
+	}
+
+	/**
+	 * Hands a polled row back to the buffer for reuse. &nbsp; The caller must not
+	 * touch the row afterwards.
+	 */
+	void recycle(final Object[] row) {
+		if (row == null || row.length != width || freeCount == free.length) return;
+		free[freeCount++] = row;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private void grow() {
+		final Object[][] tmp = new Object[ring.length * 2][];
+		for (int i=0; i<size; ++i) {
+			tmp[i] = ring[(head + i) % ring.length];
+		}
+		ring = tmp;
+		head = 0;
+	}
+
+}
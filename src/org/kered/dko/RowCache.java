@@ -0,0 +1,388 @@
+package org.kered.dko;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.kered.dko.Field.FK;
+import org.kered.dko.Table.__PrimaryKey;
+
+/**
+ * A second-level (shared between transactions) cache of rows by primary key for one table
+ * class. &nbsp; Enable it for a class with
+ * {@code Context.getVMContext().setRowCache(SomeClass.class, RowCache.create())}, or at
+ * code generation time with {@code CodeGenerator.setCachedTables()}. &nbsp;
+ * Once enabled, {@code get(pk)} and lazy FK getters pointing at the class's primary key
+ * are served from it, and it's filled by any query selecting all of the class's columns
+ * outside a transaction. &nbsp; Updates and deletes run through DKO ({@code Table.update()},
+ * {@code Table.delete()}, {@code Table.save()}, {@code Query.update()}, {@code Query.delete()}
+ * and {@code Bulk}) invalidate it. &nbsp; Writes made outside DKO (or by another VM) are not
+ * seen, so give it a TTL if that can happen.
+ * <p>
+ * The cache stores copies of the row values, never the objects handed out, so changing
+ * an object doesn't change the cache. &nbsp; Implement this class to plug in your own
+ * storage. &nbsp; Keys are opaque to implementations; they only need to be compared with
+ * {@code equals()}.
+ */
+public abstract class RowCache {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.RowCache");
+
+	/* bumped on every invalidation, so rows read across one aren't cached */
+	private static final AtomicLong generation = new AtomicLong();
+
+	public static enum Eviction {
+		/** evicts the least recently used row first */
+		LRU,
+		/** evicts the least frequently used row first */
+		LFU
+	}
+
+	/**
+	 * @return the values of all of the table's fields (in {@code Util.getFields()} order),
+	 * or null if not cached
+	 */
+	public abstract Object[] get(Object key);
+
+	public abstract void put(Object key, Object[] values);
+
+	public abstract void invalidate(Object key);
+
+	public abstract void invalidateAll();
+
+	public abstract CacheStats stats();
+
+	/**
+	 * @return an LRU cache of up to 10,000 rows that never expire
+	 */
+	public static RowCache create() {
+		return create(Eviction.LRU, 10000, 0, 0);
+	}
+
+	/**
+	 * @param eviction which row to drop when the cache is full
+	 * @param maxRows the maximum number of rows to keep (0 for unbounded)
+	 * @param maxBytes the maximum (estimated) memory to use (0 for unbounded)
+	 * @param ttlMillis how long a row is served after being cached (0 for forever)
+	 * @return
+	 */
+	public static RowCache create(final Eviction eviction, final int maxRows, final long maxBytes,
+			final long ttlMillis) {
+		return new LocalRowCache(eviction, maxRows, maxBytes, ttlMillis);
+	}
+
+	/* read before running a query whose rows may be cached (see put(long, ...)) */
+	static long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * Caches a row, unless a table was written since {@code startedAt}.
+	 * (see {@code generation()})
+	 */
+	void put(final long startedAt, final Object key, final Object[] values) {
+		if (generation.get() != startedAt) return;
+		put(key, values);
+		// an invalidation that ran during the put may have missed it
+		if (generation.get() != startedAt) invalidate(key);
+	}
+
+	static Object key(final DataSource ds, final __PrimaryKey<?> pk) {
+		final List<Field<?>> fields = pk.FIELDS();
+		final List<Object> key = new ArrayList<Object>(fields.size() + 1);
+		key.add(ds);
+		for (final Field<?> field : fields) key.add(pk.get(field));
+		return key;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static Object key(final DataSource ds, final Table t) {
+		final Field.PK<?> pk = Util.getPK((Class) t.getClass());
+		if (pk == null) return null;
+		final List<Object> key = new ArrayList<Object>(pk.GET_FIELDS().size() + 1);
+		key.add(ds);
+		for (final Field<?> field : pk.GET_FIELDS()) {
+			if (!fetched(t, field)) return null;
+			final Object v = t.get(field);
+			if (v == null) return null;
+			key.add(v);
+		}
+		return key;
+	}
+
+	/* the key of the row fk points to from t, or null if fk doesn't point to a primary key */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static Object key(final DataSource ds, final Table t, final FK<?> fk) {
+		final Field.PK<?> pk = Util.getPK((Class) fk.referenced);
+		final Field[] reffing = fk.REFERENCING_FIELDS();
+		final Field[] reffed = fk.REFERENCED_FIELDS();
+		if (pk == null || reffing.length != pk.GET_FIELDS().size()) return null;
+		final List<Object> key = new ArrayList<Object>(reffing.length + 1);
+		key.add(ds);
+		for (final Field<?> pkField : pk.GET_FIELDS()) {
+			Object v = null;
+			for (int i=0; i<reffed.length; ++i) {
+				if (reffed[i] == pkField && fetched(t, reffing[i])) v = t.get(reffing[i]);
+			}
+			if (v == null) return null;
+			key.add(v);
+		}
+		return key;
+	}
+
+	private static boolean fetched(final Table t, final Field<?> field) {
+		return t.__NOSCO_FETCHED_VALUES != null && t.__NOSCO_FETCHED_VALUES.get(field.INDEX);
+	}
+
+	/* the values of all of t's fields, or null if not all were fetched */
+	static Object[] values(final Table t) {
+		final List<Field<?>> fields = Util.getFields(t.getClass());
+		if (t.__NOSCO_FETCHED_VALUES == null) return null;
+		final Object[] values = new Object[fields.size()];
+		for (int i=0; i<values.length; ++i) {
+			final Field<?> field = fields.get(i);
+			if (!t.__NOSCO_FETCHED_VALUES.get(field.INDEX)) return null;
+			values[i] = t.get(field);
+		}
+		return values;
+	}
+
+	/* a new instance of cls holding values, or null if it can't be built */
+	static <T extends Table> T build(final Class<T> cls, final Object[] values, final DataSource ds) {
+		final List<Field<?>> fields = Util.getFields(cls);
+		if (fields.size() != values.length) return null;
+		return build(cls, fields.toArray(new Expression.Select[values.length]), values.clone(), ds);
+	}
+
+	/* a new instance of cls holding values (which it keeps) for fields, or null if it can't be built */
+	@SuppressWarnings("unchecked")
+	static <T extends Table> T build(final Class<T> cls, final Expression.Select<?>[] fields, final Object[] values,
+			final DataSource ds) {
+		try {
+			final T t = Table.__Factory.of(cls).newInstance(fields, values, 0, values.length);
+			t.__NOSCO_ORIGINAL_DATA_SOURCE = ds;
+			return t;
+		} catch (final Exception e) {
+			log.warning("could not build "+ cls.getName() +": "+ e);
+			return null;
+		}
+	}
+
+	/**
+	 * Sets {@code fk} on {@code t} if the referenced row is cached.
+	 * @return true if it was set
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static boolean loadFK(final Table t, final FK<?> fk) {
+		final DataSource ds = t.__NOSCO_ORIGINAL_DATA_SOURCE;
+		final RowCache cache = Context.getRowCache(fk.referenced);
+		if (cache == null || ds == null) return false;
+		final Object key = key(ds, t, fk);
+		if (key == null) return false;
+		final Object[] values = cache.get(key);
+		if (values == null) return false;
+		Table found = build((Class) fk.referenced, values, ds);
+		if (found == null) return false;
+		final IdentityMap identityMap = Context.getIdentityMap(ds);
+		if (identityMap != null) found = identityMap.canonical(found);
+		try {
+			Table.__Factory.of((Class) t.getClass()).setFK(t, fk, found);
+			return true;
+		} catch (final Exception e) {
+			log.warning("could not set "+ fk +": "+ e);
+			return false;
+		}
+	}
+
+	static void invalidateAll(final Class<? extends Table> cls) {
+		final RowCache cache = Context.getRowCache(cls);
+		if (cache == null) return;
+		generation.incrementAndGet();
+		cache.invalidateAll();
+	}
+
+	/* called after cls is written through ds */
+	static void written(final DataSource ds, final Class<? extends Table> cls) {
+		final RowCache cache = Context.getRowCache(cls);
+		if (cache == null) return;
+		generation.incrementAndGet();
+		cache.invalidateAll();
+		Context.wroteInTransaction(ds, cls);
+	}
+
+	/* rough memory use of a cached row */
+	static long estimateSize(final Object[] values) {
+		long size = 16 + 8 * values.length;
+		for (final Object v : values) {
+			if (v == null) continue;
+			if (v instanceof String) size += 40 + 2 * ((String) v).length();
+			else if (v instanceof byte[]) size += 16 + ((byte[]) v).length;
+			else if (v instanceof char[]) size += 16 + 2 * ((char[]) v).length;
+			else if (v instanceof Number || v instanceof Boolean || v instanceof Character) size += 16;
+			else size += 32;
+		}
+		return size;
+	}
+
+
+	private static class LocalRowCache extends RowCache {
+
+		private static class Entry {
+			final Object key;
+			final Object[] values;
+			final long bytes;
+			final long expires;
+			/* for LFU */
+			Bucket bucket = null;
+			Entry(final Object key, final Object[] values, final long bytes, final long expires) {
+				this.key = key;
+				this.values = values;
+				this.bytes = bytes;
+				this.expires = expires;
+			}
+		}
+
+		/*
+		 * for LFU, the entries used the same number of times (oldest first), in a list of
+		 * buckets ordered by that number, so finding the least used entry and counting a
+		 * use are both constant time
+		 */
+		private static class Bucket {
+			final long uses;
+			final LinkedHashSet<Entry> entries = new LinkedHashSet<Entry>();
+			Bucket prev = null;
+			Bucket next = null;
+			Bucket(final long uses) {
+				this.uses = uses;
+			}
+		}
+
+		private final Eviction eviction;
+		private final int maxRows;
+		private final long maxBytes;
+		private final long ttlMillis;
+		// access ordered, so for LRU the eldest entry is the one to evict
+		private final LinkedHashMap<Object,Entry> entries = new LinkedHashMap<Object,Entry>(16, 0.75f, true);
+		/* for LFU, the bucket of the least used entries */
+		private Bucket leastUsed = null;
+		private long bytes = 0;
+		private long hits = 0;
+		private long misses = 0;
+
+		LocalRowCache(final Eviction eviction, final int maxRows, final long maxBytes, final long ttlMillis) {
+			this.eviction = eviction;
+			this.maxRows = maxRows;
+			this.maxBytes = maxBytes;
+			this.ttlMillis = ttlMillis;
+		}
+
+		@Override
+		public synchronized Object[] get(final Object key) {
+			final Entry e = entries.get(key);
+			if (e == null) {
+				++misses;
+				return null;
+			}
+			if (e.expires > 0 && e.expires < System.currentTimeMillis()) {
+				remove(key);
+				++misses;
+				return null;
+			}
+			++hits;
+			if (eviction == Eviction.LFU) used(e);
+			return e.values;
+		}
+
+		@Override
+		public synchronized void put(final Object key, final Object[] values) {
+			final long size = estimateSize(values);
+			if (maxBytes > 0 && size > maxBytes) return;
+			remove(key);
+			// make room first, so the new row is never the one evicted
+			while (!entries.isEmpty() && ((maxRows > 0 && entries.size() >= maxRows)
+					|| (maxBytes > 0 && bytes + size > maxBytes))) {
+				evict();
+			}
+			final long expires = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : 0;
+			final Entry e = new Entry(key, values.clone(), size, expires);
+			entries.put(key, e);
+			bytes += size;
+			if (eviction == Eviction.LFU) {
+				if (leastUsed == null || leastUsed.uses != 0) {
+					final Bucket b = new Bucket(0);
+					b.next = leastUsed;
+					if (leastUsed != null) leastUsed.prev = b;
+					leastUsed = b;
+				}
+				leastUsed.entries.add(e);
+				e.bucket = leastUsed;
+			}
+		}
+
+		@Override
+		public synchronized void invalidate(final Object key) {
+			remove(key);
+		}
+
+		@Override
+		public synchronized void invalidateAll() {
+			entries.clear();
+			leastUsed = null;
+			bytes = 0;
+		}
+
+		@Override
+		public synchronized CacheStats stats() {
+			return new CacheStats("rows", hits, misses, entries.size());
+		}
+
+		private void remove(final Object key) {
+			final Entry e = entries.remove(key);
+			if (e == null) return;
+			bytes -= e.bytes;
+			if (e.bucket != null) {
+				e.bucket.entries.remove(e);
+				if (e.bucket.entries.isEmpty()) unlink(e.bucket);
+			}
+		}
+
+		/* evicts the least recently (or frequently) used entry */
+		private void evict() {
+			if (eviction == Eviction.LFU) {
+				remove(leastUsed.entries.iterator().next().key);
+			} else {
+				remove(entries.keySet().iterator().next());
+			}
+		}
+
+		/* moves e to the bucket for one more use */
+		private void used(final Entry e) {
+			final Bucket from = e.bucket;
+			Bucket to = from.next;
+			if (to == null || to.uses != from.uses + 1) {
+				to = new Bucket(from.uses + 1);
+				to.prev = from;
+				to.next = from.next;
+				if (from.next != null) from.next.prev = to;
+				from.next = to;
+			}
+			from.entries.remove(e);
+			to.entries.add(e);
+			e.bucket = to;
+			if (from.entries.isEmpty()) unlink(from);
+		}
+
+		private void unlink(final Bucket b) {
+			if (b.prev != null) b.prev.next = b.next;
+			else leastUsed = b.next;
+			if (b.next != null) b.next.prev = b.prev;
+		}
+
+	}
+
+}
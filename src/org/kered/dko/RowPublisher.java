@@ -0,0 +1,192 @@
+package org.kered.dko;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A push based (demand driven) view of a query's results, returned by
+ * {@code Query.asPublisher()}. &nbsp; Its interfaces mirror the Reactive Streams
+ * {@code Publisher}/{@code Subscriber}/{@code Subscription} ones method for method, so
+ * adapting it to a reactive library takes a few lines, without DKO depending on one.
+ * <p>
+ * Rows are only read when a subscriber asks for them: each {@code request(n)} schedules
+ * a read of up to {@code n} rows on the async executor (see {@code Context.setExecutor()}),
+ * and the driver's fetch size follows the outstanding demand. &nbsp; No thread is held while
+ * a subscriber has no demand. &nbsp; {@code cancel()} cancels the running statement and
+ * closes the result set. &nbsp; Rows are read in snapshots of the subscribing thread's
+ * contexts (see {@code Async}), whichever thread requests them. &nbsp; Inside a transaction
+ * rows are read on the requesting thread, since the transaction's connection can't be used
+ * from another one.
+ * @param <T>
+ */
+public class RowPublisher<T extends Table> {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.RowPublisher");
+
+	public static interface Subscriber<T> {
+		public void onSubscribe(Subscription s);
+		public void onNext(T t);
+		public void onError(Throwable t);
+		public void onComplete();
+	}
+
+	public static interface Subscription {
+		public void request(long n);
+		public void cancel();
+	}
+
+	private final Query<T> query;
+
+	RowPublisher(final Query<T> query) {
+		this.query = query;
+	}
+
+	/**
+	 * Starts a new, independent read of the query's results for {@code subscriber}.
+	 * @param subscriber
+	 */
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		if (subscriber == null) throw new NullPointerException("subscriber");
+		// bind the datasource in effect on the caller's thread before reading on another
+		final DataSource ds = query.getDataSource();
+		final Query<T> q = ds == null ? query : query.use(ds);
+		if (ds != null && Context.inTransaction(ds)) {
+			subscriber.onSubscribe(new RowSubscription(q, subscriber, null, null, null));
+		} else {
+			subscriber.onSubscribe(new RowSubscription(q, subscriber, Async.executor(),
+					Context.getThreadContext().snapshot(), Context.getThreadGroupContext().snapshot()));
+		}
+	}
+
+	private class RowSubscription implements Subscription, Runnable {
+
+		private final Query<T> q;
+		private final Subscriber<? super T> subscriber;
+		/* null to read on the requesting thread */
+		private final Executor executor;
+		private final Context thread;
+		private final Context threadGroup;
+		private final AtomicLong requested = new AtomicLong();
+		/* the thread that raises this from 0 drains, everyone else just adds to it */
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled = false;
+		/* set by a bad request(), signalled by the draining thread */
+		private volatile Throwable failure = null;
+		private boolean done = false;
+		private volatile Iterator<T> it = null;
+
+		RowSubscription(final Query<T> q, final Subscriber<? super T> subscriber, final Executor executor,
+				final Context thread, final Context threadGroup) {
+			this.q = q;
+			this.subscriber = subscriber;
+			this.executor = executor;
+			this.thread = thread;
+			this.threadGroup = threadGroup;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				// onError() has to come from the draining thread, never alongside an onNext()
+				if (failure == null) failure = new IllegalArgumentException("request() must be positive, got "+ n);
+				cancel();
+				return;
+			}
+			long r, u;
+			do {
+				r = requested.get();
+				u = r + n < 0 ? Long.MAX_VALUE : r + n;
+			} while (!requested.compareAndSet(r, u));
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			final Iterator<T> it = this.it;
+			if (it instanceof SelectFromOAI) ((SelectFromOAI<T>) it).cancel();
+			schedule();
+		}
+
+		private void schedule() {
+			if (wip.getAndIncrement() != 0) return;
+			if (executor == null) drain();
+			else executor.execute(this);
+		}
+
+		@Override
+		public void run() {
+			// read in the subscriber's context, not whatever the pool thread happens to have
+			try {
+				Context.callIn(thread, threadGroup, new Callable<Void>() {
+					@Override
+					public Void call() {
+						drain();
+						return null;
+					}
+				});
+			} catch (final Exception e) {
+				/* drain() hands its errors to the subscriber */
+				throw new RuntimeException(e);
+			}
+		}
+
+		private void drain() {
+			int missed = 1;
+			try {
+				while (true) {
+					final long r = requested.get();
+					long e = 0;
+					if (!done && !cancelled) {
+						if (it == null) it = q.iterator();
+						if (it instanceof SelectFromOAI) ((SelectFromOAI<T>) it).demand(r);
+					}
+					while (e != r && !done && !cancelled) {
+						if (!it.hasNext()) {
+							done = true;
+							close();
+							subscriber.onComplete();
+							break;
+						}
+						subscriber.onNext(it.next());
+						++e;
+					}
+					if (failure != null && !done) {
+						done = true;
+						close();
+						subscriber.onError(failure);
+					}
+					if (cancelled && !done) {
+						done = true;
+						close();
+					}
+					if (e != 0 && r != Long.MAX_VALUE) requested.addAndGet(-e);
+					missed = wip.addAndGet(-missed);
+					if (missed == 0) return;
+				}
+			} catch (final Throwable t) {
+				wip.set(1); // never drain again
+				final boolean wasDone = done;
+				final boolean wasCancelled = cancelled;
+				cancelled = true;
+				done = true;
+				close();
+				if (!wasDone && failure != null) subscriber.onError(failure);
+				else if (wasCancelled) log.fine("read ended by cancel(): "+ t);
+				else subscriber.onError(t);
+			}
+		}
+
+		private void close() {
+			if (it instanceof ClosableIterator) ((ClosableIterator<T>) it).close();
+		}
+
+	}
+
+}
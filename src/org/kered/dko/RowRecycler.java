@@ -0,0 +1,11 @@
+package org.kered.dko;
+
+/**
+ * Implemented by row iterators that can reuse the {@code Object[]} rows they return
+ * once the consumer is finished with them.
+ */
+interface RowRecycler {
+
+	void recycle(Object[] row);
+
+}
@@ -2,10 +2,9 @@ package org.kered.dko;
 
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -32,12 +31,12 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 	private final DBQuery<T> query;
 	private T next;
 	private Select<?>[] selectedFields;
-	private final Map<Class<? extends Table>,Constructor<? extends Table>> constructors =
-			new HashMap<Class<? extends Table>, Constructor<? extends Table>>();
-	private final Map<Class<? extends Table>,Method> fkToOneSetMethods =
-			new HashMap<Class<? extends Table>,Method>();
-	private final Map<FK<?>,Method> fkToManySetMethods =
-			new HashMap<FK<?>,Method>();
+	/* by table position, see Table.__Factory */
+	@SuppressWarnings("rawtypes")
+	private Table.__Factory[] factories;
+	/* by position in query.joinsToMany, the referenced tables' factories */
+	@SuppressWarnings("rawtypes")
+	private Table.__Factory[] toManyFactories;
 	private boolean done = false;
 	Object[] lastFieldValues;
 	private DataSource ds = null;
@@ -50,13 +49,37 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 	private Constructor<T> joinConstructor = null;
 
 	private PeekableClosableIterator<Object[]> src;
+	private RowRecycler recycler = null;
+	private LazyLoadBatch lazyBatch = null;
+	private IdentityMap identityMap = null;
+	private RowCache[] rowCaches = null;
+	/* read before any rows are, so rows read across a write aren't cached */
+	private long rowCacheGeneration = RowCache.generation();
+	private final ArrayDeque<T> ahead = new ArrayDeque<T>();
+	/* scratch, reused for every row (objects and prevObjects swap) */
+	private Table[] objects;
+	private Table[] prevObjects;
+	private boolean[] newObjectThisRow;
+	@SuppressWarnings("rawtypes")
+	private InMemoryQuery[] toManyQueries;
 
 	SelectFromOAI(final DBQuery<T> dbQuery) {
 		this(dbQuery, true);
 	}
 
 	SelectFromOAI(final DBQuery<T> dbQuery, final PeekableClosableIterator<Object[]> src) {
+		this(dbQuery, src, null, RowCache.generation());
+	}
+
+	/*
+	 * for rows that came from ds some other way (like the result cache), which started being
+	 * read at rowCacheGeneration
+	 */
+	SelectFromOAI(final DBQuery<T> dbQuery, final PeekableClosableIterator<Object[]> src, final DataSource ds,
+			final long rowCacheGeneration) {
 		this.src = src;
+		this.ds = ds;
+		this.rowCacheGeneration = rowCacheGeneration;
 		query = dbQuery;
 		usageMonitor = null;
 		allTableInfos = query.getAllTableInfos();
@@ -66,8 +89,12 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 	}
 
 	SelectFromOAI(final DBQuery<T> dbQuery, final boolean useWarnings) {
-		final DBRowIterator<T> dbRowIterator = new DBRowIterator<T>(dbQuery, useWarnings);
-		src = dbRowIterator;
+		this(new DBRowIterator<T>(dbQuery, useWarnings));
+	}
+
+	SelectFromOAI(final DBRowIterator<T> dbRowIterator) {
+		final DBQuery<T> dbQuery = dbRowIterator.query;
+		src = dbQuery.pipelined ? new PipelinedRowIterator(dbRowIterator) : dbRowIterator;
 		ds = dbRowIterator.ds;
 		query = dbRowIterator.query;
 		selectedFields = dbRowIterator.selectedFields;
@@ -87,6 +114,7 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 	}
 
 	private void init() {
+		if (src instanceof RowRecycler) recycler = (RowRecycler) src;
 		// revert from tagged fields to their untagged srcs
 		for (int i=0; i<selectedFields.length; ++i) {
 			Select<?> field = selectedFields[i];
@@ -97,33 +125,31 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 		}
 		try {
 			final List<TableInfo> tableInfos = query.getAllTableInfos();
-			for (final TableInfo tableInfo : tableInfos) {
+			final int objectSize = tableInfos.size();
+			factories = new Table.__Factory[objectSize];
+			for (int i=0; i<objectSize; ++i) {
+				final TableInfo tableInfo = tableInfos.get(i);
 				if (tableInfo.end > extraFieldsStartAt) extraFieldsStartAt = tableInfo.end;
 				if (tableInfo.tableClass.getName().startsWith("org.nosco.TmpTableBuilder")) continue;
-				final Constructor<? extends Table> constructor = tableInfo.tableClass.getDeclaredConstructor(
-						new Expression.Select[0].getClass(), new Object[0].getClass(), Integer.TYPE, Integer.TYPE);
-				constructor.setAccessible(true);
-				constructors.put(tableInfo.tableClass, constructor);
-				try {
-					final Method setFKMethod  = tableInfo.tableClass.getDeclaredMethod(
-							"SET_FK", Field.FK.class, Object.class);
-					setFKMethod.setAccessible(true);
-					fkToOneSetMethods.put(tableInfo.tableClass, setFKMethod);
-				} catch (final NoSuchMethodException e) {
-					/* ignore */
-				}
+				factories[i] = Table.__Factory.of(tableInfo.tableClass);
 			}
-			try {
-				for (final JoinInfo<?,?> join : query.joinsToMany) {
-					final FK<?> fk = join.fk;
-					final Method setFKSetMethod  = fk.referenced.getDeclaredMethod(
-							"SET_FK_SET", Field.FK.class, Query.class);
-					setFKSetMethod.setAccessible(true);
-					fkToManySetMethods.put(fk, setFKSetMethod);
-					//System.out.println("found "+ setFKSetMethod);
-				}
-			} catch (final NoSuchMethodException e) {
-				/* ignore */
+			toManyFactories = new Table.__Factory[query.joinsToMany.size()];
+			for (int i=0; i<toManyFactories.length; ++i) {
+				toManyFactories[i] = Table.__Factory.of(query.joinsToMany.get(i).fk.referenced);
+			}
+			objects = new Table[objectSize];
+			prevObjects = new Table[objectSize];
+			newObjectThisRow = new boolean[objectSize];
+			toManyQueries = new InMemoryQuery[toManyFactories.length];
+
+			if (ds != null) identityMap = Context.getIdentityMap(ds);
+			// rows read in a transaction may not be committed, so don't cache them
+			if (ds != null && !Context.inTransaction(ds)) rowCaches = rowCaches(tableInfos);
+
+			final boolean batchFKs = query.isLazyFKBatching();
+			final boolean batchColumns = query.isLazyColumnBatching() && hasDeferredColumns(tableInfos);
+			if (batchFKs || batchColumns) {
+				lazyBatch = new LazyLoadBatch(this, batchFKs, batchColumns);
 			}
 
 			returnJoin = Join.class.isAssignableFrom(query.ofType);
@@ -142,26 +168,71 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 		}
 	}
 
+	/* the row cache for each table selecting all its columns, or null if there are none */
+	private static RowCache[] rowCaches(final List<TableInfo> tableInfos) {
+		RowCache[] ret = null;
+		for (int i=0; i<tableInfos.size(); ++i) {
+			final TableInfo ti = tableInfos.get(i);
+			final RowCache cache = Context.getRowCache(ti.tableClass);
+			if (cache == null || ti.end - ti.start != Util.getFields(ti.tableClass).size()) continue;
+			if (ret == null) ret = new RowCache[tableInfos.size()];
+			ret[i] = cache;
+		}
+		return ret;
+	}
+
+	/* true if some table isn't selecting all its columns (so some getters will lazy-load) */
+	private static boolean hasDeferredColumns(final List<TableInfo> tableInfos) {
+		for (final TableInfo ti : tableInfos) {
+			if (ti.end - ti.start < Util.getFields(ti.tableClass).size()) return true;
+		}
+		return false;
+	}
+
 	DBQuery<T> getUnderlyingQuery() {
 		return query;
 	}
 
-	@SuppressWarnings("rawtypes")
-	private final Map<JoinInfo,InMemoryQuery> ttbMap = new HashMap<JoinInfo,InMemoryQuery>();
-
 	@SuppressWarnings("unchecked")
 	@Override
-	public boolean hasNext() {
+	public synchronized boolean hasNext() {
 		if (query.top>0 && count >= query.top) {
 			this.next = null;
 			close();
 			return false;
 		}
 		if (next!=null) return true;
+		if (!ahead.isEmpty()) {
+			next = ahead.poll();
+			return true;
+		}
+		return readNext();
+	}
+
+	/**
+	 * Builds the next object(s) ahead of the caller, so {@code LazyLoadBatch} can load
+	 * their FKs together with the ones already returned.
+	 */
+	synchronized void readAhead(final int n) {
+		final T saved = next;
+		next = null;
+		try {
+			for (int i=0; i<n; ++i) {
+				if (query.top>0 && count + ahead.size() + (saved==null ? 0 : 1) >= query.top) break;
+				if (done || !readNext()) break;
+				ahead.add(next);
+				next = null;
+			}
+		} finally {
+			next = saved;
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private boolean readNext() {
 		if (!src.hasNext()) return false;
-		ttbMap.clear();
+		Arrays.fill(toManyQueries, null);
 		Object[] prevFieldValues = null;
-		Table[] prevObjects = null;
 		try {
 			do {
 				final Object[] peekRow = src.peek();
@@ -177,29 +248,38 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 					close();
 					return false;
 				}
-				final int objectSize = allTableInfos.size();
-				final Table[] objects = new Table[objectSize];
-				final boolean[] newObjectThisRow = new boolean[objectSize];
-				@SuppressWarnings("unchecked")
-				final
-				LinkedHashSet<Table>[] inMemoryCacheSets = new LinkedHashSet[objectSize];
-				final InMemoryQuery[] inMemoryCaches = new InMemoryQuery[objectSize];
-				for (int i=0; i<objectSize; ++i) {
+				// last row's objects become prevObjects, and its prevObjects are overwritten
+				final Table[] objects = this.prevObjects;
+				final Table[] prevObjects = this.objects;
+				this.objects = objects;
+				this.prevObjects = prevObjects;
+				for (int i=0; i<objects.length; ++i) {
 					final TableInfo ti = allTableInfos.get(i);
 					if (Util.allTheSame(prevFieldValues, fieldValues, ti.start, ti.end)) {
 						objects[i] = prevObjects[i];
 						newObjectThisRow[i] = false;
 					} else {
+						objects[i] = null;
 						if (Util.notAllNull(fieldValues, ti.start, ti.end)) {
-							final Table t = constructors.get(ti.tableClass)
-									.newInstance(selectedFields, fieldValues, ti.start, ti.end);
+							Table t = factories[i].newInstance(selectedFields, fieldValues, ti.start, ti.end);
 							t.__NOSCO_USAGE_MONITOR = usageMonitor;
 							t.__NOSCO_ORIGINAL_DATA_SOURCE = ds;
 							if (i==0 && extraFieldsStartAt < fieldValues.length) {
 								for (int j=extraFieldsStartAt; j<fieldValues.length; ++j) {
 									t.set((Select)this.selectedFields[j], fieldValues[j]);
 								}
+							} else {
+								if (rowCaches != null && rowCaches[i] != null) {
+									final Object key = RowCache.key(ds, t);
+									final Object[] values = key == null ? null : RowCache.values(t);
+									if (values != null) rowCaches[i].put(rowCacheGeneration, key, values);
+								}
+								if (identityMap != null) {
+									// in a transaction with an identity map, reuse the instance already loaded
+									t = identityMap.canonical(t);
+								}
 							}
+							if (lazyBatch != null) lazyBatch.add(t);
 							objects[i] = t;
 						}
 						newObjectThisRow[i] = true;
@@ -207,6 +287,7 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 				}
 				if (next == null) {
 					if (this.returnJoin) {
+						// (copies out the references it needs)
 						next = (T) new Join(objects);
 					} else {
 						next = (T) objects[0];
@@ -214,51 +295,40 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 				}
 				for(final JoinInfo<?,?> join : query.joinsToOne) {
 					if (!newObjectThisRow[join.reffingTableInfo.position]) continue;
-					final Object reffedObject = objects[join.reffedTableInfo.position];
-					final Object reffingObject = objects[join.reffingTableInfo.position];
-					final Method fkSetMethod = fkToOneSetMethods.get(join.reffingTableInfo.tableClass);
+					final Table reffedObject = objects[join.reffedTableInfo.position];
+					final Table reffingObject = objects[join.reffingTableInfo.position];
 					if (reffingObject != null) {
-						fkSetMethod.invoke(reffingObject, join.fk, reffedObject);
+						factories[join.reffingTableInfo.position].setFK(reffingObject, join.fk, reffedObject);
 					}
 				}
-				for(final JoinInfo<?,?> join : query.joinsToMany) {
-					final Object reffedObject = objects[join.reffedTableInfo.position];
-					final Object reffingObject = objects[join.reffingTableInfo.position];
-					final Method fkSetSetMethod = fkToManySetMethods.get(join.fk);
-					InMemoryQuery tmpQuery = ttbMap.get(join);
+				for (int k=0; k<toManyQueries.length; ++k) {
+					final JoinInfo<?,?> join = query.joinsToMany.get(k);
+					final Table reffedObject = objects[join.reffedTableInfo.position];
+					final Table reffingObject = objects[join.reffingTableInfo.position];
+					InMemoryQuery tmpQuery = toManyQueries[k];
 					if (tmpQuery == null || newObjectThisRow[join.reffedTableInfo.position]) {
 						if (reffedObject != null) {
 							tmpQuery = new InMemoryQuery(join.fk.referencing);
-							fkSetSetMethod.invoke(reffedObject, join.fk, tmpQuery);
-							ttbMap.put(join, tmpQuery);
+							toManyFactories[k].setFKSet(reffedObject, join.fk, tmpQuery);
+							toManyQueries[k] = tmpQuery;
 						}
 					}
 					if (newObjectThisRow[join.reffingTableInfo.position] && reffingObject != null) {
 						tmpQuery.cache.add(reffingObject);
-						final Method fkSetMethod = fkToOneSetMethods.get(join.reffingTableInfo.tableClass);
-						fkSetMethod.invoke(reffingObject, join.fk, reffedObject);
+						factories[join.reffingTableInfo.position].setFK(reffingObject, join.fk, reffedObject);
 					}
 				}
+				// the constructed objects have copied out everything they need
+				if (recycler != null && prevFieldValues != null) recycler.recycle(prevFieldValues);
 				prevFieldValues = fieldValues;
-				prevObjects = objects;
 			} while (!query.joinsToMany.isEmpty());
+			if (recycler != null && prevFieldValues != null) recycler.recycle(prevFieldValues);
+			this.lastFieldValues = null;
 
-		} catch (final IllegalArgumentException e) {
-			e.printStackTrace();
-			close();
-			throw new RuntimeException(e);
-		} catch (final IllegalAccessException e) {
-			e.printStackTrace();
-			close();
-			throw new RuntimeException(e);
-		} catch (final InvocationTargetException e) {
-			e.printStackTrace();
-			close();
-			throw new RuntimeException(e);
-		} catch (final InstantiationException e) {
+		} catch (final RuntimeException e) {
 			e.printStackTrace();
 			close();
-			throw new RuntimeException(e);
+			throw e;
 		}
 		final boolean hasNext = next != null;
 		if (!hasNext) close();
@@ -277,11 +347,24 @@ class SelectFromOAI<T extends Table> implements ClosableIterator<T> {
 	public synchronized void close() {
 		if (done) return;
 		src.close();
+		if (lazyBatch != null) lazyBatch.close();
 		done = true;
 	}
 
+	/* see DBRowIterator.demand() */
+	void demand(final long n) {
+		if (src instanceof DBRowIterator) ((DBRowIterator<?>) src).demand(n);
+	}
+
+	/* see DBRowIterator.cancel() */
+	void cancel() {
+		if (src instanceof DBRowIterator) ((DBRowIterator<?>) src).cancel();
+		else if (src instanceof PipelinedRowIterator) ((PipelinedRowIterator) src).cancel();
+		else if (src instanceof ParallelRowIterator) ((ParallelRowIterator) src).cancel();
+	}
+
 	@Override
-	public T next() {
+	public synchronized T next() {
 		final T t = next;
 		next = null;
 		++count;
@@ -2,14 +2,20 @@ package org.kered.dko;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -187,6 +193,8 @@ class SoftJoin<T extends Table> extends AbstractQuery<T> {
 
 	    final long q1Rows = UsageStats.estimateRowCount(q1);
 	    final long q2Rows = UsageStats.estimateRowCount(q2);
+	    final SoftJoinUtil.EquiJoin equiJoin = SoftJoinUtil.getEquiJoin(condition, q1, q2);
+	    if (equiJoin != null) return new HashJoinIterator(equiJoin, q1Rows, q2Rows);
 		System.err.println("q1Rows "+ q1.getType().getName() +" "+ q1.hashCode() +" "+ q1Rows);
 		System.err.println("q2Rows "+ q2.getType().getName() +" "+ q2.hashCode() +" "+ q2Rows);
 	    final Iterable<? extends Table> qXa;
@@ -266,7 +274,7 @@ class SoftJoin<T extends Table> extends AbstractQuery<T> {
 						} else if (!matchedqY && qYo==null) {
 							matchedqY = true;
 						} else {
-							matches &= condition.matches(t);
+							matches &= condition.compiled().matches(t);
 							if (matches) {
 								matchedqX = true;
 								matchedqY = true;
@@ -408,6 +416,211 @@ class SoftJoin<T extends Table> extends AbstractQuery<T> {
 		};
 	}
 
+	/**
+	 * Joins on the equality terms of the condition by hashing the (estimated) smaller side
+	 * and streaming the larger side past it, checking whatever's left of the condition on
+	 * each pair with equal keys. &nbsp; Rows of a side the join type keeps are paired with
+	 * null when nothing matched them: probe side rows as they go by, build side rows once
+	 * the probe side runs out. &nbsp; As in SQL a NULL key equals nothing, so rows with one
+	 * are never matched (only padded), and numbers are keyed by value, not type.
+	 */
+	private class HashJoinIterator implements ClosableIterator<T> {
+
+		private final boolean buildQ1;
+		private final Field<?>[] buildKeys;
+		private final Field<?>[] probeKeys;
+		private final CompiledCondition residual;
+		private final boolean keepUnmatchedProbe;
+		private final boolean keepUnmatchedBuild;
+		private final Constructor<?> jc;
+		private final Map<Object,Bucket> table;
+		private final Iterator<? extends Table> probe;
+
+		private Table probeRow = null;
+		private boolean probeRowMatched = false;
+		private Bucket bucket = null;
+		private int bucketIndex = 0;
+		private Iterator<Bucket> leftovers = null;
+		private Bucket leftover = null;
+		private int leftoverIndex = 0;
+		private T next = null;
+		private long count = 0;
+
+		HashJoinIterator(final SoftJoinUtil.EquiJoin equiJoin, final long q1Rows, final long q2Rows) {
+			buildQ1 = q1Rows <= q2Rows;
+			final Query<? extends Table> buildQ = buildQ1 ? q1 : q2;
+			final Query<? extends Table> probeQ = buildQ1 ? q2 : q1;
+			buildKeys = buildQ1 ? equiJoin.keys1 : equiJoin.keys2;
+			probeKeys = buildQ1 ? equiJoin.keys2 : equiJoin.keys1;
+			residual = equiJoin.residual==null ? null : equiJoin.residual.compiled();
+			final boolean keepQ1 = joinType==JOIN_TYPE.LEFT || joinType==JOIN_TYPE.OUTER;
+			final boolean keepQ2 = joinType==JOIN_TYPE.RIGHT || joinType==JOIN_TYPE.OUTER;
+			keepUnmatchedBuild = buildQ1 ? keepQ1 : keepQ2;
+			keepUnmatchedProbe = buildQ1 ? keepQ2 : keepQ1;
+			try {
+				jc = getType().getDeclaredConstructor(Table.class, Table.class);
+				if (!jc.isAccessible()) jc.setAccessible(true);
+			} catch (final NoSuchMethodException e) {
+				throw new RuntimeException(e);
+			}
+			final long buildRows = buildQ1 ? q1Rows : q2Rows;
+			table = new HashMap<Object,Bucket>((int) Math.max(16, Math.min(MAX_INITIAL_CAPACITY, buildRows * 4 / 3 + 1)));
+			for (final Table t : buildQ) {
+				final Object key = key(t, buildKeys);
+				if (key == null && !keepUnmatchedBuild) continue;
+				Bucket b = table.get(key == null ? NULL_KEY : key);
+				if (b == null) {
+					b = new Bucket();
+					table.put(key == null ? NULL_KEY : key, b);
+				}
+				b.rows.add(t);
+			}
+			if (keepUnmatchedBuild) {
+				for (final Bucket b : table.values()) b.matched = new BitSet(b.rows.size());
+			}
+			probe = probeQ.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next!=null) return true;
+			if (limit>=0 && count>=limit) {
+				close();
+				return false;
+			}
+			while (true) {
+				if (bucket != null) {
+					while (bucketIndex < bucket.rows.size()) {
+						final int i = bucketIndex++;
+						final T t = join(probeRow, bucket.rows.get(i));
+						if (residual==null || residual.matches(t)) {
+							probeRowMatched = true;
+							if (bucket.matched != null) bucket.matched.set(i);
+							next = t;
+							return true;
+						}
+					}
+					bucket = null;
+					if (!probeRowMatched && keepUnmatchedProbe) {
+						next = join(probeRow, null);
+						return true;
+					}
+				} else if (probe.hasNext()) {
+					probeRow = probe.next();
+					probeRowMatched = false;
+					bucketIndex = 0;
+					final Object key = key(probeRow, probeKeys);
+					bucket = key == null ? null : table.get(key);
+					if (bucket == null && keepUnmatchedProbe) {
+						next = join(probeRow, null);
+						return true;
+					}
+				} else if (keepUnmatchedBuild) {
+					if (leftovers == null) leftovers = table.values().iterator();
+					while (leftover != null || leftovers.hasNext()) {
+						if (leftover == null) {
+							leftover = leftovers.next();
+							leftoverIndex = 0;
+						}
+						final int i = leftover.matched.nextClearBit(leftoverIndex);
+						if (i < leftover.rows.size()) {
+							leftoverIndex = i + 1;
+							next = join(null, leftover.rows.get(i));
+							return true;
+						}
+						leftover = null;
+					}
+					close();
+					return false;
+				} else {
+					close();
+					return false;
+				}
+			}
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			++count;
+			final T ret = next;
+			next = null;
+			return ret;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T join(final Table probeRow, final Table buildRow) {
+			try {
+				return (T) (buildQ1 ? jc.newInstance(buildRow, probeRow) : jc.newInstance(probeRow, buildRow));
+			} catch (final InstantiationException e) {
+				throw new RuntimeException(e);
+			} catch (final IllegalAccessException e) {
+				throw new RuntimeException(e);
+			} catch (final InvocationTargetException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void close() {
+			if (probe instanceof ClosableIterator) ((ClosableIterator<?>)probe).close();
+		}
+
+	}
+
+	/* don't let a bad row count estimate allocate a huge table up front */
+	private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+	/* keys compare with equals(), like Condition.matches() does for field = field */
+	/* the hash key of a row, or null if any of its key fields are null */
+	private static Object key(final Table t, final Field<?>[] fields) {
+		if (fields.length == 1) return normalize(t.get(fields[0]));
+		final Object[] values = new Object[fields.length];
+		for (int i=0; i<fields.length; ++i) {
+			values[i] = normalize(t.get(fields[i]));
+			if (values[i] == null) return null;
+		}
+		return Arrays.asList(values);
+	}
+
+	/* the bucket of the build side rows with null keys, which no probe key can equal */
+	private static final Object NULL_KEY = new Object();
+
+	/* numbers as a Long if they're whole (and fit), else as a BigDecimal without trailing zeros */
+	private static Object normalize(final Object v) {
+		if (v instanceof Long) return v;
+		if (v instanceof Integer || v instanceof Short || v instanceof Byte) return ((Number) v).longValue();
+		if (v instanceof BigInteger) {
+			final BigInteger i = (BigInteger) v;
+			return i.bitLength() < 64 ? (Object) i.longValue() : new BigDecimal(i);
+		}
+		final BigDecimal d;
+		if (v instanceof BigDecimal) {
+			d = (BigDecimal) v;
+		} else if (v instanceof Double || v instanceof Float) {
+			final double x = ((Number) v).doubleValue();
+			if (Double.isNaN(x) || Double.isInfinite(x)) return x;
+			d = new BigDecimal(x);
+		} else {
+			return v;
+		}
+		if (d.signum() == 0) return 0L;
+		final BigDecimal stripped = d.stripTrailingZeros();
+		if (stripped.scale() <= 0 && stripped.precision() - stripped.scale() < 19) return stripped.longValueExact();
+		return stripped;
+	}
+
+	/* the build side rows sharing a key, and which of them have been matched */
+	private static class Bucket {
+		final List<Table> rows = new ArrayList<Table>(1);
+		BitSet matched = null;
+	}
+
 	@Override
 	public Query<T> avg() {
 		// TODO Auto-generated method stub
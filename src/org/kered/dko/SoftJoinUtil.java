@@ -79,6 +79,81 @@ class SoftJoinUtil {
 		return fields.isEmpty();
 	}
 
+	/**
+	 * The equi-join part of a join condition: the pairs of fields it equates across the
+	 * two sides (in {@code keys1}/{@code keys2}, from {@code q1} and {@code q2} respectively),
+	 * plus whatever is left of the condition once those are taken out.
+	 */
+	static class EquiJoin {
+		final Field<?>[] keys1;
+		final Field<?>[] keys2;
+		/* null if the condition was nothing but the key equalities */
+		final Condition residual;
+		EquiJoin(final Field<?>[] keys1, final Field<?>[] keys2, final Condition residual) {
+			this.keys1 = keys1;
+			this.keys2 = keys2;
+			this.residual = residual;
+		}
+	}
+
+	/**
+	 * @return the equi-join keys of a condition across two queries, or null if none of
+	 * its top-level (and-ed) terms is a field of one side equal to a field of the other
+	 */
+	static EquiJoin getEquiJoin(final Condition condition, final Query<? extends Table> q1,
+			final Query<? extends Table> q2) {
+		if (condition==null) return null;
+		final List<Field<?>> selectFields1 = q1.getSelectFields();
+		final List<Field<?>> selectFields2 = q2.getSelectFields();
+		if (selectFields1==null || selectFields2==null) return null;
+		final Set<Field<?>> fields1 = new HashSet<Field<?>>(selectFields1);
+		final Set<Field<?>> fields2 = new HashSet<Field<?>>(selectFields2);
+		final List<Condition> conditions;
+		if (condition instanceof Condition.And) {
+			conditions = ((Condition.And)condition).conditions;
+		} else {
+			conditions = new ArrayList<Condition>();
+			conditions.add(condition);
+		}
+		final List<Field<?>> keys1 = new ArrayList<Field<?>>();
+		final List<Field<?>> keys2 = new ArrayList<Field<?>>();
+		final List<Condition> rest = new ArrayList<Condition>();
+		for (final Condition c : conditions) {
+			Field<?> a = null, b = null;
+			if (c instanceof Binary) {
+				final Binary bc = (Binary)c;
+				if (bc.cmp!=null && "=".equals(bc.cmp.trim()) && bc.v==null && bc.field2!=null) {
+					a = bc.field;
+					b = bc.field2;
+				}
+			}
+			if (c instanceof Binary2) {
+				final Binary2 bc = (Binary2)c;
+				if (bc.cmp!=null && "=".equals(bc.cmp.trim()) && bc.o1 instanceof Field && bc.o2 instanceof Field) {
+					a = (Field<?>) bc.o1;
+					b = (Field<?>) bc.o2;
+				}
+			}
+			// a field selected by both sides is ambiguous, so leave it to the residual
+			if (a!=null && fields1.contains(a) && !fields2.contains(a) && fields2.contains(b) && !fields1.contains(b)) {
+				keys1.add(a);
+				keys2.add(b);
+			} else if (a!=null && fields1.contains(b) && !fields2.contains(b) && fields2.contains(a) && !fields1.contains(a)) {
+				keys1.add(b);
+				keys2.add(a);
+			} else {
+				rest.add(c);
+			}
+		}
+		if (keys1.isEmpty()) return null;
+		final Condition residual;
+		if (rest.isEmpty()) residual = null;
+		else if (rest.size()==1) residual = rest.get(0);
+		else residual = new Condition.And(rest.toArray(new Condition[rest.size()]));
+		return new EquiJoin(keys1.toArray(new Field<?>[keys1.size()]),
+				keys2.toArray(new Field<?>[keys2.size()]), residual);
+	}
+
 	static int getObjectSizeOfQuery(final Query<? extends Table> q) {
 		try {
 			final java.lang.reflect.Field f = q.getClass().getDeclaredField("SIZE");
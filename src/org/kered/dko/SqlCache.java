@@ -0,0 +1,66 @@
+package org.kered.dko;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded LRU cache of generated select statements, keyed by a query's fingerprint.
+ * (see {@code DBQuery.getSQLFingerprint()})
+ */
+class SqlCache {
+
+	static final int MAX_SIZE = 1024;
+
+	/* marks a fingerprint whose SQL we couldn't verify as value independent */
+	private static final String UNCACHEABLE = new String("uncacheable");
+
+	private static final Map<List<Object>,String> cache = new LinkedHashMap<List<Object>,String>(16, .75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<List<Object>,String> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @return the cached SQL, or null on a miss
+	 */
+	static String get(final List<Object> key) {
+		final String sql;
+		synchronized (cache) {
+			sql = cache.get(key);
+		}
+		if (sql == null || sql == UNCACHEABLE) {
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		return sql;
+	}
+
+	/**
+	 * Caches freshly generated SQL, but only if the bindings extracted with the fingerprint
+	 * match the ones generated with the SQL.
+	 */
+	static void put(final List<Object> key, final String sql, final List<Object> generatedBindings,
+			final List<Object> fingerprintBindings) {
+		final boolean ok = generatedBindings.equals(fingerprintBindings);
+		synchronized (cache) {
+			cache.put(key, ok ? sql : UNCACHEABLE);
+		}
+	}
+
+	static CacheStats stats() {
+		final int size;
+		synchronized (cache) {
+			size = cache.size();
+		}
+		return new CacheStats("sql", hits.get(), misses.get(), size);
+	}
+
+}
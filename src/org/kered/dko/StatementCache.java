@@ -0,0 +1,200 @@
+package org.kered.dko;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.kered.dko.datasource.UnClosableConnection;
+
+/**
+ * Keeps a small LRU cache of {@code PreparedStatement}s (keyed by SQL) per physical
+ * connection, so repeated queries skip the driver/server side parse. &nbsp;
+ * Only connections we know outlive the statement are cached: those wrapped in an
+ * {@code UnClosableConnection} (ie: from {@code SingleConnectionDataSource} or
+ * {@code CheapConnectionPoolingDataSource}) and {@code Context} transaction connections.
+ * Everything else is prepared and closed as usual.
+ * <p>
+ * A cached statement is checked out while in use (so two open iterators over the same
+ * SQL get different statements) and returned by {@code release()}.
+ */
+class StatementCache {
+
+	private static final Logger log = Logger.getLogger("org.kered.dko.StatementCache");
+
+	private static final Map<Connection,Map<String,PreparedStatement>> caches =
+			new WeakHashMap<Connection,Map<String,PreparedStatement>>();
+
+	/* statements currently checked out, and where to return them */
+	private static final Map<PreparedStatement,Connection> checkedOut =
+			new WeakHashMap<PreparedStatement,Connection>();
+	private static final Map<PreparedStatement,String> checkedOutSQL =
+			new WeakHashMap<PreparedStatement,String>();
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+
+	private static int maxSize = -1;
+
+	static int getMaxSize() {
+		if (maxSize < 0) {
+			final String prop = System.getProperty(Constants.PROPERTY_STATEMENT_CACHE_SIZE);
+			int size = 64;
+			if (prop != null) {
+				try {
+					size = Integer.parseInt(prop.trim());
+				} catch (final NumberFormatException e) {
+					log.warning("bad value for "+ Constants.PROPERTY_STATEMENT_CACHE_SIZE +": "+ prop);
+				}
+			}
+			maxSize = size;
+		}
+		return maxSize;
+	}
+
+	private static Connection physical(final Connection conn) {
+		if (conn instanceof UnClosableConnection) {
+			return ((UnClosableConnection) conn).getUnderlyingConnection();
+		}
+		return conn;
+	}
+
+	private static boolean cacheable(final Connection conn) {
+		if (getMaxSize() <= 0) return false;
+		return conn instanceof UnClosableConnection || Context.isTransactionConnection(conn);
+	}
+
+	static PreparedStatement prepare(final Connection conn, final String sql) throws SQLException {
+		if (!cacheable(conn)) return conn.prepareStatement(sql);
+		final Connection physical = physical(conn);
+		PreparedStatement ps = null;
+		synchronized (caches) {
+			final Map<String, PreparedStatement> cache = caches.get(physical);
+			if (cache != null) ps = cache.remove(sql);
+		}
+		if (ps != null && isClosed(ps)) ps = null;
+		if (ps == null) {
+			misses.incrementAndGet();
+			ps = conn.prepareStatement(sql);
+		} else {
+			hits.incrementAndGet();
+		}
+		synchronized (caches) {
+			checkedOut.put(ps, physical);
+			checkedOutSQL.put(ps, sql);
+		}
+		return ps;
+	}
+
+	/**
+	 * Call instead of {@code ps.close()} for statements from {@code prepare()}.
+	 */
+	static void release(final PreparedStatement ps) throws SQLException {
+		if (ps == null) return;
+		final Connection physical;
+		final String sql;
+		synchronized (caches) {
+			physical = checkedOut.remove(ps);
+			sql = checkedOutSQL.remove(ps);
+		}
+		if (physical == null || sql == null || isClosed(ps) || physical.isClosed()) {
+			if (!isClosed(ps)) ps.close();
+			return;
+		}
+		try {
+			// don't leak this use's settings into the next one
+			ps.clearParameters();
+			ps.clearBatch();
+			ps.setMaxRows(0);
+			ps.setQueryTimeout(0);
+			ps.setFetchSize(0);
+		} catch (final SQLException e) {
+			ps.close();
+			return;
+		}
+		final List<PreparedStatement> toClose = new ArrayList<PreparedStatement>();
+		synchronized (caches) {
+			Map<String, PreparedStatement> cache = caches.get(physical);
+			if (cache == null) {
+				purgeClosedConnections();
+				cache = new LinkedHashMap<String,PreparedStatement>(16, .75f, true);
+				caches.put(physical, cache);
+			}
+			final PreparedStatement old = cache.put(sql, ps);
+			if (old != null && old != ps) toClose.add(old);
+			final Iterator<PreparedStatement> it = cache.values().iterator();
+			while (cache.size() > getMaxSize() && it.hasNext()) {
+				toClose.add(it.next());
+				it.remove();
+			}
+		}
+		for (final PreparedStatement x : toClose) {
+			try {
+				x.close();
+			} catch (final SQLException e) {
+				/* ignore */
+			}
+		}
+	}
+
+	/*
+	 * cached statements reference their connection, so the weak keys never clear on their own
+	 */
+	private static void purgeClosedConnections() {
+		final Iterator<Connection> it = caches.keySet().iterator();
+		while (it.hasNext()) {
+			try {
+				if (it.next().isClosed()) it.remove();
+			} catch (final SQLException e) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Closes all cached statements for a connection. &nbsp; Call before closing it.
+	 */
+	static void closeAll(final Connection conn) {
+		final Map<String, PreparedStatement> cache;
+		synchronized (caches) {
+			cache = caches.remove(physical(conn));
+		}
+		if (cache == null) return;
+		for (final PreparedStatement ps : cache.values()) {
+			try {
+				ps.close();
+			} catch (final SQLException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static boolean isClosed(final PreparedStatement ps) {
+		try {
+			return ps.isClosed();
+		} catch (final SQLException e) {
+			return true;
+		} catch (final AbstractMethodError e) {
+			// pre-JDBC4 driver
+			return false;
+		}
+	}
+
+	static CacheStats stats() {
+		int size = 0;
+		synchronized (caches) {
+			for (final Map<String, PreparedStatement> cache : caches.values()) {
+				size += cache.size();
+			}
+		}
+		return new CacheStats("prepared statements", hits.get(), misses.get(), size);
+	}
+
+}
@@ -1,12 +1,16 @@
 package org.kered.dko;
 
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.sql.DataSource;
 
@@ -75,6 +79,8 @@ public abstract class Table {
 	@SuppressWarnings("rawtypes")
 	UsageMonitor __NOSCO_USAGE_MONITOR = null;
 
+	LazyLoadBatch __NOSCO_LAZY_BATCH = null;
+
 	/**
 	 * Returns true if the object has been modified
 	 * @return true if the object has been modified
@@ -260,6 +266,121 @@ public abstract class Table {
 
 	}
 
+	/**
+	 * Builds instances of a generated class from selected values, and sets their FKs,
+	 * without reflection. &nbsp; Generated classes register one when they're loaded (see
+	 * {@code __register()}); classes generated before that existed get one that falls back
+	 * to reflection. &nbsp; You will never have to use this.
+	 * (the class is public only because the generated classes are in a different package scope)
+	 * @param <S>
+	 */
+	public static abstract class __Factory<S extends Table> {
+
+		/**
+		 * @return a new instance holding {@code objects[start, end)} for {@code fields[start, end)}
+		 */
+		public abstract S newInstance(Expression.Select<?>[] fields, Object[] objects, int start, int end);
+
+		/**
+		 * Sets the object {@code t}'s (to-one) {@code fk} points to.
+		 */
+		public abstract void setFK(S t, Field.FK<?> fk, Object v);
+
+		/**
+		 * Sets the (in-memory) query of the rows whose {@code fk} points to {@code t}.
+		 */
+		public abstract void setFKSet(S t, Field.FK<?> fk, Query<?> v);
+
+		/* weak on both sides, so a redeployed class (and its class loader) can still be
+		 * unloaded: generated classes hold their own factory, and reflected ones are only
+		 * kept until memory runs low */
+		private static final Map<Class<?>,Reference<__Factory<?>>> factories =
+				Collections.synchronizedMap(new WeakHashMap<Class<?>,Reference<__Factory<?>>>());
+
+		static <S extends Table> __Factory<S> of(final Class<S> cls) {
+			__Factory<S> factory = get(cls);
+			if (factory != null) return factory;
+			try {
+				// generated classes register themselves when they're initialized
+				Class.forName(cls.getName(), true, cls.getClassLoader());
+			} catch (final ClassNotFoundException e) {
+				/* ignore */
+			}
+			factory = get(cls);
+			if (factory != null) return factory;
+			factory = new Reflected<S>(cls);
+			factories.put(cls, new SoftReference<__Factory<?>>(factory));
+			return factory;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <S extends Table> __Factory<S> get(final Class<S> cls) {
+			final Reference<__Factory<?>> ref = factories.get(cls);
+			return ref == null ? null : (__Factory<S>) ref.get();
+		}
+
+		/* for classes that don't register a factory */
+		private static class Reflected<S extends Table> extends __Factory<S> {
+			private final Class<S> cls;
+			private java.lang.reflect.Constructor<S> constructor = null;
+			private java.lang.reflect.Method setFK = null;
+			private java.lang.reflect.Method setFKSet = null;
+			Reflected(final Class<S> cls) {
+				this.cls = cls;
+			}
+			@Override
+			public S newInstance(final Expression.Select<?>[] fields, final Object[] objects, final int start, final int end) {
+				try {
+					if (constructor == null) {
+						final java.lang.reflect.Constructor<S> c = cls.getDeclaredConstructor(
+								Expression.Select[].class, Object[].class, Integer.TYPE, Integer.TYPE);
+						c.setAccessible(true);
+						constructor = c;
+					}
+					return constructor.newInstance(fields, objects, start, end);
+				} catch (final Exception e) {
+					throw new RuntimeException("could not build "+ cls.getName(), e);
+				}
+			}
+			@Override
+			public void setFK(final S t, final Field.FK<?> fk, final Object v) {
+				try {
+					if (setFK == null) {
+						final java.lang.reflect.Method m = cls.getDeclaredMethod("SET_FK", Field.FK.class, Object.class);
+						m.setAccessible(true);
+						setFK = m;
+					}
+					setFK.invoke(t, fk, v);
+				} catch (final Exception e) {
+					throw new RuntimeException("could not set "+ fk +" on "+ cls.getName(), e);
+				}
+			}
+			@Override
+			public void setFKSet(final S t, final Field.FK<?> fk, final Query<?> v) {
+				try {
+					if (setFKSet == null) {
+						final java.lang.reflect.Method m = cls.getDeclaredMethod("SET_FK_SET", Field.FK.class, Query.class);
+						m.setAccessible(true);
+						setFKSet = m;
+					}
+					setFKSet.invoke(t, fk, v);
+				} catch (final Exception e) {
+					throw new RuntimeException("could not set "+ fk +" on "+ cls.getName(), e);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Called by generated classes when they're loaded. &nbsp; Only a weak reference to
+	 * {@code factory} is kept, so the class must hold it (in a static field). &nbsp;
+	 * You will never have to call this.
+	 */
+	protected static <S extends Table> void __register(final Class<S> cls, final __Factory<S> factory) {
+		__Factory.factories.put(cls, new WeakReference<__Factory<?>>(factory));
+	}
+
 	/**
 	 * Represents a primary key of a row. &nbsp; Supports compound primary keys. &nbsp;
 	 * Each attribute is accessible by calling {@code get(field)}. &nbsp; Note that this
@@ -376,6 +497,28 @@ public abstract class Table {
 		if (__NOSCO_USAGE_MONITOR!=null) __NOSCO_USAGE_MONITOR.accessedFkCallback(table, fk);
 	}
 
+	/**
+	 * Internal function - please don't use. &nbsp; Subject to change.
+	 * @return true if the FK was loaded (from the transaction's identity map, the referenced
+	 * class's row cache, or along with those of the other objects from the same query)
+	 */
+	protected boolean __NOSCO_PRIVATE_batchLoadFK(final Field.FK<? extends Table> fk) {
+		if (__NOSCO_ORIGINAL_DATA_SOURCE != null) {
+			final IdentityMap identityMap = Context.getIdentityMap(__NOSCO_ORIGINAL_DATA_SOURCE);
+			if (identityMap != null && identityMap.loadFK(this, fk)) return true;
+			if (RowCache.loadFK(this, fk)) return true;
+		}
+		return __NOSCO_LAZY_BATCH!=null && __NOSCO_LAZY_BATCH.load(this, fk);
+	}
+
+	/**
+	 * Internal function - please don't use. &nbsp; Subject to change.
+	 * @return true if the column was loaded (along with those of the other objects from the same query)
+	 */
+	protected boolean __NOSCO_PRIVATE_batchLoadColumn(final Field<?> field) {
+		return __NOSCO_LAZY_BATCH!=null && __NOSCO_LAZY_BATCH.load(this, field);
+	}
+
 	/**
 	 * Internal function - please don't use. &nbsp; Subject to change.
 	 * @param conn
@@ -18,6 +18,8 @@ class UsageStats {
 	private static final int SIX_MONTHS_AGO = 1000 * 60 * 60 * 24 * 265 / 2;
 	private static Map<Integer, QuerySize> cache = null;
 	private static long median = 0;
+	/* set if the stats database couldn't be read, so we don't keep trying */
+	private static volatile boolean unavailable = false;
 	private static final Logger log = Logger.getLogger("org.kered.dko.UsageStats");
 
 	public static long estimateRowCount(final Query<? extends Table> q1) {
@@ -47,6 +49,28 @@ class UsageStats {
 		return qs.getRowCount();
 	}
 
+	/**
+	 * @return the row count recorded for this query, or -1 if there isn't one (never runs it)
+	 */
+	static long knownRowCount(final Query<? extends Table> q) {
+		if (cache == null && !unavailable) {
+			try {
+				init();
+			} catch (final RuntimeException e) {
+				log.fine("usage stats unavailable: "+ e);
+				unavailable = true;
+			} catch (final LinkageError e) {
+				log.fine("usage stats unavailable: "+ e);
+				unavailable = true;
+			}
+			// init() logs and swallows its own SQLExceptions, so don't retry it on every call either
+			if (cache == null) unavailable = true;
+		}
+		if (cache == null) return -1;
+		final QuerySize qs = cache.get(q.hashCode());
+		return qs == null || qs.getRowCount() == null ? -1 : qs.getRowCount();
+	}
+
 	private synchronized static void init() {
 		if (cache != null) return;
 		try {
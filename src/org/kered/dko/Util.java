@@ -11,7 +11,6 @@ import java.sql.Blob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -75,56 +74,8 @@ public class Util {
 	    }
 	}
 
-	@SuppressWarnings("unchecked")
 	static <S> S getTypedValueFromRS(final ResultSet rs, final int i, final Expression.Select<S> field) throws SQLException {
-		final Class<S> type = field instanceof Field ? ((Field<S>)field).TYPE : field.getType();
-		if (type==Byte.class || type==byte.class) {
-			final Byte v = Byte.valueOf(rs.getByte(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Double.class || type==double.class) {
-			final Double v = Double.valueOf(rs.getDouble(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Float.class || type==float.class) {
-			final Float v = Float.valueOf(rs.getFloat(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Integer.class || type==int.class) {
-			final Integer v = Integer.valueOf(rs.getInt(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Long.class || type==long.class) {
-			final Long v = Long.valueOf(rs.getLong(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Short.class || type==short.class) {
-			final Short v = Short.valueOf(rs.getShort(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Boolean.class || type==boolean.class) {
-			final Boolean v = Boolean.valueOf(rs.getBoolean(i));
-			return (S) (rs.wasNull() ? null : v);
-		}
-		if (type==Character.class || type==char.class) {
-			final String s = rs.getString(i);
-			if (s != null && s.length() > 0) return (S) Character.valueOf(s.charAt(0));
-			else return null;
-		}
-		if (type==String.class) {
-			return (S) rs.getString(i);
-		}
-		if (type == Blob.class) {
-			final Blob blob = rs.getBlob(i);
-			return (S) blob;
-		}
-		if (type == Timestamp.class) {
-			final Timestamp ts = rs.getTimestamp(i);
-			return (S) ts;
-		}
-		Object o = rs.getObject(i);
-		if (o instanceof Short) o = ((Short)o).intValue();
-		return (S) o;
+		return ValueReader.forSelect(field, null).read(rs, i);
 	}
 
 	/**
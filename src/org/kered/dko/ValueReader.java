@@ -0,0 +1,172 @@
+package org.kered.dko;
+
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kered.dko.Constants.DB_TYPE;
+
+/**
+ * Reads one column of a {@code ResultSet} as a given Java type. &nbsp; Query iterators
+ * resolve a reader per selected column once and reuse it for every row. &nbsp;
+ * Database specific readers (for instance for odd date or number representations)
+ * can be plugged in with {@code register()}.
+ * @param <S> the type read
+ */
+public abstract class ValueReader<S> {
+
+	/**
+	 * Reads column {@code i} (1-based) of the current row, returning null for SQL NULL.
+	 */
+	public abstract S read(ResultSet rs, int i) throws SQLException;
+
+	/**
+	 * Registers a reader to use for a given Java type on a given database, overriding
+	 * the default one.
+	 * @param dbType
+	 * @param type
+	 * @param reader
+	 */
+	public static <S> void register(final DB_TYPE dbType, final Class<S> type, final ValueReader<? extends S> reader) {
+		synchronized (dialectReaders) {
+			Map<Class<?>, ValueReader<?>> readers = dialectReaders.get(dbType);
+			if (readers == null) {
+				readers = Collections.synchronizedMap(new HashMap<Class<?>, ValueReader<?>>());
+				dialectReaders.put(dbType, readers);
+			}
+			readers.put(type, reader);
+		}
+	}
+
+	private static final Map<DB_TYPE,Map<Class<?>,ValueReader<?>>> dialectReaders =
+			Collections.synchronizedMap(new EnumMap<DB_TYPE,Map<Class<?>,ValueReader<?>>>(DB_TYPE.class));
+
+	@SuppressWarnings("unchecked")
+	static <S> ValueReader<S> forSelect(final Expression.Select<S> field, final DB_TYPE dbType) {
+		final Class<S> type = field instanceof Field ? ((Field<S>)field).TYPE : field.getType();
+		return (ValueReader<S>) forType(type, dbType);
+	}
+
+	static ValueReader<?> forType(final Class<?> type, final DB_TYPE dbType) {
+		if (dbType != null && !dialectReaders.isEmpty()) {
+			final Map<Class<?>, ValueReader<?>> readers = dialectReaders.get(dbType);
+			if (readers != null) {
+				final ValueReader<?> reader = readers.get(type);
+				if (reader != null) return reader;
+			}
+		}
+		if (type==Byte.class || type==byte.class) return BYTE;
+		if (type==Double.class || type==double.class) return DOUBLE;
+		if (type==Float.class || type==float.class) return FLOAT;
+		if (type==Integer.class || type==int.class) return INTEGER;
+		if (type==Long.class || type==long.class) return LONG;
+		if (type==Short.class || type==short.class) return SHORT;
+		if (type==Boolean.class || type==boolean.class) return BOOLEAN;
+		if (type==Character.class || type==char.class) return CHARACTER;
+		if (type==String.class) return STRING;
+		if (type == Blob.class) return BLOB;
+		if (type == Timestamp.class) return TIMESTAMP;
+		return OBJECT;
+	}
+
+	static final ValueReader<Byte> BYTE = new ValueReader<Byte>() {
+		@Override
+		public Byte read(final ResultSet rs, final int i) throws SQLException {
+			final byte v = rs.getByte(i);
+			return rs.wasNull() ? null : Byte.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Double> DOUBLE = new ValueReader<Double>() {
+		@Override
+		public Double read(final ResultSet rs, final int i) throws SQLException {
+			final double v = rs.getDouble(i);
+			return rs.wasNull() ? null : Double.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Float> FLOAT = new ValueReader<Float>() {
+		@Override
+		public Float read(final ResultSet rs, final int i) throws SQLException {
+			final float v = rs.getFloat(i);
+			return rs.wasNull() ? null : Float.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Integer> INTEGER = new ValueReader<Integer>() {
+		@Override
+		public Integer read(final ResultSet rs, final int i) throws SQLException {
+			final int v = rs.getInt(i);
+			return rs.wasNull() ? null : Integer.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Long> LONG = new ValueReader<Long>() {
+		@Override
+		public Long read(final ResultSet rs, final int i) throws SQLException {
+			final long v = rs.getLong(i);
+			return rs.wasNull() ? null : Long.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Short> SHORT = new ValueReader<Short>() {
+		@Override
+		public Short read(final ResultSet rs, final int i) throws SQLException {
+			final short v = rs.getShort(i);
+			return rs.wasNull() ? null : Short.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Boolean> BOOLEAN = new ValueReader<Boolean>() {
+		@Override
+		public Boolean read(final ResultSet rs, final int i) throws SQLException {
+			final boolean v = rs.getBoolean(i);
+			return rs.wasNull() ? null : Boolean.valueOf(v);
+		}
+	};
+
+	static final ValueReader<Character> CHARACTER = new ValueReader<Character>() {
+		@Override
+		public Character read(final ResultSet rs, final int i) throws SQLException {
+			final String s = rs.getString(i);
+			if (s != null && s.length() > 0) return Character.valueOf(s.charAt(0));
+			else return null;
+		}
+	};
+
+	static final ValueReader<String> STRING = new ValueReader<String>() {
+		@Override
+		public String read(final ResultSet rs, final int i) throws SQLException {
+			return rs.getString(i);
+		}
+	};
+
+	static final ValueReader<Blob> BLOB = new ValueReader<Blob>() {
+		@Override
+		public Blob read(final ResultSet rs, final int i) throws SQLException {
+			return rs.getBlob(i);
+		}
+	};
+
+	static final ValueReader<Timestamp> TIMESTAMP = new ValueReader<Timestamp>() {
+		@Override
+		public Timestamp read(final ResultSet rs, final int i) throws SQLException {
+			return rs.getTimestamp(i);
+		}
+	};
+
+	static final ValueReader<Object> OBJECT = new ValueReader<Object>() {
+		@Override
+		public Object read(final ResultSet rs, final int i) throws SQLException {
+			Object o = rs.getObject(i);
+			if (o instanceof Short) o = ((Short)o).intValue();
+			return o;
+		}
+	};
+
+}
@@ -43,7 +43,9 @@ class ClassGenerator {
 	private Map<Pattern, String> schemaTypeMappings;
 	private final Map<String, String> schemaAliases;
 	private String allConstType = null;
+	private Set<String> cachedTables = new HashSet<String>();
 	private String allConstFactory = null;
+	private boolean switchDispatch = false;
 
 
 	public ClassGenerator(final String dir, final String pkg, final String[] stripPrefixes, final String[] stripSuffixes, final Map<String, String> schemaAliases) {
@@ -66,8 +68,8 @@ class ClassGenerator {
 		final String[] stripSuffixes, final String metadataFile, final Map<String, String> schemaAliases,
 		final File fakeFKsFile, final String typeMappingsFile, final String dataSource,
 		final String callbackPackage, final JSONObject enums, final boolean useDetailedToString,
-		final boolean genGson, final String allConstType, final String allConstFactory)
-				throws IOException, JSONException {
+		final boolean genGson, final String allConstType, final String allConstFactory,
+		final Set<String> cachedTables, final boolean switchDispatch) throws IOException, JSONException {
 
 		BufferedReader br = new BufferedReader(new FileReader(metadataFile));
 		StringBuffer sb = new StringBuffer();
@@ -109,6 +111,8 @@ class ClassGenerator {
 		}
 		generator.allConstType = allConstType;
 		generator.allConstFactory = allConstFactory;
+		generator.cachedTables = cachedTables;
+		generator.switchDispatch = switchDispatch;
 
 		final JSONObject schemas = metadata.getJSONObject("schemas");
 		final JSONObject foreignKeys = metadata.getJSONObject("foreign_keys");
@@ -284,6 +288,16 @@ class ClassGenerator {
 		return sb.toString();
 	}
 
+	/* the INDEX the column's field constant is generated with */
+	private static int fieldIndex(final JSONObject columns, final String column) {
+		int index = 0;
+		for (final String c : columns.keySet()) {
+			if (c.equals(column)) return index;
+			++index;
+		}
+		throw new IllegalArgumentException("unknown column "+ column);
+	}
+
 	private void generate(final String schema, final String pkgName, final String table,
 			final JSONObject columns, JSONArray pks, final List<FK> fks, final List<FK> fksIn,
 			final String dataSourceName, final String callbackPackage, final JSONObject enums,
@@ -498,7 +512,22 @@ class ClassGenerator {
 		br.write("\"fields.length != objects.length => \"+ _fields.length +\" != \"+ _objects.length");
 		br.write(" +\"\");\n");
 		br.write("\t\tfor (int _i=_start; _i<_end; ++_i) {\n");
-		for (final String column : columns.keySet()) {
+		if (switchDispatch) {
+			// jump straight to the column by its index (still checking it's the same field)
+			br.write("\t\t\tif (!(_fields[_i] instanceof org.kered.dko.Field)) continue;\n");
+			br.write("\t\t\tswitch (((org.kered.dko.Field)_fields[_i]).INDEX) {\n");
+			for (final String column : columns.keySet()) {
+				br.write("\t\t\tcase "+ fieldIndex(columns, column) +":\n");
+				br.write("\t\t\t\tif (_fields[_i]!="+ getFieldName(column) +") continue;\n");
+				br.write("\t\t\t\t"+ getInstanceFieldName(column) +" = ");
+				br.write(convertToActualType(schema, table, column, columns.getString(column),
+						"("+ getFieldClassType(columns.getString(column)).getName()+ ") _objects[_i]"));
+				br.write(";\n");
+				br.write("\t\t\t\t__NOSCO_FETCHED_VALUES.set("+ getFieldName(column) +".INDEX);\n");
+				br.write("\t\t\t\tcontinue;\n");
+			}
+			br.write("\t\t\t}\n");
+		} else for (final String column : columns.keySet()) {
 			br.write("\t\t\tif (_fields[_i]=="+ getFieldName(column) +") {\n");
 			br.write("\t\t\t\t"+ getInstanceFieldName(column) +" = ");
 			final String assignment = convertToActualType(schema, table, column,
@@ -556,11 +585,20 @@ class ClassGenerator {
 		br.write("\tpublic <S> S get(final org.kered.dko.Expression.Select<S> _select) {\n");
 		br.write("\t\tif (_select instanceof org.kered.dko.Field && "+ className +".class==((org.kered.dko.Field)_select).TABLE) {\n");
 		br.write("\t\t\torg.kered.dko.Field _field = (org.kered.dko.Field)_select;\n");
+		if (switchDispatch) {
+			// the generated fields' GETTERs are these same getters, so skip the reflection
+			br.write("\t\t\tswitch (_field.INDEX) {\n");
+			for (final String column : columns.keySet()) {
+				br.write("\t\t\tcase "+ fieldIndex(columns, column) +": if (_field=="+ getFieldName(column) +") ");
+				br.write("return (S) get"+ getInstanceMethodName(column) +"(); break;\n");
+			}
+			br.write("\t\t\t}\n");
+		}
 		br.write("\t\t\tif (_field.GETTER != null) {\n");
 		br.write("\t\t\t\ttry { return (S) _field.GETTER.invoke(this, (Object[])null); }\n");
 		br.write("\t\t\t\tcatch (Exception e) { e.printStackTrace(); }\n");
 		br.write("\t\t\t}\n");
-		for (final String column : columns.keySet()) {
+		if (!switchDispatch) for (final String column : columns.keySet()) {
 			br.write("\t\t\tif (_field=="+ getFieldName(column) +") ");
 			br.write("return (S) get"+ getInstanceMethodName(column) +"();\n");
 		}
@@ -585,7 +623,16 @@ class ClassGenerator {
 		// write the generic set(field, value) method
 		br.write("\tprivate java.util.Map<org.kered.dko.Expression.Select<?>,Object> __NOSCO_EXTRA_VALUES = null;\n\n");
 		br.write("\tpublic <S> "+ className +" set(final org.kered.dko.Expression.Select<S> _field, final S _value) {\n");
-		for (final String column : columns.keySet()) {
+		if (switchDispatch) {
+			br.write("\t\tif (_field instanceof org.kered.dko.Field) {\n");
+			br.write("\t\t\tswitch (((org.kered.dko.Field<?>)_field).INDEX) {\n");
+			for (final String column : columns.keySet()) {
+				br.write("\t\t\tcase "+ fieldIndex(columns, column) +": if (_field=="+ getFieldName(column) +") return set");
+				br.write(getInstanceMethodName(column) +"(("+ getFieldType(pkgName, table, column, columns.getString(column)) +") _value); break;\n");
+			}
+			br.write("\t\t\t}\n");
+			br.write("\t\t}\n");
+		} else for (final String column : columns.keySet()) {
 			br.write("\t\tif (_field=="+ getFieldName(column) +") return set");
 			br.write(getInstanceMethodName(column) +"(("+ getFieldType(pkgName, table, column, columns.getString(column)) +") _value);\n");
 		}
@@ -606,6 +653,12 @@ class ClassGenerator {
 		br.write("\tpublic static final "+ (allConstType==null ? "org.kered.dko.Query" : allConstType) +"<"+ className +"> ALL = "
 				+ (allConstFactory==null ? "QueryFactory.IT.getQuery" : allConstFactory) +"("+ className +".class)");
 		br.write(";\n\n");
+		if (cachedTables.contains(table.toLowerCase()) || cachedTables.contains((schema +"."+ table).toLowerCase())) {
+			br.write("\tstatic {\n");
+			br.write("\t\torg.kered.dko.Context.getVMContext().setRowCache("+ className
+					+".class, org.kered.dko.RowCache.create()).setAutoUndo(false);\n");
+			br.write("\t}\n\n");
+		}
 		if (dataSourceName != null) {
 			br.write("\tstatic DataSource __DEFAULT_DATASOURCE = "+ pkg +"."
 					+ dataSourceName +".INSTANCE;\n\n");
@@ -672,7 +725,8 @@ class ClassGenerator {
 			br.write("\t */\n");
 			br.write("\tpublic "+ cls +" get"+ getInstanceMethodName(column) +"() {\n");
 			br.write("\t\t\t__NOSCO_PRIVATE_accessedColumnCallback(this, "+ getFieldName(column) +");\n");
-			br.write("\t\tif (!__NOSCO_FETCHED_VALUES.get("+ getFieldName(column) +".INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null) {\n");
+			br.write("\t\tif (!__NOSCO_FETCHED_VALUES.get("+ getFieldName(column) +".INDEX) && __NOSCO_ORIGINAL_DATA_SOURCE!=null\n");
+			br.write("\t\t\t\t&& !__NOSCO_PRIVATE_batchLoadColumn("+ getFieldName(column) +")) {\n");
 			br.write("\t\t\tfinal "+ className +" _tmp = ALL.use(__NOSCO_ORIGINAL_DATA_SOURCE).onlyFields(");
 			br.write(getFieldName(column)+")");
 			for (final String pk : pkSet) {
@@ -731,10 +785,12 @@ class ClassGenerator {
 			br.write("\tpublic "+ referencedTableClassName +" get"+ methodName +"() {\n");
 			final String fkName = genFKName(fk.columns.keySet(), referencedTable);
 			br.write("\t\tif (!__NOSCO_FETCHED_VALUES.get("+ fkName +".INDEX)) {\n");
-			br.write("\t\t\t"+ cachedObjectName +" = "+ referencedTableClassName +".ALL");
+			br.write("\t\t\tif (!__NOSCO_PRIVATE_batchLoadFK("+ fkName +")) {\n");
+			br.write("\t\t\t\t"+ cachedObjectName +" = "+ referencedTableClassName +".ALL");
 			br.write(".where("+ referencedTableClassName +"."+ getFieldName(fk.columns.values()) +".eq(get"+ Util.underscoreToCamelCase(fk.columns.keySet(), true) +"()))");
 			br.write(".getTheOnly();\n");
-			br.write("\t\t\t__NOSCO_FETCHED_VALUES.set("+ fkName +".INDEX);\n");
+			br.write("\t\t\t\t__NOSCO_FETCHED_VALUES.set("+ fkName +".INDEX);\n");
+			br.write("\t\t\t}\n");
 			br.write("\t\t\t__NOSCO_PRIVATE_accessedFkCallback(this, "+ fkName +");\n");
 			br.write("\t\t}\n");
 			br.write("\t\treturn "+ cachedObjectName +";\n\t}\n\n");
@@ -801,6 +857,24 @@ class ClassGenerator {
 		br.write("\t\telse {throw new RuntimeException(\"unknown FK\");}\n");
 		br.write("\t}\n\n");
 
+		// register a factory so rows are built and linked without reflection
+		// (the registry only holds it weakly, so the class keeps it)
+		br.write("\tprivate static final Table.__Factory<"+ className +"> __NOSCO_FACTORY = new Table.__Factory<"+ className +">() {\n");
+		br.write("\t\t@SuppressWarnings(\"rawtypes\")\n");
+		br.write("\t\tpublic "+ className +" newInstance(final org.kered.dko.Expression.Select<?>[] _fields, final Object[] _objects, final int _start, final int _end) {\n");
+		br.write("\t\t\treturn new "+ className +"((org.kered.dko.Expression.Select[]) _fields, _objects, _start, _end);\n");
+		br.write("\t\t}\n");
+		br.write("\t\tpublic void setFK(final "+ className +" _t, final Field.FK<?> _fk, final Object _v) {\n");
+		br.write("\t\t\t_t.SET_FK(_fk, _v);\n");
+		br.write("\t\t}\n");
+		br.write("\t\tpublic void setFKSet(final "+ className +" _t, final Field.FK<?> _fk, final Query<?> _v) {\n");
+		br.write("\t\t\t_t.SET_FK_SET(_fk, _v);\n");
+		br.write("\t\t}\n");
+		br.write("\t};\n");
+		br.write("\tstatic {\n");
+		br.write("\t\t__register("+ className +".class, __NOSCO_FACTORY);\n");
+		br.write("\t}\n\n");
+
 		// write the getTableFKSet() functions
 		final Map<String, Integer> reffingCounts = new HashMap<String,Integer>();
 		for (final FK fk : fksIn) {
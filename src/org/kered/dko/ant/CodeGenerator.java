@@ -102,6 +102,27 @@ public class CodeGenerator extends Task {
 		base.setUseDetailedToString(s);
 	}
 
+	/**
+	 * Comma separated list of tables ("table" or "schema.table") whose generated classes
+	 * should turn on a second-level row cache (see {@code org.kered.dko.RowCache}) when loaded.
+	 * @param s
+	 */
+	public void setCachedTables(final String s) {
+		base.setCachedTables(s);
+	}
+
+	/**
+	 * By default generated DKOs find a field's column (when building a row, or in
+	 * {@code get(field)} and {@code set(field, value)}) by comparing it to each of the
+	 * table's fields in turn. &nbsp; Set this to true to generate a {@code switch} on the
+	 * field's {@code INDEX} instead, so the cost doesn't grow with the number of columns.
+	 * Worth it for wide tables.
+	 * @param s
+	 */
+	public void setSwitchDispatch(final String s) {
+		base.setSwitchDispatch(s);
+	}
+
 //	public void setGson(final String s) {
 //		this.genGson  = Util.truthy(s);
 //	}
@@ -10,8 +10,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -61,6 +63,8 @@ public class CodeGeneratorBase {
 	private final boolean genGson = false;
 	private String allConstType = null;
 	private String allConstFactory = null;
+	private final Set<String> cachedTables = new HashSet<String>();
+	private boolean switchDispatch = false;
 
 	/**
 	 * Path to the jar file that should be generated.
@@ -163,6 +167,29 @@ public class CodeGeneratorBase {
 		this.useDetailedToString  = Util.truthy(s);
 	}
 
+	/**
+	 * Comma separated list of tables ("table" or "schema.table") whose generated classes
+	 * should turn on a second-level row cache (see {@code org.kered.dko.RowCache}) when loaded.
+	 * @param s
+	 */
+	public void setCachedTables(final String s) {
+		for (final String x : s.split(",")) {
+			if (x.trim().length() > 0) cachedTables.add(x.trim().toLowerCase());
+		}
+	}
+
+	/**
+	 * By default generated DKOs find a field's column (when building a row, or in
+	 * {@code get(field)} and {@code set(field, value)}) by comparing it to each of the
+	 * table's fields in turn. &nbsp; Set this to true to generate a {@code switch} on the
+	 * field's {@code INDEX} instead, so the cost doesn't grow with the number of columns.
+	 * Worth it for wide tables.
+	 * @param s
+	 */
+	public void setSwitchDispatch(final String s) {
+		this.switchDispatch  = Util.truthy(s);
+	}
+
 //	public void setGson(final String s) {
 //		this.genGson  = Util.truthy(s);
 //	}
@@ -344,6 +371,20 @@ public class CodeGeneratorBase {
 					"'title'.)  Setting this to true will make toString() wrap toStringDetailed() instead.  " +
 					"Both methods are available on each generated object.";
 		}
+		if ("setCachedTables".equals(method)) {
+			return "<string> (optional)\n" +
+					"Comma separated list of tables (like 'table1, schema2.table2') whose generated classes " +
+					"register a default second-level row cache with the VM context when they're loaded.  " +
+					"Lookups by primary key and lazy FK loads of these tables are then served from memory.  " +
+					"Use this for small, mostly read tables.  (see org.kered.dko.RowCache)";
+		}
+		if ("setSwitchDispatch".equals(method)) {
+			return "<true|false> (optional; default:false)\n" +
+					"By default generated classes find a field's column (when building rows, and in get(field) " +
+					"and set(field, value)) by comparing it against each column's field in turn.  Setting this " +
+					"to true generates a switch on the field's INDEX instead, which takes the same time no matter " +
+					"how many columns the table has.  Worth it for wide tables.";
+		}
 		if ("setSchemaAliases".equals(method)) {
 			return "<string> (optional)\n" +
 					"By default, DKOs use the schema name as the last package name.  If you want to change these " +
@@ -433,7 +474,8 @@ public class CodeGeneratorBase {
 			org.kered.dko.ant.ClassGenerator.go(tempDir.getAbsolutePath(), pkg,
 					stripPrefixes, stripSuffixes, schemas.getAbsolutePath(), schemaAliases,
 					fake_fks, typeMappings==null ? null : typeMappings.getAbsolutePath(),
-					dataSource, callbackPackage, enums, useDetailedToString, genGson, allConstType, allConstFactory);
+					dataSource, callbackPackage, enums, useDetailedToString, genGson, allConstType, allConstFactory, cachedTables,
+					switchDispatch);
 
 			if (dataSource != null) {
 				org.kered.dko.ant.DataSourceGenerator.go(tempDir.getAbsolutePath(), pkg, dataSource,
@@ -0,0 +1,78 @@
+package org.kered.dko;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.kered.dko.unittest.nosco_test_jpetstore.Item;
+
+/**
+ * Compares {@code Condition.matches()} with the compiled form from
+ * {@code Condition.compiled()}, on the shapes of condition in-memory queries see.
+ * (lives in org.kered.dko because both are package private)
+ */
+public class ConditionBenchmarks extends TestCase {
+
+	final static int ROWS = 100000;
+	final static int PASSES = 100;
+
+	final static List<Item> items = new ArrayList<Item>();
+	static {
+		final Random r = new Random(0);
+		for (int i=0; i<ROWS; ++i) {
+			items.add(new Item().setItemid("EST-"+ i).setSupplier(r.nextInt(100))
+					.setProductid(i%10==0 ? null : "P-"+ r.nextInt(50))
+					.setListprice(new BigDecimal(r.nextInt(10000)).movePointLeft(2)));
+		}
+	}
+
+	final static Condition CONDITION = Item.SUPPLIER.gt(20)
+			.and(Item.LISTPRICE.between(new BigDecimal("10.00"), new BigDecimal("80.00")))
+			.and(Item.PRODUCTID.in("P-1", "P-3", "P-5", "P-7", "P-11", "P-13", "P-17")
+					.or(Item.PRODUCTID.isNull()));
+
+	public void testInterpreted() throws Exception {
+		final long start = System.currentTimeMillis();
+		long matched = 0;
+		for (int pass=0; pass<PASSES; ++pass) {
+			for (final Item item : items) {
+				if (CONDITION.matches(item)) ++matched;
+			}
+		}
+		report("testInterpreted", start, matched);
+	}
+
+	public void testCompiled() throws Exception {
+		final long start = System.currentTimeMillis();
+		long matched = 0;
+		for (int pass=0; pass<PASSES; ++pass) {
+			final CompiledCondition c = CONDITION.compiled();
+			for (final Item item : items) {
+				if (c.matches(item)) ++matched;
+			}
+		}
+		report("testCompiled", start, matched);
+	}
+
+	private static void report(final String name, final long start, final long matched) {
+		final long end = System.currentTimeMillis();
+		final double time = (end-start)/1000.0;
+		System.err.println(name +" took "+ time +" seconds, or "+
+				(time * 1000000000 / ((double) ROWS * PASSES)) +" ns per row ("+ matched +" matched)");
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final ConditionBenchmarks o = new ConditionBenchmarks();
+		if (Math.random() < .5) {
+			o.testInterpreted();
+			o.testCompiled();
+		} else {
+			o.testCompiled();
+			o.testInterpreted();
+		}
+	}
+
+}
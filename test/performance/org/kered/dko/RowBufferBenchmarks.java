@@ -0,0 +1,86 @@
+package org.kered.dko;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedList;
+import java.util.Queue;
+
+import junit.framework.TestCase;
+
+/**
+ * Compares the per-row allocation of the old {@code LinkedList} row queue in
+ * {@code DBRowIterator} with the recycling {@code RowBuffer}.
+ * (lives in org.kered.dko because both are package private)
+ */
+public class RowBufferBenchmarks extends TestCase {
+
+	final static int WIDTH = 12;
+	final static int BATCH_SIZE = 2048;
+	final static long COUNT = 10000000;
+	final static Object VALUE = "x";
+
+	public void testLinkedListQueue() throws Exception {
+		final long startBytes = allocatedBytes();
+		final long start = System.currentTimeMillis();
+		final Queue<Object[]> queue = new LinkedList<Object[]>();
+		long sink = 0;
+		for (long i=0; i<COUNT; i+=BATCH_SIZE) {
+			for (int j=0; j<BATCH_SIZE; ++j) {
+				final Object[] row = new Object[WIDTH];
+				for (int k=0; k<WIDTH; ++k) row[k] = VALUE;
+				queue.add(row);
+			}
+			while (!queue.isEmpty()) {
+				sink += queue.poll().length;
+			}
+		}
+		report("testLinkedListQueue", start, startBytes, sink);
+	}
+
+	public void testRowBuffer() throws Exception {
+		final long startBytes = allocatedBytes();
+		final long start = System.currentTimeMillis();
+		final RowBuffer buffer = new RowBuffer(WIDTH, BATCH_SIZE);
+		long sink = 0;
+		for (long i=0; i<COUNT; i+=BATCH_SIZE) {
+			for (int j=0; j<BATCH_SIZE; ++j) {
+				final Object[] row = buffer.add();
+				for (int k=0; k<WIDTH; ++k) row[k] = VALUE;
+			}
+			while (!buffer.isEmpty()) {
+				final Object[] row = buffer.poll();
+				sink += row.length;
+				buffer.recycle(row);
+			}
+		}
+		report("testRowBuffer", start, startBytes, sink);
+	}
+
+	private static void report(final String name, final long start, final long startBytes, final long sink) {
+		final long end = System.currentTimeMillis();
+		final long bytes = allocatedBytes() - startBytes;
+		final double time = (end-start)/1000.0;
+		System.err.println(name +" took "+ time +" seconds, allocating "+
+				(startBytes < 0 ? "?" : String.valueOf(bytes / (double) COUNT)) +" bytes per row ("+ sink +")");
+	}
+
+	private static long allocatedBytes() {
+		final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final RowBufferBenchmarks o = new RowBufferBenchmarks();
+		if (Math.random() < .5) {
+			o.testLinkedListQueue();
+			o.testRowBuffer();
+		} else {
+			o.testRowBuffer();
+			o.testLinkedListQueue();
+		}
+	}
+
+}
@@ -0,0 +1,89 @@
+package performance;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import org.kered.dko.Expression;
+import org.kered.dko.Field;
+import org.kered.dko.Table;
+import org.kered.dko.unittest.nosco_test_jpetstore.Item;
+
+import junit.framework.TestCase;
+
+/**
+ * Times building rows and {@code get(field)}/{@code set(field, value)} on every column of a
+ * generated class. &nbsp; Run it against classes generated with and without the
+ * {@code switchDispatch} codegen option to compare the two; the gap grows with the
+ * number of columns, so pass the name of a wide table's class to see it.
+ */
+public class FieldDispatchBenchmarks extends TestCase {
+
+	final static long COUNT = 1000000;
+
+	Class<? extends Table> type = Item.class;
+
+	@SuppressWarnings("rawtypes")
+	public void testBuild() throws Exception {
+		final List<Field<?>> fields = fields(type);
+		final Expression.Select[] selects = fields.toArray(new Expression.Select[fields.size()]);
+		final Object[] values = new Object[selects.length];
+		final Constructor<? extends Table> c = type.getDeclaredConstructor(
+				Expression.Select[].class, Object[].class, int.class, int.class);
+		c.setAccessible(true);
+		long sink = 0;
+		final long start = System.currentTimeMillis();
+		for (int i=0; i<COUNT; ++i) {
+			sink += c.newInstance(selects, values, 0, selects.length).hashCode() & 1;
+		}
+		report("testBuild", start, selects.length, sink);
+	}
+
+	public void testGet() throws Exception {
+		final List<Field<?>> fields = fields(type);
+		final Table t = type.newInstance();
+		long sink = 0;
+		final long start = System.currentTimeMillis();
+		for (int i=0; i<COUNT; ++i) {
+			for (final Field<?> field : fields) {
+				if (t.get(field) == null) ++sink;
+			}
+		}
+		report("testGet", start, fields.size(), sink);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testSet() throws Exception {
+		final List<Field<?>> fields = fields(type);
+		final Table t = type.newInstance();
+		long sink = 0;
+		final long start = System.currentTimeMillis();
+		for (int i=0; i<COUNT; ++i) {
+			for (final Field field : fields) {
+				if (t.set(field, null) == t) ++sink;
+			}
+		}
+		report("testSet", start, fields.size(), sink);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Field<?>> fields(final Class<? extends Table> type) throws Exception {
+		return (List<Field<?>>) type.getField("_FIELDS").get(null);
+	}
+
+	private void report(final String name, final long start, final int columns, final long sink) {
+		final long end = System.currentTimeMillis();
+		final double time = (end-start)/1000.0;
+		System.err.println(name +" on "+ type.getSimpleName() +" ("+ columns +" columns) took "+ time
+				+" seconds, or "+ (time/COUNT) +" per row ("+ sink +")");
+	}
+
+	@SuppressWarnings("unchecked")
+	public static void main(final String[] args) throws Exception {
+		final FieldDispatchBenchmarks o = new FieldDispatchBenchmarks();
+		if (args.length > 0) o.type = (Class<? extends Table>) Class.forName(args[0]);
+		o.testBuild();
+		o.testGet();
+		o.testSet();
+	}
+
+}
@@ -8,11 +8,14 @@ import java.io.File;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -20,6 +23,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -27,6 +39,8 @@ import junit.framework.TestCase;
 
 import org.kered.dko.Bulk;
 import org.kered.dko.CSV;
+import org.kered.dko.CacheStats;
+import org.kered.dko.ColumnIterator;
 import org.kered.dko.Condition;
 import org.kered.dko.Constants;
 import org.kered.dko.Constants.CALENDAR;
@@ -37,8 +51,12 @@ import org.kered.dko.Diff.RowChange;
 import org.kered.dko.Field;
 import org.kered.dko.Field.Tag;
 import org.kered.dko.Join;
+import org.kered.dko.Param;
+import org.kered.dko.PreparedQuery;
 import org.kered.dko.Query;
 import org.kered.dko.QueryFactory;
+import org.kered.dko.RowCache;
+import org.kered.dko.RowPublisher;
 import org.kered.dko.Table;
 import org.kered.dko.datasource.ConnectionCountingDataSource;
 import org.kered.dko.unittest.nosco_test_jpetstore.Account;
@@ -1179,4 +1197,723 @@ public class SharedDBTests extends TestCase {
 		}
 	}
 
+	public void testSqlCache() throws SQLException {
+		printTestName();
+		assertEquals(Arrays.asList("EST-1"), ids(Item.ALL.where(Item.ITEMID.eq("EST-1"))));
+		final long hits = CacheStats.forSQL().getHits();
+		// the same shape with other values reuses the SQL
+		assertEquals(Arrays.asList("EST-2"), ids(Item.ALL.where(Item.ITEMID.eq("EST-2"))));
+		assertTrue(CacheStats.forSQL().getHits() > hits);
+		// in() lists of different lengths are different shapes
+		assertEquals(Arrays.asList("EST-3", "EST-4"),
+				ids(Item.ALL.where(Item.ITEMID.in("EST-3", "EST-4")).orderBy(Item.ITEMID)));
+		assertEquals(Arrays.asList("EST-3", "EST-4", "EST-5"),
+				ids(Item.ALL.where(Item.ITEMID.in("EST-3", "EST-4", "EST-5")).orderBy(Item.ITEMID)));
+		assertEquals(Arrays.asList("EST-6", "EST-7"),
+				ids(Item.ALL.where(Item.ITEMID.in("EST-6", "EST-7")).orderBy(Item.ITEMID)));
+	}
+
+	private static List<String> ids(final Iterable<Item> items) {
+		final List<String> ret = new ArrayList<String>();
+		for (final Item item : items) ret.add(item.getItemid());
+		return ret;
+	}
+
+	public void testPrepare() throws SQLException {
+		printTestName();
+		final Param<String> itemId = new Param<String>(String.class);
+		final PreparedQuery<Item> byId = Item.ALL.where(Item.ITEMID.eq(itemId)).prepare();
+		for (final String id : new String[] {"EST-1", "EST-2", "nope"}) {
+			assertEquals(ids(Item.ALL.where(Item.ITEMID.eq(id))), ids(byId.execute(id)));
+		}
+		assertNull(byId.first("nope"));
+
+		// args are taken in the order passed to prepare()
+		final Param<String> productId = new Param<String>(String.class);
+		final Param<Integer> supplier = new Param<Integer>(Integer.class);
+		final PreparedQuery<Item> q = Item.ALL.where(Item.PRODUCTID.eq(productId), Item.SUPPLIER.eq(supplier))
+				.orderBy(Item.ITEMID).prepare(supplier, productId);
+		assertEquals(ids(Item.ALL.where(Item.PRODUCTID.eq("FI-SW-01"), Item.SUPPLIER.eq(1)).orderBy(Item.ITEMID)),
+				ids(q.execute(1, "FI-SW-01")));
+		assertEquals(ids(Item.ALL.where(Item.PRODUCTID.eq("K9-BD-01"), Item.SUPPLIER.eq(2)).orderBy(Item.ITEMID)),
+				ids(q.execute(2, "K9-BD-01")));
+	}
+
+	public void testIdentityMap() throws SQLException {
+		printTestName();
+		Context.getThreadContext().startTransaction(ds, true);
+		try {
+			final Item a = Item.ALL.where(Item.ITEMID.eq("EST-1")).getTheOnly();
+			Item b = null;
+			for (final Item i : Item.ALL) if ("EST-1".equals(i.getItemid())) b = i;
+			assertSame(a, b);
+			final Product p = Product.ALL.where(Product.PRODUCTID.eq(a.getProductid())).getTheOnly();
+			assertSame(p, a.getProductidFK());
+			assertSame(p, Product.ALL.get(pk(Product.class, Product.PRODUCTID, p.getProductid())));
+
+			// query updates are applied to the mapped instance, and deletes evict it
+			Product.ALL.where(Product.PRODUCTID.eq(p.getProductid())).set(Product.NAME, "renamed").update();
+			assertEquals("renamed", p.getName());
+			assertNotNull(Item.ALL.where(Item.ITEMID.eq("EST-2")).getTheOnly());
+			Item.ALL.where(Item.ITEMID.eq("EST-2")).delete();
+			assertNull(Item.ALL.get(pk(Item.class, Item.ITEMID, "EST-2")));
+		} finally {
+			Context.getThreadContext().rollbackTransaction(ds);
+		}
+		// outside of a transaction every query gets its own instances
+		assertNotSame(Item.ALL.where(Item.ITEMID.eq("EST-1")).getTheOnly(),
+				Item.ALL.where(Item.ITEMID.eq("EST-1")).getTheOnly());
+	}
+
+	private static <T extends Table> Table.__PrimaryKey<T> pk(final Class<T> cls, final Field<?> field, final Object value) {
+		return new Table.__PrimaryKey<T>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public <R> R get(final Field<R> f) {
+				return f == field ? (R) value : null;
+			}
+			@Override
+			public List<Field<?>> FIELDS() {
+				return Collections.<Field<?>>singletonList(field);
+			}
+		};
+	}
+
+	public void testRowCache() throws SQLException {
+		printTestName();
+		final Undoer undoer = Context.getThreadContext().setRowCache(Product.class, RowCache.create());
+		try {
+			final Product p = Product.ALL.where(Product.PRODUCTID.eq("FI-SW-01")).getTheOnly();
+			new Product().setProductid("TEST-1").setCategory(p.getCategory()).setName(p.getName()).insert();
+			final Table.__PrimaryKey<Product> pk = pk(Product.class, Product.PRODUCTID, "TEST-1");
+			final Product p1 = Product.ALL.get(pk);
+			final long hits = CacheStats.forRows(Product.class).getHits();
+			final Product p2 = Product.ALL.get(pk);
+			assertEquals(hits + 1, CacheStats.forRows(Product.class).getHits());
+			assertNotSame(p1, p2);
+			assertEquals(p1.getName(), p2.getName());
+
+			// writes invalidate the cached row
+			p2.setName("renamed");
+			p2.update();
+			assertEquals("renamed", Product.ALL.get(pk).getName());
+			Product.ALL.where(Product.PRODUCTID.eq("TEST-1")).set(Product.NAME, "renamed again").update();
+			assertEquals("renamed again", Product.ALL.get(pk).getName());
+			Product.ALL.where(Product.PRODUCTID.eq("TEST-1")).delete();
+			assertNull(Product.ALL.get(pk));
+		} finally {
+			undoer.undo();
+		}
+	}
+
+	public void testResultCache() throws SQLException {
+		printTestName();
+		// results are cached per datasource, so don't let a VM context datasource left over from
+		// another test (undone whenever its Undoer is collected) switch it under us
+		final Query<Item> q = Item.ALL.use(ds).where(Item.PRODUCTID.eq("FI-SW-01")).orderBy(Item.ITEMID).cached(60000);
+		final long count = q.count();
+		final List<Item> items = q.asList();
+		final long hits = CacheStats.forResults().getHits();
+		assertEquals(count, q.count());
+		final List<Item> items2 = q.asList();
+		assertEquals(hits + 2, CacheStats.forResults().getHits());
+		assertEquals(ids(items), ids(items2));
+		assertNotSame(items.get(0), items2.get(0));
+
+		// writes to the table invalidate it
+		final Item i = items2.get(0);
+		i.setProductid("K9-BD-01");
+		i.update();
+		assertEquals(count - 1, q.count());
+		assertEquals(count - 1, q.asList().size());
+		Item.ALL.use(ds).where(Item.ITEMID.eq(i.getItemid())).set(Item.PRODUCTID, "FI-SW-01").update();
+		assertEquals(count, q.count());
+		assertEquals(ids(items), ids(q.asList()));
+	}
+
+	public void testParallel() throws SQLException {
+		printTestName();
+		final List<String> expected = ids(Item.ALL.orderBy(Item.ITEMID));
+		final List<String> unordered = ids(Item.ALL.parallel(4, Item.LISTPRICE));
+		Collections.sort(unordered);
+		assertEquals(expected, unordered);
+		assertEquals(ids(Item.ALL.orderBy(Item.LISTPRICE.desc(), Item.ITEMID)),
+				ids(Item.ALL.parallel(4, Item.LISTPRICE).orderBy(Item.LISTPRICE.desc(), Item.ITEMID)));
+		assertEquals(ids(Item.ALL.where(Item.SUPPLIER.eq(1)).orderBy(Item.ITEMID)),
+				ids(Item.ALL.where(Item.SUPPLIER.eq(1)).parallel(3).orderBy(Item.ITEMID)));
+	}
+
+	public void testAsync() throws Exception {
+		printTestName();
+		final Query<Item> q = Item.ALL.where(Item.SUPPLIER.eq(1)).orderBy(Item.ITEMID);
+		assertEquals(q.count(), (long) q.countAsync().get());
+		assertEquals(ids(q), ids(q.asListAsync().get()));
+		assertEquals(q.first().getItemid(), q.firstAsync().get().getItemid());
+		assertEquals("EST-1", Item.ALL.where(Item.ITEMID.eq("EST-1")).getTheOnlyAsync().get().getItemid());
+		assertEquals(q.mapBy(Item.ITEMID).keySet(), q.mapByAsync(Item.ITEMID).get().keySet());
+		assertEquals(1, (int) Item.ALL.where(Item.ITEMID.eq("EST-1")).set(Item.STATUS, "X").updateAsync().get());
+		assertEquals("X", Item.ALL.where(Item.ITEMID.eq("EST-1")).getTheOnly().getStatus());
+		new Item().setItemid("test-async").setProductid("FI-SW-01").insert();
+		assertEquals(1, (int) Item.ALL.where(Item.ITEMID.eq("test-async")).deleteAsync().get());
+		assertEquals(0, Item.ALL.where(Item.ITEMID.eq("test-async")).count());
+
+		// in a transaction they run on the caller's thread, in the transaction
+		Context.getThreadContext().startTransaction(ds);
+		try {
+			new Item().setItemid("test-async").setProductid("FI-SW-01").insert();
+			final Future<Long> f = Item.ALL.where(Item.ITEMID.eq("test-async")).countAsync();
+			assertTrue(f.isDone());
+			assertEquals(1, (long) f.get());
+		} finally {
+			Context.getThreadContext().rollbackTransaction(ds);
+		}
+		assertEquals(0, Item.ALL.where(Item.ITEMID.eq("test-async")).count());
+	}
+
+	public void testPrefetch() throws SQLException {
+		printTestName();
+		final List<String> expected = ids(Item.ALL.orderBy(Item.ITEMID));
+		final Query<Item> items = Item.ALL.orderBy(Item.ITEMID).prefetch();
+		final Query<Supplier> suppliers = Supplier.ALL.prefetch();
+		assertEquals(expected, ids(items));
+		assertEquals(Supplier.ALL.count(), suppliers.asList().size());
+		// later iterations run it again
+		assertEquals(expected, ids(items));
+
+		// in a transaction it reads the transaction's rows
+		Context.getThreadContext().startTransaction(ds);
+		try {
+			new Item().setItemid("test-pre").setProductid("FI-SW-01").insert();
+			assertEquals(Arrays.asList("test-pre"), ids(Item.ALL.where(Item.ITEMID.eq("test-pre")).prefetch()));
+		} finally {
+			Context.getThreadContext().rollbackTransaction(ds);
+		}
+	}
+
+	public void testPublisher() throws Exception {
+		printTestName();
+		final List<String> expected = ids(Item.ALL.orderBy(Item.ITEMID));
+		final RowPublisher<Item> publisher = Item.ALL.orderBy(Item.ITEMID).asPublisher();
+
+		// rows are only read as they're requested
+		final Recorder r = new Recorder();
+		publisher.subscribe(r);
+		assertNull(r.poll());
+		r.subscription.request(2);
+		assertEquals(expected.subList(0, 2), r.take(2));
+		assertNull(r.poll());
+		r.subscription.request(Long.MAX_VALUE);
+		assertEquals(expected.subList(2, expected.size()), r.take(expected.size() - 2));
+		assertEquals(Recorder.COMPLETE, r.next());
+
+		// and not at all after cancel()
+		final Recorder r2 = new Recorder();
+		publisher.subscribe(r2);
+		r2.subscription.request(3);
+		assertEquals(expected.subList(0, 3), r2.take(3));
+		r2.subscription.cancel();
+		r2.subscription.request(5);
+		assertNull(r2.poll());
+
+		// asking for no rows is an error
+		final Recorder r3 = new Recorder();
+		publisher.subscribe(r3);
+		r3.subscription.request(0);
+		assertTrue(r3.next() instanceof IllegalArgumentException);
+		r3.subscription.request(5);
+		assertNull(r3.poll());
+	}
+
+	public void testPublisherContext() throws Exception {
+		printTestName();
+		// rows are read in the subscribing thread's context, whichever thread requests them
+		final Recorder r = new Recorder();
+		final Undoer u = Context.getThreadContext().overrideDatabaseName(ds, Item._SCHEMA_NAME, "bad_db_name");
+		try {
+			Item.ALL.asPublisher().subscribe(r);
+		} finally {
+			u.undo();
+		}
+		r.subscription.request(1);
+		assertTrue(r.next() instanceof Throwable);
+		assertNull(r.poll());
+	}
+
+	/* records what a RowPublisher sends it: item ids, COMPLETE and errors */
+	private static class Recorder implements RowPublisher.Subscriber<Item> {
+		static final Object COMPLETE = "complete";
+		final BlockingQueue<Object> events = new LinkedBlockingQueue<Object>();
+		volatile RowPublisher.Subscription subscription = null;
+		@Override
+		public void onSubscribe(final RowPublisher.Subscription s) {
+			subscription = s;
+		}
+		@Override
+		public void onNext(final Item t) {
+			events.add(t.getItemid());
+		}
+		@Override
+		public void onError(final Throwable t) {
+			events.add(t);
+		}
+		@Override
+		public void onComplete() {
+			events.add(COMPLETE);
+		}
+		Object next() throws InterruptedException {
+			final Object o = events.poll(10, TimeUnit.SECONDS);
+			assertNotNull("timed out", o);
+			return o;
+		}
+		List<Object> take(final int n) throws InterruptedException {
+			final List<Object> ret = new ArrayList<Object>();
+			for (int i=0; i<n; ++i) ret.add(next());
+			return ret;
+		}
+		/* @return the next event if one comes soon, else null */
+		Object poll() throws InterruptedException {
+			return events.poll(200, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public void testSplit() throws SQLException {
+		printTestName();
+		final List<String> expected = ids(Item.ALL.orderBy(Item.ITEMID));
+		for (final Field<? extends Number> field : new Field[] {null, Item.LISTPRICE, Item.SUPPLIER}) {
+			final List<Query<Item>> parts = Item.ALL.split(4, field);
+			assertTrue(parts.size() >= 1);
+			final List<String> got = new ArrayList<String>();
+			for (final Query<Item> part : parts) got.addAll(ids(part));
+			Collections.sort(got);
+			assertEquals(expected, got);
+		}
+	}
+
+	public void testPages() throws SQLException {
+		printTestName();
+		// ties are broken by the primary key
+		assertPages(Item.ALL.orderBy(Item.LISTPRICE.desc()), Item.ALL.orderBy(Item.LISTPRICE.desc(), Item.ITEMID), 4);
+		assertPages(Item.ALL.orderBy(Item.PRODUCTID, Item.LISTPRICE.desc()),
+				Item.ALL.orderBy(Item.PRODUCTID, Item.LISTPRICE.desc(), Item.ITEMID), 3);
+		assertPages(Item.ALL.where(Item.SUPPLIER.eq(1)).orderBy(Item.STATUS.desc(), Item.PRODUCTID),
+				Item.ALL.where(Item.SUPPLIER.eq(1)).orderBy(Item.STATUS.desc(), Item.PRODUCTID, Item.ITEMID), 5);
+		assertPages(Item.ALL, Item.ALL.orderBy(Item.ITEMID), 7);
+		// and NULLs (EST-29 has no supplier) are paged past wherever the database sorts them
+		new Item().setItemid("test-pages").setProductid("FI-SW-01").setSupplier(2).insert();
+		for (final int pageSize : new int[] {1, 4}) {
+			assertPages(Item.ALL.orderBy(Item.SUPPLIER), Item.ALL.orderBy(Item.SUPPLIER, Item.ITEMID), pageSize);
+			assertPages(Item.ALL.orderBy(Item.SUPPLIER.desc()), Item.ALL.orderBy(Item.SUPPLIER.desc(), Item.ITEMID), pageSize);
+			assertPages(Item.ALL.orderBy(Item.SUPPLIER.desc(), Item.PRODUCTID),
+					Item.ALL.orderBy(Item.SUPPLIER.desc(), Item.PRODUCTID, Item.ITEMID), pageSize);
+		}
+	}
+
+	private void assertPages(final Query<Item> q, final Query<Item> expected, final int pageSize) throws SQLException {
+		final List<String> got = new ArrayList<String>();
+		for (final List<Item> page : q.pages(pageSize)) {
+			assertFalse(page.isEmpty());
+			assertTrue(page.size() <= pageSize);
+			got.addAll(ids(page));
+		}
+		assertEquals(ids(expected), got);
+		final List<String> got2 = new ArrayList<String>();
+		Item last = null;
+		while (true) {
+			final List<Item> page = q.pageAfter(last, pageSize).asList();
+			if (page.isEmpty()) break;
+			got2.addAll(ids(page));
+			last = page.get(page.size() - 1);
+		}
+		assertEquals(got, got2);
+	}
+
+	public void testPrimitiveArrays() throws SQLException {
+		printTestName();
+		final Query<Item> q = Item.ALL.orderBy(Item.ITEMID);
+		final List<Item> items = q.asList();
+		final BitSet nulls = new BitSet();
+		final int[] ints = q.asIntArray(Item.SUPPLIER, nulls);
+		final long[] longs = q.asLongArray(Item.SUPPLIER);
+		final double[] prices = q.asDoubleArray(Item.LISTPRICE);
+		assertEquals(items.size(), ints.length);
+		assertEquals(items.size(), longs.length);
+		assertEquals(items.size(), prices.length);
+		assertEquals(Item.ALL.where(Item.SUPPLIER.isNull()).count(), nulls.cardinality());
+		assertTrue(nulls.cardinality() > 0);
+		for (int i=0; i<ints.length; ++i) {
+			final Integer v = items.get(i).getSupplier();
+			assertEquals(v == null, nulls.get(i));
+			assertEquals(v == null ? 0 : v, ints[i]);
+			assertEquals(v == null ? 0 : v, longs[i]);
+			assertEquals(items.get(i).getListprice().doubleValue(), prices[i]);
+		}
+		assertTrue(Arrays.equals(ints, q.toMemory().asIntArray(Item.SUPPLIER)));
+		final ColumnIterator.OfInt it = q.intIterator(Item.SUPPLIER);
+		int count = 0;
+		while (it.hasNext()) assertEquals(ints[count++], it.nextInt());
+		assertEquals(ints.length, count);
+	}
+
+	public void testInMemoryIndexes() throws SQLException {
+		printTestName();
+		final Query<Item> mem = Item.ALL.orderBy(Item.ITEMID).toMemory();
+		assertSameResults(mem, mem.hashIndex(Item.PRODUCTID).hashIndex(Item.SUPPLIER, Item.STATUS)
+				.sortedIndex(Item.SUPPLIER).sortedIndex(Item.PRODUCTID));
+	}
+
+	/* checks q gives the same rows as a full scan of mem for a range of conditions and orderings */
+	private void assertSameResults(final Query<Item> mem, final Query<Item> q) throws SQLException {
+		final Condition[] conditions = {
+				Item.PRODUCTID.eq("FI-SW-01"), Item.PRODUCTID.in("FI-SW-01", "K9-BD-01", "nope"), Item.PRODUCTID.gt("K"),
+				Item.PRODUCTID.between("FI", "K9-BD-01"), Item.SUPPLIER.eq(1), Item.SUPPLIER.gte(2), Item.SUPPLIER.lt(2),
+				Item.SUPPLIER.in(1, null), Item.SUPPLIER.isNull(), Item.SUPPLIER.isNotNull(),
+				Item.SUPPLIER.eq(1).and(Item.STATUS.eq("P")), Item.SUPPLIER.eq(1).or(Item.PRODUCTID.eq("FI-SW-01")),
+				Item.PRODUCTID.eq("FI-SW-01").and(Item.SUPPLIER.eq(1)) };
+		assertEquals(ids(mem), ids(q));
+		for (final Condition c : conditions) {
+			assertEquals(c.toString(), ids(mem.where(c)), ids(q.where(c)));
+		}
+		assertEquals(ids(mem.where(Item.SUPPLIER.isNotNull()).orderBy(Item.SUPPLIER)),
+				ids(q.where(Item.SUPPLIER.isNotNull()).orderBy(Item.SUPPLIER)));
+		assertEquals(ids(mem.orderBy(Item.PRODUCTID.desc())), ids(q.orderBy(Item.PRODUCTID.desc())));
+		assertEquals(ids(mem.orderBy(Item.STATUS, Item.LISTPRICE.desc())), ids(q.orderBy(Item.STATUS, Item.LISTPRICE.desc())));
+		assertEquals(ids(mem.where(Item.SUPPLIER.isNotNull()).orderBy(Item.SUPPLIER.desc())),
+				ids(q.where(Item.SUPPLIER.isNotNull()).orderBy(Item.SUPPLIER.desc())));
+		assertEquals(ids(mem.limit(5)), ids(q.limit(5)));
+	}
+
+	public void testColumnarMemory() throws SQLException {
+		printTestName();
+		final Query<Item> mem = Item.ALL.orderBy(Item.ITEMID).toMemory();
+		for (final boolean offHeap : new boolean[] {false, true}) {
+			final Query<Item> columnar = Item.ALL.orderBy(Item.ITEMID).toColumnarMemory(offHeap);
+			assertEquals(mem.count(), columnar.count());
+			assertSameResults(mem, columnar);
+			assertSameResults(mem, columnar.hashIndex(Item.PRODUCTID).sortedIndex(Item.SUPPLIER));
+			assertTrue(Arrays.equals(mem.asIntArray(Item.SUPPLIER), columnar.asIntArray(Item.SUPPLIER)));
+		}
+	}
+
+	public void testInMemoryParallel() throws SQLException {
+		printTestName();
+		// enough rows to pass Constants.PROPERTY_PARALLEL_THRESHOLD
+		final List<Item> rows = new ArrayList<Item>();
+		final String[] products = {"FI-SW-01", "K9-BD-01", "RP-SN-01"};
+		for (int i=0; i<12000; ++i) {
+			rows.add(new Item().setItemid("par-"+ i).setProductid(products[i % 3]).setListprice(new BigDecimal(i % 97))
+					.setSupplier(i % 5 == 0 ? null : i % 2 + 1).setStatus(i % 7 == 0 ? "Q" : "P"));
+		}
+		new Bulk(ds).insertAll(rows);
+		final Query<Item> mem = Item.ALL.orderBy(Item.ITEMID).toMemory();
+		final Query<Item> par = mem.parallel(4);
+		final Condition[] conditions = {Item.SUPPLIER.eq(1), Item.SUPPLIER.isNull(), Item.PRODUCTID.in("FI-SW-01", "RP-SN-01"),
+				Item.LISTPRICE.gt(new BigDecimal(50)).and(Item.STATUS.eq("Q"))};
+		for (final Condition c : conditions) {
+			assertEquals(c.toString(), ids(mem.where(c)), ids(par.where(c)));
+		}
+		// sorts are stable, so ties keep their order
+		assertEquals(ids(mem.orderBy(Item.LISTPRICE.desc())), ids(par.orderBy(Item.LISTPRICE.desc())));
+		assertEquals(ids(mem.orderBy(Item.STATUS.desc(), Item.PRODUCTID)), ids(par.orderBy(Item.STATUS.desc(), Item.PRODUCTID)));
+		assertEquals(ids(mem.mapBy(Item.LISTPRICE).values()), ids(par.mapBy(Item.LISTPRICE).values()));
+		assertEquals(mem.countBy(Item.PRODUCTID), par.countBy(Item.PRODUCTID));
+		final Map<String, Collection<Item>> collected = mem.collectBy(Item.PRODUCTID);
+		final Map<String, Collection<Item>> collected2 = par.collectBy(Item.PRODUCTID);
+		assertEquals(new ArrayList<String>(collected.keySet()), new ArrayList<String>(collected2.keySet()));
+		for (final Entry<String, Collection<Item>> e : collected.entrySet()) {
+			assertEquals(ids(e.getValue()), ids(collected2.get(e.getKey())));
+		}
+	}
+
+	public void testCompiledConditions() throws Exception {
+		printTestName();
+		new Item().setItemid("test-cc").setProductid("FI-SW-01").setListprice(new BigDecimal("18.00")).setUnitcost(new BigDecimal("11.00"))
+				.setSupplier(2).insert();
+		// in-memory where()s match through compiled conditions, so check them against the interpreter
+		final Method matches = Condition.class.getDeclaredMethod("matches", Table.class);
+		matches.setAccessible(true);
+		final Query<Item> mem = Item.ALL.orderBy(Item.ITEMID).toMemory();
+		final Condition[] conditions = {
+				Item.SUPPLIER.eq(1), Item.SUPPLIER.neq(1), Item.SUPPLIER.gt(1), Item.SUPPLIER.lte(1), Item.SUPPLIER.isNull(),
+				Item.SUPPLIER.in(1, 2, 3, 4, 5, 6), Item.SUPPLIER.notIn(2, 3, 4, 5, 6), Item.LISTPRICE.between(new BigDecimal(15), new BigDecimal(20)),
+				Item.LISTPRICE.gt(new BigDecimal("18.50")), Item.LISTPRICE.lte(new BigDecimal("16.5")),
+				Item.PRODUCTID.in("FI-SW-01", "K9-BD-01", "K9-RT-02", "RP-SN-01", "AV-CB-01", "nope"),
+				Item.PRODUCTID.lt(Item.ITEMID), Item.LISTPRICE.gte(Item.UNITCOST), Item.SUPPLIER.eq(1).not(),
+				Item.SUPPLIER.eq(2).or(Item.LISTPRICE.lt(new BigDecimal(10)), Item.STATUS.isNull()),
+				Item.STATUS.eq("P").and(Item.SUPPLIER.eq(1), Item.LISTPRICE.gt(new BigDecimal(100))) };
+		for (final Condition c : conditions) {
+			final List<String> expected = new ArrayList<String>();
+			for (final Item item : mem) {
+				if ((Boolean) matches.invoke(c, item)) expected.add(item.getItemid());
+			}
+			assertEquals(c.toString(), expected, ids(mem.where(c)));
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testSoftHashJoin() throws Exception {
+		printTestName();
+		// a supplier and item with NULLs to (not) join on, and an item priced like a supplier id
+		new Supplier().setSuppid(3).setStatus("AC").insert();
+		new Item().setItemid("test-hj").setProductid("FI-SW-01").setSupplier(3)
+				.setListprice(new BigDecimal("2.00")).insert();
+		final Condition on = Item.SUPPLIER.eq(Supplier.SUPPID);
+		// (the SQL joins don't bind values in join conditions, so compare fields to fields)
+		final Condition[] conditions = {on, Supplier.SUPPID.eq(Item.SUPPLIER), on.and(Item.PRODUCTID.lt(Item.ITEMID)),
+				on.and(Item.STATUS.eq(Supplier.STATUS)), on.and(Item.ATTR1.eq(Supplier.NAME)),
+				((Field) Item.LISTPRICE).eq(Supplier.SUPPID)};
+		for (final String type : new String[] {"INNER", "LEFT", "RIGHT", "OUTER"}) {
+			for (final Condition c : conditions) {
+				final List<String> hashed = pairs(softJoin(type, Supplier.ALL, Item.class, c));
+				assertEquals(type +" "+ c, pairs(sqlJoin(type, Supplier.ALL, Item.class, c)), hashed);
+				assertEquals(type +" "+ c, hashed, pairs(softJoin(type, Supplier.ALL, Item.class, null).where(c)));
+				assertEquals(type +" "+ c, pairs(sqlJoin(type, Item.ALL, Supplier.class, c)),
+						pairs(softJoin(type, Item.ALL, Supplier.class, c)));
+			}
+		}
+		// without a field = field term the nested loop is used
+		final Condition onLoop = Item.SUPPLIER.gte(Supplier.SUPPID).and(Item.SUPPLIER.lte(Supplier.SUPPID));
+		assertEquals(pairs(softJoin("INNER", Supplier.ALL, Item.class, onLoop)),
+				pairs(softJoin("INNER", Supplier.ALL, Item.class, on)));
+		assertEquals(pairs(softJoin("INNER", Item.ALL, Supplier.class, onLoop)),
+				pairs(softJoin("INNER", Item.ALL, Supplier.class, on)));
+	}
+
+	private static <L extends Table, R extends Table> Query<Join<L, R>> sqlJoin(final String type,
+			final Query<L> q, final Class<R> cls, final Condition on) {
+		if ("LEFT".equals(type)) return q.leftJoin(cls, on);
+		if ("RIGHT".equals(type)) return q.rightJoin(cls, on);
+		if ("OUTER".equals(type)) return q.outerJoin(cls, on);
+		return q.innerJoin(cls, on);
+	}
+
+	/* software joins are only used across datasources, so build them directly */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <L extends Table, R extends Table> Query<Join<L, R>> softJoin(final String type,
+			final Query<L> q, final Class<R> cls, final Condition on) throws Exception {
+		final Class joinType = Class.forName("org.kered.dko.Constants$JOIN_TYPE");
+		final Constructor<?> c = Class.forName("org.kered.dko.SoftJoin")
+				.getConstructor(joinType, Class.class, Query.class, Class.class, Condition.class);
+		c.setAccessible(true);
+		return (Query<Join<L, R>>) c.newInstance(Enum.valueOf(joinType, type), Join.class, q, cls, on);
+	}
+
+	/* the supplier and item ids of each row of a supplier/item join, sorted */
+	private static List<String> pairs(final Query<? extends Join<?, ?>> q) {
+		final List<String> ret = new ArrayList<String>();
+		for (final Join<?, ?> j : q) ret.add(id(j.l) +"/"+ id(j.r));
+		Collections.sort(ret);
+		return ret;
+	}
+
+	private static String id(final Object o) {
+		if (o instanceof Supplier) return "supplier "+ ((Supplier) o).getSuppid();
+		if (o instanceof Item) return ((Item) o).getItemid();
+		return "-";
+	}
+
+	public void testIdentityMapBulkWrites() throws SQLException {
+		printTestName();
+		Context.getThreadContext().startTransaction(ds, true);
+		try {
+			// bulk writes evict the mapped instance
+			final Product p = Product.ALL.where(Product.PRODUCTID.eq("FI-SW-01")).getTheOnly();
+			final Product copy = new Product().setProductid(p.getProductid()).setName("bulked")
+					.setCategory(p.getCategory()).setDescn(p.getDescn());
+			new Bulk(ds).updateAll(Collections.singletonList(copy));
+			final Product p2 = Product.ALL.where(Product.PRODUCTID.eq(p.getProductid())).getTheOnly();
+			assertNotSame(p, p2);
+			assertEquals("bulked", p2.getName());
+			assertNotNull(Item.ALL.where(Item.ITEMID.eq("EST-2")).getTheOnly());
+			new Bulk(ds).deleteAll(Collections.singletonList(new Item().setItemid("EST-2")));
+			assertNull(Item.ALL.get(pk(Item.class, Item.ITEMID, "EST-2")));
+
+			// as does a truncate
+			final Inventory inv = Inventory.ALL.where(Inventory.ITEMID.eq("EST-3")).getTheOnly();
+			Inventory.ALL.truncate();
+			new Inventory().setItemid("EST-3").setQty(inv.getQty() + 1).insert();
+			final Inventory inv2 = Inventory.ALL.get(pk(Inventory.class, Inventory.ITEMID, "EST-3"));
+			assertNotSame(inv, inv2);
+			assertEquals(inv.getQty() + 1, (int) inv2.getQty());
+		} finally {
+			Context.getThreadContext().rollbackTransaction(ds);
+		}
+	}
+
+	public void testIdentityMapDeferredColumns() throws SQLException {
+		printTestName();
+		final Product expected = Product.ALL.where(Product.PRODUCTID.eq("FI-SW-01")).getTheOnly();
+		Context.getThreadContext().startTransaction(ds, true);
+		try {
+			// columns the mapped instance didn't load are filled in by later queries
+			final Product p = Product.ALL.onlyFields(Product.PRODUCTID).where(Product.PRODUCTID.eq("FI-SW-01")).getTheOnly();
+			assertSame(p, Product.ALL.onlyFields(Product.PRODUCTID, Product.NAME).where(Product.PRODUCTID.eq("FI-SW-01")).getTheOnly());
+			assertEquals(expected.getName(), p.getName());
+			// including the query a lazy load runs
+			assertEquals(expected.getCategory(), p.getCategory());
+		} finally {
+			Context.getThreadContext().rollbackTransaction(ds);
+		}
+	}
+
+	public void testInMemoryMaxMin() throws SQLException {
+		printTestName();
+		new Item().setItemid("test-max").setProductid("FI-SW-01").setSupplier(2).insert();
+		final List<Integer> suppliers = new ArrayList<Integer>();
+		for (final Item item : Item.ALL) if (item.getSupplier() != null) suppliers.add(item.getSupplier());
+		// like SQL, max() and min() ignore nulls
+		final Query<Item> mem = Item.ALL.toMemory();
+		assertEquals(1, mem.where(Item.SUPPLIER.isNull()).count());
+		assertEquals(Collections.max(suppliers), mem.max(Item.SUPPLIER));
+		assertEquals(Collections.min(suppliers), mem.min(Item.SUPPLIER));
+	}
+
+	public void testAsListSkipsNulls() throws SQLException {
+		printTestName();
+		final List<Integer> suppliers = new ArrayList<Integer>();
+		for (final Item item : Item.ALL.orderBy(Item.ITEMID)) if (item.getSupplier() != null) suppliers.add(item.getSupplier());
+		assertTrue(suppliers.size() < Item.ALL.count());
+		// a single column's NULLs are left out, but still count as rows in the primitive arrays
+		assertEquals(suppliers, Item.ALL.orderBy(Item.ITEMID).asList(Item.SUPPLIER));
+		assertEquals(Item.ALL.count(), Item.ALL.asIntArray(Item.SUPPLIER).length);
+	}
+
+	public void testLazyColumnBatching() throws SQLException {
+		printTestName();
+		final List<String> expected = new ArrayList<String>();
+		for (final Item item : Item.ALL.orderBy(Item.ITEMID)) expected.add(item.getProductid());
+		final Query<Item> q = Item.ALL.use(ccds).onlyFields(Item.ITEMID).orderBy(Item.ITEMID);
+		// off by default, so every object loads its own deferred column
+		ccds.setCount(0);
+		for (final Item item : q) item.getProductid();
+		assertEquals(1 + expected.size(), ccds.getCount());
+		// on, the first one loads it for all of them
+		ccds.setCount(0);
+		final List<String> products = new ArrayList<String>();
+		for (final Item item : q.setLazyColumnBatching(true)) products.add(item.getProductid());
+		assertEquals(2, ccds.getCount());
+		assertEquals(expected, products);
+	}
+
+	public void testPublisherBadRequestInOnNext() throws Exception {
+		printTestName();
+		// a bad request() made in onNext() is signalled after onNext() returns, not inside it
+		final Recorder r = new Recorder() {
+			private boolean inOnNext = false;
+			@Override
+			public void onNext(final Item t) {
+				inOnNext = true;
+				super.onNext(t);
+				subscription.request(0);
+				inOnNext = false;
+			}
+			@Override
+			public void onError(final Throwable t) {
+				super.onError(inOnNext ? new AssertionError("onError() called inside onNext()") : t);
+			}
+		};
+		Item.ALL.asPublisher().subscribe(r);
+		r.subscription.request(1);
+		assertTrue(r.next() instanceof String);
+		assertTrue(r.next() instanceof IllegalArgumentException);
+		assertNull(r.poll());
+	}
+
+	public void testAsyncContext() throws Exception {
+		printTestName();
+		// async queries see the caller's thread context
+		final Undoer u = Context.getThreadContext().overrideDatabaseName(ds, Item._SCHEMA_NAME, "bad_db_name");
+		try {
+			Item.ALL.countAsync().get();
+			assertTrue(false); // should not get here
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof SQLException);
+		} finally {
+			u.undo();
+		}
+		assertEquals(Item.ALL.count(), (long) Item.ALL.countAsync().get());
+	}
+
+	public void testAsyncTransaction() throws Exception {
+		printTestName();
+		// a transaction started after a query is handed to the pool isn't shared with the pool thread
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final CountDownLatch gate = new CountDownLatch(1);
+		executor.submit(new Callable<Object>() {
+			@Override
+			public Object call() throws InterruptedException {
+				gate.await();
+				return null;
+			}
+		});
+		final Undoer u = Context.getThreadContext().setExecutor(executor);
+		try {
+			final Future<Long> count = Item.ALL.use(ccds).countAsync();
+			Context.getThreadContext().startTransaction(ccds);
+			try {
+				gate.countDown();
+				assertEquals(Item.ALL.count(), (long) count.get());
+				assertEquals(2, ccds.getCount());
+			} finally {
+				Context.getThreadContext().rollbackTransaction(ccds);
+			}
+		} finally {
+			u.undo();
+			executor.shutdown();
+		}
+	}
+
+	public void testPipelined() throws SQLException, InterruptedException {
+		printTestName();
+		// more rows than the producer can queue up ahead of the consumer
+		final List<Item> rows = new ArrayList<Item>();
+		for (int i=0; i<5000; ++i) {
+			rows.add(new Item().setItemid("pipe-"+ i).setProductid("FI-SW-01").setSupplier(i % 2 + 1));
+		}
+		new Bulk(ds).insertAll(rows);
+		final Query<Item> q = Item.ALL.orderBy(Item.ITEMID);
+		assertEquals(ids(q), ids(q.setPipelined(true)));
+		assertEquals(0, threads("dko-pipeline-"));
+		// an abandoned loop's producer blocks on the full queue until the iterator is collected
+		startReading(q.setPipelined(true));
+		assertEquals(1, threads("dko-pipeline-"));
+		for (int i=0; i<100 && threads("dko-pipeline-") > 0; ++i) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		assertEquals(0, threads("dko-pipeline-"));
+	}
+
+	public void testParallelAbandoned() throws SQLException, InterruptedException {
+		printTestName();
+		// more rows per range than its producer can queue up ahead of the consumer
+		final List<Item> rows = new ArrayList<Item>();
+		for (int i=0; i<8000; ++i) {
+			rows.add(new Item().setItemid("par-"+ i).setProductid("FI-SW-01").setListprice(new BigDecimal(i)));
+		}
+		new Bulk(ds).insertAll(rows);
+		// (a query of its own, as the usage stats may remember how few items there used to be)
+		final Query<Item> items = Item.ALL.where(Item.ITEMID.like("par-%")).parallel(2, Item.LISTPRICE);
+		for (final Query<Item> q : Arrays.asList(items, items.orderBy(Item.LISTPRICE))) {
+			startReading(q);
+			assertTrue(threads("dko-parallel-") > 0);
+			for (int i=0; i<100 && threads("dko-parallel-") > 0; ++i) {
+				System.gc();
+				Thread.sleep(100);
+			}
+			assertEquals(0, threads("dko-parallel-"));
+		}
+	}
+
+	private static void startReading(final Iterable<Item> items) {
+		items.iterator().hasNext();
+	}
+
+	private static int threads(final String prefix) {
+		int count = 0;
+		for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith(prefix) && thread.isAlive()) ++count;
+		}
+		return count;
+	}
+
 }